@@ -35,6 +35,49 @@ private ElasticsearchBackendSettings() {
 
 	public static final String MAX_TOTAL_CONNECTION_PER_ROUTE = "max_total_connection_per_route";
 
+	/**
+	 * The number of IO threads used by the HTTP client. Defaults to the number of available processors.
+	 */
+	public static final String IO_THREAD_COUNT = "io_thread_count";
+
+	/**
+	 * The maximum time, in milliseconds, an idle connection is kept alive in the connection pool.
+	 * Useful when a load balancer or firewall silently drops idle connections. Defaults to no limit.
+	 */
+	public static final String MAX_KEEP_ALIVE = "max_keep_alive";
+
+	/**
+	 * Whether request bodies should be compressed with gzip, which significantly reduces network usage
+	 * for bulk indexing at the cost of some CPU. Defaults to {@link Defaults#GZIP_REQUESTS}.
+	 */
+	public static final String GZIP_REQUESTS = "gzip_requests";
+
+	/**
+	 * The maximum number of times a request or bulked work rejected by Elasticsearch because of back-pressure
+	 * (HTTP 429) is retried. {@code 0} disables retries. Defaults to {@link Defaults#MAX_RETRIES}.
+	 */
+	public static final String MAX_RETRIES = "max_retries";
+
+	/**
+	 * The delay, in milliseconds, before the first retry of a rejected request.
+	 * Subsequent retries use exponentially increasing, randomized delays.
+	 * Defaults to {@link Defaults#RETRY_INITIAL_DELAY}.
+	 */
+	public static final String RETRY_INITIAL_DELAY = "retry_initial_delay";
+
+	/**
+	 * The maximum delay, in milliseconds, before a retry of a rejected request.
+	 * Defaults to {@link Defaults#RETRY_MAX_DELAY}.
+	 */
+	public static final String RETRY_MAX_DELAY = "retry_max_delay";
+
+	/**
+	 * The version of the Elasticsearch cluster, e.g. {@code 6.6.0}.
+	 * When set, the dialect is selected from this version and the cluster is not contacted at bootstrap
+	 * to detect its version. Defaults to detecting the version from the cluster.
+	 */
+	public static final String VERSION = "version";
+
 	public static final String DISCOVERY_ENABLED = "discovery.enabled";
 
 	public static final String DISCOVERY_REFRESH_INTERVAL = "discovery.refresh_interval";
@@ -61,6 +104,10 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_TOTAL_CONNECTION = 20;
 		public static final int MAX_TOTAL_CONNECTION_PER_ROUTE = 2;
+		public static final boolean GZIP_REQUESTS = false;
+		public static final int MAX_RETRIES = 5;
+		public static final int RETRY_INITIAL_DELAY = 100;
+		public static final int RETRY_MAX_DELAY = 10000;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final String DISCOVERY_SCHEME = "http";
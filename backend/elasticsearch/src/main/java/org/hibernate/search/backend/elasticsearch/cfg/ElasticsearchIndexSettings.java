@@ -22,6 +22,12 @@ private ElasticsearchIndexSettings() {
 
 	public static final String REFRESH_AFTER_WRITE = "refresh_after_write";
 
+	/**
+	 * Whether works on a document should be skipped when a later changeset, waiting to be sent
+	 * to Elasticsearch in the same batch, indexes or deletes the same document. Defaults to false.
+	 */
+	public static final String COALESCE_WORKS = "coalesce_works";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -34,6 +40,7 @@ private Defaults() {
 		public static final ElasticsearchIndexStatus LIFECYCLE_REQUIRED_STATUS = ElasticsearchIndexStatus.GREEN;
 		public static final int LIFECYCLE_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
 		public static final boolean REFRESH_AFTER_WRITE = false;
+		public static final boolean COALESCE_WORKS = false;
 	}
 
 }
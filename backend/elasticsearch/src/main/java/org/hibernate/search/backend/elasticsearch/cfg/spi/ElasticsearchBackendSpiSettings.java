@@ -20,6 +20,12 @@ private ElasticsearchBackendSpiSettings() {
 
 	public static final String CLIENT_FACTORY = "client_factory";
 
+	/**
+	 * A reference to an {@link org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchHttpClientConfigurer}
+	 * to apply to the HTTP client, in addition to the built-in configuration.
+	 */
+	public static final String CLIENT_CONFIGURER = "client_configurer";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
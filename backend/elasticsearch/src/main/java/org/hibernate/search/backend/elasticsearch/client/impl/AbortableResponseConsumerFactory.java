@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.elasticsearch.client.HeapBufferedAsyncResponseConsumer;
+import org.elasticsearch.client.HttpAsyncResponseConsumerFactory;
+
+/**
+ * A response consumer factory for a single request, allowing to abort the request.
+ * <p>
+ * The Elasticsearch REST client does not give access to the underlying HTTP request,
+ * so we cannot cancel it directly.
+ * Instead, we cancel the response consumer, which the HTTP client checks while receiving the response:
+ * as soon as it notices the consumer was cancelled,
+ * the HTTP client closes the connection instead of returning it to the pool,
+ * which stops the transfer of a potentially large response that nobody is waiting for anymore.
+ * <p>
+ * If no response is ever received, the connection will still be released by the socket (read) timeout.
+ */
+final class AbortableResponseConsumerFactory implements HttpAsyncResponseConsumerFactory {
+
+	/*
+	 * Same limit as HttpAsyncResponseConsumerFactory.DEFAULT.
+	 */
+	private static final int BUFFER_LIMIT = 100 * 1024 * 1024;
+
+	private boolean aborted = false; // Guarded by this
+	private HttpAsyncResponseConsumer<HttpResponse> currentConsumer; // Guarded by this
+
+	@Override
+	public synchronized HttpAsyncResponseConsumer<HttpResponse> createHttpAsyncResponseConsumer() {
+		// A new consumer is created each time the REST client tries another node
+		currentConsumer = new HeapBufferedAsyncResponseConsumer( BUFFER_LIMIT );
+		if ( aborted ) {
+			currentConsumer.cancel();
+		}
+		return currentConsumer;
+	}
+
+	/**
+	 * Abort the request: the response will not be consumed and the connection will be closed.
+	 */
+	synchronized void abort() {
+		aborted = true;
+		if ( currentConsumer != null ) {
+			currentConsumer.cancel();
+		}
+	}
+
+}
@@ -15,7 +15,9 @@
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.nio.conn.NoopIOSessionStrategy;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
@@ -23,13 +25,19 @@
 import org.elasticsearch.client.sniff.Sniffer;
 import org.elasticsearch.client.sniff.SnifferBuilder;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchHttpClientConfigurer;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanProvider;
+import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.util.impl.common.SearchThreadFactory;
+import org.hibernate.search.util.impl.common.SuppressingCloser;
 
 /**
  * @author Gunnar Morling
@@ -101,32 +109,62 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_SCHEME )
 					.build();
 
-	/* TODO ElasticsearchHttpClientConfigurer
-	private ServiceManager serviceManager;
+	private static final OptionalConfigurationProperty<Integer> IO_THREAD_COUNT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.IO_THREAD_COUNT )
+					.asInteger()
+					.build();
 
-	@Override
-	public void start(ConfigurationPropertySource propertySource, BackendBuildContext context) {
-		this.serviceManager = context.getServiceManager();
-	}
+	private static final OptionalConfigurationProperty<Integer> MAX_KEEP_ALIVE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_KEEP_ALIVE )
+					.asInteger()
+					.build();
 
-	@Override
-	public void stop() {
-		this.serviceManager = null;
-	}
-	*/
+	private static final ConfigurationProperty<Boolean> GZIP_REQUESTS =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.GZIP_REQUESTS )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.GZIP_REQUESTS )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends ElasticsearchHttpClientConfigurer>> CLIENT_CONFIGURER =
+			ConfigurationProperty.forKey( ElasticsearchBackendSpiSettings.CLIENT_CONFIGURER )
+					.asBeanReference( ElasticsearchHttpClientConfigurer.class )
+					.build();
 
 	@Override
 	public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
-			GsonProvider initialGsonProvider) {
+			BeanProvider beanProvider, GsonProvider initialGsonProvider) {
 		int requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
-
-		RestClient restClient = createClient( propertySource, requestTimeoutMs );
-		Sniffer sniffer = createSniffer( restClient, propertySource );
-
-		return new ElasticsearchClientImpl( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS, initialGsonProvider );
+		boolean gzipRequests = GZIP_REQUESTS.get( propertySource );
+
+		/*
+		 * The configurer may register components (interceptors, credentials providers, ...)
+		 * that rely on the configurer bean and its dependencies:
+		 * the bean must remain available until the client is closed.
+		 */
+		BeanHolder<? extends ElasticsearchHttpClientConfigurer> configurerHolder =
+				CLIENT_CONFIGURER.getAndMap( propertySource, beanProvider::getBean ).orElse( null );
+		RestClient restClient = null;
+		Sniffer sniffer = null;
+		try {
+			restClient = createClient( propertySource, requestTimeoutMs,
+					configurerHolder == null ? null : configurerHolder.get() );
+			sniffer = createSniffer( restClient, propertySource );
+
+			return new ElasticsearchClientImpl( restClient, sniffer, configurerHolder,
+					requestTimeoutMs, TimeUnit.MILLISECONDS,
+					initialGsonProvider, gzipRequests );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.push( Sniffer::close, sniffer )
+					.push( RestClient::close, restClient )
+					.push( BeanHolder::close, configurerHolder );
+			throw e;
+		}
 	}
 
-	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis) {
+	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis,
+			ElasticsearchHttpClientConfigurer configurer) {
 		ServerUris hosts = ServerUris.fromStrings( HOST.get( propertySource ) );
 
 		return RestClient.builder( hosts.asHostsArray() )
@@ -138,7 +176,7 @@ private RestClient createClient(ConfigurationPropertySource propertySource, int
 				 */
 				.setMaxRetryTimeoutMillis( maxRetryTimeoutMillis )
 				.setRequestConfigCallback( b -> customizeRequestConfig( propertySource, b ) )
-				.setHttpClientConfigCallback( b -> customizeHttpClientConfig( propertySource, hosts, b ) )
+				.setHttpClientConfigCallback( b -> customizeHttpClientConfig( propertySource, hosts, configurer, b ) )
 				.build();
 	}
 
@@ -168,10 +206,27 @@ private Sniffer createSniffer(RestClient client, ConfigurationPropertySource pro
 	}
 
 	private HttpAsyncClientBuilder customizeHttpClientConfig(ConfigurationPropertySource propertySource,
-			ServerUris hosts, HttpAsyncClientBuilder builder) {
+			ServerUris hosts, ElasticsearchHttpClientConfigurer configurer, HttpAsyncClientBuilder builder) {
 		builder.setMaxConnTotal( MAX_TOTAL_CONNECTION.get( propertySource ) )
 				.setMaxConnPerRoute( MAX_TOTAL_CONNECTION_PER_ROUTE.get( propertySource ) )
 				.setThreadFactory( new SearchThreadFactory( "Elasticsearch transport thread" ) );
+
+		Optional<Integer> ioThreadCount = IO_THREAD_COUNT.get( propertySource );
+		if ( ioThreadCount.isPresent() ) {
+			builder.setDefaultIOReactorConfig( IOReactorConfig.custom()
+					.setIoThreadCount( ioThreadCount.get() )
+					.build() );
+		}
+
+		Optional<Integer> maxKeepAlive = MAX_KEEP_ALIVE.get( propertySource );
+		if ( maxKeepAlive.isPresent() ) {
+			long maxKeepAliveMs = maxKeepAlive.get();
+			builder.setKeepAliveStrategy( (response, context) -> {
+				long serverKeepAliveMs = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration( response, context );
+				// A negative value means "keep alive forever"
+				return serverKeepAliveMs < 0 ? maxKeepAliveMs : Math.min( serverKeepAliveMs, maxKeepAliveMs );
+			} );
+		}
 		if ( !hosts.isAnyRequiringSSL() ) {
 			// In this case disable the SSL capability as it might have an impact on
 			// bootstrap time, for example consuming entropy for no reason
@@ -194,13 +249,9 @@ private HttpAsyncClientBuilder customizeHttpClientConfig(ConfigurationPropertySo
 			builder.setDefaultCredentialsProvider( credentialsProvider );
 		}
 
-		/* TODO ElasticsearchHttpClientConfigurer
-		Iterable<ElasticsearchHttpClientConfigurer> configurers =
-				serviceManager.getClassResolver().loadJavaServices( ElasticsearchHttpClientConfigurer.class );
-		for ( ElasticsearchHttpClientConfigurer configurer : configurers ) {
-			configurer.configure( builder, properties );
+		if ( configurer != null ) {
+			configurer.configure( builder, propertySource );
 		}
-		*/
 
 		return builder;
 	}
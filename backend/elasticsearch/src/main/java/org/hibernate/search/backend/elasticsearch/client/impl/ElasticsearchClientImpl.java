@@ -7,9 +7,6 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -23,7 +20,10 @@
 
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.HttpAsyncResponseConsumerFactory;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
@@ -37,13 +37,13 @@
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.Executors;
 import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 
 /**
  * @author Yoann Rodiere
@@ -58,21 +58,28 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Sniffer sniffer;
 
+	private final BeanHolder<?> clientConfigurerHolder;
+
 	private final ScheduledExecutorService timeoutExecutorService;
 
 	private final int requestTimeoutValue;
 	private final TimeUnit requestTimeoutUnit;
 
+	private final boolean gzipRequests;
+
 	private volatile GsonProvider gsonProvider;
 
-	public ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer, int requestTimeoutValue, TimeUnit requestTimeoutUnit,
-			GsonProvider initialGsonProvider) {
+	public ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer, BeanHolder<?> clientConfigurerHolder,
+			int requestTimeoutValue, TimeUnit requestTimeoutUnit,
+			GsonProvider initialGsonProvider, boolean gzipRequests) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
+		this.clientConfigurerHolder = clientConfigurerHolder;
 		this.timeoutExecutorService = Executors.newScheduledThreadPool( "Elasticsearch request timeout executor" );
 		this.requestTimeoutValue = requestTimeoutValue;
 		this.requestTimeoutUnit = requestTimeoutUnit;
 		this.gsonProvider = initialGsonProvider;
+		this.gzipRequests = gzipRequests;
 	}
 
 	@Override
@@ -82,8 +89,12 @@ public void init(GsonProvider gsonProvider) {
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
-		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( response -> convertResponse( request, response ) );
+		CompletableFuture<Response> sendFuture = Futures.create( () -> send( request ) );
+		// Cancelling the result must abort the request, so as to release the connection
+		CompletableFuture<ElasticsearchResponse> result = Futures.propagateCancellation(
+				sendFuture.thenApply( response -> convertResponse( request, response ) ),
+				sendFuture
+		);
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -107,15 +118,17 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, gzipRequests );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
 			return completableFuture;
 		}
 
+		AbortableResponseConsumerFactory responseConsumerFactory = new AbortableResponseConsumerFactory();
+
 		restClient.performRequestAsync(
-				toRequest( elasticsearchRequest, entity ),
+				toRequest( elasticsearchRequest, entity, responseConsumerFactory ),
 				new ResponseListener() {
 					@Override
 					public void onSuccess(Response response) {
@@ -139,27 +152,40 @@ public void onFailure(Exception exception) {
 				}
 				);
 
-		/*
-		 * TODO maybe the callback should also cancel the request?
-		 * In any case, the RestClient doesn't return the Future<?> from Apache HTTP client,
-		 * so we can't do much until this changes.
-		 */
+		long timeoutValue = elasticsearchRequest.getTimeoutValue() != null
+				? elasticsearchRequest.getTimeoutValue() : requestTimeoutValue;
+		TimeUnit timeoutUnit = elasticsearchRequest.getTimeoutUnit() != null
+				? elasticsearchRequest.getTimeoutUnit() : requestTimeoutUnit;
 		ScheduledFuture<?> timeout = timeoutExecutorService.schedule(
 				() -> {
 					if ( !completableFuture.isDone() ) {
 						completableFuture.completeExceptionally( new TimeoutException() );
 					}
 				},
-				requestTimeoutValue, requestTimeoutUnit
+				timeoutValue, timeoutUnit
 				);
-		completableFuture.thenRun( () -> timeout.cancel( false ) );
+		completableFuture.whenComplete( (response, throwable) -> {
+			timeout.cancel( false );
+			if ( throwable != null ) {
+				/*
+				 * Timed out or cancelled: nobody will ever read the response,
+				 * so stop the request if it's still running and release the connection.
+				 */
+				responseConsumerFactory.abort();
+			}
+		} );
 
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity,
+			HttpAsyncResponseConsumerFactory responseConsumerFactory) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
 
+		RequestOptions.Builder options = RequestOptions.DEFAULT.toBuilder();
+		options.setHttpAsyncResponseConsumerFactory( responseConsumerFactory );
+		request.setOptions( options );
+
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
 			request.addParameter( parameter.getKey(), parameter.getValue() );
 		}
@@ -171,11 +197,18 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 
 	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			/*
+			 * Only copy the raw bytes here: the body will be parsed on demand,
+			 * either as a stream by works handling potentially large responses (search, bulk),
+			 * or as a tree by other works.
+			 */
+			HttpEntity entity = response.getEntity();
+			byte[] rawBody = entity == null ? null : EntityUtils.toByteArray( entity );
+			Charset charset = entity == null ? StandardCharsets.UTF_8 : getCharset( entity );
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
-					body );
+					gsonProvider.getGson(), rawBody, charset );
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.failedToParseElasticsearchResponse(
@@ -185,20 +218,6 @@ private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Resp
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
-		if ( entity == null ) {
-			return null;
-		}
-
-		Gson gson = gsonProvider.getGson();
-		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
-		}
-	}
-
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
@@ -211,14 +230,14 @@ private void log(ElasticsearchRequest request, long start, ElasticsearchResponse
 		if ( requestLog.isTraceEnabled() ) {
 			JsonLogHelper logHelper = gsonProvider.getLogHelper();
 			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(),
-					request.getBodyParts().size(), executionTimeMs,
+					request.getBodyPartCount(), executionTimeMs,
 					response.getStatusCode(), response.getStatusMessage(),
 					logHelper.toString( request.getBodyParts() ),
 					logHelper.toString( response.getBody() ) );
 		}
 		else {
 			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(),
-					request.getBodyParts().size(), executionTimeMs,
+					request.getBodyPartCount(), executionTimeMs,
 					response.getStatusCode(), response.getStatusMessage() );
 		}
 	}
@@ -234,6 +253,8 @@ public void close() throws IOException {
 			closer.push( ExecutorService::shutdownNow, this.timeoutExecutorService );
 			closer.push( Sniffer::close, this.sniffer );
 			closer.push( RestClient::close, this.restClient );
+			// Only release the configurer once the client no longer uses what it registered
+			closer.push( BeanHolder::close, this.clientConfigurerHolder );
 		}
 	}
 
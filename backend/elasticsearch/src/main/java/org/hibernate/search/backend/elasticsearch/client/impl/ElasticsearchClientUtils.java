@@ -12,7 +12,6 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import org.apache.http.HttpEntity;
 
 /**
@@ -20,6 +19,8 @@
  */
 public class ElasticsearchClientUtils {
 
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+
 	private ElasticsearchClientUtils() {
 		// Private constructor
 	}
@@ -28,12 +29,21 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
-		final List<JsonObject> bodyParts = request.getBodyParts();
+	/**
+	 * @param code An HTTP status code returned by Elasticsearch.
+	 * @return {@code true} if this status code means Elasticsearch rejected the request
+	 * because it is overloaded, in which case the request was not executed and can safely be retried.
+	 */
+	public static boolean isBackPressureCode(int code) {
+		return code == TOO_MANY_REQUESTS_HTTP_STATUS_CODE;
+	}
+
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean gzip) throws IOException {
+		final List<?> bodyParts = request.getRawBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, gzip );
 	}
 
 }
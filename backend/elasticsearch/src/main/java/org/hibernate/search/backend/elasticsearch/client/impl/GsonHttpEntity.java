@@ -6,14 +6,17 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -24,6 +27,7 @@
 import org.apache.http.nio.entity.HttpAsyncContentProducer;
 import org.apache.http.protocol.HTTP;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.util.impl.common.Contracts;
 
 import com.google.gson.Gson;
@@ -55,6 +59,13 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts that were already {@link SerializedJsonObject serialized} are written as-is,
+ * without going through Gson again.
+ *
+ * When gzip compression is enabled, the whole content is instead compressed
+ * upfront into a single buffer: the compressed form is typically small enough,
+ * and this allows to always report the content length.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +74,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -81,7 +94,17 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
 
 	private final Gson gson;
-	private final List<JsonObject> bodyParts;
+	/**
+	 * Each part is either a {@link JsonObject} or a {@link SerializedJsonObject}.
+	 */
+	private final List<?> bodyParts;
+
+	/**
+	 * The gzip-compressed content, or {@code null} if compression is disabled.
+	 * Its position is used to keep track of what was already written
+	 * when flow control pushes back.
+	 */
+	private final ByteBuffer compressedContent;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -121,13 +144,24 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	public GsonHttpEntity(Gson gson, List<?> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<?> bodyParts, boolean gzip) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
 		this.contentLength = -1;
-		attemptOnePassEncoding();
+		if ( gzip ) {
+			this.compressedContent = compress();
+			hintContentLength( compressedContent.remaining() );
+		}
+		else {
+			this.compressedContent = null;
+			attemptOnePassEncoding();
+		}
 	}
 
 	@Override
@@ -153,6 +187,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( compressedContent != null ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -167,6 +204,10 @@ public InputStream getContent() {
 
 	@Override
 	public void writeTo(OutputStream out) throws IOException {
+		if ( compressedContent != null ) {
+			out.write( compressedContent.array(), compressedContent.arrayOffset(), compressedContent.limit() );
+			return;
+		}
 		/*
 		 * For this method we use no pagination, so ignore the mutable fields.
 		 *
@@ -175,9 +216,8 @@ public void writeTo(OutputStream out) throws IOException {
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, writer );
-			writer.append( '\n' );
+		for ( Object bodyPart : bodyParts ) {
+			write( bodyPart, writer, countingStream );
 		}
 		writer.flush();
 		//Now we finally know the content size in bytes:
@@ -199,6 +239,9 @@ public void close() {
 		//Nothing to close but let's make sure we re-wind the stream
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
+		if ( compressedContent != null ) {
+			compressedContent.rewind();
+		}
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 	}
@@ -227,6 +270,17 @@ private void attemptOnePassEncoding() throws IOException {
 		}
 	}
 
+	private ByteBuffer compress() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream( BYTE_BUFFER_PAGE_SIZE );
+		try ( GZIPOutputStream gzipStream = new GZIPOutputStream( bytes, BYTE_BUFFER_PAGE_SIZE );
+				Writer gzipWriter = new OutputStreamWriter( gzipStream, CHARSET ) ) {
+			for ( Object bodyPart : bodyParts ) {
+				write( bodyPart, gzipWriter, gzipStream );
+			}
+		}
+		return ByteBuffer.wrap( bytes.toByteArray() );
+	}
+
 	/**
 	 * Higher level write loop. It will start writing the JSON objects
 	 * from either the  beginning or the next object which wasn't written yet
@@ -237,8 +291,13 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			Object bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			if ( bodyPart instanceof SerializedJsonObject ) {
+				writer.writeEncoded( ( (SerializedJsonObject) bodyPart ).getBytes() );
+			}
+			else {
+				gson.toJson( (JsonObject) bodyPart, writer );
+			}
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -248,6 +307,22 @@ private void triggerFullWrite() throws IOException {
 		}
 	}
 
+	/**
+	 * Write a body part followed by a line break.
+	 * Serialized body parts are written to the underlying stream directly,
+	 * after the content buffered by the writer.
+	 */
+	private void write(Object bodyPart, Writer writer, OutputStream stream) throws IOException {
+		if ( bodyPart instanceof SerializedJsonObject ) {
+			writer.flush();
+			( (SerializedJsonObject) bodyPart ).writeTo( stream );
+		}
+		else {
+			gson.toJson( (JsonObject) bodyPart, writer );
+		}
+		writer.append( '\n' );
+	}
+
 	@Override
 	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
 		Contracts.assertNotNull( encoder, "encoder" );
@@ -255,6 +330,11 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// to have available space !
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
+		if ( compressedContent != null ) {
+			produceCompressedContent( encoder );
+			return;
+		}
+
 		//Re-set the encoder as it might be a different one than a previously used instance:
 		writer.setOutput( encoder );
 
@@ -287,6 +367,20 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		this.nextBodyToEncodeIndex = 0;
 	}
 
+	private void produceCompressedContent(ContentEncoder encoder) throws IOException {
+		// We should never do 0-length writes, see HSEARCH-2854
+		if ( compressedContent.hasRemaining() ) {
+			encoder.write( compressedContent );
+			if ( compressedContent.hasRemaining() ) {
+				//Flow control is pushing back: return control to the caller and trust we'll be called again.
+				return;
+			}
+		}
+		encoder.complete();
+		//Allow to repeat the content rendering from the beginning:
+		compressedContent.rewind();
+	}
+
 	private void hintContentLength(long contentLength) {
 		if ( !contentlengthWasProvided ) {
 			this.contentLength = contentLength;
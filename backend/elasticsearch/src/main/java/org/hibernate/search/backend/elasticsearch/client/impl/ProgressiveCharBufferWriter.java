@@ -126,6 +126,48 @@ public void flush() throws IOException {
 		// don't flush byte buffers to output as we want to control that flushing independently.
 	}
 
+	/**
+	 * Write content that was already encoded using the charset of this writer,
+	 * after the chars written so far.
+	 * <p>
+	 * Arrays larger than a page are not copied, but used as a page of their own:
+	 * they must not be modified until they have been written to the output.
+	 *
+	 * @param bytes The encoded content.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeEncoded(byte[] bytes) throws IOException {
+		flush();
+		if ( bytes.length >= pageSize ) {
+			if ( currentPage != null && currentPage.position() > 0 ) {
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+				currentPage = null;
+			}
+			needWritingPages.add( ByteBuffer.wrap( bytes ) );
+			attemptFlushPendingBuffers( false );
+			return;
+		}
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			offset += length;
+			if ( !currentPage.hasRemaining() ) {
+				// Avoid storing buffers if we can simply flush them
+				attemptFlushPendingBuffers( true );
+				if ( currentPage != null ) {
+					currentPage.flip();
+					needWritingPages.add( currentPage );
+					currentPage = null;
+				}
+			}
+		}
+	}
+
 	@Override
 	public void close() {
 		// Nothing to do
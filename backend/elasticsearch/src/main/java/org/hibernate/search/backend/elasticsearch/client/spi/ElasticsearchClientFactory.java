@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanProvider;
 
 /**
  * Creates the Elasticsearch client.
@@ -16,6 +17,7 @@
  */
 public interface ElasticsearchClientFactory {
 
-	ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource, GsonProvider initialGsonProvider);
+	ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource, BeanProvider beanProvider,
+			GsonProvider initialGsonProvider);
 
 }
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+
+/**
+ * An extension point allowing fine tuning of the Apache HTTP Client used by the Elasticsearch integration.
+ * <p>
+ * This enables in particular connecting to cloud services that require a particular authentication method,
+ * such as request signing on Amazon Web Services,
+ * or using a custom connection manager.
+ * <p>
+ * Users can select a configurer through the
+ * {@link ElasticsearchBackendSpiSettings#CLIENT_CONFIGURER configuration properties}.
+ * <p>
+ * Note this interface exposes Apache HTTP Client, which is not considered API.
+ * Thus it may change between minor or micro versions of Hibernate Search.
+ */
+public interface ElasticsearchHttpClientConfigurer {
+
+	/**
+	 * Configure the HTTP Client.
+	 * <p>
+	 * This method is called once for every configurer, each time an Elasticsearch client is set up,
+	 * after the built-in configuration (timeouts, connection pool size, credentials, ...) has been applied.
+	 *
+	 * @param builder An Apache HTTP client builder, to set the configuration to be applied.
+	 * @param propertySource The properties of the backend being configured.
+	 */
+	void configure(HttpAsyncClientBuilder builder, ConfigurationPropertySource propertySource);
+
+}
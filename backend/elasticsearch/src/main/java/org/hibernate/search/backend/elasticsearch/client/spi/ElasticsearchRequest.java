@@ -12,7 +12,9 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -45,13 +47,17 @@ public static Builder head() {
 	private final String method;
 	private final String path;
 	private final Map<String, String> parameters;
-	private final List<JsonObject> bodyParts;
+	private final List<Object> bodyParts;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.timeoutValue = builder.timeoutValue;
+		this.timeoutUnit = builder.timeoutUnit;
 	}
 
 	public String getMethod() {
@@ -66,10 +72,50 @@ public Map<String, String> getParameters() {
 		return parameters;
 	}
 
+	/**
+	 * @return The body parts of this request, as JSON trees.
+	 * Parts added in their {@link SerializedJsonObject serialized form} are parsed again,
+	 * so this should be used sparingly, e.g. for logging.
+	 * @see #getRawBodyParts()
+	 */
 	public List<JsonObject> getBodyParts() {
+		List<JsonObject> result = new ArrayList<>( bodyParts.size() );
+		for ( Object bodyPart : bodyParts ) {
+			if ( bodyPart instanceof SerializedJsonObject ) {
+				result.add( ( (SerializedJsonObject) bodyPart ).toJsonObject() );
+			}
+			else {
+				result.add( (JsonObject) bodyPart );
+			}
+		}
+		return Collections.unmodifiableList( result );
+	}
+
+	/**
+	 * @return The body parts of this request, each being either a {@link JsonObject}
+	 * or a {@link SerializedJsonObject} to be written as-is.
+	 */
+	public List<?> getRawBodyParts() {
 		return bodyParts;
 	}
 
+	public int getBodyPartCount() {
+		return bodyParts.size();
+	}
+
+	/**
+	 * @return The timeout for this request, overriding the client's default timeout,
+	 * or {@code null} to use the client's default timeout.
+	 * @see #getTimeoutUnit()
+	 */
+	public Long getTimeoutValue() {
+		return timeoutValue;
+	}
+
+	public TimeUnit getTimeoutUnit() {
+		return timeoutUnit;
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
@@ -88,7 +134,9 @@ public static final class Builder {
 		private final StringBuilder pathBuilder = new StringBuilder( 20 );
 
 		private Map<String, String> parameters;
-		private List<JsonObject> bodyParts;
+		private List<Object> bodyParts;
+		private Long timeoutValue;
+		private TimeUnit timeoutUnit;
 
 		private Builder(String method) {
 			super();
@@ -100,6 +148,16 @@ public Builder pathComponent(URLEncodedString pathComponent) {
 			return this;
 		}
 
+		/**
+		 * @param encodedPath One or more path components, already URL-encoded,
+		 * each preceded by a path separator.
+		 * @return This builder.
+		 */
+		public Builder encodedPath(String encodedPath) {
+			pathBuilder.append( encodedPath );
+			return this;
+		}
+
 		public Builder multiValuedPathComponent(Iterable<URLEncodedString> indexNames) {
 			boolean first = true;
 			for ( URLEncodedString name : indexNames ) {
@@ -140,16 +198,31 @@ public Builder multiValuedParam(String name, Collection<String> values) {
 		}
 
 		public Builder body(JsonObject object) {
-			if ( bodyParts == null ) {
-				bodyParts = new ArrayList<>();
-			}
-			bodyParts.add( object );
+			addBodyPart( object );
+			return this;
+		}
+
+		public Builder body(SerializedJsonObject object) {
+			addBodyPart( object );
+			return this;
+		}
+
+		public Builder timeout(long timeoutValue, TimeUnit timeoutUnit) {
+			this.timeoutValue = timeoutValue;
+			this.timeoutUnit = timeoutUnit;
 			return this;
 		}
 
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
+
+		private void addBodyPart(Object bodyPart) {
+			if ( bodyParts == null ) {
+				bodyParts = new ArrayList<>();
+			}
+			bodyParts.add( bodyPart );
+		}
 	}
 
 }
@@ -6,26 +6,69 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.Charset;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 /**
  * @author Yoann Rodiere
  */
 public final class ElasticsearchResponse {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final int statusCode;
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private final Gson gson;
+
+	private final byte[] rawBody;
+
+	private final Charset rawBodyCharset;
+
+	private JsonObject body;
 
 	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body) {
 		super();
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
+		this.gson = null;
+		this.rawBody = null;
+		this.rawBodyCharset = null;
 		this.body = body;
 	}
 
+	/**
+	 * Create a response whose body will only be parsed on demand,
+	 * either as a tree through {@link #getBody()}
+	 * or as a stream through {@link #openBodyReader()}.
+	 *
+	 * @param statusCode The HTTP status code.
+	 * @param statusMessage The HTTP status message.
+	 * @param gson The Gson instance to use when parsing the body.
+	 * @param rawBody The raw bytes of the body, or {@code null} if the response has no body.
+	 * @param rawBodyCharset The charset of the raw bytes.
+	 */
+	public ElasticsearchResponse(int statusCode, String statusMessage, Gson gson, byte[] rawBody, Charset rawBodyCharset) {
+		super();
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.gson = gson;
+		this.rawBody = rawBody;
+		this.rawBodyCharset = rawBodyCharset;
+		this.body = null;
+	}
+
 	public int getStatusCode() {
 		return statusCode;
 	}
@@ -34,8 +77,46 @@ public String getStatusMessage() {
 		return statusMessage;
 	}
 
+	/**
+	 * @return The body of the response as a tree of JSON elements, or {@code null} if there is no body.
+	 * For large responses, prefer {@link #openBodyReader()}, which does not build the whole tree in memory.
+	 */
 	public JsonObject getBody() {
+		if ( body == null && hasRawBody() ) {
+			try {
+				body = gson.fromJson( createRawBodyReader(), JsonObject.class );
+			}
+			catch (RuntimeException e) {
+				throw log.failedToParseElasticsearchResponse( statusCode, statusMessage, e );
+			}
+		}
 		return body;
 	}
 
+	/**
+	 * @return A reader allowing to stream through the body of the response,
+	 * or {@code null} if there is no body.
+	 * The body is not consumed: this method may be called multiple times,
+	 * and {@link #getBody()} may still be called afterwards.
+	 */
+	public JsonReader openBodyReader() {
+		if ( hasRawBody() ) {
+			return gson.newJsonReader( createRawBodyReader() );
+		}
+		else if ( body != null ) {
+			return new JsonReader( new StringReader( body.toString() ) );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private boolean hasRawBody() {
+		return rawBody != null && rawBody.length > 0;
+	}
+
+	private InputStreamReader createRawBodyReader() {
+		return new InputStreamReader( new ByteArrayInputStream( rawBody ), rawBodyCharset );
+	}
+
 }
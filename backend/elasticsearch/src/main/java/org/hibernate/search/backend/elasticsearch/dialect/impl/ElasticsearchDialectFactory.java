@@ -20,7 +20,8 @@
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
- * Allows to create an Elasticsearch dialect by detecting the version of a remote cluster.
+ * Allows to create an Elasticsearch dialect, either from a statically configured version
+ * or by detecting the version of a remote cluster.
  */
 public class ElasticsearchDialectFactory {
 
@@ -37,7 +38,10 @@ public ElasticsearchDialect createFromClusterVersion(ElasticsearchClient client)
 		catch (RuntimeException e) {
 			throw log.failedToDetectElasticsearchVersion( e );
 		}
+		return createFromVersion( version );
+	}
 
+	public ElasticsearchDialect createFromVersion(String version) {
 		if ( version.startsWith( "0." ) || version.startsWith( "1." ) || version.startsWith( "2." ) ) {
 			throw log.unsupportedElasticsearchVersion( version );
 		}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.document.model.impl;
 
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
@@ -24,17 +25,21 @@
 
 	private final ElasticsearchFieldSortBuilderFactory sortBuilderFactory;
 
+	private final ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory;
+
 	private final ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory;
 
 	public ElasticsearchIndexSchemaFieldNode(ElasticsearchIndexSchemaObjectNode parent,
 			ElasticsearchFieldCodec<F> codec,
 			ElasticsearchFieldPredicateBuilderFactory predicateBuilderFactory,
 			ElasticsearchFieldSortBuilderFactory sortBuilderFactory,
+			ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory,
 			ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory) {
 		this.parent = parent;
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
 	}
 
@@ -54,6 +59,10 @@ public ElasticsearchFieldSortBuilderFactory getSortBuilderFactory() {
 		return sortBuilderFactory;
 	}
 
+	public ElasticsearchFieldAggregationBuilderFactory getAggregationBuilderFactory() {
+		return aggregationBuilderFactory;
+	}
+
 	public ElasticsearchFieldProjectionBuilderFactory getProjectionBuilderFactory() {
 		return projectionBuilderFactory;
 	}
@@ -64,6 +73,7 @@ public String toString() {
 				.append( "parent=" ).append( parent )
 				.append( ", predicateBuilderFactory=" ).append( predicateBuilderFactory )
 				.append( ", sortBuilderFactory=" ).append( sortBuilderFactory )
+				.append( ", aggregationBuilderFactory=" ).append( aggregationBuilderFactory )
 				.append( ", projectionBuilderFactory=" ).append( projectionBuilderFactory )
 				.append( "]" );
 		return sb.toString();
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.io.IOException;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Helpers to extract parts of a JSON stream without parsing the whole stream into a tree.
+ *
+ * @see JsonAccessor for the tree-based counterpart.
+ */
+public final class JsonStreams {
+
+	private static final JsonParser PARSER = new JsonParser();
+
+	private JsonStreams() {
+		// Private constructor, do not use.
+	}
+
+	/**
+	 * Parse the next value of the stream as a tree.
+	 *
+	 * @param reader The reader, positioned just before the value to parse.
+	 * @return The parsed value.
+	 */
+	public static JsonElement readElement(JsonReader reader) {
+		return PARSER.parse( reader );
+	}
+
+	/**
+	 * Parse the next value of the stream as an object,
+	 * retaining only the properties with the given names and skipping all others.
+	 *
+	 * @param reader The reader, positioned just before the object to parse.
+	 * @param retainedPropertyNames The names of properties to retain. Must be small: lookup is linear.
+	 * @return The parsed object, or {@code null} if the next value is {@code null}.
+	 * @throws IOException If the stream cannot be read.
+	 */
+	public static JsonObject readObject(JsonReader reader, String... retainedPropertyNames) throws IOException {
+		if ( reader.peek() == JsonToken.NULL ) {
+			reader.nextNull();
+			return null;
+		}
+		JsonObject result = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( contains( retainedPropertyNames, name ) ) {
+				result.add( name, readElement( reader ) );
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return result;
+	}
+
+	private static boolean contains(String[] array, String value) {
+		for ( String candidate : array ) {
+			if ( candidate.equals( value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
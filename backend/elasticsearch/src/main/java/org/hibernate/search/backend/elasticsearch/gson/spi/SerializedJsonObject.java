@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.util.AssertionFailure;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A JSON object serialized once and for all into UTF-8 bytes.
+ * <p>
+ * Allows to release the JSON tree early, for instance while a document waits to be sent as part of a bulk,
+ * and to write the object to a request body without serializing it again.
+ */
+public final class SerializedJsonObject {
+
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	private static final int INITIAL_BUFFER_SIZE = 512;
+
+	public static SerializedJsonObject of(Gson gson, JsonObject object) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+		try ( Writer writer = new OutputStreamWriter( bytes, CHARSET ) ) {
+			gson.toJson( object, writer );
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected failure while serializing JSON to memory", e );
+		}
+		return new SerializedJsonObject( bytes.toByteArray() );
+	}
+
+	/**
+	 * @param bytes The UTF-8 serialized form of a JSON object. Must not be modified afterwards.
+	 * @return The corresponding serialized object.
+	 */
+	public static SerializedJsonObject of(byte[] bytes) {
+		return new SerializedJsonObject( bytes );
+	}
+
+	private final byte[] bytes;
+
+	private SerializedJsonObject(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	@Override
+	public String toString() {
+		return new String( bytes, CHARSET );
+	}
+
+	/**
+	 * @return The serialized form of this object, in UTF-8. Must not be modified.
+	 */
+	public byte[] getBytes() {
+		return bytes;
+	}
+
+	public int length() {
+		return bytes.length;
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		out.write( bytes );
+	}
+
+	/**
+	 * @param properties Properties to add to this object. Must not already exist in this object.
+	 * @return A serialized object with the content of this object followed by the given properties,
+	 * built without parsing this object again.
+	 */
+	public SerializedJsonObject withProperties(JsonObject properties) {
+		if ( properties.entrySet().isEmpty() ) {
+			return this;
+		}
+		byte[] serializedProperties = properties.toString().getBytes( CHARSET );
+
+		int closingBraceIndex = lastNonWhitespaceIndex( bytes.length );
+		if ( closingBraceIndex < 0 || bytes[closingBraceIndex] != '}' ) {
+			throw new AssertionFailure( "Invalid serialized JSON object: " + this );
+		}
+		int lastContentIndex = lastNonWhitespaceIndex( closingBraceIndex );
+		boolean empty = bytes[lastContentIndex] == '{';
+
+		// Drop the closing brace of this object and the opening brace of the properties
+		int prefixLength = closingBraceIndex;
+		int separatorLength = empty ? 0 : 1;
+		int suffixLength = serializedProperties.length - 1;
+		byte[] result = new byte[prefixLength + separatorLength + suffixLength];
+		System.arraycopy( bytes, 0, result, 0, prefixLength );
+		if ( !empty ) {
+			result[prefixLength] = ',';
+		}
+		System.arraycopy( serializedProperties, 1, result, prefixLength + separatorLength, suffixLength );
+		return new SerializedJsonObject( result );
+	}
+
+	/**
+	 * @return The JSON object, parsed again from its serialized form.
+	 * To be used sparingly, e.g. for logging.
+	 */
+	public JsonObject toJsonObject() {
+		return new JsonParser().parse( new InputStreamReader( new ByteArrayInputStream( bytes ), CHARSET ) )
+				.getAsJsonObject();
+	}
+
+	private int lastNonWhitespaceIndex(int endIndex) {
+		int index = endIndex - 1;
+		while ( index >= 0 && Character.isWhitespace( bytes[index] ) ) {
+			--index;
+		}
+		return index;
+	}
+
+}
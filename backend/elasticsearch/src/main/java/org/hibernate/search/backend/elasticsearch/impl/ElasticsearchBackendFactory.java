@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
+import java.util.Optional;
 
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
 import org.hibernate.search.backend.elasticsearch.analysis.model.dsl.impl.ElasticsearchAnalysisDefinitionContainerContextImpl;
@@ -25,6 +26,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchRetryPolicy;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -64,6 +66,29 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( ElasticsearchBackendSettings.Defaults.LOG_JSON_PRETTY_PRINTING )
 					.build();
 
+	private static final OptionalConfigurationProperty<String> VERSION =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.VERSION )
+					.asString()
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_RETRIES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.RETRY_INITIAL_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.RETRY_MAX_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.RETRY_MAX_DELAY )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends ElasticsearchClientFactory>> CLIENT_FACTORY =
 			ConfigurationProperty.forKey( ElasticsearchBackendSpiSettings.CLIENT_FACTORY )
 					.asBeanReference( ElasticsearchClientFactory.class )
@@ -87,11 +112,14 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 			BeanProvider beanProvider = buildContext.getServiceManager().getBeanProvider();
 			try ( BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder =
 					CLIENT_FACTORY.getAndTransform( propertySource, beanProvider::getBean ) ) {
-				client = clientFactoryHolder.get().create( propertySource, initialGsonProvider );
+				client = clientFactoryHolder.get().create( propertySource, beanProvider, initialGsonProvider );
 			}
 
 			ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
-			ElasticsearchDialect dialect = dialectFactory.createFromClusterVersion( client );
+			Optional<String> configuredVersion = VERSION.get( propertySource );
+			ElasticsearchDialect dialect = configuredVersion.isPresent()
+					? dialectFactory.createFromVersion( configuredVersion.get() )
+					: dialectFactory.createFromClusterVersion( client );
 
 			GsonProvider dialectSpecificGsonProvider =
 					DefaultGsonProvider.create( dialect::createGsonBuilderBase, logPrettyPrinting );
@@ -107,7 +135,8 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 			return new ElasticsearchBackendImpl(
 					client, dialectSpecificGsonProvider, name, workFactory, userFacingGson,
 					analysisDefinitionRegistry,
-					getMultiTenancyStrategy( name, propertySource )
+					getMultiTenancyStrategy( name, propertySource ),
+					getRetryPolicy( propertySource )
 			);
 		}
 		catch (RuntimeException e) {
@@ -116,6 +145,14 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 		}
 	}
 
+	private ElasticsearchRetryPolicy getRetryPolicy(ConfigurationPropertySource propertySource) {
+		return new ElasticsearchRetryPolicy(
+				MAX_RETRIES.get( propertySource ),
+				RETRY_INITIAL_DELAY.get( propertySource ),
+				RETRY_MAX_DELAY.get( propertySource )
+		);
+	}
+
 	private MultiTenancyStrategy getMultiTenancyStrategy(String backendName, ConfigurationPropertySource propertySource) {
 		MultiTenancyStrategyName multiTenancyStrategyName = MULTI_TENANCY_STRATEGY.get( propertySource );
 
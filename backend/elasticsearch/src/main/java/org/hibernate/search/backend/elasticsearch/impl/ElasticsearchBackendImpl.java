@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexLifecycleExecutionOptions;
 import org.hibernate.search.backend.elasticsearch.index.management.impl.ElasticsearchIndexLifecycleStrategy;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.ElasticsearchIndexSettingsBuilder;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchRetryPolicy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchIndexFieldTypeFactoryContext;
@@ -62,6 +63,12 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 					.withDefault( ElasticsearchIndexSettings.Defaults.REFRESH_AFTER_WRITE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COALESCE_WORKS =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.COALESCE_WORKS )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.COALESCE_WORKS )
+					.build();
+
 	private static final ConfigurationProperty<ElasticsearchIndexLifecycleStrategyName> LIFECYCLE_STRATEGY =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.LIFECYCLE_STRATEGY )
 					.as( ElasticsearchIndexLifecycleStrategyName.class, ElasticsearchIndexLifecycleStrategyName::fromExternalRepresentation )
@@ -103,7 +110,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 			ElasticsearchWorkBuilderFactory workFactory,
 			Gson userFacingGson,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			ElasticsearchRetryPolicy retryPolicy) {
 		this.client = client;
 		this.name = name;
 
@@ -111,7 +119,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 				"Elasticsearch parallel work orchestrator for backend " + name,
 				client, gsonProvider, workFactory,
 				// TODO the LogErrorHandler should be replaced with a user-configurable instance at some point. See HSEARCH-3110.
-				new LogErrorHandler()
+				new LogErrorHandler(),
+				retryPolicy
 		);
 		this.userFacingGson = userFacingGson;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
@@ -123,7 +132,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 				orchestratorProvider
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, userFacingGson,
+				eventContext, workFactory, gsonProvider, userFacingGson,
 				( String elasticsearchIndexName ) -> {
 					String result = hibernateSearchIndexNamesByElasticsearchIndexNames.get( elasticsearchIndexName );
 					if ( result == null ) {
@@ -188,6 +197,7 @@ public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManage
 				new ElasticsearchIndexSettingsBuilder( analysisDefinitionRegistry );
 
 		boolean refreshAfterWrite = REFRESH_AFTER_WRITE.get( propertySource );
+		boolean coalesceWorks = COALESCE_WORKS.get( propertySource );
 
 		ElasticsearchIndexLifecycleStrategy lifecycleStrategy = createIndexLifecycleStrategy( propertySource );
 
@@ -196,7 +206,7 @@ public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManage
 				hibernateSearchIndexName, elasticsearchIndexName,
 				indexSchemaRootNodeBuilder, settingsBuilder,
 				lifecycleStrategy,
-				refreshAfterWrite
+				refreshAfterWrite, coalesceWorks
 		);
 	}
 
@@ -7,7 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexStatus;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
@@ -24,6 +24,8 @@
 
 /**
  * A utility implementing primitives for the various {@code ElasticsearchSchema*Impl}.
+ * <p>
+ * All operations are asynchronous, so that the schema of multiple indexes can be managed concurrently.
  * @author Gunnar Morling
  * @author Yoann Rodiere
  */
@@ -41,84 +43,76 @@ public ElasticsearchSchemaAccessor(ElasticsearchWorkBuilderFactory workFactory,
 		this.orchestrator = orchestrator;
 	}
 
-	public void createIndex(URLEncodedString indexName, IndexSettings settings,
+	public CompletableFuture<?> createIndex(URLEncodedString indexName, IndexSettings settings,
 			RootTypeMapping mapping) {
 		ElasticsearchWork<?> work = workFactory.createIndex( indexName )
 				.settings( settings )
 				.mapping( mapping )
 				.build();
-		execute( work );
+		return execute( work );
 	}
 
 	/**
 	 * @param indexName The name of the index
 	 * @param settings The settings for the newly created index
-	 * @return {@code true} if the index was actually created, {@code false} if it already existed.
+	 * @return A future that will hold {@code true} if the index was actually created,
+	 * {@code false} if it already existed.
 	 */
-	public boolean createIndexIfAbsent(URLEncodedString indexName, IndexSettings settings,
+	public CompletableFuture<Boolean> createIndexIfAbsent(URLEncodedString indexName, IndexSettings settings,
 			RootTypeMapping mapping) {
 		ElasticsearchWork<CreateIndexResult> work = workFactory.createIndex( indexName )
 				.settings( settings )
 				.mapping( mapping )
 				.ignoreExisting()
 				.build();
-		CreateIndexResult result = execute( work );
-		return CreateIndexResult.CREATED.equals( result );
+		return execute( work ).thenApply( CreateIndexResult.CREATED::equals );
 	}
 
-	public boolean indexExists(URLEncodedString indexName) {
+	public CompletableFuture<Boolean> indexExists(URLEncodedString indexName) {
 		ElasticsearchWork<Boolean> work = workFactory.indexExists( indexName ).build();
 		return execute( work );
 	}
 
-	public IndexMetadata getCurrentIndexMetadata(URLEncodedString indexName) {
-		IndexMetadata indexMetadata = new IndexMetadata();
-		indexMetadata.setName( indexName );
-
+	public CompletableFuture<IndexMetadata> getCurrentIndexMetadata(URLEncodedString indexName) {
+		// Retrieve the mapping and settings concurrently
 		ElasticsearchWork<RootTypeMapping> getMappingWork = workFactory.getIndexTypeMapping( indexName ).build();
-		try {
-			RootTypeMapping mapping = execute( getMappingWork );
-			indexMetadata.setMapping( mapping );
-		}
-		catch (RuntimeException e) {
-			throw log.elasticsearchMappingRetrievalForValidationFailed( e );
-		}
+		CompletableFuture<RootTypeMapping> mappingFuture = execute( getMappingWork )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchMappingRetrievalForValidationFailed( Throwables.expectException( e ) );
+				} ) );
 
 		ElasticsearchWork<IndexSettings> getSettingsWork = workFactory.getIndexSettings( indexName ).build();
-		try {
-			IndexSettings indexSettings = execute( getSettingsWork );
-			indexMetadata.setSettings( indexSettings );
-		}
-		catch (RuntimeException e) {
-			throw log.elasticsearchIndexSettingsRetrievalForValidationFailed( e );
-		}
-
-		return indexMetadata;
+		CompletableFuture<IndexSettings> settingsFuture = execute( getSettingsWork )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchIndexSettingsRetrievalForValidationFailed( Throwables.expectException( e ) );
+				} ) );
+
+		return mappingFuture.thenCombine( settingsFuture, (mapping, settings) -> {
+			IndexMetadata indexMetadata = new IndexMetadata();
+			indexMetadata.setName( indexName );
+			indexMetadata.setMapping( mapping );
+			indexMetadata.setSettings( settings );
+			return indexMetadata;
+		} );
 	}
 
-	public void updateSettings(URLEncodedString indexName, IndexSettings settings) {
+	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
 		ElasticsearchWork<?> work = workFactory.putIndexSettings( indexName, settings ).build();
-
-		try {
-			execute( work );
-		}
-		catch (RuntimeException e) {
-			throw log.elasticsearchSettingsUpdateFailed( indexName, e );
-		}
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchSettingsUpdateFailed( indexName, Throwables.expectException( e ) );
+				} ) );
 	}
 
-	public void putMapping(URLEncodedString indexName, RootTypeMapping mapping) {
+	public CompletableFuture<?> putMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		ElasticsearchWork<?> work = workFactory.putIndexTypeMapping( indexName, mapping ).build();
-
-		try {
-			execute( work );
-		}
-		catch (RuntimeException e) {
-			throw log.elasticsearchMappingCreationFailed( indexName.original, e );
-		}
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchMappingCreationFailed( indexName.original, Throwables.expectException( e ) );
+				} ) );
 	}
 
-	public void waitForIndexStatus(final URLEncodedString indexName, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+	public CompletableFuture<?> waitForIndexStatus(final URLEncodedString indexName, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
 		ElasticsearchIndexStatus requiredIndexStatus = executionOptions.getRequiredStatus();
 		String timeoutAndUnit = executionOptions.getRequiredStatusTimeoutInMs() + "ms";
 
@@ -126,38 +120,25 @@ public void waitForIndexStatus(final URLEncodedString indexName, ElasticsearchIn
 				workFactory.waitForIndexStatusWork( indexName, requiredIndexStatus, timeoutAndUnit )
 				.build();
 
-		execute( work );
+		return execute( work );
 	}
 
-	public void dropIndexIfExisting(URLEncodedString indexName) {
+	public CompletableFuture<?> dropIndexIfExisting(URLEncodedString indexName) {
 		ElasticsearchWork<?> work = workFactory.dropIndex( indexName ).ignoreIndexNotFound().build();
-		execute( work );
+		return execute( work );
 	}
 
-	public void closeIndex(URLEncodedString indexName) {
+	public CompletableFuture<?> closeIndex(URLEncodedString indexName) {
 		ElasticsearchWork<?> work = workFactory.closeIndex( indexName ).build();
-		execute( work );
-		log.closedIndex( indexName );
+		return execute( work ).thenRun( () -> log.closedIndex( indexName ) );
 	}
 
-	public void openIndex(URLEncodedString indexName) {
-		try {
-			ElasticsearchWork<?> work = workFactory.openIndex( indexName ).build();
-			execute( work );
-		}
-		catch (RuntimeException e) {
-			log.openedIndex( indexName );
-			throw e;
-		}
-		log.openedIndex( indexName );
+	public CompletableFuture<?> openIndex(URLEncodedString indexName) {
+		ElasticsearchWork<?> work = workFactory.openIndex( indexName ).build();
+		return execute( work ).whenComplete( (ignored, throwable) -> log.openedIndex( indexName ) );
 	}
 
-	private <T> T execute(ElasticsearchWork<T> work) {
-		try {
-			return Futures.unwrappedExceptionJoin( orchestrator.submit( work ) );
-		}
-		catch (CompletionException e) {
-			throw Throwables.expectRuntimeException( e );
-		}
+	private <T> CompletableFuture<T> execute(ElasticsearchWork<T> work) {
+		return Futures.create( () -> orchestrator.submit( work ) );
 	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.util.SearchException;
 
@@ -22,8 +24,8 @@ public interface ElasticsearchSchemaDropper {
 	 * <p>This method will skip operations silently if the index does not exist.
 	 *
 	 * @param indexName The name of the index to drop.
-	 * @throws SearchException If an error occurs.
+	 * @return A future that will complete exceptionally with a {@link SearchException} if an error occurs.
 	 */
-	void dropIfExisting(URLEncodedString indexName);
+	CompletableFuture<?> dropIfExisting(URLEncodedString indexName);
 
 }
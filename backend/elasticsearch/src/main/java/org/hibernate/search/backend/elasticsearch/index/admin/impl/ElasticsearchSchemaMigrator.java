@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.util.SearchException;
 
 /**
@@ -23,8 +25,8 @@ public interface ElasticsearchSchemaMigrator {
 	 * <p>The index is expected to already exist.
 	 *
 	 * @param indexMetadata The expected index metadata.
-	 * @throws SearchException If an error occurs.
+	 * @return A future that will complete exceptionally with a {@link SearchException} if an error occurs.
 	 */
-	void migrate(IndexMetadata indexMetadata);
+	CompletableFuture<?> migrate(IndexMetadata indexMetadata);
 
 }
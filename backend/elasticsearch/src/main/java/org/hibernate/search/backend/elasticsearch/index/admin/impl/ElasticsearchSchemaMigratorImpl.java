@@ -7,12 +7,15 @@
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.Throwables;
 
 /**
  * The default {@link ElasticsearchSchemaMigrator} implementation.
@@ -34,40 +37,46 @@ public ElasticsearchSchemaMigratorImpl(ElasticsearchSchemaAccessor schemaAccesso
 	}
 
 	@Override
-	public void migrate(IndexMetadata indexMetadata) {
+	public CompletableFuture<?> migrate(IndexMetadata indexMetadata) {
 		URLEncodedString indexName = indexMetadata.getName();
 		IndexSettings settings = indexMetadata.getSettings();
 
-		try {
-			/*
-			 * We only update settings if it's really necessary, because closing the index,
-			 * even for just a moment, may hurt if other clients are using the index.
-			 */
-			if ( !settings.isEmpty() && !schemaValidator.isSettingsValid( indexMetadata ) ) {
-				schemaAccessor.closeIndex( indexName );
-				try {
-					schemaAccessor.updateSettings( indexName, settings );
-				}
-				catch (RuntimeException mainException) {
-					// Try not to leave the index closed if something failed
-					try {
-						schemaAccessor.openIndex( indexName );
-					}
-					catch (RuntimeException e) {
-						mainException.addSuppressed( e );
-					}
-					throw mainException;
-				}
-				// Re-open the index after the settings have been successfully updated
-				schemaAccessor.openIndex( indexName );
-			}
-
-			// Elasticsearch itself takes care of the actual merging
-			schemaAccessor.putMapping( indexName, indexMetadata.getMapping() );
+		/*
+		 * We only update settings if it's really necessary, because closing the index,
+		 * even for just a moment, may hurt if other clients are using the index.
+		 */
+		CompletableFuture<?> settingsFuture;
+		if ( settings.isEmpty() ) {
+			settingsFuture = CompletableFuture.completedFuture( null );
 		}
-		catch (SearchException e) {
-			throw log.schemaUpdateFailed( indexName, e );
+		else {
+			settingsFuture = schemaValidator.isSettingsValid( indexMetadata )
+					.thenCompose( valid -> {
+						if ( valid ) {
+							return CompletableFuture.completedFuture( null );
+						}
+						return doUpdateSettings( indexName, settings );
+					} );
 		}
+
+		return settingsFuture
+				// Elasticsearch itself takes care of the actual merging
+				.thenCompose( ignored -> schemaAccessor.putMapping( indexName, indexMetadata.getMapping() ) )
+				.exceptionally( Futures.handler( e -> {
+					if ( e instanceof SearchException ) {
+						throw log.schemaUpdateFailed( indexName, (SearchException) e );
+					}
+					throw Throwables.expectRuntimeException( e );
+				} ) );
+	}
+
+	private CompletableFuture<?> doUpdateSettings(URLEncodedString indexName, IndexSettings settings) {
+		return schemaAccessor.closeIndex( indexName )
+				.thenCompose( ignored -> Futures.whenCompleteExecute(
+						schemaAccessor.updateSettings( indexName, settings ),
+						// Re-open the index even if the update failed: try not to leave the index closed
+						() -> schemaAccessor.openIndex( indexName )
+				) );
 	}
 
 }
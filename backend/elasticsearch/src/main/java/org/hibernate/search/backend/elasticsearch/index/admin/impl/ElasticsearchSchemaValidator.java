@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * An object responsible for validating type mappings retrieved from an existing Elasticsearch instance
  * against Hibernate Search-generated type mappings.
@@ -20,18 +22,18 @@ public interface ElasticsearchSchemaValidator {
 	 * The metadata mainly contain the type mappings and the index settings.
 	 *
 	 * @param expectedIndexMetadata The expected metadata, generated by Hibernate Search.
-	 * @throws ElasticsearchSchemaValidationException If a validation error occurs.
+	 * @return A future that will complete exceptionally
+	 * with an {@link ElasticsearchSchemaValidationException} if a validation error occurs.
 	 */
-	void validate(IndexMetadata expectedIndexMetadata);
+	CompletableFuture<?> validate(IndexMetadata expectedIndexMetadata);
 
 	/**
 	 * Retrieves and validate actual index settings, returning a boolean indicating
 	 * whether the actual settings are valid or not.
 	 *
 	 * @param expectedIndexMetadata The expected metadata, generated by Hibernate Search.
-	 * @return {@code true} if the actual settings are valid, {@code false} otherwise.
-	 * @throws ElasticsearchSchemaValidationException If a validation error occurs.
+	 * @return A future that will hold {@code true} if the actual settings are valid, {@code false} otherwise.
 	 */
-	boolean isSettingsValid(IndexMetadata expectedIndexMetadata);
+	CompletableFuture<Boolean> isSettingsValid(IndexMetadata expectedIndexMetadata);
 
 }
@@ -14,6 +14,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.esnative.AnalysisDefinition;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.esnative.AnalyzerDefinition;
@@ -132,10 +133,21 @@ public ElasticsearchSchemaValidatorImpl(ElasticsearchSchemaAccessor schemaAccess
 	}
 
 	@Override
-	public void validate(IndexMetadata expectedIndexMetadata) {
+	public CompletableFuture<?> validate(IndexMetadata expectedIndexMetadata) {
 		URLEncodedString indexName = expectedIndexMetadata.getName();
-		IndexMetadata actualIndexMetadata = schemaAccessor.getCurrentIndexMetadata( indexName );
+		return schemaAccessor.getCurrentIndexMetadata( indexName )
+				.thenAccept( actualIndexMetadata -> validate( indexName, expectedIndexMetadata, actualIndexMetadata ) );
+	}
+
+	@Override
+	public CompletableFuture<Boolean> isSettingsValid(IndexMetadata expectedIndexMetadata) {
+		URLEncodedString indexName = expectedIndexMetadata.getName();
+		return schemaAccessor.getCurrentIndexMetadata( indexName )
+				.thenApply( actualIndexMetadata -> isSettingsValid( indexName, expectedIndexMetadata, actualIndexMetadata ) );
+	}
 
+	private void validate(URLEncodedString indexName, IndexMetadata expectedIndexMetadata,
+			IndexMetadata actualIndexMetadata) {
 		ValidationErrorCollector errorCollector = new ValidationErrorCollector();
 		errorCollector.push( ValidationContextType.INDEX, indexName.original );
 		try {
@@ -162,11 +174,8 @@ public void validate(IndexMetadata expectedIndexMetadata) {
 		throw log.schemaValidationFailed( builder.toString() );
 	}
 
-	@Override
-	public boolean isSettingsValid(IndexMetadata expectedIndexMetadata) {
-		URLEncodedString indexName = expectedIndexMetadata.getName();
-		IndexMetadata actualIndexMetadata = schemaAccessor.getCurrentIndexMetadata( indexName );
-
+	private boolean isSettingsValid(URLEncodedString indexName, IndexMetadata expectedIndexMetadata,
+			IndexMetadata actualIndexMetadata) {
 		ValidationErrorCollector errorCollector = new ValidationErrorCollector();
 		errorCollector.push( ValidationContextType.INDEX, indexName.original );
 		try {
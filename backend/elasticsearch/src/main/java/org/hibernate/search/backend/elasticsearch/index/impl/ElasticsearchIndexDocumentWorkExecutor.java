@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.DocumentWorkTarget;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
@@ -26,17 +27,17 @@ public class ElasticsearchIndexDocumentWorkExecutor implements IndexDocumentWork
 	private final ElasticsearchWorkBuilderFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchWorkOrchestrator orchestrator;
-	private final URLEncodedString indexName;
+	private final DocumentWorkTarget documentWorkTarget;
 	private final String tenantId;
 
 	ElasticsearchIndexDocumentWorkExecutor(ElasticsearchWorkBuilderFactory factory, MultiTenancyStrategy multiTenancyStrategy,
 			ElasticsearchWorkOrchestrator orchestrator,
-			URLEncodedString indexName,
+			DocumentWorkTarget documentWorkTarget,
 			SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
-		this.indexName = indexName;
+		this.documentWorkTarget = documentWorkTarget;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
 
@@ -50,7 +51,7 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		ElasticsearchWork<Void> work = factory.index( indexName, URLEncodedString.fromString( elasticsearchId ), routingKey, document ).build();
+		ElasticsearchWork<Void> work = factory.index( documentWorkTarget, URLEncodedString.fromString( elasticsearchId ), routingKey, document ).build();
 		return orchestrator.submit( work );
 	}
 }
@@ -32,6 +32,7 @@ public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder<Ela
 	private final ElasticsearchIndexSettingsBuilder settingsBuilder;
 	private final ElasticsearchIndexLifecycleStrategy indexLifecycleStrategy;
 	private final boolean refreshAfterWrite;
+	private final boolean coalesceWorks;
 
 
 	public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
@@ -40,7 +41,7 @@ public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendCo
 			ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
 			ElasticsearchIndexSettingsBuilder settingsBuilder,
 			ElasticsearchIndexLifecycleStrategy indexLifecycleStrategy,
-			boolean refreshAfterWrite) {
+			boolean refreshAfterWrite, boolean coalesceWorks) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
@@ -50,6 +51,7 @@ public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendCo
 		this.settingsBuilder = settingsBuilder;
 		this.indexLifecycleStrategy = indexLifecycleStrategy;
 		this.refreshAfterWrite = refreshAfterWrite;
+		this.coalesceWorks = coalesceWorks;
 	}
 
 	@Override
@@ -75,7 +77,9 @@ public ElasticsearchIndexManagerImpl build() {
 
 		try {
 			parallelOrchestrator = indexingBackendContext.createParallelOrchestrator( elasticsearchIndexName );
-			serialOrchestrator = indexingBackendContext.createSerialOrchestrator( elasticsearchIndexName, refreshAfterWrite );
+			serialOrchestrator = indexingBackendContext.createSerialOrchestrator(
+					elasticsearchIndexName, refreshAfterWrite, coalesceWorks
+			);
 
 			indexManager = new ElasticsearchIndexManagerImpl(
 					indexingBackendContext, searchBackendContext,
@@ -86,9 +90,6 @@ public ElasticsearchIndexManagerImpl build() {
 					refreshAfterWrite
 			);
 
-			// TODO HSEARCH-3084 perform index initialization in parallel for all indexes?
-			indexManager.start();
-
 			return indexManager;
 		}
 		catch (RuntimeException e) {
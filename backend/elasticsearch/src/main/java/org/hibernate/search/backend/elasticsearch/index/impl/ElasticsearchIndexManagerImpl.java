@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
@@ -18,7 +19,9 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.DocumentWorkTarget;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetContextBuilder;
@@ -46,6 +49,7 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 	private final String hibernateSearchIndexName;
 	private final URLEncodedString elasticsearchIndexName;
 	private final ElasticsearchIndexModel model;
+	private final DocumentWorkTarget documentWorkTarget;
 
 	private final ElasticsearchWorkOrchestrator serialOrchestrator;
 	private final ElasticsearchWorkOrchestrator parallelOrchestrator;
@@ -65,6 +69,7 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 		this.hibernateSearchIndexName = hibernateSearchIndexName;
 		this.elasticsearchIndexName = elasticsearchIndexName;
 		this.model = model;
+		this.documentWorkTarget = indexingBackendContext.createDocumentWorkTarget( elasticsearchIndexName );
 		this.serialOrchestrator = serialOrchestrator;
 		this.parallelOrchestrator = parallelOrchestrator;
 		this.refreshAfterWrite = refreshAfterWrite;
@@ -74,8 +79,9 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 		);
 	}
 
-	public void start() {
-		managementStrategy.onStart( administrationClient );
+	@Override
+	public CompletableFuture<?> start() {
+		return managementStrategy.onStart( administrationClient );
 	}
 
 	@Override
@@ -95,18 +101,19 @@ public ElasticsearchIndexModel getModel() {
 	}
 
 	@Override
-	public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionContextImplementor sessionContext) {
+	public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
 		return indexingBackendContext.createWorkPlan(
 				serialOrchestrator,
-				elasticsearchIndexName,
-				refreshAfterWrite,
+				documentWorkTarget,
+				refreshAfterWrite && DocumentRefreshStrategy.DEFAULT.equals( refreshStrategy ),
 				sessionContext
 		);
 	}
 
 	@Override
 	public IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createDocumentWorkExecutor( parallelOrchestrator, elasticsearchIndexName, sessionContext );
+		return indexingBackendContext.createDocumentWorkExecutor( parallelOrchestrator, documentWorkTarget, sessionContext );
 	}
 
 	@Override
@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.DocumentWorkTarget;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
@@ -32,7 +33,7 @@ public class ElasticsearchIndexWorkPlan implements IndexWorkPlan<ElasticsearchDo
 	private final ElasticsearchWorkBuilderFactory builderFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchWorkOrchestrator orchestrator;
-	private final URLEncodedString indexName;
+	private final DocumentWorkTarget documentWorkTarget;
 	private final boolean refreshAfterWrite;
 	private final String tenantId;
 
@@ -41,13 +42,13 @@ public class ElasticsearchIndexWorkPlan implements IndexWorkPlan<ElasticsearchDo
 	ElasticsearchIndexWorkPlan(ElasticsearchWorkBuilderFactory builderFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
 			ElasticsearchWorkOrchestrator orchestrator,
-			URLEncodedString indexName,
+			DocumentWorkTarget documentWorkTarget,
 			boolean refreshAfterWrite,
 			SessionContextImplementor sessionContext) {
 		this.builderFactory = builderFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
-		this.indexName = indexName;
+		this.documentWorkTarget = documentWorkTarget;
 		this.refreshAfterWrite = refreshAfterWrite;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
@@ -71,7 +72,7 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 
 		collect(
 				builderFactory.delete(
-						indexName, URLEncodedString.fromString( elasticsearchId ), routingKey
+						documentWorkTarget, URLEncodedString.fromString( elasticsearchId ), routingKey
 				)
 						.markIndexDirty( refreshAfterWrite )
 						.build()
@@ -108,7 +109,7 @@ private void index(DocumentReferenceProvider referenceProvider,
 
 		collect(
 				builderFactory.index(
-						indexName, URLEncodedString.fromString( elasticsearchId ), routingKey, document
+						documentWorkTarget, URLEncodedString.fromString( elasticsearchId ), routingKey, document
 				)
 						.markIndexDirty( refreshAfterWrite )
 						.build()
@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.DocumentWorkTarget;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
@@ -57,9 +58,10 @@ ElasticsearchIndexAdministrationClient createAdministrationClient(URLEncodedStri
 		);
 	}
 
-	ElasticsearchWorkOrchestrator createSerialOrchestrator(String indexName, boolean refreshAfterWrite) {
+	ElasticsearchWorkOrchestrator createSerialOrchestrator(String indexName, boolean refreshAfterWrite,
+			boolean coalesceWorks) {
 		return orchestratorProvider.createSerialOrchestrator(
-				"Elasticsearch serial work orchestrator for index " + indexName, refreshAfterWrite
+				"Elasticsearch serial work orchestrator for index " + indexName, refreshAfterWrite, coalesceWorks
 		);
 	}
 
@@ -69,16 +71,20 @@ ElasticsearchWorkOrchestrator createParallelOrchestrator(String indexName) {
 		);
 	}
 
+	DocumentWorkTarget createDocumentWorkTarget(URLEncodedString indexName) {
+		return workFactory.documentWorkTarget( indexName );
+	}
+
 	IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
 			ElasticsearchWorkOrchestrator orchestrator,
-			URLEncodedString indexName,
+			DocumentWorkTarget documentWorkTarget,
 			boolean refreshAfterWrite,
 			SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new ElasticsearchIndexWorkPlan(
 				workFactory, multiTenancyStrategy, orchestrator,
-				indexName,
+				documentWorkTarget,
 				refreshAfterWrite,
 				sessionContext
 		);
@@ -86,12 +92,12 @@ IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
 
 	IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
 			ElasticsearchWorkOrchestrator orchestrator,
-			URLEncodedString indexName,
+			DocumentWorkTarget documentWorkTarget,
 			SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new ElasticsearchIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, sessionContext );
+				documentWorkTarget, sessionContext );
 	}
 
 	IndexWorkExecutor createWorkExecutor(ElasticsearchWorkOrchestrator orchestrator, URLEncodedString indexName) {
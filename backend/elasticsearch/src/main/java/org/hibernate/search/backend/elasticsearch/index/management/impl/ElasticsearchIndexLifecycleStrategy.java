@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.management.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexLifecycleStrategyName;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexAdministrationClient;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexLifecycleExecutionOptions;
 import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.Futures;
 
 public class ElasticsearchIndexLifecycleStrategy {
 
@@ -23,21 +26,17 @@ public ElasticsearchIndexLifecycleStrategy(
 		this.executionOptions = executionOptions;
 	}
 
-	public void onStart(ElasticsearchIndexAdministrationClient client) {
+	public CompletableFuture<?> onStart(ElasticsearchIndexAdministrationClient client) {
 		switch ( strategyName ) {
 			case CREATE:
-				client.createIfAbsent( executionOptions );
-				break;
+				return client.createIfAbsent( executionOptions );
 			case DROP_AND_CREATE:
 			case DROP_AND_CREATE_AND_DROP:
-				client.dropAndCreate( executionOptions );
-				break;
+				return client.dropAndCreate( executionOptions );
 			case UPDATE:
-				client.update( executionOptions );
-				break;
+				return client.update( executionOptions );
 			case VALIDATE:
-				client.validate( executionOptions );
-				break;
+				return client.validate( executionOptions );
 			default:
 				throw new AssertionFailure( "Unexpected index management strategy: " + strategyName );
 		}
@@ -46,7 +45,7 @@ public void onStart(ElasticsearchIndexAdministrationClient client) {
 	public void onStop(ElasticsearchIndexAdministrationClient client) {
 		switch ( strategyName ) {
 			case DROP_AND_CREATE_AND_DROP:
-				client.dropIfExisting( executionOptions );
+				Futures.unwrappedExceptionJoin( client.dropIfExisting( executionOptions ) );
 				break;
 			case CREATE:
 			case DROP_AND_CREATE:
@@ -36,8 +36,14 @@ public static String formatResponse(ElasticsearchResponse response) {
 		sb.append( response.getStatusCode() )
 				.append( " '" )
 				.append( response.getStatusMessage() )
-				.append( "' with body " )
-				.append( helper.toString( response.getBody() ) );
+				.append( "' with body " );
+		try {
+			sb.append( helper.toString( response.getBody() ) );
+		}
+		catch (RuntimeException e) {
+			// The body could not be parsed; don't hide the original failure behind this one
+			sb.append( "<unparseable: " ).append( e.getMessage() ).append( ">" );
+		}
 
 		return sb.toString();
 	}
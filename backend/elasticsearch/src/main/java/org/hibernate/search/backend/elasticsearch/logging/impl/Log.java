@@ -9,12 +9,15 @@
 
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchSchemaValidationException;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.sort.impl.ElasticsearchFieldSortBuilderFactory;
@@ -455,4 +458,41 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 
 	@Message(id = ID_OFFSET_3 + 51, value = "The operation was skipped due to the failure of a previous work in the same changeset.")
 	SearchException elasticsearchSkippedBecauseOfPreviousWork(@Cause Throwable skippingCause);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 52,
+			value = "Elasticsearch rejected a request or some bulked works because of back-pressure;"
+					+ " retrying in %1$dms (retry %2$d).")
+	void retryingAfterBackPressure(long delay, int retryNumber);
+
+	@Message(id = ID_OFFSET_3 + 53,
+			value = "Elasticsearch query '%1$s' exceeded the timeout of %2$s %3$s.")
+	SearchException searchTimeout(String queryString, long timeoutValue, TimeUnit timeoutUnit);
+
+	@Message(id = ID_OFFSET_3 + 54,
+			value = "Elasticsearch failed to execute a search request. Error: %1$s")
+	SearchException elasticsearchSearchFailed(String error);
+
+	@Message(id = ID_OFFSET_3 + 55,
+			value = "The query uses parameters %1$s, but it was not prepared."
+					+ " Queries with parameters must be built using prepare(), then executed after binding parameter values.")
+	SearchException cannotBuildQueryWithParameters(Collection<String> parameterNames);
+
+	@Message(id = ID_OFFSET_3 + 56,
+			value = "Missing value for parameter '%1$s'. All parameters used in a prepared query must be bound to a non-null value.")
+	SearchException missingParameterValue(String parameterName);
+
+	@Message(id = ID_OFFSET_3 + 57,
+			value = "%1$s aggregations are not supported by this field's type.")
+	SearchException aggregationTypeNotSupportedByFieldType(String aggregationType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 58,
+			value = "Aggregations are not enabled for field '%1$s'. Make sure the field is marked as sortable.")
+	SearchException unaggregatableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 59,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			ElasticsearchFieldAggregationBuilderFactory component1, ElasticsearchFieldAggregationBuilderFactory component2,
+			@Param EventContext context);
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.multitenancy.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.DataType;
@@ -96,6 +97,11 @@ public String extractTenantScopedDocumentId(JsonObject hit) {
 		return HIT_ID_ACCESSOR.get( hit ).orElseThrow( log::elasticsearchResponseMissingData );
 	}
 
+	@Override
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		hitPropertyNames.add( "fields" );
+	}
+
 	@Override
 	public void checkTenantId(String tenantId, EventContext backendContext) {
 		if ( tenantId == null ) {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.multitenancy.impl;
 
+import java.util.Set;
+
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
 import org.hibernate.search.util.EventContext;
 
@@ -73,6 +75,13 @@ public interface MultiTenancyStrategy {
 	 */
 	String extractTenantScopedDocumentId(JsonObject hit);
 
+	/**
+	 * Contributes the names of the hit properties read by {@link #extractTenantScopedDocumentId(JsonObject)}.
+	 *
+	 * @param hitPropertyNames The names of hit properties to retain when parsing hits.
+	 */
+	void contributeHitPropertyNames(Set<String> hitPropertyNames);
+
 	/**
 	 * Check that the tenant id value is consistent with the strategy.
 	 *
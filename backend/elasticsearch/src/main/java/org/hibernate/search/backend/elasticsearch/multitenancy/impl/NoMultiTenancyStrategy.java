@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.multitenancy.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -57,6 +58,11 @@ public String extractTenantScopedDocumentId(JsonObject hit) {
 		return HIT_ID_ACCESSOR.get( hit ).orElseThrow( log::elasticsearchResponseMissingData );
 	}
 
+	@Override
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		hitPropertyNames.add( "_id" );
+	}
+
 	@Override
 	public void checkTenantId(String tenantId, EventContext backendContext) {
 		if ( tenantId != null ) {
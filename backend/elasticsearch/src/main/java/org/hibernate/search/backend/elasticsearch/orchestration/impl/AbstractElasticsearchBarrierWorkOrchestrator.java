@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -99,6 +100,7 @@ void submit(Changeset changeset) {
 	interface Changeset {
 		void submitTo(ElasticsearchAccumulatingWorkOrchestrator delegate);
 		CompletableFuture<?> getFuture();
+		List<ElasticsearchWork<?>> getWorks();
 	}
 
 	static class MultipleWorkChangeset implements Changeset {
@@ -112,13 +114,20 @@ static class MultipleWorkChangeset implements Changeset {
 
 		@Override
 		public void submitTo(ElasticsearchAccumulatingWorkOrchestrator delegate) {
-			delegate.submit( works ).whenComplete( Futures.copyHandler( future ) );
+			CompletableFuture<?> delegateFuture = delegate.submit( works );
+			delegateFuture.whenComplete( Futures.copyHandler( future ) );
+			Futures.propagateCancellation( future, delegateFuture );
 		}
 
 		@Override
 		public CompletableFuture<?> getFuture() {
 			return future;
 		}
+
+		@Override
+		public List<ElasticsearchWork<?>> getWorks() {
+			return works;
+		}
 	}
 
 	static class SingleWorkChangeset<T> implements Changeset {
@@ -132,13 +141,21 @@ public CompletableFuture<?> getFuture() {
 
 		@Override
 		public void submitTo(ElasticsearchAccumulatingWorkOrchestrator delegate) {
-			delegate.submit( work ).whenComplete( Futures.copyHandler( future ) );
+			CompletableFuture<T> delegateFuture = delegate.submit( work );
+			delegateFuture.whenComplete( Futures.copyHandler( future ) );
+			// Allow callers to cancel the work, for example a search query that is no longer needed
+			Futures.propagateCancellation( future, delegateFuture );
 		}
 
 		@Override
 		public CompletableFuture<?> getFuture() {
 			return future;
 		}
+
+		@Override
+		public List<ElasticsearchWork<?>> getWorks() {
+			return Collections.singletonList( work );
+		}
 	}
 
 }
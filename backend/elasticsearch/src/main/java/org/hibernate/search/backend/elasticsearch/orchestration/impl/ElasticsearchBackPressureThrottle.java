@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A throttle shared by all orchestrators of a backend,
+ * slowing down the submission of new works while Elasticsearch reports back-pressure.
+ * <p>
+ * Each time a request is rejected, the throttle is closed until the retry delay expires,
+ * so that the orchestrators do not add more load to the cluster while rejected works are waiting to be retried.
+ * <p>
+ * Orchestrators do not wait for the throttle to clear:
+ * they defer their processing using the scheduler of this throttle,
+ * so that their threads remain free in the meantime.
+ * <p>
+ * This class is thread-safe.
+ */
+class ElasticsearchBackPressureThrottle {
+
+	private final ScheduledExecutorService scheduler;
+
+	private final AtomicLong pausedUntilNanos = new AtomicLong( System.nanoTime() );
+
+	/**
+	 * @param scheduler The scheduler used to defer processing while back-pressure is signaled.
+	 * May be {@code null} if back-pressure is never signaled, in which case processing is never deferred.
+	 */
+	ElasticsearchBackPressureThrottle(ScheduledExecutorService scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Signal that Elasticsearch rejected a request because of back-pressure.
+	 *
+	 * @param delay The delay during which new submissions should be paused, in milliseconds.
+	 */
+	void signalBackPressure(long delay) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( delay );
+		pausedUntilNanos.accumulateAndGet( deadline, (current, candidate) -> current - candidate < 0 ? candidate : current );
+	}
+
+	/**
+	 * Defer an action until no back-pressure was signaled for the last delay, if necessary.
+	 * <p>
+	 * If back-pressure is signaled again while the action is deferred,
+	 * the action will be executed anyway: callers are expected to call this method again from the action.
+	 *
+	 * @param action The action to defer.
+	 * @return {@code true} if the action was deferred and will be executed later by the scheduler,
+	 * {@code false} if it was not and the caller should proceed immediately.
+	 */
+	boolean deferUntilClearance(Runnable action) {
+		long remainingNanos = pausedUntilNanos.get() - System.nanoTime();
+		if ( remainingNanos <= 0 || scheduler == null ) {
+			return false;
+		}
+		try {
+			scheduler.schedule( action, remainingNanos, TimeUnit.NANOSECONDS );
+			return true;
+		}
+		catch (RejectedExecutionException e) {
+			// Most likely we are shutting down: proceed right away
+			return false;
+		}
+	}
+
+}
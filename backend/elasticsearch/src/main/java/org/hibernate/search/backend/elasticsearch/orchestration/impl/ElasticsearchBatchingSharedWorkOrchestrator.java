@@ -41,7 +41,9 @@ class ElasticsearchBatchingSharedWorkOrchestrator extends AbstractElasticsearchB
 
 	private final ElasticsearchAccumulatingWorkOrchestrator delegate;
 	private final ErrorHandler errorHandler;
+	private final ElasticsearchBackPressureThrottle throttle;
 	private final int changesetsPerBatch;
+	private final ElasticsearchChangesetCoalescer coalescer;
 
 	private final ExecutorService executor;
 	private final BlockingQueue<Changeset> changesetQueue;
@@ -64,16 +66,23 @@ protected boolean onAdvance(int phase, int registeredParties) {
 	 * @param fair if {@code true} changesets are always submitted to the
 	 * delegate in FIFO order, if {@code false} changesets submitted
 	 * when the internal queue is full may be submitted out of order.
+	 * @param coalesceWorks if {@code true}, works affecting a document that is affected again
+	 * by a changeset later in the same batch are not executed. Requires {@code fair} to be {@code true}
+	 * and the delegate to execute changesets in order.
 	 * @param delegate A delegate orchestrator. May not be thread-safe.
+	 * @param throttle A throttle delaying the processing of batches while Elasticsearch reports back-pressure.
+	 * May be shared with other orchestrators.
 	 */
 	public ElasticsearchBatchingSharedWorkOrchestrator(
-			String name, int maxChangesetsPerBatch, boolean fair,
+			String name, int maxChangesetsPerBatch, boolean fair, boolean coalesceWorks,
 			ElasticsearchAccumulatingWorkOrchestrator delegate,
-			ErrorHandler errorHandler) {
+			ErrorHandler errorHandler, ElasticsearchBackPressureThrottle throttle) {
 		super( name );
 		this.delegate = delegate;
 		this.errorHandler = errorHandler;
+		this.throttle = throttle;
 		this.changesetsPerBatch = maxChangesetsPerBatch;
+		this.coalescer = coalesceWorks ? new ElasticsearchChangesetCoalescer() : null;
 		changesetQueue = new ArrayBlockingQueue<>( maxChangesetsPerBatch, fair );
 		changesetBuffer = new ArrayList<>( maxChangesetsPerBatch );
 		executor = Executors.newFixedThreadPool( 1, name );
@@ -194,6 +203,15 @@ private void awaitCompletionBeforeClose() {
 	 * Takes a batch of changesets from the queue and processes them.
 	 */
 	private void processBatch() {
+		/*
+		 * Do not add more load while Elasticsearch is rejecting requests:
+		 * try again later, without blocking the processing thread.
+		 * Meanwhile, the queue will fill up and eventually block submitting threads.
+		 * We stay registered to the phaser and processing stays scheduled until the batch is actually processed.
+		 */
+		if ( throttle.deferUntilClearance( this::resumeProcessing ) ) {
+			return;
+		}
 		try {
 			CompletableFuture<?> future;
 			try {
@@ -203,6 +221,10 @@ private void processBatch() {
 
 					changesetQueue.drainTo( changesetBuffer, changesetsPerBatch );
 
+					if ( coalescer != null ) {
+						coalescer.coalesce( changesetBuffer );
+					}
+
 					for ( Changeset changeset : changesetBuffer ) {
 						try {
 							changeset.submitTo( delegate );
@@ -271,6 +293,26 @@ private void processBatch() {
 		}
 	}
 
+	private void resumeProcessing() {
+		try {
+			executor.submit( this::processBatch );
+		}
+		catch (Throwable e) {
+			/*
+			 * Make sure a failure to submit the processing task
+			 * doesn't leave other threads waiting indefinitely
+			 */
+			try {
+				processingScheduled.set( false );
+				phaser.arriveAndDeregister();
+			}
+			catch (Throwable e2) {
+				e.addSuppressed( e2 );
+			}
+			errorHandler.handleException( "Error while processing Elasticsearch works", e );
+		}
+	}
+
 	private class ChildOrchestrator extends AbstractElasticsearchBarrierWorkOrchestrator
 			implements ElasticsearchBarrierWorkOrchestrator {
 
@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.AbstractElasticsearchBarrierWorkOrchestrator.Changeset;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchDocumentKey;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * Coalesces works affecting the same document across the changesets of a single batch.
+ * <p>
+ * When a work indexes or deletes a document that is indexed or deleted again
+ * by a work submitted later in the same batch, only the later work is executed.
+ * The future of the changeset holding the skipped work
+ * completes when the changeset holding the later work completes.
+ * <p>
+ * Works that do not affect a single document, such as purges or flushes,
+ * act as barriers: works are never coalesced across them.
+ * <p>
+ * Only suitable for orchestrators executing changesets in the order they were submitted.
+ * Not thread-safe.
+ */
+class ElasticsearchChangesetCoalescer {
+
+	private final Map<ElasticsearchDocumentKey, Changeset> lastChangesetPerDocument = new HashMap<>();
+
+	/**
+	 * @param changesets The changesets of a batch, in the order they were submitted.
+	 * Changesets holding superseded works will be replaced.
+	 */
+	void coalesce(List<Changeset> changesets) {
+		try {
+			for ( int i = changesets.size() - 1; i >= 0; i-- ) {
+				Changeset changeset = changesets.get( i );
+				Changeset coalesced = coalesce( changeset );
+				if ( coalesced != changeset ) {
+					changesets.set( i, coalesced );
+				}
+			}
+		}
+		finally {
+			lastChangesetPerDocument.clear();
+		}
+	}
+
+	private Changeset coalesce(Changeset changeset) {
+		List<ElasticsearchWork<?>> works = changeset.getWorks();
+		// Lazily initialized, only if some works are superseded
+		List<ElasticsearchWork<?>> remainingWorksInReverseOrder = null;
+		Set<Changeset> supersedingChangesets = null;
+
+		for ( int i = works.size() - 1; i >= 0; i-- ) {
+			ElasticsearchWork<?> work = works.get( i );
+			ElasticsearchDocumentKey documentKey = getDocumentKey( work );
+			Changeset supersedingChangeset = null;
+			if ( documentKey == null ) {
+				lastChangesetPerDocument.clear();
+			}
+			else {
+				supersedingChangeset = lastChangesetPerDocument.putIfAbsent( documentKey, changeset );
+			}
+
+			if ( supersedingChangeset == null ) {
+				if ( remainingWorksInReverseOrder != null ) {
+					remainingWorksInReverseOrder.add( work );
+				}
+				continue;
+			}
+
+			if ( remainingWorksInReverseOrder == null ) {
+				remainingWorksInReverseOrder = new ArrayList<>( works.size() );
+				supersedingChangesets = new LinkedHashSet<>();
+				for ( int j = works.size() - 1; j > i; j-- ) {
+					remainingWorksInReverseOrder.add( works.get( j ) );
+				}
+			}
+			if ( supersedingChangeset != changeset ) {
+				supersedingChangesets.add( supersedingChangeset );
+			}
+		}
+
+		if ( remainingWorksInReverseOrder == null ) {
+			return changeset;
+		}
+
+		Collections.reverse( remainingWorksInReverseOrder );
+		List<CompletableFuture<?>> supersedingFutures = new ArrayList<>( supersedingChangesets.size() );
+		for ( Changeset supersedingChangeset : supersedingChangesets ) {
+			supersedingFutures.add( supersedingChangeset.getFuture() );
+		}
+		return new CoalescedChangeset( changeset, remainingWorksInReverseOrder, supersedingFutures );
+	}
+
+	private static ElasticsearchDocumentKey getDocumentKey(ElasticsearchWork<?> work) {
+		if ( work instanceof BulkableElasticsearchWork ) {
+			return ( (BulkableElasticsearchWork<?>) work ).getDocumentKey();
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static class CoalescedChangeset implements Changeset {
+		private final Changeset original;
+		private final List<ElasticsearchWork<?>> works;
+		private final List<CompletableFuture<?>> supersedingFutures;
+
+		CoalescedChangeset(Changeset original, List<ElasticsearchWork<?>> works,
+				List<CompletableFuture<?>> supersedingFutures) {
+			this.original = original;
+			this.works = works;
+			this.supersedingFutures = supersedingFutures;
+		}
+
+		@Override
+		public void submitTo(ElasticsearchAccumulatingWorkOrchestrator delegate) {
+			List<CompletableFuture<?>> futures = new ArrayList<>( supersedingFutures );
+			if ( !works.isEmpty() ) {
+				futures.add( delegate.submit( works ) );
+			}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+					.whenComplete( Futures.copyHandler( getFuture() ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // Document works, the only ones that can be superseded, return null
+		public CompletableFuture<Object> getFuture() {
+			return (CompletableFuture<Object>) original.getFuture();
+		}
+
+		@Override
+		public List<ElasticsearchWork<?>> getWorks() {
+			return works;
+		}
+	}
+}
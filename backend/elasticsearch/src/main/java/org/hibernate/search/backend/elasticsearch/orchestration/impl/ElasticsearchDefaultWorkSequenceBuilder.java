@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
 import org.hibernate.search.util.impl.common.Futures;
@@ -30,6 +31,7 @@ class ElasticsearchDefaultWorkSequenceBuilder implements ElasticsearchWorkSequen
 
 	private final Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier;
 	private final Supplier<ContextualErrorHandler> errorHandlerSupplier;
+	private final ElasticsearchWorkRetrier retrier;
 	private final BulkResultExtractionStepImpl bulkResultExtractionStep = new BulkResultExtractionStepImpl();
 
 	private CompletableFuture<?> currentlyBuildingSequenceTail;
@@ -37,8 +39,18 @@ class ElasticsearchDefaultWorkSequenceBuilder implements ElasticsearchWorkSequen
 
 	public ElasticsearchDefaultWorkSequenceBuilder(Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier,
 			Supplier<ContextualErrorHandler> errorHandlerSupplier) {
+		this( contextSupplier, errorHandlerSupplier, null );
+	}
+
+	/**
+	 * @param retrier The retrier used to execute again bulked works rejected because of back-pressure,
+	 * or {@code null} to never retry.
+	 */
+	public ElasticsearchDefaultWorkSequenceBuilder(Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier,
+			Supplier<ContextualErrorHandler> errorHandlerSupplier, ElasticsearchWorkRetrier retrier) {
 		this.contextSupplier = contextSupplier;
 		this.errorHandlerSupplier = errorHandlerSupplier;
+		this.retrier = retrier;
 	}
 
 	@Override
@@ -82,6 +94,8 @@ public <T> CompletableFuture<T> addNonBulkExecution(ElasticsearchWork<T> work) {
 				.thenCompose( Futures.safeComposer(
 						ignoredPreviousResult -> {
 							CompletableFuture<T> workExecutionFuture = work.execute( sequenceContext.executionContext );
+							// Cancelling the work from the caller's side must abort its execution
+							Futures.propagateCancellation( workFutureForCaller, workExecutionFuture );
 							return addPostExecutionHandlers( work, workExecutionFuture, workFutureForCaller, sequenceContext );
 						}
 				) );
@@ -112,12 +126,20 @@ public CompletableFuture<BulkResult> addBulkExecution(CompletableFuture<? extend
 		CompletableFuture<BulkResult> bulkWorkResultFuture =
 				// When the previous work completes successfully *and* the bulk work is available...
 				currentlyBuildingSequenceTail.thenCombine( workFuture, (ignored, work) -> work )
-				// ... execute the bulk work
-				.thenCompose( work -> work.execute( currentSequenceAttributes.executionContext ) );
+				// ... execute the bulk work, retrying rejected bulked works if possible
+				.thenCompose( work -> executeBulk( work, currentSequenceAttributes.executionContext ) );
 		currentlyBuildingSequenceTail = bulkWorkResultFuture;
 		return bulkWorkResultFuture;
 	}
 
+	private CompletableFuture<BulkResult> executeBulk(ElasticsearchWork<BulkResult> work,
+			ElasticsearchWorkExecutionContext context) {
+		if ( retrier == null ) {
+			return work.execute( context );
+		}
+		return retrier.executeBulk( work, context );
+	}
+
 	@Override
 	public BulkResultExtractionStep addBulkResultExtraction(CompletableFuture<BulkResult> bulkResultFuture) {
 		// Use a local variable to make sure lambdas (if any) won't be affected by a reset()
@@ -273,6 +295,10 @@ <R> void notifyWorkSkipped(ElasticsearchWork<R> work, Throwable throwable,
 
 		<R> void notifyWorkFailed(ElasticsearchWork<R> work, Throwable throwable,
 				CompletableFuture<R> workFutureForCaller) {
+			if ( workFutureForCaller.isCancelled() ) {
+				// The caller cancelled the work on purpose: this is not a failure
+				return;
+			}
 			workFutureForCaller.completeExceptionally( throwable );
 			errorHandler.markAsFailed( work, throwable );
 		}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines when and after which delay requests rejected by Elasticsearch should be retried.
+ * <p>
+ * Delays grow exponentially with each retry, up to a maximum,
+ * and are randomized ("jittered") so that clients rejected at the same time
+ * do not all retry at the same time.
+ */
+public final class ElasticsearchRetryPolicy {
+
+	private static final ElasticsearchRetryPolicy NO_RETRY = new ElasticsearchRetryPolicy( 0, 0L, 0L );
+
+	public static ElasticsearchRetryPolicy noRetry() {
+		return NO_RETRY;
+	}
+
+	private final int maxRetries;
+	private final long initialDelay;
+	private final long maxDelay;
+
+	/**
+	 * @param maxRetries The maximum number of retries for a given request. {@code 0} disables retries.
+	 * @param initialDelay The delay before the first retry, in milliseconds.
+	 * @param maxDelay The maximum delay before a retry, in milliseconds.
+	 */
+	public ElasticsearchRetryPolicy(int maxRetries, long initialDelay, long maxDelay) {
+		this.maxRetries = maxRetries;
+		this.initialDelay = initialDelay;
+		this.maxDelay = Math.max( initialDelay, maxDelay );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() ).append( "[" )
+				.append( "maxRetries=" ).append( maxRetries )
+				.append( ", initialDelay=" ).append( initialDelay )
+				.append( ", maxDelay=" ).append( maxDelay )
+				.append( "]" )
+				.toString();
+	}
+
+	boolean isEnabled() {
+		return maxRetries > 0;
+	}
+
+	/**
+	 * @param retryIndex The index of the upcoming retry, starting at 0 for the first retry.
+	 * @return {@code true} if this retry is allowed, {@code false} if all retries were exhausted.
+	 */
+	boolean canRetry(int retryIndex) {
+		return retryIndex < maxRetries;
+	}
+
+	/**
+	 * @param retryIndex The index of the upcoming retry, starting at 0 for the first retry.
+	 * @return The delay to wait before this retry, in milliseconds:
+	 * a random value between half the exponential backoff and the full exponential backoff.
+	 */
+	long getDelay(int retryIndex) {
+		// Cap the shift to avoid overflows
+		long backoff = Math.min( maxDelay, initialDelay << Math.min( retryIndex, 30 ) );
+		if ( backoff <= 1 ) {
+			return backoff;
+		}
+		long half = backoff / 2;
+		return half + ThreadLocalRandom.current().nextLong( backoff - half + 1 );
+	}
+
+}
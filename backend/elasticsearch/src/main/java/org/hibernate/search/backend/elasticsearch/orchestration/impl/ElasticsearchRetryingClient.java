@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+
+/**
+ * A client submitting requests again when Elasticsearch rejects them because of back-pressure.
+ *
+ * @see ElasticsearchWorkRetrier
+ */
+class ElasticsearchRetryingClient implements ElasticsearchClient {
+
+	private final ElasticsearchClient delegate;
+	private final ElasticsearchWorkRetrier retrier;
+
+	ElasticsearchRetryingClient(ElasticsearchClient delegate, ElasticsearchWorkRetrier retrier) {
+		this.delegate = delegate;
+		this.retrier = retrier;
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		return retrier.submit( delegate, request );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		return delegate.unwrap( clientClass );
+	}
+
+}
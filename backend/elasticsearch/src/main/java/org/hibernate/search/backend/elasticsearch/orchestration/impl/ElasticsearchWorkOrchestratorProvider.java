@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
@@ -14,6 +16,8 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.Executors;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
@@ -106,16 +110,37 @@ public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ErrorHandler errorHandler;
 
+	private final ScheduledExecutorService retryScheduler;
+	private final ElasticsearchBackPressureThrottle throttle;
+	private final ElasticsearchWorkRetrier retrier;
+
 	private final ElasticsearchBatchingSharedWorkOrchestrator rootParallelOrchestrator;
 
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
 			ElasticsearchClient client, GsonProvider gsonProvider, ElasticsearchWorkBuilderFactory workFactory,
-			ErrorHandler errorHandler) {
-		this.client = client;
+			ErrorHandler errorHandler, ElasticsearchRetryPolicy retryPolicy) {
 		this.gsonProvider = gsonProvider;
 		this.workFactory = workFactory;
 		this.errorHandler = errorHandler;
 
+		/*
+		 * Requests and bulked works rejected because of back-pressure are retried transparently,
+		 * and meanwhile all orchestrators of this backend slow down.
+		 */
+		if ( retryPolicy.isEnabled() ) {
+			this.retryScheduler = Executors.newScheduledThreadPool( rootParallelOrchestratorName + " - retry executor" );
+			this.throttle = new ElasticsearchBackPressureThrottle( retryScheduler );
+			this.retrier = new ElasticsearchWorkRetrier( retryPolicy, retryScheduler, throttle );
+			this.client = new ElasticsearchRetryingClient( client, retrier );
+		}
+		else {
+			this.retryScheduler = null;
+			// Back-pressure is never signaled without retries
+			this.throttle = new ElasticsearchBackPressureThrottle( null );
+			this.retrier = null;
+			this.client = client;
+		}
+
 		/*
 		 * The following orchestrator doesn't require a strict execution ordering
 		 * (because it's mainly used by the mass indexer, which already takes care of
@@ -129,6 +154,7 @@ public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName
 				rootParallelOrchestratorName,
 				PARALLEL_MAX_CHANGESETS_PER_BATCH,
 				false, // Do not care about ordering when queuing changesets
+				false, // Changesets are not executed in order, so they cannot be coalesced
 				createThreadUnsafeParallelOrchestrator( this::createIgnoreDirtyWorkExecutionContext, false ) );
 	}
 
@@ -142,7 +168,10 @@ public void close() {
 			throw log.interruptedWhileWaitingForRequestCompletion( e );
 		}
 		finally {
-			rootParallelOrchestrator.close();
+			try ( Closer<RuntimeException> closer = new Closer<>() ) {
+				closer.push( ElasticsearchBatchingSharedWorkOrchestrator::close, rootParallelOrchestrator );
+				closer.push( ExecutorService::shutdownNow, retryScheduler );
+			}
 		}
 	}
 
@@ -156,9 +185,13 @@ public ElasticsearchBatchingSharedWorkOrchestrator getRootParallelOrchestrator()
 
 	/**
 	 * @param name The name of the orchestrator to create.
+	 * @param refreshAfterWrite Whether the index should be refreshed after each changeset.
+	 * @param coalesceWorks Whether works affecting a document that is affected again
+	 * by a changeset submitted later in the same batch should be skipped.
 	 * @return A <a href="#serial-orchestrators">serial orchestrator</a>.
 	 */
-	public ElasticsearchBarrierWorkOrchestrator createSerialOrchestrator(String name, boolean refreshAfterWrite) {
+	public ElasticsearchBarrierWorkOrchestrator createSerialOrchestrator(String name, boolean refreshAfterWrite,
+			boolean coalesceWorks) {
 		/*
 		 * Since works are applied in order, refreshing the index after changesets
 		 * is actually an option, and if enabled we use refreshing execution contexts.
@@ -184,6 +217,7 @@ public ElasticsearchBarrierWorkOrchestrator createSerialOrchestrator(String name
 				name,
 				SERIAL_MAX_CHANGESETS_PER_BATCH,
 				true /* enqueue changesets in the exact order they were submitted */,
+				coalesceWorks,
 				delegate
 				);
 	}
@@ -197,10 +231,10 @@ public ElasticsearchBarrierWorkOrchestrator createParallelOrchestrator(String na
 	}
 
 	private ElasticsearchBatchingSharedWorkOrchestrator createBatchingSharedOrchestrator(
-			String name, int maxChangesetsPerBatch, boolean fair,
+			String name, int maxChangesetsPerBatch, boolean fair, boolean coalesceWorks,
 			ElasticsearchAccumulatingWorkOrchestrator delegate) {
-		return new ElasticsearchBatchingSharedWorkOrchestrator( name, maxChangesetsPerBatch, fair,
-				delegate, errorHandler );
+		return new ElasticsearchBatchingSharedWorkOrchestrator( name, maxChangesetsPerBatch, fair, coalesceWorks,
+				delegate, errorHandler, throttle );
 	}
 
 	private ElasticsearchAccumulatingWorkOrchestrator createThreadUnsafeSerialOrchestrator(
@@ -222,7 +256,8 @@ private ElasticsearchAccumulatingWorkOrchestrator createThreadUnsafeParallelOrch
 	private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier) {
 		return new ElasticsearchDefaultWorkSequenceBuilder(
 				contextSupplier,
-				() -> new DefaultContextualErrorHandler( errorHandler )
+				() -> new DefaultContextualErrorHandler( errorHandler ),
+				retrier
 				);
 	}
 
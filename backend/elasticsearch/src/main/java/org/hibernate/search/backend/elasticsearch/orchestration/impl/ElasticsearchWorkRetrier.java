@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Retries requests and bulked works rejected by Elasticsearch because of back-pressure (HTTP 429),
+ * according to a {@link ElasticsearchRetryPolicy},
+ * and signals back-pressure to a {@link ElasticsearchBackPressureThrottle}.
+ * <p>
+ * Only rejections are retried: they are guaranteed to have had no effect,
+ * so retrying them cannot lead to a work being executed twice.
+ * <p>
+ * Cancelling a future returned by this class cancels the request in flight, if any,
+ * and the retry waiting to be executed, if any.
+ */
+class ElasticsearchWorkRetrier {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchRetryPolicy policy;
+	private final ScheduledExecutorService scheduler;
+	private final ElasticsearchBackPressureThrottle throttle;
+
+	ElasticsearchWorkRetrier(ElasticsearchRetryPolicy policy, ScheduledExecutorService scheduler,
+			ElasticsearchBackPressureThrottle throttle) {
+		this.policy = policy;
+		this.scheduler = scheduler;
+		this.throttle = throttle;
+	}
+
+	boolean isEnabled() {
+		return policy.isEnabled();
+	}
+
+	/**
+	 * Submit a request, and submit it again if the whole request was rejected.
+	 *
+	 * @param client The client to submit the request to.
+	 * @param request The request to submit.
+	 * @return A future eventually holding the last response.
+	 */
+	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchClient client, ElasticsearchRequest request) {
+		return submit( client, request, 0 );
+	}
+
+	/**
+	 * Execute a bulk work, and execute again the bulked works that were rejected, and only those.
+	 *
+	 * @param work The bulk work to execute.
+	 * @param context The execution context.
+	 * @return A future eventually holding the result of the bulk work,
+	 * including the results of retries for items that were initially rejected.
+	 */
+	CompletableFuture<BulkResult> executeBulk(ElasticsearchWork<BulkResult> work,
+			ElasticsearchWorkExecutionContext context) {
+		CompletableFuture<BulkResult> future = work.execute( context );
+		if ( !isEnabled() ) {
+			return future;
+		}
+		return Futures.composeCancellable( future, result -> retryRejectedItems( result, context, 0 ) );
+	}
+
+	private CompletableFuture<ElasticsearchResponse> submit(ElasticsearchClient client, ElasticsearchRequest request,
+			int retryIndex) {
+		return Futures.composeCancellable( client.submit( request ), response -> {
+			if ( !ElasticsearchClientUtils.isBackPressureCode( response.getStatusCode() )
+					|| !policy.canRetry( retryIndex ) ) {
+				return CompletableFuture.completedFuture( response );
+			}
+			return schedule( retryIndex, () -> submit( client, request, retryIndex + 1 ) );
+		} );
+	}
+
+	private CompletableFuture<BulkResult> retryRejectedItems(BulkResult result,
+			ElasticsearchWorkExecutionContext context, int retryIndex) {
+		if ( !policy.canRetry( retryIndex ) ) {
+			return CompletableFuture.completedFuture( result );
+		}
+		ElasticsearchWork<BulkResult> retryWork = result.createRetryWork();
+		if ( retryWork == null ) {
+			return CompletableFuture.completedFuture( result );
+		}
+		CompletableFuture<BulkResult> retryFuture = schedule( retryIndex, () -> retryWork.execute( context ) );
+		CompletableFuture<BulkResult> mergedResultFuture = Futures.propagateCancellation(
+				retryFuture.handle( Futures.handler( (retryResult, throwable) -> throwable == null
+						? result.withRetryResult( retryResult )
+						// Items that were not retried are unaffected: only report retried items as failed
+						: result.withRetryFailure( throwable ) ) ),
+				retryFuture
+		);
+		// Items reported as failed are not rejected anymore: recursion stops when there is nothing left to retry
+		return Futures.composeCancellable( mergedResultFuture,
+				mergedResult -> retryRejectedItems( mergedResult, context, retryIndex + 1 ) );
+	}
+
+	private <T> CompletableFuture<T> schedule(int retryIndex, Supplier<CompletableFuture<T>> retry) {
+		long delay = policy.getDelay( retryIndex );
+		throttle.signalBackPressure( delay );
+		log.retryingAfterBackPressure( delay, retryIndex + 1 );
+		CompletableFuture<T> future = new CompletableFuture<>();
+		ScheduledFuture<?> scheduledRetry;
+		try {
+			scheduledRetry = scheduler.schedule(
+					() -> {
+						if ( future.isDone() ) {
+							// Cancelled while waiting
+							return;
+						}
+						// Use composeCancellable so that cancelling the future cancels the retried request too
+						CompletableFuture<T> retryFuture = Futures.composeCancellable(
+								CompletableFuture.completedFuture( null ), ignored -> retry.get()
+						);
+						retryFuture.whenComplete( Futures.copyHandler( future ) );
+						Futures.propagateCancellation( future, retryFuture );
+					},
+					delay, TimeUnit.MILLISECONDS
+			);
+		}
+		catch (RuntimeException e) {
+			// Most likely the scheduler was shut down
+			future.completeExceptionally( e );
+			return future;
+		}
+		return Futures.propagateCancellation( future, scheduledRetry );
+	}
+
+}
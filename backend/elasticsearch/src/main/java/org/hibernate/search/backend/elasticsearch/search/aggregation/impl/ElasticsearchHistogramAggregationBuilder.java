@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchHistogramAggregationBuilder
+		implements SearchAggregationBuilder<ElasticsearchSearchAggregationBuilder>, ElasticsearchSearchAggregationBuilder {
+
+	private final String absoluteFieldPath;
+	private final long interval;
+
+	public ElasticsearchHistogramAggregationBuilder(String absoluteFieldPath, long interval) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.interval = interval;
+	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public void buildAndContribute(ElasticsearchSearchAggregationCollector collector, AggregationKey<?> key) {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.addProperty( "interval", interval );
+		// Only return non-empty buckets, like the other backends
+		innerObject.addProperty( "min_doc_count", 1 );
+		JsonObject requestJson = new JsonObject();
+		requestJson.add( "histogram", innerObject );
+
+		collector.collectAggregation( key, new ElasticsearchSearchAggregation<Map<Long, Long>>() {
+			@Override
+			public JsonObject getRequestJson() {
+				return requestJson;
+			}
+
+			@Override
+			public Map<Long, Long> extract(JsonObject aggregationResult) {
+				// Buckets are already sorted by ascending key
+				Map<Long, Long> result = new LinkedHashMap<>();
+				for ( JsonElement bucket : aggregationResult.getAsJsonArray( "buckets" ) ) {
+					JsonObject bucketObject = bucket.getAsJsonObject();
+					// Keys are returned as floating-point numbers
+					result.put( bucketObject.get( "key" ).getAsBigDecimal().longValue(),
+							bucketObject.get( "doc_count" ).getAsLong() );
+				}
+				return Collections.unmodifiableMap( result );
+			}
+		} );
+	}
+}
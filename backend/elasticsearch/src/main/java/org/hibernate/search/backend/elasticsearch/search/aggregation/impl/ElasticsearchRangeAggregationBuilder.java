@@ -0,0 +1,117 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchRangeAggregationBuilder<F>
+		implements RangeAggregationBuilder<ElasticsearchSearchAggregationBuilder>, ElasticsearchSearchAggregationBuilder {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchSearchContext searchContext;
+
+	private final String absoluteFieldPath;
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	private final ElasticsearchFieldCodec<F> codec;
+
+	private final List<String> keys = new ArrayList<>();
+	private final JsonArray jsonRanges = new JsonArray();
+
+	public ElasticsearchRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			ElasticsearchFieldCodec<F> codec) {
+		this.searchContext = searchContext;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+		this.codec = codec;
+	}
+
+	@Override
+	public void range(String key, Object from, Object to) {
+		keys.add( key );
+		JsonObject jsonRange = new JsonObject();
+		jsonRange.addProperty( "key", key );
+		if ( from != null ) {
+			jsonRange.add( "from", convertAndEncode( from ) );
+		}
+		if ( to != null ) {
+			jsonRange.add( "to", convertAndEncode( to ) );
+		}
+		jsonRanges.add( jsonRange );
+	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public void buildAndContribute(ElasticsearchSearchAggregationCollector collector, AggregationKey<?> key) {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.add( "ranges", jsonRanges.deepCopy() );
+		JsonObject requestJson = new JsonObject();
+		requestJson.add( "range", innerObject );
+
+		List<String> effectiveKeys = new ArrayList<>( keys );
+
+		collector.collectAggregation( key, new ElasticsearchSearchAggregation<Map<String, Long>>() {
+			@Override
+			public JsonObject getRequestJson() {
+				return requestJson;
+			}
+
+			@Override
+			public Map<String, Long> extract(JsonObject aggregationResult) {
+				// Elasticsearch sorts buckets by bounds: restore the order in which ranges were defined
+				Map<String, Long> countsByKey = new LinkedHashMap<>();
+				for ( JsonElement bucket : aggregationResult.getAsJsonArray( "buckets" ) ) {
+					JsonObject bucketObject = bucket.getAsJsonObject();
+					countsByKey.put( bucketObject.get( "key" ).getAsString(), bucketObject.get( "doc_count" ).getAsLong() );
+				}
+				Map<String, Long> result = new LinkedHashMap<>();
+				for ( String rangeKey : effectiveKeys ) {
+					Long count = countsByKey.get( rangeKey );
+					result.put( rangeKey, count == null ? 0L : count );
+				}
+				return Collections.unmodifiableMap( result );
+			}
+		} );
+	}
+
+	private JsonElement convertAndEncode(Object value) {
+		try {
+			F converted = converter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
+			return codec.encode( converted );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A search aggregation, ready to be added to a search request.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public interface ElasticsearchSearchAggregation<A> {
+
+	/**
+	 * @return The JSON definition of this aggregation, to be added to the "aggs" property of the request.
+	 */
+	JsonObject getRequestJson();
+
+	/**
+	 * @param aggregationResult The JSON result of this aggregation, from the "aggregations" property of the response.
+	 * @return The aggregation result.
+	 */
+	A extract(JsonObject aggregationResult);
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchTermsAggregationBuilder
+		implements TermsAggregationBuilder<ElasticsearchSearchAggregationBuilder>, ElasticsearchSearchAggregationBuilder {
+
+	private static final int DEFAULT_MAX_TERM_COUNT = 10;
+
+	private final String absoluteFieldPath;
+
+	private int maxTermCount = DEFAULT_MAX_TERM_COUNT;
+
+	public ElasticsearchTermsAggregationBuilder(String absoluteFieldPath) {
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public void maxTermCount(int maxTermCount) {
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public void buildAndContribute(ElasticsearchSearchAggregationCollector collector, AggregationKey<?> key) {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.addProperty( "size", maxTermCount );
+		JsonObject requestJson = new JsonObject();
+		requestJson.add( "terms", innerObject );
+
+		collector.collectAggregation( key, new ElasticsearchSearchAggregation<Map<String, Long>>() {
+			@Override
+			public JsonObject getRequestJson() {
+				return requestJson;
+			}
+
+			@Override
+			public Map<String, Long> extract(JsonObject aggregationResult) {
+				// Buckets are already sorted by descending count
+				Map<String, Long> result = new LinkedHashMap<>();
+				for ( JsonElement bucket : aggregationResult.getAsJsonArray( "buckets" ) ) {
+					JsonObject bucketObject = bucket.getAsJsonObject();
+					result.put( bucketObject.get( "key" ).getAsString(), bucketObject.get( "doc_count" ).getAsLong() );
+				}
+				return Collections.unmodifiableMap( result );
+			}
+		} );
+	}
+}
@@ -40,6 +40,7 @@
 	private final ElasticsearchFieldCodec<F> codec;
 
 	private JsonElement value;
+	private String parameterName;
 
 	public ElasticsearchMatchPredicateBuilder(ElasticsearchSearchContext searchContext,
 			String absoluteFieldPath,
@@ -53,21 +54,23 @@ public ElasticsearchMatchPredicateBuilder(ElasticsearchSearchContext searchConte
 
 	@Override
 	public void value(Object value) {
-		try {
-			F converted = dslToIndexConverter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
-			this.value = codec.encode( converted );
-		}
-		catch (RuntimeException e) {
-			throw log.cannotConvertDslParameter(
-					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
-			);
-		}
+		this.value = encode( value );
+	}
+
+	@Override
+	public void parameter(String parameterName) {
+		this.parameterName = parameterName;
 	}
 
 	@Override
 	protected JsonObject doBuild(ElasticsearchSearchPredicateContext context,
 			JsonObject outerObject, JsonObject innerObject) {
-		QUERY_ACCESSOR.set( innerObject, value );
+		if ( parameterName != null ) {
+			QUERY_ACCESSOR.set( innerObject, context.createParameterPlaceholder( parameterName, this::encode ) );
+		}
+		else {
+			QUERY_ACCESSOR.set( innerObject, value );
+		}
 
 		JsonObject middleObject = new JsonObject();
 		middleObject.add( absoluteFieldPath, innerObject );
@@ -76,4 +79,16 @@ protected JsonObject doBuild(ElasticsearchSearchPredicateContext context,
 		return outerObject;
 	}
 
+	private JsonElement encode(Object value) {
+		try {
+			F converted = dslToIndexConverter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
+			return codec.encode( converted );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+	}
+
 }
@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
 
+import java.util.Locale;
+
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.engine.search.dsl.predicate.NestedScoreMode;
 import org.hibernate.search.engine.search.predicate.spi.NestedPredicateBuilder;
 
 import com.google.gson.JsonObject;
@@ -20,10 +23,12 @@ class ElasticsearchNestedPredicateBuilder extends AbstractElasticsearchSearchPre
 
 	private static final JsonAccessor<String> PATH_ACCESSOR = JsonAccessor.root().property( "path" ).asString();
 	private static final JsonAccessor<JsonObject> QUERY_ACCESSOR = JsonAccessor.root().property( "query" ).asObject();
+	private static final JsonAccessor<String> SCORE_MODE_ACCESSOR = JsonAccessor.root().property( "score_mode" ).asString();
 
 	private final String absoluteFieldPath;
 
 	private ElasticsearchSearchPredicateBuilder nestedBuilder;
+	private NestedScoreMode scoreMode;
 
 	ElasticsearchNestedPredicateBuilder(String absoluteFieldPath) {
 		this.absoluteFieldPath = absoluteFieldPath;
@@ -34,11 +39,20 @@ public void nested(ElasticsearchSearchPredicateBuilder nestedBuilder) {
 		this.nestedBuilder = nestedBuilder;
 	}
 
+	@Override
+	public void scoreMode(NestedScoreMode scoreMode) {
+		this.scoreMode = scoreMode;
+	}
+
 	@Override
 	protected JsonObject doBuild(ElasticsearchSearchPredicateContext context,
 			JsonObject outerObject, JsonObject innerObject) {
 		PATH_ACCESSOR.set( innerObject, absoluteFieldPath );
 		QUERY_ACCESSOR.set( innerObject, nestedBuilder.build( context ) );
+		if ( scoreMode != null ) {
+			// Elasticsearch score modes have the same names, in lower case
+			SCORE_MODE_ACCESSOR.set( innerObject, scoreMode.name().toLowerCase( Locale.ROOT ) );
+		}
 		outerObject.add( "nested", innerObject );
 		return outerObject;
 	}
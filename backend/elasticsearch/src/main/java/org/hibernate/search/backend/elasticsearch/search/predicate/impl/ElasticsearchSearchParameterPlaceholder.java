@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
+
+import java.util.function.Function;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A placeholder inserted in the JSON of a query instead of the value of a parameter.
+ */
+public final class ElasticsearchSearchParameterPlaceholder {
+
+	private final String parameterName;
+	private final JsonPrimitive marker;
+	private final Function<Object, JsonElement> encoder;
+
+	public ElasticsearchSearchParameterPlaceholder(String parameterName, int index, Function<Object, JsonElement> encoder) {
+		this.parameterName = parameterName;
+		// Only this instance is treated as a marker: equal user-provided strings are serialized as is
+		this.marker = new JsonPrimitive( "\u0000" + index + "\u0000" );
+		this.encoder = encoder;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[parameterName=" + parameterName + "]";
+	}
+
+	public String getParameterName() {
+		return parameterName;
+	}
+
+	/**
+	 * @return The JSON element to insert in the query instead of the parameter value,
+	 * to be found by identity when serializing the query.
+	 */
+	public JsonPrimitive getMarker() {
+		return marker;
+	}
+
+	/**
+	 * @param value The value bound to the parameter.
+	 * @return The JSON element to insert in the query instead of the marker.
+	 */
+	public JsonElement encode(Object value) {
+		return encoder.apply( value );
+	}
+
+}
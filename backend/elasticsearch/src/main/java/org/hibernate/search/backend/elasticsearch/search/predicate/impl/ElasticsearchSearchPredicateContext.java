@@ -6,12 +6,21 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 
+import com.google.gson.JsonElement;
+
 public class ElasticsearchSearchPredicateContext {
 
 	private final SessionContextImplementor sessionContext;
 
+	private List<ElasticsearchSearchParameterPlaceholder> parameterPlaceholders;
+
 	public ElasticsearchSearchPredicateContext(SessionContextImplementor sessionContext) {
 		this.sessionContext = sessionContext;
 	}
@@ -20,4 +29,23 @@ String getTenantId() {
 		return sessionContext.getTenantIdentifier();
 	}
 
+	/**
+	 * @param parameterName The name of a parameter.
+	 * @param encoder A function to encode the value of the parameter once it is bound.
+	 * @return The JSON element to use in the predicate instead of the parameter value.
+	 */
+	JsonElement createParameterPlaceholder(String parameterName, Function<Object, JsonElement> encoder) {
+		if ( parameterPlaceholders == null ) {
+			parameterPlaceholders = new ArrayList<>();
+		}
+		ElasticsearchSearchParameterPlaceholder placeholder =
+				new ElasticsearchSearchParameterPlaceholder( parameterName, parameterPlaceholders.size(), encoder );
+		parameterPlaceholders.add( placeholder );
+		return placeholder.getMarker();
+	}
+
+	public List<ElasticsearchSearchParameterPlaceholder> getParameterPlaceholders() {
+		return parameterPlaceholders == null ? Collections.emptyList() : parameterPlaceholders;
+	}
+
 }
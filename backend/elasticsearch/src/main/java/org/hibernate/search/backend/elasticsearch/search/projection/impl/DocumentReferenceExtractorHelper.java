@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -36,6 +37,11 @@ public void contributeRequest(JsonObject requestBody) {
 		multiTenancyStrategy.contributeToSearchRequest( requestBody );
 	}
 
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		hitPropertyNames.add( "_index" );
+		multiTenancyStrategy.contributeHitPropertyNames( hitPropertyNames );
+	}
+
 	public DocumentReference extractDocumentReference(JsonObject hit) {
 		String indexName = HIT_INDEX_NAME_ACCESSOR.get( hit )
 				.map( indexNameConverter )
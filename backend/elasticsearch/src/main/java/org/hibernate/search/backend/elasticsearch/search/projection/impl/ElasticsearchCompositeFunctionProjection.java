@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
+import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -32,9 +33,14 @@ public void contributeRequest(JsonObject requestBody,
 	}
 
 	@Override
-	public E extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		projection.contributeHitPropertyNames( hitPropertyNames );
+	}
+
+	@Override
+	public E extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
-		return projection.extract( projectionHitMapper, responseBody, hit, context );
+		return projection.extract( projectionHitMapper, hit, context );
 	}
 
 	@Override
@@ -10,6 +10,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -38,13 +39,20 @@ public void contributeRequest(JsonObject requestBody,
 	}
 
 	@Override
-	public List<Object> extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		for ( ElasticsearchSearchProjection<?, ?> child : children ) {
+			child.contributeHitPropertyNames( hitPropertyNames );
+		}
+	}
+
+	@Override
+	public List<Object> extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		List<Object> extractedData = new ArrayList<>( children.size() );
 
 		for ( ElasticsearchSearchProjection<?, ?> child : children ) {
 			extractedData
-					.add( child.extract( projectionHitMapper, responseBody, hit, context ) );
+					.add( child.extract( projectionHitMapper, hit, context ) );
 		}
 
 		return extractedData;
@@ -8,6 +8,8 @@
 
 import static org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection.transformUnsafe;
 
+import java.util.Set;
+
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.util.function.TriFunction;
@@ -43,12 +45,19 @@ public void contributeRequest(JsonObject requestBody,
 	}
 
 	@Override
-	public Object[] extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		projection1.contributeHitPropertyNames( hitPropertyNames );
+		projection2.contributeHitPropertyNames( hitPropertyNames );
+		projection3.contributeHitPropertyNames( hitPropertyNames );
+	}
+
+	@Override
+	public Object[] extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		return new Object[] {
-				projection1.extract( projectionHitMapper, responseBody, hit, context ),
-				projection2.extract( projectionHitMapper, responseBody, hit, context ),
-				projection3.extract( projectionHitMapper, responseBody, hit, context )
+				projection1.extract( projectionHitMapper, hit, context ),
+				projection2.extract( projectionHitMapper, hit, context ),
+				projection3.extract( projectionHitMapper, hit, context )
 		};
 	}
 
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -55,7 +56,14 @@ public void contributeRequest(JsonObject requestBody, SearchProjectionExtractCon
 	}
 
 	@Override
-	public Double extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		// Depending on the sorts, the distance is extracted either from script fields or from sort values
+		hitPropertyNames.add( "fields" );
+		hitPropertyNames.add( "sort" );
+	}
+
+	@Override
+	public Double extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		Optional<Double> distance;
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
+import java.util.Set;
+
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -31,7 +33,12 @@ public void contributeRequest(JsonObject requestBody, SearchProjectionExtractCon
 	}
 
 	@Override
-	public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		hitPropertyNames.add( "_explanation" );
+	}
+
+	@Override
+	public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		// We expect the optional to always be non-empty.
 		return gson.toJson( HIT_EXPLANATION_ACCESSOR.get( hit ).get() );
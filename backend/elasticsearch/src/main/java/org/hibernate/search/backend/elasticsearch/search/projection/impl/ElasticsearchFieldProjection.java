@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
@@ -53,7 +54,12 @@ public void contributeRequest(JsonObject requestBody, SearchProjectionExtractCon
 	}
 
 	@Override
-	public F extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		hitPropertyNames.add( "_source" );
+	}
+
+	@Override
+	public F extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		Optional<JsonElement> fieldValue = hitFieldValueAccessor.get( hit );
 		if ( fieldValue.isPresent() ) {
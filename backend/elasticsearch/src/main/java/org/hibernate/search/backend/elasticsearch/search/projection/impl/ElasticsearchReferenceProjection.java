@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
+import java.util.Set;
+
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
@@ -24,9 +26,14 @@ public void contributeRequest(JsonObject requestBody, SearchProjectionExtractCon
 		helper.contributeRequest( requestBody );
 	}
 
+	@Override
+	public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+		helper.contributeHitPropertyNames( hitPropertyNames );
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
-	public R extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public R extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		return (R) projectionHitMapper.convertReference( helper.extractDocumentReference( hit ) );
 	}
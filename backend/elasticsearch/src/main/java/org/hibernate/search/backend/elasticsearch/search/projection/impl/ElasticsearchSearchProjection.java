@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
+import java.util.Set;
+
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
@@ -18,10 +20,17 @@
 	 * Contribute to the request, making sure that the requirements for this projection are met.
 	 * @param requestBody The request body.
 	 * @param context An execution context that will also be passed to
-	 * {@link #extract(ProjectionHitMapper, JsonObject, JsonObject, SearchProjectionExtractContext)}.
+	 * {@link #extract(ProjectionHitMapper, JsonObject, SearchProjectionExtractContext)}.
 	 */
 	void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context);
 
+	/**
+	 * Contribute the names of the hit properties read during extraction,
+	 * so that other hit properties can be skipped when parsing the response.
+	 * @param hitPropertyNames The names of hit properties to retain.
+	 */
+	void contributeHitPropertyNames(Set<String> hitPropertyNames);
+
 	/**
 	 * Perform hit extraction.
 	 * <p>
@@ -31,14 +40,14 @@
 	 * so that blocking mapper operations (if any) do not pollute backend threads.
 	 *
 	 * @param projectionHitMapper The projection hit mapper used to transform hits to entities.
-	 * @param responseBody The full body of the response.
 	 * @param hit The part of the response body relevant to the hit to extract.
+	 * Hits are parsed one at a time from the response stream:
+	 * implementations must not expect to access other parts of the response.
 	 * @param context An execution context for the extraction.
 	 * @return The element extracted from the hit. Might be a key referring to an object that will be loaded by the
 	 * {@link ProjectionHitMapper}. This returned object will be passed to {@link #transform(LoadingResult, Object, SearchProjectionTransformContext)}.
 	 */
-	E extract(ProjectionHitMapper<?, ?> projectionHitMapper,
-			JsonObject responseBody, JsonObject hit,
+	E extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context);
 
 	/**
@@ -47,7 +56,7 @@ E extract(ProjectionHitMapper<?, ?> projectionHitMapper,
 	 * @param loadingResult Container containing all the entities that have been loaded by the
 	 * {@link ProjectionHitMapper}.
 	 * @param extractedData The extracted data to transform, coming from the
-	 * {@link #extract(ProjectionHitMapper, JsonObject, JsonObject, SearchProjectionExtractContext)} method.
+	 * {@link #extract(ProjectionHitMapper, JsonObject, SearchProjectionExtractContext)} method.
 	 * @param context An execution context for the transforming.
 	 * @return The final result considered as a hit.
 	 */
@@ -10,11 +10,13 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.spi.SimpleSearchResult;
@@ -36,14 +38,42 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
+	private final boolean timedOut;
+	private final String scrollId;
+	private final int responseHitCount;
 
 	ElasticsearchLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, Map<AggregationKey<?>, ?> aggregationResults,
+			boolean timedOut, String scrollId, int responseHitCount) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.aggregationResults = aggregationResults;
+		this.timedOut = timedOut;
+		this.scrollId = scrollId;
+		this.responseHitCount = responseHitCount;
+	}
+
+	boolean isTimedOut() {
+		return timedOut;
+	}
+
+	/**
+	 * @return The identifier of the scroll context to use to retrieve the next hits,
+	 * or {@code null} if the search was not a scroll.
+	 */
+	String getScrollId() {
+		return scrollId;
+	}
+
+	/**
+	 * @return The number of hits in the response, including hits that were skipped and thus not extracted.
+	 */
+	int getResponseHitCount() {
+		return responseHitCount;
 	}
 
 	SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
@@ -63,6 +93,6 @@ SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleSearchResult<>( hitCount, loadedHits );
+		return new SimpleSearchResult<>( hitCount, loadedHits, timedOut, aggregationResults );
 	}
 }
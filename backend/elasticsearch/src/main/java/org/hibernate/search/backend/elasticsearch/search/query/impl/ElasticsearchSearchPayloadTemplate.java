@@ -0,0 +1,194 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchParameterPlaceholder;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The payload of a prepared query, serialized once and for all,
+ * with the serialized values of parameters spliced in when binding them.
+ */
+final class ElasticsearchSearchPayloadTemplate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	static ElasticsearchSearchPayloadTemplate create(Gson gson, JsonObject payload,
+			List<ElasticsearchSearchParameterPlaceholder> placeholders) {
+		// Markers are looked up by identity, so that literals equal to a marker are left alone
+		Map<JsonElement, ElasticsearchSearchParameterPlaceholder> placeholdersByMarker = new IdentityHashMap<>();
+		for ( ElasticsearchSearchParameterPlaceholder placeholder : placeholders ) {
+			placeholdersByMarker.put( placeholder.getMarker(), placeholder );
+		}
+
+		StringBuilderWriter buffer = new StringBuilderWriter();
+		List<PlaceholderOccurrence> occurrences = new ArrayList<>( placeholders.size() );
+		try {
+			JsonWriter writer = gson.newJsonWriter( buffer );
+			write( gson, writer, buffer, payload, placeholdersByMarker, occurrences );
+			writer.flush();
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected I/O failure when serializing to a string", e );
+		}
+		String serializedPayload = buffer.toString();
+		if ( occurrences.size() != placeholders.size() ) {
+			throw new AssertionFailure( "Missing marker for some of " + placeholders + " in serialized payload " + serializedPayload );
+		}
+
+		byte[][] segments = new byte[occurrences.size() + 1][];
+		ElasticsearchSearchParameterPlaceholder[] slots = new ElasticsearchSearchParameterPlaceholder[occurrences.size()];
+		int segmentStart = 0;
+		for ( int i = 0; i < occurrences.size(); i++ ) {
+			PlaceholderOccurrence occurrence = occurrences.get( i );
+			segments[i] = serializedPayload.substring( segmentStart, occurrence.start ).getBytes( CHARSET );
+			slots[i] = occurrence.placeholder;
+			segmentStart = occurrence.end;
+		}
+		segments[occurrences.size()] = serializedPayload.substring( segmentStart ).getBytes( CHARSET );
+
+		return new ElasticsearchSearchPayloadTemplate( gson, segments, slots );
+	}
+
+	private final Gson gson;
+	private final byte[][] segments;
+	private final ElasticsearchSearchParameterPlaceholder[] slots;
+
+	private ElasticsearchSearchPayloadTemplate(Gson gson, byte[][] segments,
+			ElasticsearchSearchParameterPlaceholder[] slots) {
+		this.gson = gson;
+		this.segments = segments;
+		this.slots = slots;
+	}
+
+	SerializedJsonObject bind(Map<String, ?> parameterValues) {
+		byte[][] encodedValues = new byte[slots.length][];
+		int length = segments[slots.length].length;
+		for ( int i = 0; i < slots.length; i++ ) {
+			ElasticsearchSearchParameterPlaceholder slot = slots[i];
+			Object value = parameterValues.get( slot.getParameterName() );
+			if ( value == null ) {
+				throw log.missingParameterValue( slot.getParameterName() );
+			}
+			encodedValues[i] = gson.toJson( slot.encode( value ) ).getBytes( CHARSET );
+			length += segments[i].length + encodedValues[i].length;
+		}
+
+		byte[] result = new byte[length];
+		int offset = 0;
+		for ( int i = 0; i < slots.length; i++ ) {
+			offset = append( result, offset, segments[i] );
+			offset = append( result, offset, encodedValues[i] );
+		}
+		append( result, offset, segments[slots.length] );
+
+		return SerializedJsonObject.of( result );
+	}
+
+	/*
+	 * Same output as gson.toJson( element, writer ),
+	 * but records where each marker ends up in the serialized payload.
+	 */
+	private static void write(Gson gson, JsonWriter writer, StringBuilderWriter buffer, JsonElement element,
+			Map<JsonElement, ElasticsearchSearchParameterPlaceholder> placeholdersByMarker,
+			List<PlaceholderOccurrence> occurrences) throws IOException {
+		ElasticsearchSearchParameterPlaceholder placeholder = placeholdersByMarker.get( element );
+		if ( placeholder != null ) {
+			// The writer may add separators before the value: only the end offset is reliable
+			gson.toJson( element, writer );
+			writer.flush();
+			int end = buffer.builder.length();
+			int start = end - gson.toJson( element ).length();
+			occurrences.add( new PlaceholderOccurrence( placeholder, start, end ) );
+		}
+		else if ( element.isJsonObject() ) {
+			writer.beginObject();
+			for ( Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet() ) {
+				writer.name( entry.getKey() );
+				write( gson, writer, buffer, entry.getValue(), placeholdersByMarker, occurrences );
+			}
+			writer.endObject();
+		}
+		else if ( element.isJsonArray() ) {
+			writer.beginArray();
+			for ( JsonElement child : element.getAsJsonArray() ) {
+				write( gson, writer, buffer, child, placeholdersByMarker, occurrences );
+			}
+			writer.endArray();
+		}
+		else {
+			gson.toJson( element, writer );
+		}
+	}
+
+	private static int append(byte[] target, int offset, byte[] source) {
+		System.arraycopy( source, 0, target, offset, source.length );
+		return offset + source.length;
+	}
+
+	private static final class StringBuilderWriter extends Writer {
+		private final StringBuilder builder = new StringBuilder();
+
+		@Override
+		public void write(char[] chars, int offset, int length) {
+			builder.append( chars, offset, length );
+		}
+
+		@Override
+		public void write(String string, int offset, int length) {
+			builder.append( string, offset, offset + length );
+		}
+
+		@Override
+		public void flush() {
+			// Nothing to do
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+
+		@Override
+		public String toString() {
+			return builder.toString();
+		}
+	}
+
+	private static final class PlaceholderOccurrence {
+		private final ElasticsearchSearchParameterPlaceholder placeholder;
+		private final int start;
+		private final int end;
+
+		private PlaceholderOccurrence(ElasticsearchSearchParameterPlaceholder placeholder, int start, int end) {
+			this.placeholder = placeholder;
+			this.start = start;
+			this.end = end;
+		}
+	}
+
+}
@@ -6,18 +6,28 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.CountWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
-import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
-import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonObject;
 
@@ -25,32 +35,44 @@
 /**
  * @author Yoann Rodiere
  */
-public class ElasticsearchSearchQuery<T> implements SearchQuery<T> {
+public class ElasticsearchSearchQuery<T> implements BatchableSearchQuery<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchQueryBatchExecutor batchExecutor;
 	private final Set<URLEncodedString> indexNames;
 	private final SessionContextImplementor sessionContext;
 	private final Set<String> routingKeys;
-	private final JsonObject payload;
-	private final ElasticsearchSearchResultExtractor<T> searchResultExtractor;
+	private final SerializedJsonObject payload;
+	private final ElasticsearchSearchResultExtractorImpl<T> searchResultExtractor;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
 
 	private Long firstResultIndex;
 	private Long maxResultsCount;
 
 	public ElasticsearchSearchQuery(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchQueryBatchExecutor batchExecutor,
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
 			Set<String> routingKeys,
-			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+			SerializedJsonObject payload, ElasticsearchSearchResultExtractorImpl<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.batchExecutor = batchExecutor;
 		this.indexNames = indexNames;
 		this.sessionContext = sessionContext;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
 	}
 
 	@Override
@@ -75,32 +97,80 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search( payload, searchResultExtractor )
+		return load( submitSearch().join() );
+	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync() {
+		CompletableFuture<ElasticsearchLoadableSearchResult<T>> future = submitSearch();
+		// Cancelling must abort the request, not just the loading
+		return Futures.propagateCancellation( future.thenApply( this::load ), future );
+	}
+
+	@Override
+	public SearchQueryBatchExecutor getBatchExecutor() {
+		return batchExecutor;
+	}
+
+	private CompletableFuture<ElasticsearchLoadableSearchResult<T>> submitSearch() {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = createSearchWorkBuilder().build();
+		return queryOrchestrator.submit( work );
+	}
+
+	SearchWorkBuilder<T> createSearchWorkBuilder() {
+		return workFactory.search( payload, searchResultExtractor )
 				.indexes( indexNames )
 				.paging( firstResultIndex, maxResultsCount )
-				.routingKeys( routingKeys ).build();
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout );
+	}
+
+	SearchResult<T> load(ElasticsearchLoadableSearchResult<T> result) {
+		if ( result.isTimedOut() && exceptionOnTimeout ) {
+			// Elasticsearch reached the timeout before the client did
+			throw log.searchTimeout( getQueryString(), timeoutValue, timeoutUnit );
+		}
 
-		return queryOrchestrator.submit( work ).join()
+		return result
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in the user thread,
+				 * except for executeAsync() which documents that it loads hits in another thread.
+				 * Mappers whose loading is bound to the user thread must not expose executeAsync().
 				 */
 				.loadBlocking( sessionContext );
 	}
 
 	@Override
 	public long executeCount() {
+		return executeCountAsync().join();
+	}
+
+	@Override
+	public CompletableFuture<Long> executeCountAsync() {
 		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		// The payload is only kept in serialized form: parse it again to extract the query
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload.toJsonObject() );
 		if ( querySubTree.isPresent() ) {
 			filteredPayload.add( "query", querySubTree.get() );
 		}
 
-		ElasticsearchWork<Long> work = workFactory.count( indexNames ).query( filteredPayload ).routingKeys( routingKeys ).build();
-		return queryOrchestrator.submit( work ).join();
+		CountWorkBuilder workBuilder = workFactory.count( indexNames ).query( filteredPayload ).routingKeys( routingKeys );
+		if ( exceptionOnTimeout ) {
+			// The count API does not support partial results
+			workBuilder.timeout( timeoutValue, timeoutUnit );
+		}
+		ElasticsearchWork<Long> work = workBuilder.build();
+		return queryOrchestrator.submit( work );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		return new ElasticsearchSearchScroll<>(
+				workFactory, queryOrchestrator,
+				indexNames, sessionContext, routingKeys,
+				payload, searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				firstResultIndex, maxResultsCount, chunkSize
+		);
 	}
 }
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+
+/**
+ * Executes multiple queries in a single multi-search request.
+ */
+class ElasticsearchSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+
+	ElasticsearchSearchQueryBatchExecutor(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public List<SearchResult<?>> executeAll(List<? extends BatchableSearchQuery<?>> queries) {
+		MultiSearchWorkBuilder workBuilder = workFactory.multiSearch();
+		for ( BatchableSearchQuery<?> query : queries ) {
+			workBuilder.add( ( (ElasticsearchSearchQuery<?>) query ).createSearchWorkBuilder() );
+		}
+
+		List<ElasticsearchLoadableSearchResult<?>> loadableResults = queryOrchestrator.submit( workBuilder.build() ).join();
+
+		List<SearchResult<?>> results = new ArrayList<>( queries.size() );
+		for ( int i = 0; i < queries.size(); i++ ) {
+			results.add( load( (ElasticsearchSearchQuery<?>) queries.get( i ), loadableResults.get( i ) ) );
+		}
+		return results;
+	}
+
+	@SuppressWarnings("unchecked") // The result was extracted by the result extractor of the same query
+	private static <T> SearchResult<T> load(ElasticsearchSearchQuery<T> query,
+			ElasticsearchLoadableSearchResult<?> loadableResult) {
+		return query.load( (ElasticsearchLoadableSearchResult<T>) loadableResult );
+	}
+
+}
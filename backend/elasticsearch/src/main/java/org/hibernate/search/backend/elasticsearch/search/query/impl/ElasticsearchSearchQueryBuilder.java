@@ -6,22 +6,33 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchParameterPlaceholder;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
-import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
-import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.PreparedSearchQuery;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -29,8 +40,12 @@
 class ElasticsearchSearchQueryBuilder<T>
 		implements SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final GsonProvider gsonProvider;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchQueryBatchExecutor batchExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final Set<URLEncodedString> indexNames;
@@ -41,16 +56,24 @@
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
 
+	private Long timeoutValue;
+	private TimeUnit timeoutUnit;
+	private boolean exceptionOnTimeout;
+
 	ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
+			GsonProvider gsonProvider,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchQueryBatchExecutor batchExecutor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		this.workFactory = workFactory;
+		this.gsonProvider = gsonProvider;
 		this.queryOrchestrator = queryOrchestrator;
+		this.batchExecutor = batchExecutor;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.indexNames = indexNames;
@@ -72,7 +95,47 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
-	private SearchQuery<T> build() {
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutValue = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = true;
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutValue = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = false;
+	}
+
+	@Override
+	public void approximateHitCount() {
+		// Hits are always counted exactly
+	}
+
+	@Override
+	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
+		List<ElasticsearchSearchParameterPlaceholder> parameterPlaceholders =
+				elementCollector.getRootPredicateContext().getParameterPlaceholders();
+		if ( !parameterPlaceholders.isEmpty() ) {
+			throw log.cannotBuildQueryWithParameters( getParameterNames( parameterPlaceholders ) );
+		}
+
+		SerializedJsonObject payload = SerializedJsonObject.of( gsonProvider.getGson(), buildPayload() );
+		return searchQueryWrapperFactory.apply( createQuery( payload ) );
+	}
+
+	@Override
+	public <Q> PreparedSearchQuery<Q> prepare(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
+		ElasticsearchSearchPayloadTemplate payloadTemplate = ElasticsearchSearchPayloadTemplate.create(
+				gsonProvider.getGson(), buildPayload(),
+				elementCollector.getRootPredicateContext().getParameterPlaceholders()
+		);
+		return parameterValues -> searchQueryWrapperFactory.apply( createQuery( payloadTemplate.bind( parameterValues ) ) );
+	}
+
+	private JsonObject buildPayload() {
 		JsonObject payload = new JsonObject();
 
 		JsonObject jsonQuery = getJsonQuery();
@@ -85,19 +148,32 @@ private SearchQuery<T> build() {
 			payload.add( "sort", jsonSort );
 		}
 
-		SearchProjectionExtractContext searchProjectionExecutionContext = elementCollector
-				.toSearchProjectionExecutionContext();
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = elementCollector.getAggregations();
+		if ( !aggregations.isEmpty() ) {
+			JsonObject jsonAggregations = new JsonObject();
+			for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				jsonAggregations.add( entry.getKey().getName(), entry.getValue().getRequestJson() );
+			}
+			payload.add( "aggs", jsonAggregations );
+		}
+
+		rootProjection.contributeRequest( payload, elementCollector.toSearchProjectionExecutionContext() );
 
-		rootProjection.contributeRequest( payload, searchProjectionExecutionContext );
+		return payload;
+	}
 
-		ElasticsearchSearchResultExtractor<T> searchResultExtractor =
-				new ElasticsearchSearchResultExtractorImpl<>( projectionHitMapper, rootProjection, searchProjectionExecutionContext );
+	private ElasticsearchSearchQuery<T> createQuery(SerializedJsonObject payload) {
+		ElasticsearchSearchResultExtractorImpl<T> searchResultExtractor = new ElasticsearchSearchResultExtractorImpl<>(
+				projectionHitMapper, rootProjection, elementCollector.toSearchProjectionExecutionContext(),
+				elementCollector.getAggregations()
+		);
 
 		return new ElasticsearchSearchQuery<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, batchExecutor,
 				indexNames, sessionContext, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout
 		);
 	}
 
@@ -105,8 +181,11 @@ private JsonObject getJsonQuery() {
 		return multiTenancyStrategy.decorateJsonQuery( elementCollector.toJsonPredicate(), sessionContext.getTenantIdentifier() );
 	}
 
-	@Override
-	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
-		return searchQueryWrapperFactory.apply( build() );
+	private static List<String> getParameterNames(List<ElasticsearchSearchParameterPlaceholder> parameterPlaceholders) {
+		List<String> result = new ArrayList<>( parameterPlaceholders.size() );
+		for ( ElasticsearchSearchParameterPlaceholder placeholder : parameterPlaceholders ) {
+			result.add( placeholder.getParameterName() );
+		}
+		return result;
 	}
 }
@@ -6,67 +6,213 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonStreams;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Extracts search results by streaming through the response body.
+ * <p>
+ * Only one hit at a time is materialized as a {@link JsonObject},
+ * and only with the hit properties that projections read, e.g. without {@code _source}
+ * unless a projection needs it;
+ * the rest of the response is skipped without being parsed into a tree.
+ */
 public class ElasticsearchSearchResultExtractorImpl<T> implements ElasticsearchSearchResultExtractor<T> {
 
-	private static final JsonObjectAccessor HITS_ACCESSOR =
-			JsonAccessor.root().property( "hits" ).asObject();
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String ERROR_PROPERTY_NAME = "error";
+
+	private static final String TIMED_OUT_PROPERTY_NAME = "timed_out";
+
+	private static final String SCROLL_ID_PROPERTY_NAME = "_scroll_id";
+
+	private static final String HITS_PROPERTY_NAME = "hits";
 
-	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
-			HITS_ACCESSOR.property( "hits" ).asArray();
+	private static final String HITS_TOTAL_PROPERTY_NAME = "total";
 
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
-			HITS_ACCESSOR.property( "total" ).asLong();
+	private static final String AGGREGATIONS_PROPERTY_NAME = "aggregations";
 
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
+	private final String[] hitPropertyNames;
 
 	private final SearchProjectionExtractContext searchProjectionExecutionContext;
 
+	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
+
+	private final long hitsToSkip;
+	private final Long maxHitsCount;
+
 	public ElasticsearchSearchResultExtractorImpl(
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext) {
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+		this( projectionHitMapper, rootProjection, getHitPropertyNames( rootProjection ),
+				searchProjectionExecutionContext, aggregations, 0L, null );
+	}
+
+	private ElasticsearchSearchResultExtractorImpl(
+			ProjectionHitMapper<?, ?> projectionHitMapper,
+			ElasticsearchSearchProjection<?, T> rootProjection, String[] hitPropertyNames,
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			long hitsToSkip, Long maxHitsCount) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
+		this.hitPropertyNames = hitPropertyNames;
 		this.searchProjectionExecutionContext = searchProjectionExecutionContext;
+		this.aggregations = aggregations;
+		this.hitsToSkip = hitsToSkip;
+		this.maxHitsCount = maxHitsCount;
+	}
+
+	/**
+	 * @param hitsToSkip The number of hits to skip at the start of the returned hits.
+	 * @param maxHitsCount The maximum number of hits to extract after the skipped ones, or {@code null} for no limit.
+	 * @return An extractor that ignores hits outside of the given range, without extracting them nor planning their loading.
+	 * Useful when the range cannot be applied by Elasticsearch, e.g. when scrolling.
+	 */
+	ElasticsearchSearchResultExtractorImpl<T> withHitRange(long hitsToSkip, Long maxHitsCount) {
+		return new ElasticsearchSearchResultExtractorImpl<>(
+				projectionHitMapper, rootProjection, hitPropertyNames, searchProjectionExecutionContext, aggregations,
+				hitsToSkip, maxHitsCount
+		);
 	}
 
 	@Override
-	public ElasticsearchLoadableSearchResult<T> extract(JsonObject responseBody) {
-		Long hitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	public ElasticsearchLoadableSearchResult<T> extract(JsonReader responseBodyReader) throws IOException {
+		long hitCount = 0L;
+		List<Object> extractedData = Collections.emptyList();
+		int responseHitCount = 0;
+		Map<AggregationKey<?>, ?> aggregationResults = Collections.emptyMap();
+		boolean timedOut = false;
+		String scrollId = null;
+		JsonElement error = null;
+
+		responseBodyReader.beginObject();
+		while ( responseBodyReader.hasNext() ) {
+			String rootName = responseBodyReader.nextName();
+			if ( TIMED_OUT_PROPERTY_NAME.equals( rootName ) && responseBodyReader.peek() == JsonToken.BOOLEAN ) {
+				timedOut = responseBodyReader.nextBoolean();
+			}
+			else if ( SCROLL_ID_PROPERTY_NAME.equals( rootName ) && responseBodyReader.peek() == JsonToken.STRING ) {
+				scrollId = responseBodyReader.nextString();
+			}
+			else if ( ERROR_PROPERTY_NAME.equals( rootName ) ) {
+				// Only happens for responses embedded in a multi-search response: other failures have an error status
+				error = new JsonParser().parse( responseBodyReader );
+			}
+			else if ( AGGREGATIONS_PROPERTY_NAME.equals( rootName ) && !aggregations.isEmpty()
+					&& responseBodyReader.peek() == JsonToken.BEGIN_OBJECT ) {
+				aggregationResults = extractAggregations( responseBodyReader );
+			}
+			else if ( HITS_PROPERTY_NAME.equals( rootName )
+					&& responseBodyReader.peek() == JsonToken.BEGIN_OBJECT ) {
+				responseBodyReader.beginObject();
+				while ( responseBodyReader.hasNext() ) {
+					String name = responseBodyReader.nextName();
+					if ( HITS_TOTAL_PROPERTY_NAME.equals( name ) && responseBodyReader.peek() == JsonToken.NUMBER ) {
+						hitCount = responseBodyReader.nextLong();
+					}
+					else if ( HITS_PROPERTY_NAME.equals( name ) && responseBodyReader.peek() == JsonToken.BEGIN_ARRAY ) {
+						extractedData = new ArrayList<>();
+						responseHitCount = extractHits( responseBodyReader, extractedData );
+					}
+					else {
+						responseBodyReader.skipValue();
+					}
+				}
+				responseBodyReader.endObject();
+			}
+			else {
+				responseBodyReader.skipValue();
+			}
+		}
+		responseBodyReader.endObject();
 
-		final List<Object> extractedData = hitCount > 0 ? extractHits( responseBody ) : Collections.emptyList();
+		if ( error != null ) {
+			throw log.elasticsearchSearchFailed( error.toString() );
+		}
+
+		if ( hitCount == 0L ) {
+			extractedData = Collections.emptyList();
+		}
 
-		return new ElasticsearchLoadableSearchResult<>( projectionHitMapper, rootProjection, hitCount, extractedData );
+		return new ElasticsearchLoadableSearchResult<>( projectionHitMapper, rootProjection, hitCount, extractedData, aggregationResults,
+				timedOut, scrollId, responseHitCount );
 	}
 
-	private List<Object> extractHits(JsonObject responseBody) {
-		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+	/**
+	 * @return The number of hits in the response, including skipped hits.
+	 */
+	private int extractHits(JsonReader reader, List<Object> extractedData) throws IOException {
+		int hitIndex = 0;
+		reader.beginArray();
+		while ( reader.hasNext() ) {
+			if ( hitIndex < hitsToSkip || maxHitsCount != null && extractedData.size() >= maxHitsCount ) {
+				reader.skipValue();
+			}
+			else {
+				JsonObject hitObject = JsonStreams.readObject( reader, hitPropertyNames );
+
+				extractedData.add( rootProjection.extract( projectionHitMapper, hitObject,
+						searchProjectionExecutionContext ) );
+			}
+			++hitIndex;
+		}
+		reader.endArray();
 
-		List<Object> extractedData = new ArrayList<>( jsonHits.size() );
+		return hitIndex;
+	}
 
-		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
+	private static String[] getHitPropertyNames(ElasticsearchSearchProjection<?, ?> rootProjection) {
+		Set<String> hitPropertyNames = new LinkedHashSet<>();
+		rootProjection.contributeHitPropertyNames( hitPropertyNames );
+		return hitPropertyNames.toArray( new String[0] );
+	}
 
-			extractedData.add( rootProjection.extract( projectionHitMapper, responseBody, hitObject,
-					searchProjectionExecutionContext ) );
+	private Map<AggregationKey<?>, ?> extractAggregations(JsonReader reader) throws IOException {
+		Map<String, JsonObject> jsonResultsByName = new LinkedHashMap<>();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			jsonResultsByName.put( name, new JsonParser().parse( reader ).getAsJsonObject() );
 		}
-
-		return extractedData;
+		reader.endObject();
+
+		Map<AggregationKey<?>, Object> results = new LinkedHashMap<>();
+		for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+			AggregationKey<?> key = entry.getKey();
+			JsonObject jsonResult = jsonResultsByName.get( key.getName() );
+			if ( jsonResult != null ) {
+				results.put( key, entry.getValue().extract( jsonResult ) );
+			}
+		}
+		return results;
 	}
 }
@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.spi.SimpleSearchResult;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A scroll relying on the Elasticsearch scroll API:
+ * the first chunk is retrieved by a search request opening a scroll context on the cluster,
+ * and the following chunks are retrieved from that context, until it is cleared when the scroll is closed.
+ * <p>
+ * The scroll API does not support {@code from}, so hits to skip are retrieved, but neither extracted nor loaded.
+ *
+ * @param <T> The type of hits.
+ */
+class ElasticsearchSearchScroll<T> implements SearchScroll<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * How long Elasticsearch keeps the scroll context alive between two chunks.
+	 * Only needs to cover the processing of one chunk, since it is renewed on each request.
+	 */
+	private static final String SCROLL_TIMEOUT = "1m";
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Set<URLEncodedString> indexNames;
+	private final SessionContextImplementor sessionContext;
+	private final Set<String> routingKeys;
+	private final SerializedJsonObject payload;
+	private final ElasticsearchSearchResultExtractorImpl<T> searchResultExtractor;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+	private final int chunkSize;
+
+	private long hitsToSkip;
+	private Long remainingHits;
+	private String scrollId;
+	private long hitCount;
+	private boolean exhausted;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			Set<URLEncodedString> indexNames,
+			SessionContextImplementor sessionContext,
+			Set<String> routingKeys,
+			SerializedJsonObject payload, ElasticsearchSearchResultExtractorImpl<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long firstResultIndex, Long maxResultsCount, int chunkSize) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.sessionContext = sessionContext;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.chunkSize = chunkSize;
+		this.hitsToSkip = firstResultIndex == null ? 0L : firstResultIndex;
+		this.remainingHits = maxResultsCount;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		if ( exhausted || remainingHits != null && remainingHits <= 0L ) {
+			exhausted = true;
+			return new SimpleSearchResult<>( hitCount, Collections.emptyList() );
+		}
+
+		ElasticsearchLoadableSearchResult<T> loadableResult;
+		boolean chunkFullySkipped;
+		do {
+			loadableResult = fetchNextChunk( searchResultExtractor.withHitRange( hitsToSkip, remainingHits ) );
+			int hitsInResponse = loadableResult.getResponseHitCount();
+			chunkFullySkipped = hitsInResponse > 0 && hitsToSkip >= hitsInResponse;
+			hitsToSkip = Math.max( 0L, hitsToSkip - hitsInResponse );
+		}
+		/*
+		 * When all hits of a chunk were skipped, there may be more: continue to the next chunk.
+		 * An empty chunk means there are no more hits, even if we did not skip as many as requested.
+		 */
+		while ( chunkFullySkipped );
+
+		SearchResult<T> result = loadableResult
+				// WARNING: must run in the user thread, see ElasticsearchSearchQuery#execute
+				.loadBlocking( sessionContext );
+
+		int hitsInChunk = result.getHits().size();
+		hitCount = result.getHitCount();
+		if ( remainingHits != null ) {
+			remainingHits -= hitsInChunk;
+		}
+		if ( hitsInChunk == 0 ) {
+			exhausted = true;
+		}
+
+		return result;
+	}
+
+	@Override
+	public void close() {
+		if ( scrollId != null ) {
+			ElasticsearchWork<?> work = workFactory.clearScroll( scrollId ).build();
+			scrollId = null;
+			queryOrchestrator.submit( work ).join();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[payload=" + payload + ", chunkSize=" + chunkSize + "]";
+	}
+
+	private ElasticsearchLoadableSearchResult<T> fetchNextChunk(ElasticsearchSearchResultExtractorImpl<T> chunkExtractor) {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work;
+		if ( scrollId == null ) {
+			work = workFactory.search( payload, chunkExtractor )
+					.indexes( indexNames )
+					.scrolling( chunkSize, SCROLL_TIMEOUT )
+					.routingKeys( routingKeys )
+					.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+					.build();
+		}
+		else {
+			work = workFactory.scroll( scrollId, SCROLL_TIMEOUT, chunkExtractor ).build();
+		}
+
+		ElasticsearchLoadableSearchResult<T> result = queryOrchestrator.submit( work ).join();
+		if ( result.isTimedOut() && exceptionOnTimeout ) {
+			throw log.searchTimeout( payload.toString(), timeoutValue, timeoutUnit );
+		}
+		if ( result.getScrollId() != null ) {
+			// The scroll ID may change from one request to the next
+			scrollId = result.getScrollId();
+		}
+		return result;
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilderFactoryImpl;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchTargetModel;
@@ -21,6 +22,7 @@
 	private final ElasticsearchSearchTargetModel searchTargetModel;
 	private final ElasticsearchSearchPredicateBuilderFactoryImpl searchPredicateFactory;
 	private final ElasticsearchSearchSortBuilderFactoryImpl searchSortFactory;
+	private final ElasticsearchSearchAggregationBuilderFactoryImpl searchAggregationFactory;
 	private final ElasticsearchSearchQueryBuilderFactory searchQueryFactory;
 	private final ElasticsearchSearchProjectionBuilderFactory searchProjectionFactory;
 
@@ -32,6 +34,7 @@ public ElasticsearchSearchTargetContext(
 		this.searchTargetModel = searchTargetModel;
 		this.searchPredicateFactory = new ElasticsearchSearchPredicateBuilderFactoryImpl( searchContext, searchTargetModel );
 		this.searchSortFactory = new ElasticsearchSearchSortBuilderFactoryImpl( searchContext, searchTargetModel );
+		this.searchAggregationFactory = new ElasticsearchSearchAggregationBuilderFactoryImpl( searchContext, searchTargetModel );
 		this.searchProjectionFactory = new ElasticsearchSearchProjectionBuilderFactory(
 				searchBackendContext.getSearchProjectionBackendContext(),
 				searchTargetModel );
@@ -58,6 +61,11 @@ public ElasticsearchSearchSortBuilderFactoryImpl getSearchSortBuilderFactory() {
 		return searchSortFactory;
 	}
 
+	@Override
+	public ElasticsearchSearchAggregationBuilderFactoryImpl getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
+
 	@Override
 	public ElasticsearchSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 		return searchQueryFactory;
@@ -9,6 +9,7 @@
 import java.util.Set;
 import java.util.function.Function;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
@@ -28,27 +29,34 @@ public class SearchBackendContext {
 	private final EventContext eventContext;
 
 	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final GsonProvider gsonProvider;
 	private final Gson userFacingGson;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final ElasticsearchWorkOrchestrator orchestrator;
 
+	private final ElasticsearchSearchQueryBatchExecutor batchExecutor;
+
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
 	private final DocumentReferenceExtractorHelper documentReferenceExtractorHelper;
 
 	public SearchBackendContext(EventContext eventContext,
 			ElasticsearchWorkBuilderFactory workFactory,
+			GsonProvider gsonProvider,
 			Gson userFacingGson,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
 			ElasticsearchWorkOrchestrator orchestrator) {
 		this.eventContext = eventContext;
 		this.workFactory = workFactory;
+		this.gsonProvider = gsonProvider;
 		this.userFacingGson = userFacingGson;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 
+		this.batchExecutor = new ElasticsearchSearchQueryBatchExecutor( workFactory, orchestrator );
+
 		this.documentReferenceExtractorHelper =
 				new DocumentReferenceExtractorHelper( indexNameConverter, multiTenancyStrategy );
 
@@ -86,7 +94,7 @@ <T> ElasticsearchSearchQueryBuilder<T> createSearchQueryBuilder(
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
-				workFactory, orchestrator, multiTenancyStrategy,
+				workFactory, gsonProvider, orchestrator, batchExecutor, multiTenancyStrategy,
 				indexNames, sessionContext, projectionHitMapper, rootProjection
 		);
 	}
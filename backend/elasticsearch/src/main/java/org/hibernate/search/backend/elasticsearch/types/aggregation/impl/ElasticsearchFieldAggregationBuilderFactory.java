@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+/**
+ * A field-scoped factory for search aggregation builders.
+ * <p>
+ * Implementations are created and stored for each field at bootstrap,
+ * allowing fine-grained control over the type of aggregation created for each field,
+ * and detailed exceptions when users try to create an aggregation that just cannot work on a particular field.
+ */
+public interface ElasticsearchFieldAggregationBuilderFactory {
+
+	TermsAggregationBuilder<ElasticsearchSearchAggregationBuilder> createTermsAggregationBuilder(String absoluteFieldPath);
+
+	RangeAggregationBuilder<ElasticsearchSearchAggregationBuilder> createRangeAggregationBuilder(
+			ElasticsearchSearchContext searchContext, String absoluteFieldPath);
+
+	SearchAggregationBuilder<ElasticsearchSearchAggregationBuilder> createHistogramAggregationBuilder(
+			String absoluteFieldPath, long interval);
+
+	/**
+	 * Determine whether another aggregation builder factory is DSL-compatible with this one,
+	 * i.e. whether it creates builders that behave the same way.
+	 *
+	 * @see ToDocumentFieldValueConverter#isCompatibleWith(ToDocumentFieldValueConverter)
+	 * @see ElasticsearchFieldCodec#isCompatibleWith(ElasticsearchFieldCodec)
+	 *
+	 * @param other Another {@link ElasticsearchFieldAggregationBuilderFactory}, never {@code null}.
+	 * @return {@code true} if the given aggregation builder factory is DSL-compatible.
+	 * {@code false} otherwise, or when in doubt.
+	 */
+	boolean isDslCompatibleWith(ElasticsearchFieldAggregationBuilderFactory other);
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchHistogramAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchRangeAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchTermsAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * @param <F> The field type exposed to the mapper.
+ */
+public class ElasticsearchStandardFieldAggregationBuilderFactory<F> implements ElasticsearchFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ElasticsearchStandardFieldAggregationBuilderFactory<?> UNSUPPORTED =
+			new ElasticsearchStandardFieldAggregationBuilderFactory<>( false, null, null, false, false );
+
+	/**
+	 * @param <F> The field type exposed to the mapper.
+	 * @return A factory for fields supporting terms aggregations only, e.g. keyword fields.
+	 */
+	public static <F> ElasticsearchStandardFieldAggregationBuilderFactory<F> text(boolean sortable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter, ElasticsearchFieldCodec<F> codec) {
+		return new ElasticsearchStandardFieldAggregationBuilderFactory<>( sortable, converter, codec, true, false );
+	}
+
+	/**
+	 * @param <F> The field type exposed to the mapper.
+	 * @return A factory for fields supporting range and histogram aggregations only, e.g. integer fields.
+	 */
+	public static <F> ElasticsearchStandardFieldAggregationBuilderFactory<F> numeric(boolean sortable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter, ElasticsearchFieldCodec<F> codec) {
+		return new ElasticsearchStandardFieldAggregationBuilderFactory<>( sortable, converter, codec, false, true );
+	}
+
+	/**
+	 * @return A factory for fields that do not support any aggregation.
+	 */
+	public static ElasticsearchFieldAggregationBuilderFactory unsupported() {
+		return UNSUPPORTED;
+	}
+
+	private final boolean sortable;
+
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	private final ElasticsearchFieldCodec<F> codec;
+
+	private final boolean termsSupported;
+	private final boolean numericSupported;
+
+	private ElasticsearchStandardFieldAggregationBuilderFactory(boolean sortable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			ElasticsearchFieldCodec<F> codec,
+			boolean termsSupported, boolean numericSupported) {
+		this.sortable = sortable;
+		this.converter = converter;
+		this.codec = codec;
+		this.termsSupported = termsSupported;
+		this.numericSupported = numericSupported;
+	}
+
+	@Override
+	public TermsAggregationBuilder<ElasticsearchSearchAggregationBuilder> createTermsAggregationBuilder(
+			String absoluteFieldPath) {
+		checkSupported( absoluteFieldPath, "Terms", termsSupported );
+		checkAggregatable( absoluteFieldPath, sortable );
+
+		return new ElasticsearchTermsAggregationBuilder( absoluteFieldPath );
+	}
+
+	@Override
+	public RangeAggregationBuilder<ElasticsearchSearchAggregationBuilder> createRangeAggregationBuilder(
+			ElasticsearchSearchContext searchContext, String absoluteFieldPath) {
+		checkSupported( absoluteFieldPath, "Range", numericSupported );
+		checkAggregatable( absoluteFieldPath, sortable );
+
+		return new ElasticsearchRangeAggregationBuilder<>( searchContext, absoluteFieldPath, converter, codec );
+	}
+
+	@Override
+	public SearchAggregationBuilder<ElasticsearchSearchAggregationBuilder> createHistogramAggregationBuilder(
+			String absoluteFieldPath, long interval) {
+		checkSupported( absoluteFieldPath, "Histogram", numericSupported );
+		checkAggregatable( absoluteFieldPath, sortable );
+
+		return new ElasticsearchHistogramAggregationBuilder( absoluteFieldPath, interval );
+	}
+
+	@Override
+	public boolean isDslCompatibleWith(ElasticsearchFieldAggregationBuilderFactory obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj.getClass() != ElasticsearchStandardFieldAggregationBuilderFactory.class ) {
+			return false;
+		}
+
+		ElasticsearchStandardFieldAggregationBuilderFactory<?> other = (ElasticsearchStandardFieldAggregationBuilderFactory<?>) obj;
+		if ( this == UNSUPPORTED || other == UNSUPPORTED ) {
+			return false;
+		}
+
+		return sortable == other.sortable
+				&& termsSupported == other.termsSupported
+				&& numericSupported == other.numericSupported
+				&& converter.isCompatibleWith( other.converter )
+				&& codec.isCompatibleWith( other.codec );
+	}
+
+	private static void checkSupported(String absoluteFieldPath, String aggregationType, boolean supported) {
+		if ( !supported ) {
+			throw log.aggregationTypeNotSupportedByFieldType( aggregationType,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+
+	/*
+	 * Aggregations rely on doc values, which are only enabled for sortable fields.
+	 */
+	private static void checkAggregatable(String absoluteFieldPath, boolean sortable) {
+		if ( !sortable ) {
+			throw log.unaggregatableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+}
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.DataType;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.PropertyMapping;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchStandardFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchGeoPointFieldCodec;
 import org.hibernate.search.backend.elasticsearch.types.impl.ElasticsearchIndexFieldType;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchGeoPointFieldPredicateBuilderFactory;
@@ -37,6 +38,7 @@ protected ElasticsearchIndexFieldType<GeoPoint> toIndexFieldType(PropertyMapping
 				codec,
 				ElasticsearchGeoPointFieldPredicateBuilderFactory.INSTANCE,
 				new ElasticsearchGeoPointFieldSortBuilderFactory( resolvedSortable ),
+				ElasticsearchStandardFieldAggregationBuilderFactory.unsupported(),
 				new ElasticsearchGeoPointFieldProjectionBuilderFactory( resolvedProjectable, indexToProjectionConverter, codec ),
 				mapping
 		);
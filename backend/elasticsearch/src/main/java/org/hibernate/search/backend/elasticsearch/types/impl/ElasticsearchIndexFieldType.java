@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.AbstractTypeMapping;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.PropertyMapping;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
@@ -26,17 +27,20 @@
 	private final ElasticsearchFieldCodec<F> codec;
 	private final ElasticsearchFieldPredicateBuilderFactory predicateBuilderFactory;
 	private final ElasticsearchFieldSortBuilderFactory sortBuilderFactory;
+	private final ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory;
 	private final ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory;
 	private final PropertyMapping mapping;
 
 	public ElasticsearchIndexFieldType(ElasticsearchFieldCodec<F> codec,
 			ElasticsearchFieldPredicateBuilderFactory predicateBuilderFactory,
 			ElasticsearchFieldSortBuilderFactory sortBuilderFactory,
+			ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory,
 			ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory,
 			PropertyMapping mapping) {
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
 		this.mapping = mapping;
 	}
@@ -49,6 +53,7 @@ public IndexFieldAccessor<F> addField(ElasticsearchIndexSchemaNodeCollector coll
 				codec,
 				predicateBuilderFactory,
 				sortBuilderFactory,
+				aggregationBuilderFactory,
 				projectionBuilderFactory
 		);
 
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexStatus;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
@@ -28,6 +29,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexTypeMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexExistsWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OptimizeWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
@@ -45,6 +47,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.DocumentWorkTarget;
 import org.hibernate.search.backend.elasticsearch.work.impl.DropIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ExplainWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.FlushWork;
@@ -52,6 +55,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexTypeMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexExistsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OptimizeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -75,13 +79,18 @@ public Elasticsearch6WorkBuilderFactory(GsonProvider gsonProvider) {
 	}
 
 	@Override
-	public IndexWorkBuilder index(URLEncodedString indexName, URLEncodedString id, String routingKey, JsonObject document) {
-		return new IndexWork.Builder( indexName, TYPE_NAME, id, routingKey, document );
+	public DocumentWorkTarget documentWorkTarget(URLEncodedString indexName) {
+		return new DocumentWorkTarget( indexName, TYPE_NAME );
 	}
 
 	@Override
-	public DeleteWorkBuilder delete(URLEncodedString indexName, URLEncodedString id, String routingKey) {
-		return new DeleteWork.Builder( indexName, TYPE_NAME, id, routingKey );
+	public IndexWorkBuilder index(DocumentWorkTarget target, URLEncodedString id, String routingKey, JsonObject document) {
+		return new IndexWork.Builder( gsonProvider, target, id, routingKey, document );
+	}
+
+	@Override
+	public DeleteWorkBuilder delete(DocumentWorkTarget target, URLEncodedString id, String routingKey) {
+		return new DeleteWork.Builder( target, id, routingKey );
 	}
 
 	@Override
@@ -110,10 +119,15 @@ public BulkWorkBuilder bulk(List<? extends BulkableElasticsearchWork<?>> bulkabl
 	}
 
 	@Override
-	public <T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+	public <T> SearchWorkBuilder<T> search(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
 		return new SearchWork.Builder<>( payload, searchResultExtractor );
 	}
 
+	@Override
+	public MultiSearchWorkBuilder multiSearch() {
+		return new MultiSearchWork.Builder();
+	}
+
 	@Override
 	public CountWorkBuilder count(Set<URLEncodedString> indexNames) {
 		return new CountWork.Builder( indexNames );
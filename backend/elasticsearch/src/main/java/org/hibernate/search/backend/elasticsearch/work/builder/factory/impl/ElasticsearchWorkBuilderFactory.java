@@ -11,6 +11,7 @@
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexStatus;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
@@ -27,6 +28,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexTypeMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexExistsWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OptimizeWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
@@ -36,6 +38,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.WaitForIndexStatusWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.DocumentWorkTarget;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 
 import com.google.gson.JsonObject;
@@ -45,9 +48,17 @@
  */
 public interface ElasticsearchWorkBuilderFactory {
 
-	IndexWorkBuilder index(URLEncodedString indexName, URLEncodedString id, String routingKey, JsonObject document);
+	/**
+	 * @param indexName The name of an index.
+	 * @return The target to pass to {@link #index(DocumentWorkTarget, URLEncodedString, String, JsonObject)}
+	 * or {@link #delete(DocumentWorkTarget, URLEncodedString, String)} for documents of this index.
+	 * Should be created once per index and reused.
+	 */
+	DocumentWorkTarget documentWorkTarget(URLEncodedString indexName);
 
-	DeleteWorkBuilder delete(URLEncodedString indexName, URLEncodedString id, String routingKey);
+	IndexWorkBuilder index(DocumentWorkTarget target, URLEncodedString id, String routingKey, JsonObject document);
+
+	DeleteWorkBuilder delete(DocumentWorkTarget target, URLEncodedString id, String routingKey);
 
 	DeleteByQueryWorkBuilder deleteByQuery(URLEncodedString indexName, JsonObject payload);
 
@@ -59,7 +70,9 @@ public interface ElasticsearchWorkBuilderFactory {
 
 	BulkWorkBuilder bulk(List<? extends BulkableElasticsearchWork<?>> bulkableWorks);
 
-	<T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor);
+	<T> SearchWorkBuilder<T> search(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor);
+
+	MultiSearchWorkBuilder multiSearch();
 
 	CountWorkBuilder count(Set<URLEncodedString> indexNames);
 
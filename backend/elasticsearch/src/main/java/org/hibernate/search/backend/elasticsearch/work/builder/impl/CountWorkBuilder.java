@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 
@@ -18,4 +19,6 @@ public interface CountWorkBuilder extends ElasticsearchWorkBuilder<Elasticsearch
 
 	CountWorkBuilder routingKeys(Set<String> routingKeys);
 
+	CountWorkBuilder timeout(Long timeoutValue, TimeUnit timeoutUnit);
+
 }
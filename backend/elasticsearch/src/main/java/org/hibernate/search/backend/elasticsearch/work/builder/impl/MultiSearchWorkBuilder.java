@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.builder.impl;
+
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+
+public interface MultiSearchWorkBuilder
+		extends ElasticsearchWorkBuilder<ElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>>> {
+
+	/**
+	 * @param search A builder for the search to add, as returned by
+	 * {@link org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory#search}.
+	 * Scrolling is not supported.
+	 * @return {@code this}, for method chaining.
+	 */
+	MultiSearchWorkBuilder add(SearchWorkBuilder<?> search);
+
+}
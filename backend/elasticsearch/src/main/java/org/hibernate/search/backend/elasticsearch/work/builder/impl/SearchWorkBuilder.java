@@ -8,6 +8,7 @@
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -26,4 +27,13 @@
 
 	SearchWorkBuilder<T> routingKeys(Set<String> routingKeys);
 
+	/**
+	 * @param timeoutValue The timeout value, or {@code null} for no timeout.
+	 * @param timeoutUnit The timeout unit, or {@code null} for no timeout.
+	 * @param exceptionOnTimeout {@code true} to abort the request on the client side when the timeout is reached,
+	 * {@code false} to only pass the timeout to Elasticsearch so that it returns partial results.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchWorkBuilder<T> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout);
+
 }
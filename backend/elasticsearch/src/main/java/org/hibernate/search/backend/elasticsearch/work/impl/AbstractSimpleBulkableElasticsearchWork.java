@@ -7,13 +7,12 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
-import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.search.util.impl.common.Throwables;
@@ -29,30 +28,30 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final JsonObject bulkableActionMetadata;
+	private final SerializedJsonObject bulkableActionMetadata;
+	private final SerializedJsonObject bulkableActionBody;
+	private final ElasticsearchDocumentKey documentKey;
 
 	protected AbstractSimpleBulkableElasticsearchWork(AbstractBuilder<?> builder) {
 		super( builder );
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
+		this.bulkableActionBody = builder.buildBulkableActionBody();
+		this.documentKey = builder.buildDocumentKey();
 	}
 
 	@Override
-	public JsonObject getBulkableActionMetadata() {
+	public SerializedJsonObject getBulkableActionMetadata() {
 		return bulkableActionMetadata;
 	}
 
 	@Override
-	public JsonObject getBulkableActionBody() {
-		List<JsonObject> bodyParts = request.getBodyParts();
-		if ( !bodyParts.isEmpty() ) {
-			if ( bodyParts.size() > 1 ) {
-				throw new AssertionFailure( "Found a bulkable action with multiple body parts: " + bodyParts );
-			}
-			return bodyParts.get( 0 );
-		}
-		else {
-			return null;
-		}
+	public ElasticsearchDocumentKey getDocumentKey() {
+		return documentKey;
+	}
+
+	@Override
+	public SerializedJsonObject getBulkableActionBody() {
+		return bulkableActionBody;
 	}
 
 	@Override
@@ -88,14 +87,14 @@ private CompletableFuture<R> handleResult(ElasticsearchWorkExecutionContext exec
 			}
 		}
 		catch (RuntimeException e) {
-			throw log.elasticsearchBulkedRequestFailed( getBulkableActionMetadata(), bulkResponseItem, e );
+			throw log.elasticsearchBulkedRequestFailed( getBulkableActionMetadata().toJsonObject(), bulkResponseItem, e );
 		}
 
 		return afterSuccess( executionContext )
 				.exceptionally( Futures.handler(
 						throwable -> {
 							throw log.elasticsearchBulkedRequestFailed(
-									getBulkableActionMetadata(),
+									getBulkableActionMetadata().toJsonObject(),
 									bulkResponseItem, Throwables.expectException( throwable )
 							);
 						}
@@ -110,7 +109,11 @@ public AbstractBuilder(URLEncodedString dirtiedIndexName, ElasticsearchRequestSu
 			super( dirtiedIndexName, resultAssessor );
 		}
 
-		protected abstract JsonObject buildBulkableActionMetadata();
+		protected abstract SerializedJsonObject buildBulkableActionMetadata();
+
+		protected abstract SerializedJsonObject buildBulkableActionBody();
+
+		protected abstract ElasticsearchDocumentKey buildDocumentKey();
 
 	}
 }
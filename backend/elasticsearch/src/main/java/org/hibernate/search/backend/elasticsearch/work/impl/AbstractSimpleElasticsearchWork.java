@@ -58,12 +58,17 @@ public String toString() {
 
 	@Override
 	public final CompletableFuture<R> execute(ElasticsearchWorkExecutionContext executionContext) {
-		return Futures.create( () -> beforeExecute( executionContext, request ) )
-				.thenCompose( ignored -> executionContext.getClient().submit( request ) )
+		CompletableFuture<ElasticsearchResponse> responseFuture = Futures.composeCancellable(
+				Futures.create( () -> beforeExecute( executionContext, request ) ),
+				ignored -> executionContext.getClient().submit( request )
+		);
+		CompletableFuture<R> result = responseFuture
 				.exceptionally( Futures.handler(
 						throwable -> { throw log.elasticsearchRequestFailed( request, null, Throwables.expectException( throwable ) ); }
 				) )
 				.thenCompose( response -> handleResult( executionContext, response ) );
+		// Cancelling the work must cancel the request, so as to release the connection
+		return Futures.propagateCancellation( result, responseFuture );
 	}
 
 	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
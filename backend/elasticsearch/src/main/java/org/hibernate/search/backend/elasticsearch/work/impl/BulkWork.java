@@ -6,14 +6,22 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonStreams;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
@@ -23,10 +31,10 @@
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.search.util.impl.common.Throwables;
 
-import java.lang.invoke.MethodHandles;
-
-import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * @author Yoann Rodiere
@@ -35,7 +43,15 @@ public class BulkWork implements ElasticsearchWork<BulkResult> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final String BULK_ITEMS_PROPERTY_NAME = "items";
+
+	/*
+	 * Only these properties of each bulk item are needed to assess success or failure,
+	 * see DefaultElasticsearchRequestSuccessAssessor.
+	 */
+	private static final String[] BULK_ITEM_PROPERTY_NAMES = { "status", "error" };
+
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
 
 	private final ElasticsearchRequest request;
 
@@ -92,9 +108,52 @@ public Object getInfo() {
 	}
 
 	private BulkResult generateResult(ElasticsearchResponse response) {
-		JsonObject parsedResponseBody = response.getBody();
-		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
-		return new BulkResultDefualt( resultItems, refreshInAPICall );
+		List<JsonObject> resultItems;
+		try ( JsonReader reader = response.openBodyReader() ) {
+			resultItems = reader == null ? Collections.emptyList() : extractItems( reader );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
+		return new BulkResultDefualt( works, resultItems, Collections.emptyMap(), refreshInAPICall );
+	}
+
+	/*
+	 * Stream through the response instead of parsing it as a tree:
+	 * bulk responses can be huge, and we only need a few properties from each item.
+	 */
+	private List<JsonObject> extractItems(JsonReader reader) throws IOException {
+		List<JsonObject> resultItems = Collections.emptyList();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			if ( BULK_ITEMS_PROPERTY_NAME.equals( reader.nextName() ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+				resultItems = new ArrayList<>( works.size() );
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					resultItems.add( extractItem( reader ) );
+				}
+				reader.endArray();
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return resultItems;
+	}
+
+	/*
+	 * Result items have the following format: { "actionName" : { "status" : 201, ... } }
+	 */
+	private static JsonObject extractItem(JsonReader reader) throws IOException {
+		JsonObject item = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String actionName = reader.nextName();
+			item.add( actionName, JsonStreams.readObject( reader, BULK_ITEM_PROPERTY_NAMES ) );
+		}
+		reader.endObject();
+		return item;
 	}
 
 	private static class NoIndexDirtyBulkExecutionContext extends ElasticsearchForwardingWorkExecutionContext {
@@ -131,7 +190,7 @@ protected ElasticsearchRequest buildRequest() {
 
 			for ( BulkableElasticsearchWork<?> work : bulkableWorks ) {
 				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
+				SerializedJsonObject actionBody = work.getBulkableActionBody();
 				if ( actionBody != null ) {
 					builder.body( actionBody );
 				}
@@ -147,12 +206,18 @@ public BulkWork build() {
 	}
 
 	private static class BulkResultDefualt implements BulkResult {
-		private final JsonArray results;
+		private final List<BulkableElasticsearchWork<?>> works;
+		private final List<JsonObject> results;
+		// Failures of items whose retry could not be executed, by item index
+		private final Map<Integer, Throwable> itemFailures;
 		private final boolean refreshInAPICall;
 
-		public BulkResultDefualt(JsonArray results, boolean refreshInAPICall) {
+		public BulkResultDefualt(List<BulkableElasticsearchWork<?>> works, List<JsonObject> results,
+				Map<Integer, Throwable> itemFailures, boolean refreshInAPICall) {
 			super();
+			this.works = works;
 			this.results = results;
+			this.itemFailures = itemFailures;
 			this.refreshInAPICall = refreshInAPICall;
 		}
 
@@ -169,25 +234,93 @@ public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext con
 			else {
 				actualContext = context;
 			}
-			return new BulkItemResultExtractorDefault( results, actualContext );
+			return new BulkItemResultExtractorDefault( results, itemFailures, actualContext );
+		}
+
+		@Override
+		public ElasticsearchWork<BulkResult> createRetryWork() {
+			List<BulkableElasticsearchWork<?>> rejectedWorks = new ArrayList<>();
+			for ( int index : getRejectedItemIndexes() ) {
+				rejectedWorks.add( works.get( index ) );
+			}
+			if ( rejectedWorks.isEmpty() ) {
+				return null;
+			}
+			return new Builder( rejectedWorks ).refresh( refreshInAPICall ).build();
+		}
+
+		@Override
+		public BulkResult withRetryResult(BulkResult retryResult) {
+			List<JsonObject> retryResults = ( (BulkResultDefualt) retryResult ).results;
+			List<JsonObject> mergedResults = new ArrayList<>( results );
+			List<Integer> rejectedItemIndexes = getRejectedItemIndexes();
+			for ( int i = 0; i < rejectedItemIndexes.size() && i < retryResults.size(); i++ ) {
+				mergedResults.set( rejectedItemIndexes.get( i ), retryResults.get( i ) );
+			}
+			return new BulkResultDefualt( works, mergedResults, itemFailures, refreshInAPICall );
+		}
+
+		@Override
+		public BulkResult withRetryFailure(Throwable failure) {
+			Map<Integer, Throwable> mergedItemFailures = new HashMap<>( itemFailures );
+			for ( int index : getRejectedItemIndexes() ) {
+				mergedItemFailures.put( index, failure );
+			}
+			return new BulkResultDefualt( works, results, mergedItemFailures, refreshInAPICall );
+		}
+
+		private List<Integer> getRejectedItemIndexes() {
+			List<Integer> indexes = new ArrayList<>();
+			for ( int i = 0; i < results.size() && i < works.size(); i++ ) {
+				if ( !itemFailures.containsKey( i ) && isRejected( results.get( i ) ) ) {
+					indexes.add( i );
+				}
+			}
+			return indexes;
+		}
+
+		/*
+		 * Result items have the following format: { "actionName" : { "status" : 429, ... } }
+		 */
+		private static boolean isRejected(JsonObject resultItem) {
+			if ( resultItem == null || resultItem.size() == 0 ) {
+				return false;
+			}
+			JsonElement actionResult = resultItem.entrySet().iterator().next().getValue();
+			if ( actionResult == null || !actionResult.isJsonObject() ) {
+				return false;
+			}
+			return BULK_ITEM_STATUS_CODE.get( actionResult.getAsJsonObject() )
+					.map( ElasticsearchClientUtils::isBackPressureCode )
+					.orElse( false );
 		}
 	}
 
 	private static class BulkItemResultExtractorDefault implements BulkResultItemExtractor {
-		private final JsonArray results;
+		private final List<JsonObject> results;
+
+		private final Map<Integer, Throwable> itemFailures;
 
 		private final ElasticsearchWorkExecutionContext context;
 
 
-		public BulkItemResultExtractorDefault(JsonArray results, ElasticsearchWorkExecutionContext context) {
+		public BulkItemResultExtractorDefault(List<JsonObject> results, Map<Integer, Throwable> itemFailures,
+				ElasticsearchWorkExecutionContext context) {
 			super();
 			this.results = results;
+			this.itemFailures = itemFailures;
 			this.context = context;
 		}
 
 		@Override
 		public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
-			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
+			Throwable failure = itemFailures.get( index );
+			if ( failure != null ) {
+				CompletableFuture<T> failedFuture = new CompletableFuture<>();
+				failedFuture.completeExceptionally( failure );
+				return failedFuture;
+			}
+			JsonObject bulkItemResponse = results.get( index );
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
 
@@ -8,6 +8,8 @@
 
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+
 import com.google.gson.JsonObject;
 
 /**
@@ -15,9 +17,19 @@
  */
 public interface BulkableElasticsearchWork<T> extends ElasticsearchWork<T> {
 
-	JsonObject getBulkableActionMetadata();
+	SerializedJsonObject getBulkableActionMetadata();
+
+	/**
+	 * @return The body of the bulk action, already serialized, or {@code null} if there is none.
+	 */
+	SerializedJsonObject getBulkableActionBody();
 
-	JsonObject getBulkableActionBody();
+	/**
+	 * @return The key of the document entirely replaced or deleted by this work,
+	 * such that executing this work then another work with the same key
+	 * has the same effect as only executing the other work.
+	 */
+	ElasticsearchDocumentKey getDocumentKey();
 
 	/**
 	 * @param context The execution context
@@ -10,6 +10,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -39,6 +40,8 @@ public static class Builder extends AbstractBuilder<Builder> implements CountWor
 		private final List<URLEncodedString> indexNames = new ArrayList<>();
 		private JsonObject query;
 		private Set<String> routingKeys;
+		private Long timeoutValue;
+		private TimeUnit timeoutUnit;
 
 		public Builder(Collection<URLEncodedString> indexNames) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
@@ -57,6 +60,13 @@ public Builder routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public Builder timeout(Long timeoutValue, TimeUnit timeoutUnit) {
+			this.timeoutValue = timeoutValue;
+			this.timeoutUnit = timeoutUnit;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -73,6 +83,10 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				builder.timeout( timeoutValue, timeoutUnit );
+			}
+
 			return builder.build();
 		}
 
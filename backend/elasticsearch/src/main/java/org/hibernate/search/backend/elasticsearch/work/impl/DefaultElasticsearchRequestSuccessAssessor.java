@@ -83,8 +83,12 @@ public String toString() {
 
 	@Override
 	public void checkSuccess(ElasticsearchResponse response) throws SearchException {
-		JsonObject responseBody = response.getBody();
 		Optional<Integer> statusCode = Optional.of( response.getStatusCode() );
+		if ( isSuccess( statusCode ) ) {
+			// Avoid parsing the body as a tree when we don't need to
+			return;
+		}
+		JsonObject responseBody = response.getBody();
 		checkSuccess( statusCode, responseBody );
 	}
 
@@ -108,11 +112,15 @@ private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody)
 	}
 
 	private boolean isSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
+		return isSuccess( statusCode )
+				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
+	}
+
+	private boolean isSuccess(Optional<Integer> statusCode) {
 		return statusCode.map(
 				c -> ElasticsearchClientUtils.isSuccessCode( c ) || ignoredErrorStatuses.contains( c )
 				)
-				.orElse( false )
-				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
+				.orElse( false );
 	}
 
 }
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.DeleteWorkBuilder;
 
@@ -38,15 +39,13 @@ protected Void generateResult(ElasticsearchWorkExecutionContext context, JsonObj
 	public static class Builder
 			extends AbstractSimpleBulkableElasticsearchWork.AbstractBuilder<Builder>
 			implements DeleteWorkBuilder {
-		private final URLEncodedString indexName;
-		private final URLEncodedString typeName;
+		private final DocumentWorkTarget target;
 		private final URLEncodedString id;
 		private final String routingKey;
 
-		public Builder(URLEncodedString indexName, URLEncodedString typeName, URLEncodedString id, String routingKey) {
-			super( indexName, SUCCESS_ASSESSOR );
-			this.indexName = indexName;
-			this.typeName = typeName;
+		public Builder(DocumentWorkTarget target, URLEncodedString id, String routingKey) {
+			super( target.getIndexName(), SUCCESS_ASSESSOR );
+			this.target = target;
 			this.id = id;
 			this.routingKey = routingKey;
 		}
@@ -55,9 +54,7 @@ public Builder(URLEncodedString indexName, URLEncodedString typeName, URLEncoded
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.delete()
-					.pathComponent( indexName )
-					.pathComponent( typeName )
-					.pathComponent( id );
+					.encodedPath( target.getDocumentPath( id ) );
 
 			if ( routingKey != null ) {
 				builder.param( "routing", routingKey );
@@ -67,16 +64,18 @@ protected ElasticsearchRequest buildRequest() {
 		}
 
 		@Override
-		protected JsonObject buildBulkableActionMetadata() {
-			JsonObject delete = new JsonObject();
-			delete.addProperty( "_index", indexName.original );
-			delete.addProperty( "_type", typeName.original );
-			delete.addProperty( "_id", id.original );
+		protected SerializedJsonObject buildBulkableActionMetadata() {
+			return target.createDeleteMetadata( id, routingKey );
+		}
 
-			JsonObject result = new JsonObject();
-			result.add( "delete", delete );
+		@Override
+		protected SerializedJsonObject buildBulkableActionBody() {
+			return null;
+		}
 
-			return result;
+		@Override
+		protected ElasticsearchDocumentKey buildDocumentKey() {
+			return new ElasticsearchDocumentKey( target.getIndexName(), target.getTypeName(), id, routingKey );
 		}
 
 		@Override
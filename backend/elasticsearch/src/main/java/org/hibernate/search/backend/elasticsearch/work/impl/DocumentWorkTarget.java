@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The index and type targeted by works on single documents,
+ * with the constant parts of their request paths and bulk action metadata computed once and for all.
+ * <p>
+ * Bulk action metadata is rendered from byte templates, with only the document id
+ * and the routing key spliced in.
+ */
+public final class DocumentWorkTarget {
+
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	private static final byte[] ROUTING_INFIX = ",\"_routing\":".getBytes( CHARSET );
+	private static final byte[] METADATA_SUFFIX = "}}".getBytes( CHARSET );
+
+	private final URLEncodedString indexName;
+	private final URLEncodedString typeName;
+
+	private final String pathPrefix;
+
+	private final byte[] indexMetadataPrefix;
+	private final byte[] deleteMetadataPrefix;
+
+	public DocumentWorkTarget(URLEncodedString indexName, URLEncodedString typeName) {
+		this.indexName = indexName;
+		this.typeName = typeName;
+		this.pathPrefix = "/" + indexName.encoded + "/" + typeName.encoded + "/";
+		this.indexMetadataPrefix = createMetadataPrefix( "index", indexName, typeName );
+		this.deleteMetadataPrefix = createMetadataPrefix( "delete", indexName, typeName );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexName=" + indexName + ", typeName=" + typeName + "]";
+	}
+
+	public URLEncodedString getIndexName() {
+		return indexName;
+	}
+
+	public URLEncodedString getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * @param id The document id.
+	 * @return The encoded path of the document, to be used in requests.
+	 */
+	String getDocumentPath(URLEncodedString id) {
+		return pathPrefix + id.encoded;
+	}
+
+	SerializedJsonObject createIndexMetadata(URLEncodedString id, String routingKey) {
+		return createMetadata( indexMetadataPrefix, id, routingKey );
+	}
+
+	SerializedJsonObject createDeleteMetadata(URLEncodedString id, String routingKey) {
+		return createMetadata( deleteMetadataPrefix, id, routingKey );
+	}
+
+	private static SerializedJsonObject createMetadata(byte[] prefix, URLEncodedString id, String routingKey) {
+		byte[] idBytes = toJsonString( id.original );
+		byte[] routingKeyBytes = routingKey == null ? null : toJsonString( routingKey );
+
+		int length = prefix.length + idBytes.length + METADATA_SUFFIX.length;
+		if ( routingKeyBytes != null ) {
+			length += ROUTING_INFIX.length + routingKeyBytes.length;
+		}
+
+		byte[] result = new byte[length];
+		int offset = append( result, 0, prefix );
+		offset = append( result, offset, idBytes );
+		if ( routingKeyBytes != null ) {
+			offset = append( result, offset, ROUTING_INFIX );
+			offset = append( result, offset, routingKeyBytes );
+		}
+		append( result, offset, METADATA_SUFFIX );
+
+		return SerializedJsonObject.of( result );
+	}
+
+	private static int append(byte[] target, int offset, byte[] source) {
+		System.arraycopy( source, 0, target, offset, source.length );
+		return offset + source.length;
+	}
+
+	/*
+	 * Result: {"<action>":{"_index":"<index>","_type":"<type>","_id":
+	 */
+	private static byte[] createMetadataPrefix(String actionName, URLEncodedString indexName,
+			URLEncodedString typeName) {
+		String prefix = "{" + new JsonPrimitive( actionName ) + ":{"
+				+ "\"_index\":" + new JsonPrimitive( indexName.original ) + ","
+				+ "\"_type\":" + new JsonPrimitive( typeName.original ) + ","
+				+ "\"_id\":";
+		return prefix.getBytes( CHARSET );
+	}
+
+	private static byte[] toJsonString(String value) {
+		if ( isPlainAscii( value ) ) {
+			// Fast path: the value can be used as-is between quotes
+			byte[] result = new byte[value.length() + 2];
+			result[0] = '"';
+			for ( int i = 0; i < value.length(); i++ ) {
+				result[i + 1] = (byte) value.charAt( i );
+			}
+			result[result.length - 1] = '"';
+			return result;
+		}
+		return new JsonPrimitive( value ).toString().getBytes( CHARSET );
+	}
+
+	/*
+	 * Whether the value only contains ASCII characters that need no escaping in JSON,
+	 * i.e. characters that are encoded on a single byte.
+	 */
+	private static boolean isPlainAscii(String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c < 0x20 || c >= 0x7F || c == '"' || c == '\\' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.Objects;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+/**
+ * Identifies the document affected by a {@link BulkableElasticsearchWork}.
+ */
+public final class ElasticsearchDocumentKey {
+
+	private final URLEncodedString indexName;
+	private final URLEncodedString typeName;
+	private final URLEncodedString id;
+	private final String routingKey;
+
+	public ElasticsearchDocumentKey(URLEncodedString indexName, URLEncodedString typeName, URLEncodedString id,
+			String routingKey) {
+		this.indexName = indexName;
+		this.typeName = typeName;
+		this.id = id;
+		this.routingKey = routingKey;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexName=" + indexName + ", typeName=" + typeName
+				+ ", id=" + id + ", routingKey=" + routingKey + "]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		ElasticsearchDocumentKey other = (ElasticsearchDocumentKey) obj;
+		return indexName.equals( other.indexName )
+				&& typeName.equals( other.typeName )
+				&& id.equals( other.id )
+				&& Objects.equals( routingKey, other.routingKey );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( indexName, typeName, id, routingKey );
+	}
+}
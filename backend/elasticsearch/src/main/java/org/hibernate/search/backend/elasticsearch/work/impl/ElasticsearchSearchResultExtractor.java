@@ -6,12 +6,20 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public interface ElasticsearchSearchResultExtractor<T> {
 
-	ElasticsearchLoadableSearchResult<T> extract(JsonObject responseBody);
+	/**
+	 * @param responseBodyReader A reader positioned at the start of the response body.
+	 * Implementations should stream through the body rather than building a tree of JSON elements.
+	 * @return The extracted result.
+	 * @throws IOException If the body cannot be read.
+	 */
+	ElasticsearchLoadableSearchResult<T> extract(JsonReader responseBodyReader) throws IOException;
 
 }
@@ -8,6 +8,8 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 
@@ -35,28 +37,30 @@ protected Void generateResult(ElasticsearchWorkExecutionContext context, JsonObj
 	public static class Builder
 			extends AbstractSimpleBulkableElasticsearchWork.AbstractBuilder<Builder>
 			implements IndexWorkBuilder {
-		private final URLEncodedString indexName;
-		private final URLEncodedString typeName;
+		private final DocumentWorkTarget target;
 		private final URLEncodedString id;
 		private final String routingKey;
-		private final JsonObject document;
+		private final SerializedJsonObject document;
 
-		public Builder(URLEncodedString indexName, URLEncodedString typeName, URLEncodedString id, String routingKey, JsonObject document) {
-			super( indexName, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
-			this.indexName = indexName;
-			this.typeName = typeName;
+		public Builder(GsonProvider gsonProvider,
+				DocumentWorkTarget target, URLEncodedString id, String routingKey,
+				JsonObject document) {
+			super( target.getIndexName(), DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.target = target;
 			this.id = id;
 			this.routingKey = routingKey;
-			this.document = document;
+			/*
+			 * Serialize the document right away, so that the JSON tree can be garbage-collected
+			 * while the work waits to be sent, and so that it is not serialized again when sent.
+			 */
+			this.document = SerializedJsonObject.of( gsonProvider.getGson(), document );
 		}
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.put()
-					.pathComponent( indexName )
-					.pathComponent( typeName )
-					.pathComponent( id )
+					.encodedPath( target.getDocumentPath( id ) )
 					.body( document );
 
 			if ( routingKey != null ) {
@@ -67,16 +71,18 @@ protected ElasticsearchRequest buildRequest() {
 		}
 
 		@Override
-		protected JsonObject buildBulkableActionMetadata() {
-			JsonObject index = new JsonObject();
-			index.addProperty( "_index", indexName.original );
-			index.addProperty( "_type", typeName.original );
-			index.addProperty( "_id", id.original );
+		protected SerializedJsonObject buildBulkableActionMetadata() {
+			return target.createIndexMetadata( id, routingKey );
+		}
 
-			JsonObject result = new JsonObject();
-			result.add( "index", index );
+		@Override
+		protected SerializedJsonObject buildBulkableActionBody() {
+			return document;
+		}
 
-			return result;
+		@Override
+		protected ElasticsearchDocumentKey buildDocumentKey() {
+			return new ElasticsearchDocumentKey( target.getIndexName(), target.getTypeName(), id, routingKey );
 		}
 
 		@Override
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.util.impl.common.DefaultLogCategories;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Executes multiple searches in a single request, using the multi-search API.
+ * <p>
+ * The response of each search is streamed through the result extractor of that search.
+ * The failure of any search fails the whole work.
+ */
+public class MultiSearchWork extends AbstractSimpleElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Log QUERY_LOG = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final String RESPONSES_PROPERTY_NAME = "responses";
+
+	private final List<ElasticsearchSearchResultExtractor<?>> resultExtractors;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+		this.resultExtractors = builder.resultExtractors;
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		if ( QUERY_LOG.isDebugEnabled() ) {
+			// Only parse the serialized payloads again when they are actually logged
+			QUERY_LOG.executingElasticsearchQuery(
+					request.getPath(),
+					request.getParameters(),
+					executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+					);
+		}
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected List<ElasticsearchLoadableSearchResult<?>> generateResult(ElasticsearchWorkExecutionContext context,
+			ElasticsearchResponse response) {
+		try ( JsonReader reader = response.openBodyReader() ) {
+			if ( reader == null ) {
+				throw new IOException( "Missing response body" );
+			}
+			return extractResults( reader );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
+	}
+
+	private List<ElasticsearchLoadableSearchResult<?>> extractResults(JsonReader reader) throws IOException {
+		List<ElasticsearchLoadableSearchResult<?>> results = new ArrayList<>( resultExtractors.size() );
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( RESPONSES_PROPERTY_NAME.equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					if ( results.size() >= resultExtractors.size() ) {
+						throw new IOException( "Expected " + resultExtractors.size() + " responses, got more" );
+					}
+					results.add( resultExtractors.get( results.size() ).extract( reader ) );
+				}
+				reader.endArray();
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		if ( results.size() != resultExtractors.size() ) {
+			throw new IOException( "Expected " + resultExtractors.size() + " responses, got " + results.size() );
+		}
+		return results;
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements MultiSearchWorkBuilder {
+		private final List<SearchWork.Builder<?>> searches = new ArrayList<>();
+		private final List<ElasticsearchSearchResultExtractor<?>> resultExtractors = new ArrayList<>();
+
+		public Builder() {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+		}
+
+		@Override
+		public Builder add(SearchWorkBuilder<?> search) {
+			SearchWork.Builder<?> searchBuilder = (SearchWork.Builder<?>) search;
+			searches.add( searchBuilder );
+			resultExtractors.add( searchBuilder.getResultExtractor() );
+			return this;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			/*
+			 * Only abort the request on the client side if all searches require it,
+			 * and only after the longest timeout:
+			 * the other searches are still bounded by the timeouts passed to Elasticsearch.
+			 */
+			boolean clientSideTimeout = true;
+			long clientSideTimeoutMillis = 0L;
+
+			for ( SearchWork.Builder<?> search : searches ) {
+				builder.body( search.buildMultiSearchHeader() );
+				builder.body( search.buildMultiSearchBody() );
+
+				Long searchTimeoutMillis = search.getClientSideTimeoutMillis();
+				if ( searchTimeoutMillis == null ) {
+					clientSideTimeout = false;
+				}
+				else {
+					clientSideTimeoutMillis = Math.max( clientSideTimeoutMillis, searchTimeoutMillis );
+				}
+			}
+
+			if ( clientSideTimeout && !searches.isEmpty() ) {
+				builder.timeout( clientSideTimeoutMillis, TimeUnit.MILLISECONDS );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+}
@@ -6,19 +6,27 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ScrollWorkBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 /**
  * @author Yoann Rodiere
  */
 public class ScrollWork<T> extends AbstractSimpleElasticsearchWork<ElasticsearchLoadableSearchResult<T>> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchSearchResultExtractor<T> resultExtractor;
 
 	protected ScrollWork(Builder<T> builder) {
@@ -28,8 +36,15 @@ protected ScrollWork(Builder<T> builder) {
 
 	@Override
 	protected ElasticsearchLoadableSearchResult<T> generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		try ( JsonReader reader = response.openBodyReader() ) {
+			if ( reader == null ) {
+				throw new IOException( "Missing response body" );
+			}
+			return resultExtractor.extract( reader );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
 	}
 
 	public static class Builder<T>
@@ -6,28 +6,37 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.impl.common.DefaultLogCategories;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 /**
  * @author Yoann Rodiere
  */
 public class SearchWork<T> extends AbstractSimpleElasticsearchWork<ElasticsearchLoadableSearchResult<T>> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final Log QUERY_LOG = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<T> resultExtractor;
@@ -39,24 +48,34 @@ protected SearchWork(Builder<T> builder) {
 
 	@Override
 	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
-		QUERY_LOG.executingElasticsearchQuery(
-				request.getPath(),
-				request.getParameters(),
-				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
-				);
+		if ( QUERY_LOG.isDebugEnabled() ) {
+			// Only parse the serialized payload again when it is actually logged
+			QUERY_LOG.executingElasticsearchQuery(
+					request.getPath(),
+					request.getParameters(),
+					executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+					);
+		}
 		return super.beforeExecute( executionContext, request );
 	}
 
 	@Override
 	protected ElasticsearchLoadableSearchResult<T> generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		try ( JsonReader reader = response.openBodyReader() ) {
+			if ( reader == null ) {
+				throw new IOException( "Missing response body" );
+			}
+			return resultExtractor.extract( reader );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
 	}
 
 	public static class Builder<T>
 			extends AbstractBuilder<Builder<T>>
 			implements SearchWorkBuilder<T> {
-		private final JsonObject payload;
+		private final SerializedJsonObject payload;
 		private final ElasticsearchSearchResultExtractor<T> resultExtractor;
 		private final Set<URLEncodedString> indexes = new HashSet<>();
 
@@ -65,8 +84,11 @@ protected ElasticsearchLoadableSearchResult<T> generateResult(ElasticsearchWorkE
 		private Long scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
+		private Long timeoutValue;
+		private TimeUnit timeoutUnit;
+		private boolean exceptionOnTimeout;
 
-		public Builder(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
+		public Builder(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = payload;
 			this.resultExtractor = resultExtractor;
@@ -98,6 +120,14 @@ public SearchWorkBuilder<T> routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<T> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			this.timeoutValue = timeoutValue;
+			this.timeoutUnit = timeoutUnit;
+			this.exceptionOnTimeout = exceptionOnTimeout;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -123,9 +153,69 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				// Elasticsearch stops collecting hits on each shard and flags the response as timed out
+				builder.param( "timeout", timeoutUnit.toMillis( timeoutValue ) + "ms" );
+				if ( exceptionOnTimeout ) {
+					builder.timeout( timeoutValue, timeoutUnit );
+				}
+			}
+
 			return builder.build();
 		}
 
+		ElasticsearchSearchResultExtractor<T> getResultExtractor() {
+			return resultExtractor;
+		}
+
+		/**
+		 * @return The header line describing this search in a multi-search request.
+		 */
+		JsonObject buildMultiSearchHeader() {
+			if ( scrollSize != null ) {
+				throw new AssertionFailure( "Scrolls cannot be executed as part of a multi-search request" );
+			}
+			JsonObject header = new JsonObject();
+			JsonArray indexArray = new JsonArray();
+			for ( URLEncodedString index : indexes ) {
+				indexArray.add( index.original );
+			}
+			header.add( "index", indexArray );
+			if ( !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			return header;
+		}
+
+		/**
+		 * @return The body line of this search in a multi-search request:
+		 * the payload, with the parameters that would otherwise be passed in the URL.
+		 */
+		SerializedJsonObject buildMultiSearchBody() {
+			JsonObject body = new JsonObject();
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				body.addProperty( "timeout", timeoutUnit.toMillis( timeoutValue ) + "ms" );
+			}
+			return payload.withProperties( body );
+		}
+
+		/**
+		 * @return The timeout after which the request should be aborted on the client side, in milliseconds,
+		 * or {@code null} if the request should never be aborted.
+		 */
+		Long getClientSideTimeoutMillis() {
+			if ( timeoutValue != null && timeoutUnit != null && exceptionOnTimeout ) {
+				return timeoutUnit.toMillis( timeoutValue );
+			}
+			return null;
+		}
+
 		@Override
 		public SearchWork<T> build() {
 			return new SearchWork<>( this );
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.result.impl;
 
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 
 /**
@@ -15,4 +16,23 @@ public interface BulkResult {
 
 	BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context);
 
+	/**
+	 * @return A bulk work executing again the bulked works whose items were rejected by Elasticsearch
+	 * because of back-pressure (HTTP 429), or {@code null} if no item was rejected.
+	 */
+	ElasticsearchWork<BulkResult> createRetryWork();
+
+	/**
+	 * @param retryResult The result of executing the work returned by {@link #createRetryWork()}.
+	 * @return A result where rejected items were replaced with the corresponding items from {@code retryResult}.
+	 */
+	BulkResult withRetryResult(BulkResult retryResult);
+
+	/**
+	 * @param failure The failure of the work returned by {@link #createRetryWork()}.
+	 * @return A result where rejected items are reported as failed with {@code failure},
+	 * and other items are left untouched.
+	 */
+	BulkResult withRetryFailure(Throwable failure);
+
 }
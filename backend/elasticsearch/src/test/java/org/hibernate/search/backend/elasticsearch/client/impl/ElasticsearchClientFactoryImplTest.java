@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchHttpClientConfigurer;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanProvider;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+
+public class ElasticsearchClientFactoryImplTest {
+
+	private static final String CONFIGURER_HEADER = "X-Test-Configurer";
+
+	private final List<ReceivedRequest> receivedRequests = new CopyOnWriteArrayList<>();
+
+	private HttpServer server;
+
+	@Before
+	public void startServer() throws IOException {
+		server = ServerBootstrap.bootstrap()
+				.setLocalAddress( InetAddress.getLoopbackAddress() )
+				.registerHandler( "*", (request, response, context) -> handle( request, response ) )
+				.create();
+		server.start();
+	}
+
+	@After
+	public void stopServer() {
+		server.shutdown( 0, TimeUnit.SECONDS );
+	}
+
+	@Test
+	public void clientConfigurer() throws IOException {
+		StubConfigurer configurer = new StubConfigurer();
+		StubBeanHolder<StubConfigurer> configurerHolder = new StubBeanHolder<>( configurer );
+		Map<String, Object> properties = baseProperties();
+		properties.put( ElasticsearchBackendSpiSettings.CLIENT_CONFIGURER,
+				(BeanReference<StubConfigurer>) beanProvider -> configurerHolder );
+
+		try ( ElasticsearchClientImplementor client = createClient( properties ) ) {
+			assertThat( configurer.invocationCount ).isEqualTo( 1 );
+
+			client.submit( request() ).join();
+
+			assertThat( receivedRequests ).hasSize( 1 );
+			assertThat( receivedRequests.get( 0 ).configurerHeader ).isEqualTo( "configured" );
+			// The configurer may still be in use by the client
+			assertThat( configurerHolder.closed ).isFalse();
+		}
+
+		assertThat( configurerHolder.closed ).isTrue();
+	}
+
+	@Test
+	public void gzipRequests() throws IOException {
+		Map<String, Object> properties = baseProperties();
+		properties.put( ElasticsearchBackendSettings.GZIP_REQUESTS, true );
+
+		try ( ElasticsearchClientImplementor client = createClient( properties ) ) {
+			client.submit( request() ).join();
+		}
+
+		assertThat( receivedRequests ).hasSize( 1 );
+		ReceivedRequest received = receivedRequests.get( 0 );
+		assertThat( received.contentEncoding ).isEqualTo( "gzip" );
+		assertThat( received.body ).isEqualTo( "{\"query\":\"value\"}\n" );
+	}
+
+	@Test
+	public void gzipRequests_disabledByDefault() throws IOException {
+		try ( ElasticsearchClientImplementor client = createClient( baseProperties() ) ) {
+			client.submit( request() ).join();
+		}
+
+		assertThat( receivedRequests ).hasSize( 1 );
+		ReceivedRequest received = receivedRequests.get( 0 );
+		assertThat( received.contentEncoding ).isNull();
+		assertThat( received.body ).isEqualTo( "{\"query\":\"value\"}\n" );
+	}
+
+	private Map<String, Object> baseProperties() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( ElasticsearchBackendSettings.HOST,
+				"http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getLocalPort() );
+		return properties;
+	}
+
+	private static ElasticsearchClientImplementor createClient(Map<String, Object> properties) {
+		return new ElasticsearchClientFactoryImpl().create(
+				ConfigurationPropertySource.fromMap( properties ),
+				new UnsupportedBeanProvider(),
+				DefaultGsonProvider.create( GsonBuilder::new, false )
+		);
+	}
+
+	private static ElasticsearchRequest request() {
+		JsonObject body = new JsonObject();
+		body.addProperty( "query", "value" );
+		return ElasticsearchRequest.post()
+				.pathComponent( URLEncodedString.fromString( "index" ) )
+				.pathComponent( URLEncodedString.fromString( "_search" ) )
+				.body( body )
+				.build();
+	}
+
+	private void handle(HttpRequest request, HttpResponse response) throws IOException {
+		String contentEncoding = getHeaderValue( request, "Content-Encoding" );
+		InputStream bodyStream = ( (HttpEntityEnclosingRequest) request ).getEntity().getContent();
+		if ( "gzip".equals( contentEncoding ) ) {
+			bodyStream = new GZIPInputStream( bodyStream );
+		}
+		receivedRequests.add( new ReceivedRequest(
+				contentEncoding,
+				getHeaderValue( request, CONFIGURER_HEADER ),
+				readFully( bodyStream )
+		) );
+
+		response.setStatusCode( 200 );
+		response.setEntity( new StringEntity( "{}", ContentType.APPLICATION_JSON ) );
+	}
+
+	private static String getHeaderValue(HttpRequest request, String name) {
+		Header header = request.getFirstHeader( name );
+		return header == null ? null : header.getValue();
+	}
+
+	private static String readFully(InputStream stream) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[256];
+		int read;
+		while ( ( read = stream.read( buffer ) ) >= 0 ) {
+			bytes.write( buffer, 0, read );
+		}
+		return new String( bytes.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	private static class ReceivedRequest {
+		private final String contentEncoding;
+		private final String configurerHeader;
+		private final String body;
+
+		ReceivedRequest(String contentEncoding, String configurerHeader, String body) {
+			this.contentEncoding = contentEncoding;
+			this.configurerHeader = configurerHeader;
+			this.body = body;
+		}
+	}
+
+	private static class StubConfigurer implements ElasticsearchHttpClientConfigurer {
+		private int invocationCount = 0;
+
+		@Override
+		public void configure(HttpAsyncClientBuilder builder,
+				ConfigurationPropertySource propertySource) {
+			++invocationCount;
+			builder.addInterceptorLast( (HttpRequestInterceptor) (request, context) ->
+					request.addHeader( CONFIGURER_HEADER, "configured" ) );
+		}
+	}
+
+	private static class StubBeanHolder<T> implements BeanHolder<T> {
+		private final T instance;
+		private volatile boolean closed = false;
+
+		StubBeanHolder(T instance) {
+			this.instance = instance;
+		}
+
+		@Override
+		public T get() {
+			return instance;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	private static class UnsupportedBeanProvider implements BeanProvider {
+		@Override
+		public <T> BeanHolder<T> getBean(Class<T> typeReference) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public <T> BeanHolder<T> getBean(Class<T> typeReference, String nameReference) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
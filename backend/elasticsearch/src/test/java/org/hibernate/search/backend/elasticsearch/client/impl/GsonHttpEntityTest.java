@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityTest {
+
+	private static final Gson GSON = new Gson();
+
+	@Test
+	public void writeTo_serializedParts() throws IOException {
+		List<JsonObject> trees = createBodyParts();
+		GsonHttpEntity entity = new GsonHttpEntity( GSON, serialize( trees ) );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo( out );
+
+		assertThat( out.toString( "UTF-8" ) ).isEqualTo( toNdJson( trees ) );
+		assertThat( entity.getContentLength() ).isEqualTo( out.size() );
+	}
+
+	@Test
+	public void produceContent_serializedParts_flowControl() throws IOException {
+		List<JsonObject> trees = createBodyParts();
+		GsonHttpEntity entity = new GsonHttpEntity( GSON, serialize( trees ) );
+
+		// Accept few bytes at a time, so that flow control pushes back repeatedly
+		ThrottledContentEncoder encoder = new ThrottledContentEncoder( 100 );
+		while ( !encoder.isCompleted() ) {
+			entity.produceContent( encoder, null );
+		}
+
+		assertThat( encoder.getContent() ).isEqualTo( toNdJson( trees ) );
+	}
+
+	@Test
+	public void gzip_serializedParts() throws IOException {
+		List<JsonObject> trees = createBodyParts();
+		GsonHttpEntity entity = new GsonHttpEntity( GSON, serialize( trees ), true );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo( out );
+
+		ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+		try ( GZIPInputStream in = new GZIPInputStream( new ByteArrayInputStream( out.toByteArray() ) ) ) {
+			byte[] buffer = new byte[256];
+			int read;
+			while ( ( read = in.read( buffer ) ) >= 0 ) {
+				decompressed.write( buffer, 0, read );
+			}
+		}
+		assertThat( decompressed.toString( "UTF-8" ) ).isEqualTo( toNdJson( trees ) );
+	}
+
+	/*
+	 * Mix small parts and parts larger than a buffer page,
+	 * some of them containing multi-byte characters.
+	 */
+	private static List<JsonObject> createBodyParts() {
+		List<JsonObject> result = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			JsonObject object = new JsonObject();
+			object.addProperty( "id", i );
+			object.addProperty( "text", i % 2 == 0 ? "small" : "été ☃ " + i );
+			if ( i % 3 == 0 ) {
+				JsonArray array = new JsonArray();
+				for ( int j = 0; j < 200; j++ ) {
+					array.add( "value €" + j );
+				}
+				object.add( "large", array );
+			}
+			result.add( object );
+		}
+		return result;
+	}
+
+	/*
+	 * Serialize some parts only, to check that both kinds of parts are written in order.
+	 */
+	private static List<Object> serialize(List<JsonObject> trees) {
+		List<Object> result = new ArrayList<>();
+		for ( int i = 0; i < trees.size(); i++ ) {
+			JsonObject tree = trees.get( i );
+			result.add( i % 4 == 1 ? tree : SerializedJsonObject.of( GSON, tree ) );
+		}
+		return result;
+	}
+
+	private static String toNdJson(List<JsonObject> trees) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject tree : trees ) {
+			builder.append( GSON.toJson( tree ) ).append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	private static class ThrottledContentEncoder implements ContentEncoder {
+
+		private final int maxBytesPerWrite;
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private boolean completed = false;
+
+		ThrottledContentEncoder(int maxBytesPerWrite) {
+			this.maxBytesPerWrite = maxBytesPerWrite;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			byte[] bytes = new byte[Math.min( src.remaining(), maxBytesPerWrite )];
+			src.get( bytes );
+			content.write( bytes, 0, bytes.length );
+			return bytes.length;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+
+		String getContent() {
+			return new String( content.toByteArray(), StandardCharsets.UTF_8 );
+		}
+	}
+
+}
@@ -9,6 +9,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -122,6 +123,24 @@ public void es70() throws Exception {
 		assertThat( dialect ).isInstanceOf( Elasticsearch6Dialect.class );
 	}
 
+	@Test
+	public void staticVersion() throws Exception {
+		// The client must not be used at all
+		replay( clientMock );
+		logged.expectMessage( "HSEARCH400085" ).never();
+		ElasticsearchDialect dialect = dialectFactory.createFromVersion( "6.6.0" );
+		assertThat( dialect ).isInstanceOf( Elasticsearch6Dialect.class );
+		verify( clientMock );
+	}
+
+	@Test
+	public void staticVersion_unsupported() throws Exception {
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "HSEARCH400081" );
+		thrown.expectMessage( "'2.4.4'" );
+		dialectFactory.createFromVersion( "2.4.4" );
+	}
+
 	private void testSuccess(String versionString, Class<?> expectedDialectClass) throws Exception {
 		doMock( versionString );
 		logged.expectMessage( "HSEARCH400085" ).never();
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ElasticsearchBackPressureThrottleTest {
+
+	private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor( 1 );
+
+	private final ElasticsearchBackPressureThrottle throttle = new ElasticsearchBackPressureThrottle( scheduler );
+
+	@After
+	public void shutdownScheduler() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void noBackPressure() {
+		assertThat( throttle.deferUntilClearance( () -> { } ) ).isFalse();
+		assertThat( scheduler.getQueue() ).isEmpty();
+	}
+
+	@Test
+	public void backPressure_defersOnScheduler() throws InterruptedException {
+		CountDownLatch executed = new CountDownLatch( 1 );
+
+		throttle.signalBackPressure( 100L );
+
+		assertThat( throttle.deferUntilClearance( executed::countDown ) ).isTrue();
+		// The calling thread is not blocked: the action is executed later by the scheduler
+		assertThat( executed.getCount() ).isEqualTo( 1L );
+		assertThat( scheduler.getQueue() ).hasSize( 1 );
+
+		assertThat( executed.await( 5, TimeUnit.SECONDS ) ).isTrue();
+
+		// The delay expired
+		assertThat( throttle.deferUntilClearance( () -> { } ) ).isFalse();
+	}
+
+	@Test
+	public void backPressure_schedulerShutDown() {
+		throttle.signalBackPressure( 60_000L );
+		scheduler.shutdownNow();
+
+		assertThat( throttle.deferUntilClearance( () -> { } ) ).isFalse();
+	}
+
+}
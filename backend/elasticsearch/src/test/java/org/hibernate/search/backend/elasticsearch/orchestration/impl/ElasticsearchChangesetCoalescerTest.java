@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.AbstractElasticsearchBarrierWorkOrchestrator.Changeset;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.AbstractElasticsearchBarrierWorkOrchestrator.MultipleWorkChangeset;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchDocumentKey;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchChangesetCoalescerTest extends EasyMockSupport {
+
+	private ElasticsearchAccumulatingWorkOrchestrator delegateMock;
+
+	private final ElasticsearchChangesetCoalescer coalescer = new ElasticsearchChangesetCoalescer();
+
+	@Before
+	public void initMocks() {
+		delegateMock = createStrictMock( ElasticsearchAccumulatingWorkOrchestrator.class );
+	}
+
+	@Test
+	public void sameDocument() {
+		BulkableElasticsearchWork<?> work1 = documentWork( 1, "doc1" );
+		BulkableElasticsearchWork<?> work2 = documentWork( 2, "doc1" );
+		CompletableFuture<Object> changeset1Future = new CompletableFuture<>();
+		CompletableFuture<Object> changeset2Future = new CompletableFuture<>();
+		List<Changeset> changesets = changesets(
+				new MultipleWorkChangeset( Arrays.asList( work1 ), changeset1Future ),
+				new MultipleWorkChangeset( Arrays.asList( work2 ), changeset2Future )
+		);
+		replayAll();
+		coalescer.coalesce( changesets );
+		verifyAll();
+		assertThat( changesets.get( 0 ).getWorks() ).isEmpty();
+		assertThat( changesets.get( 1 ).getWorks() ).containsExactly( work2 );
+
+		CompletableFuture<Void> delegateFuture = new CompletableFuture<>();
+		resetAll();
+		EasyMock.<Object>expect( delegateMock.submit( Collections.singletonList( work2 ) ) ).andReturn( delegateFuture );
+		replayAll();
+		for ( Changeset changeset : changesets ) {
+			changeset.submitTo( delegateMock );
+		}
+		verifyAll();
+		// The superseded changeset completes when the superseding changeset completes
+		FutureAssert.assertThat( changeset1Future ).isPending();
+		FutureAssert.assertThat( changeset2Future ).isPending();
+
+		delegateFuture.complete( null );
+		FutureAssert.assertThat( changeset1Future ).isSuccessful();
+		FutureAssert.assertThat( changeset2Future ).isSuccessful();
+	}
+
+	@Test
+	public void partiallySuperseded() {
+		BulkableElasticsearchWork<?> work1 = documentWork( 1, "doc1" );
+		BulkableElasticsearchWork<?> work2 = documentWork( 2, "doc2" );
+		BulkableElasticsearchWork<?> work3 = documentWork( 3, "doc1" );
+		BulkableElasticsearchWork<?> work4 = documentWork( 4, "doc1" );
+		List<Changeset> changesets = changesets(
+				new MultipleWorkChangeset( Arrays.asList( work1, work2 ), new CompletableFuture<>() ),
+				new MultipleWorkChangeset( Arrays.asList( work3, work4 ), new CompletableFuture<>() )
+		);
+		replayAll();
+		coalescer.coalesce( changesets );
+		verifyAll();
+		assertThat( changesets.get( 0 ).getWorks() ).containsExactly( work2 );
+		assertThat( changesets.get( 1 ).getWorks() ).containsExactly( work4 );
+	}
+
+	@Test
+	public void supersedingFailure() {
+		BulkableElasticsearchWork<?> work1 = documentWork( 1, "doc1" );
+		BulkableElasticsearchWork<?> work2 = documentWork( 2, "doc1" );
+		CompletableFuture<Object> changeset1Future = new CompletableFuture<>();
+		CompletableFuture<Object> changeset2Future = new CompletableFuture<>();
+		List<Changeset> changesets = changesets(
+				new MultipleWorkChangeset( Arrays.asList( work1 ), changeset1Future ),
+				new MultipleWorkChangeset( Arrays.asList( work2 ), changeset2Future )
+		);
+		replayAll();
+		coalescer.coalesce( changesets );
+		verifyAll();
+
+		CompletableFuture<Void> delegateFuture = new CompletableFuture<>();
+		resetAll();
+		EasyMock.<Object>expect( delegateMock.submit( Collections.singletonList( work2 ) ) ).andReturn( delegateFuture );
+		replayAll();
+		for ( Changeset changeset : changesets ) {
+			changeset.submitTo( delegateMock );
+		}
+		verifyAll();
+
+		delegateFuture.completeExceptionally( new RuntimeException( "Some failure" ) );
+		FutureAssert.assertThat( changeset1Future ).isFailed();
+		FutureAssert.assertThat( changeset2Future ).isFailed();
+	}
+
+	@Test
+	public void barrier() {
+		BulkableElasticsearchWork<?> work1 = documentWork( 1, "doc1" );
+		ElasticsearchWork<?> work2 = createMock( "work2", ElasticsearchWork.class );
+		BulkableElasticsearchWork<?> work3 = documentWork( 3, "doc1" );
+		List<Changeset> changesets = changesets(
+				new MultipleWorkChangeset( Arrays.asList( work1 ), new CompletableFuture<>() ),
+				new MultipleWorkChangeset( Arrays.asList( work2 ), new CompletableFuture<>() ),
+				new MultipleWorkChangeset( Arrays.asList( work3 ), new CompletableFuture<>() )
+		);
+		List<Changeset> originalChangesets = new ArrayList<>( changesets );
+		replayAll();
+		coalescer.coalesce( changesets );
+		verifyAll();
+		assertThat( changesets ).isEqualTo( originalChangesets );
+	}
+
+	private static List<Changeset> changesets(Changeset ... changesets) {
+		return new ArrayList<>( Arrays.asList( changesets ) );
+	}
+
+	private BulkableElasticsearchWork<?> documentWork(int index, String id) {
+		BulkableElasticsearchWork<?> work = createMock( "work" + index, BulkableElasticsearchWork.class );
+		expect( work.getDocumentKey() ).andReturn( new ElasticsearchDocumentKey(
+				URLEncodedString.fromString( "index" ), URLEncodedString.fromString( "type" ),
+				URLEncodedString.fromString( id ), null
+		) ).anyTimes();
+		return work;
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.RefreshWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+import org.hibernate.search.util.SearchException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchWorkRetrierTest extends EasyMockSupport {
+
+	private static final Gson GSON = new Gson();
+
+	private final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+	private final ElasticsearchWorkRetrier retrier = new ElasticsearchWorkRetrier(
+			new ElasticsearchRetryPolicy( 3, 1L, 1L ), scheduler, new ElasticsearchBackPressureThrottle( scheduler )
+	);
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private ElasticsearchClient clientMock;
+
+	@Before
+	public void initMocks() {
+		contextMock = createMock( ElasticsearchWorkExecutionContext.class );
+		clientMock = createMock( ElasticsearchClient.class );
+	}
+
+	@After
+	public void shutdownScheduler() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void work_cancel_abortsRequest() {
+		CompletableFuture<ElasticsearchResponse> clientFuture = new CompletableFuture<>();
+
+		resetAll();
+		expect( contextMock.getClient() ).andReturn( new ElasticsearchRetryingClient( clientMock, retrier ) );
+		expect( clientMock.submit( anyObject() ) ).andReturn( clientFuture );
+		replayAll();
+		CompletableFuture<?> workFuture = new RefreshWork.Builder()
+				.index( URLEncodedString.fromString( "index" ) )
+				.build()
+				.execute( contextMock );
+		verifyAll();
+
+		workFuture.cancel( false );
+
+		assertThat( clientFuture ).isCancelled();
+	}
+
+	@Test
+	public void submit_cancelWhileWaitingForRetry_cancelsRetry() {
+		ElasticsearchWorkRetrier slowRetrier = new ElasticsearchWorkRetrier(
+				new ElasticsearchRetryPolicy( 3, 60_000L, 60_000L ), scheduler, new ElasticsearchBackPressureThrottle( scheduler )
+		);
+
+		resetAll();
+		expect( clientMock.submit( anyObject() ) ).andReturn( CompletableFuture.completedFuture( rejectedResponse() ) );
+		replayAll();
+		CompletableFuture<ElasticsearchResponse> future = slowRetrier.submit( clientMock, request() );
+		verifyAll();
+		assertThat( scheduler.getQueue() ).hasSize( 1 );
+
+		future.cancel( false );
+
+		// The retry will never be executed
+		assertThat( scheduler.getQueue() ).isEmpty();
+	}
+
+	@Test
+	public void submit_cancelDuringRetry_abortsRetriedRequest() throws InterruptedException {
+		CompletableFuture<ElasticsearchResponse> retryClientFuture = new CompletableFuture<>();
+		CountDownLatch retrySubmitted = new CountDownLatch( 1 );
+
+		resetAll();
+		expect( clientMock.submit( anyObject() ) )
+				.andReturn( CompletableFuture.completedFuture( rejectedResponse() ) )
+				.andAnswer( () -> {
+					retrySubmitted.countDown();
+					return retryClientFuture;
+				} );
+		replayAll();
+		CompletableFuture<ElasticsearchResponse> future = retrier.submit( clientMock, request() );
+		assertThat( retrySubmitted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		verifyAll();
+
+		CountDownLatch retryRequestCompleted = new CountDownLatch( 1 );
+		retryClientFuture.whenComplete( (ignored, throwable) -> retryRequestCompleted.countDown() );
+
+		future.cancel( false );
+
+		/*
+		 * The retry may still be being set up in the scheduler thread,
+		 * in which case cancellation reaches the retried request when the setup ends.
+		 */
+		assertThat( retryRequestCompleted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( retryClientFuture ).isCancelled();
+	}
+
+	@Test
+	public void bulk_retryFailure_onlyRetriedItemsFail() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2 );
+		replayAll();
+		BulkWork bulkWork = new BulkWork.Builder( Arrays.asList( work1, work2 ) ).build();
+		verifyAll();
+
+		IOException retryFailure = new IOException( "Simulated retry failure" );
+		CompletableFuture<ElasticsearchResponse> failedRetryFuture = new CompletableFuture<>();
+		failedRetryFuture.completeExceptionally( retryFailure );
+
+		resetAll();
+		expectBulkableActions( work2 );
+		expect( contextMock.getClient() ).andReturn( clientMock ).times( 2 );
+		expect( clientMock.submit( anyObject() ) )
+				.andReturn( CompletableFuture.completedFuture( response(
+						"{\"items\":[" + item( 201 ) + "," + item( 429 ) + "]}"
+				) ) )
+				.andReturn( failedRetryFuture );
+		replayAll();
+		BulkResult result = retrier.executeBulk( bulkWork, contextMock ).join();
+		verifyAll();
+
+		resetAll();
+		expect( work1.handleBulkResult( contextMock, GSON.fromJson( item( 201 ), JsonObject.class ) ) )
+				.andReturn( CompletableFuture.completedFuture( null ) );
+		replayAll();
+		BulkResultItemExtractor extractor = result.withContext( contextMock );
+		CompletableFuture<Void> item1Future = extractor.extract( work1, 0 );
+		CompletableFuture<Void> item2Future = extractor.extract( work2, 1 );
+		verifyAll();
+
+		// The item indexed successfully before the retry is still reported as successful
+		assertThat( item1Future ).isCompleted();
+		assertThat( item1Future.isCompletedExceptionally() ).isFalse();
+		// The retried item is reported as failed
+		assertThat( item2Future ).isCompletedExceptionally();
+		try {
+			item2Future.join();
+		}
+		catch (CompletionException e) {
+			assertThat( e.getCause() ).isInstanceOf( SearchException.class );
+			assertThat( e.getCause().getCause() ).isSameAs( retryFailure );
+		}
+	}
+
+	private static ScheduledThreadPoolExecutor createScheduler() {
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor( 1 );
+		scheduler.setRemoveOnCancelPolicy( true );
+		return scheduler;
+	}
+
+	private static ElasticsearchRequest request() {
+		return ElasticsearchRequest.get().pathComponent( URLEncodedString.fromString( "index" ) ).build();
+	}
+
+	private static ElasticsearchResponse rejectedResponse() {
+		return new ElasticsearchResponse( 429, "Too Many Requests", GSON, null, StandardCharsets.UTF_8 );
+	}
+
+	private static String item(int status) {
+		return "{\"index\":{\"status\":" + status + "}}";
+	}
+
+	private static ElasticsearchResponse response(String body) {
+		return new ElasticsearchResponse( 200, "OK", GSON, body.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+	}
+
+	@SuppressWarnings("unchecked")
+	private BulkableElasticsearchWork<Void> bulkableWork(int index) {
+		BulkableElasticsearchWork<Void> mock = createStrictMock( "bulkableWork" + index, BulkableElasticsearchWork.class );
+		expectBulkableActions( mock );
+		return mock;
+	}
+
+	private static void expectBulkableActions(BulkableElasticsearchWork<Void> mock) {
+		JsonObject metadata = new JsonObject();
+		metadata.add( "index", new JsonObject() );
+		expect( mock.getBulkableActionMetadata() ).andReturn( SerializedJsonObject.of( GSON, metadata ) ).anyTimes();
+		expect( mock.getBulkableActionBody() ).andReturn( null ).anyTimes();
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchParameterPlaceholder;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+public class ElasticsearchSearchPayloadTemplateTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void bind() {
+		ElasticsearchSearchParameterPlaceholder title = placeholder( "title", 0 );
+		ElasticsearchSearchParameterPlaceholder author = placeholder( "author", 1 );
+		JsonObject payload = new JsonObject();
+		JsonArray must = new JsonArray();
+		must.add( match( "title", title.getMarker() ) );
+		must.add( match( "author", author.getMarker() ) );
+		payload.add( "must", must );
+		payload.addProperty( "size", 10 );
+
+		ElasticsearchSearchPayloadTemplate template =
+				ElasticsearchSearchPayloadTemplate.create( gson, payload, Arrays.asList( title, author ) );
+
+		Map<String, Object> parameterValues = new HashMap<>();
+		parameterValues.put( "title", "Some \"title\"" );
+		parameterValues.put( "author", "Someone" );
+		assertThat( template.bind( parameterValues ).toString() )
+				.isEqualTo( "{\"must\":[{\"match\":{\"title\":\"Some \\\"title\\\"\"}},"
+						+ "{\"match\":{\"author\":\"Someone\"}}],\"size\":10}" );
+	}
+
+	@Test
+	public void literalEqualToMarker() {
+		ElasticsearchSearchParameterPlaceholder title = placeholder( "title", 0 );
+		JsonObject payload = new JsonObject();
+		JsonArray must = new JsonArray();
+		// A literal equal to the marker, serialized before the marker itself
+		must.add( match( "author", new JsonPrimitive( title.getMarker().getAsString() ) ) );
+		must.add( match( "title", title.getMarker() ) );
+		payload.add( "must", must );
+
+		ElasticsearchSearchPayloadTemplate template =
+				ElasticsearchSearchPayloadTemplate.create( gson, payload, Arrays.asList( title ) );
+
+		Map<String, Object> parameterValues = new HashMap<>();
+		parameterValues.put( "title", "Some title" );
+		assertThat( template.bind( parameterValues ).toString() )
+				.isEqualTo( "{\"must\":[{\"match\":{\"author\":" + gson.toJson( title.getMarker() ) + "}},"
+						+ "{\"match\":{\"title\":\"Some title\"}}]}" );
+	}
+
+	private static ElasticsearchSearchParameterPlaceholder placeholder(String parameterName, int index) {
+		return new ElasticsearchSearchParameterPlaceholder( parameterName, index, value -> new JsonPrimitive( (String) value ) );
+	}
+
+	private static JsonObject match(String fieldName, JsonPrimitive value) {
+		JsonObject inner = new JsonObject();
+		inner.add( fieldName, value );
+		JsonObject outer = new JsonObject();
+		outer.add( "match", inner );
+		return outer;
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchRetryPolicy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.Elasticsearch6WorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchSearchQueryTest extends EasyMockSupport {
+
+	private static final Gson GSON = new Gson();
+
+	private ElasticsearchClient clientMock;
+	private ElasticsearchWorkBuilderFactory workFactory;
+	private ElasticsearchWorkOrchestratorProvider orchestratorProvider;
+
+	@Before
+	public void init() {
+		clientMock = createMock( ElasticsearchClient.class );
+		GsonProvider gsonProvider = DefaultGsonProvider.create( GsonBuilder::new, false );
+		workFactory = new Elasticsearch6WorkBuilderFactory( gsonProvider );
+		orchestratorProvider = new ElasticsearchWorkOrchestratorProvider(
+				"test orchestrator", clientMock, gsonProvider, workFactory,
+				createNiceMock( ErrorHandler.class ), ElasticsearchRetryPolicy.noRetry()
+		);
+	}
+
+	@After
+	public void close() {
+		orchestratorProvider.close();
+	}
+
+	@Test
+	public void executeAsync_cancel_abortsRequest() throws InterruptedException {
+		CompletableFuture<ElasticsearchResponse> clientFuture = new CompletableFuture<>();
+		CountDownLatch requestSubmitted = expectRequest( clientFuture );
+
+		CompletableFuture<?> future = query().executeAsync();
+		assertThat( requestSubmitted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		verifyAll();
+
+		future.cancel( false );
+
+		assertCancelled( clientFuture );
+	}
+
+	@Test
+	public void executeCountAsync_cancel_abortsRequest() throws InterruptedException {
+		CompletableFuture<ElasticsearchResponse> clientFuture = new CompletableFuture<>();
+		CountDownLatch requestSubmitted = expectRequest( clientFuture );
+
+		CompletableFuture<?> future = query().executeCountAsync();
+		assertThat( requestSubmitted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		verifyAll();
+
+		future.cancel( false );
+
+		assertCancelled( clientFuture );
+	}
+
+	@Test
+	public void scroll_firstResultPastLastHit() {
+		ElasticsearchSearchQuery<String> query = query( new IdProjection() );
+		query.setFirstResult( 1_000_000L );
+
+		resetAll();
+		expect( clientMock.submit( anyObject() ) )
+				.andReturn( CompletableFuture.completedFuture( response( "scroll1", 3, "1", "2" ) ) )
+				.andReturn( CompletableFuture.completedFuture( response( "scroll1", 3, "3" ) ) )
+				// The first empty chunk ends skipping: no more requests
+				.andReturn( CompletableFuture.completedFuture( response( "scroll1", 3 ) ) )
+				// Clear scroll
+				.andReturn( CompletableFuture.completedFuture( response( "{}" ) ) );
+		replayAll();
+		try ( SearchScroll<String> scroll = query.scroll( 2 ) ) {
+			SearchResult<String> result = scroll.next();
+			assertThat( result.getHitCount() ).isEqualTo( 3L );
+			assertThat( result.getHits() ).isEmpty();
+		}
+		verifyAll();
+	}
+
+	@Test
+	public void scroll_firstResultInLastChunk() {
+		ElasticsearchSearchQuery<String> query = query( new IdProjection() );
+		query.setFirstResult( 3L );
+
+		resetAll();
+		expect( clientMock.submit( anyObject() ) )
+				.andReturn( CompletableFuture.completedFuture( response( "scroll1", 5, "1", "2" ) ) )
+				.andReturn( CompletableFuture.completedFuture( response( "scroll1", 5, "3", "4" ) ) )
+				.andReturn( CompletableFuture.completedFuture( response( "scroll1", 5, "5" ) ) )
+				// Clear scroll
+				.andReturn( CompletableFuture.completedFuture( response( "{}" ) ) );
+		replayAll();
+		try ( SearchScroll<String> scroll = query.scroll( 2 ) ) {
+			assertThat( scroll.next().getHits() ).containsExactly( "4" );
+			assertThat( scroll.next().getHits() ).containsExactly( "5" );
+		}
+		verifyAll();
+	}
+
+	private CountDownLatch expectRequest(CompletableFuture<ElasticsearchResponse> clientFuture) {
+		CountDownLatch requestSubmitted = new CountDownLatch( 1 );
+		resetAll();
+		expect( clientMock.submit( anyObject() ) ).andAnswer( () -> {
+			requestSubmitted.countDown();
+			return clientFuture;
+		} );
+		replayAll();
+		return requestSubmitted;
+	}
+
+	private ElasticsearchSearchQuery<Object> query() {
+		return query( null );
+	}
+
+	private <T> ElasticsearchSearchQuery<T> query(ElasticsearchSearchProjection<?, T> projection) {
+		JsonObject payload = new JsonObject();
+		payload.add( "query", new JsonObject() );
+		ElasticsearchSearchResultExtractorImpl<T> extractor = projection == null ? null
+				: new ElasticsearchSearchResultExtractorImpl<>(
+						createNiceMock( ProjectionHitMapper.class ), projection,
+						new SearchProjectionExtractContext( Collections.emptyMap() ), Collections.emptyMap()
+				);
+		return new ElasticsearchSearchQuery<>(
+				workFactory, orchestratorProvider.createParallelOrchestrator( "test query orchestrator" ), null,
+				Collections.singleton( URLEncodedString.fromString( "index" ) ), null, Collections.emptySet(),
+				SerializedJsonObject.of( GSON, payload ), extractor,
+				null, null, false
+		);
+	}
+
+	private static ElasticsearchResponse response(String scrollId, long total, String... ids) {
+		JsonArray hits = new JsonArray();
+		for ( String id : ids ) {
+			JsonObject hit = new JsonObject();
+			hit.addProperty( "_id", id );
+			hits.add( hit );
+		}
+		JsonObject hitsObject = new JsonObject();
+		hitsObject.addProperty( "total", total );
+		hitsObject.add( "hits", hits );
+		JsonObject body = new JsonObject();
+		body.addProperty( "_scroll_id", scrollId );
+		body.add( "hits", hitsObject );
+		return response( GSON.toJson( body ) );
+	}
+
+	private static ElasticsearchResponse response(String body) {
+		return new ElasticsearchResponse( 200, "OK", GSON, body.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+	}
+
+	private static class IdProjection implements ElasticsearchSearchProjection<String, String> {
+
+		@Override
+		public void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context) {
+		}
+
+		@Override
+		public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+			hitPropertyNames.add( "_id" );
+		}
+
+		@Override
+		public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
+				SearchProjectionExtractContext context) {
+			return hit.get( "_id" ).getAsString();
+		}
+
+		@Override
+		public String transform(LoadingResult<?> loadingResult, String extractedData,
+				SearchProjectionTransformContext context) {
+			return extractedData;
+		}
+	}
+
+	private static void assertCancelled(CompletableFuture<ElasticsearchResponse> clientFuture)
+			throws InterruptedException {
+		CountDownLatch requestCompleted = new CountDownLatch( 1 );
+		clientFuture.whenComplete( (ignored, throwable) -> requestCompleted.countDown() );
+		// Cancellation may reach the request asynchronously if the work is still being set up
+		assertThat( requestCompleted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( clientFuture ).isCancelled();
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.engine.search.query.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+public class ElasticsearchSearchResultExtractorImplTest {
+
+	private static final String RESPONSE = "{\"took\":1,\"hits\":{\"total\":2,\"hits\":["
+			+ "{\"_index\":\"index1\",\"_id\":\"1\",\"_score\":1.0,\"_source\":{\"text\":\"foo\"}},"
+			+ "{\"_index\":\"index1\",\"_id\":\"2\",\"_score\":0.5,\"_source\":{\"text\":\"bar\"}}"
+			+ "]}}";
+
+	@Test
+	public void hitProperties_derivedFromProjections() throws IOException {
+		HitCollectingProjection projection = new HitCollectingProjection( "_id", "_score" );
+		extract( projection );
+
+		assertThat( projection.hits ).extracting( JsonObject::toString ).containsExactly(
+				"{\"_id\":\"1\",\"_score\":1.0}",
+				"{\"_id\":\"2\",\"_score\":0.5}"
+		);
+	}
+
+	@Test
+	public void hitProperties_source() throws IOException {
+		HitCollectingProjection projection = new HitCollectingProjection( "_source" );
+		extract( projection );
+
+		assertThat( projection.hits ).extracting( JsonObject::toString ).containsExactly(
+				"{\"_source\":{\"text\":\"foo\"}}",
+				"{\"_source\":{\"text\":\"bar\"}}"
+		);
+	}
+
+	private static void extract(HitCollectingProjection projection) throws IOException {
+		ElasticsearchSearchResultExtractorImpl<JsonObject> extractor = new ElasticsearchSearchResultExtractorImpl<>(
+				null, projection, new SearchProjectionExtractContext( null ), Collections.emptyMap()
+		);
+		try ( JsonReader reader = new JsonReader( new StringReader( RESPONSE ) ) ) {
+			extractor.extract( reader );
+		}
+	}
+
+	private static class HitCollectingProjection implements ElasticsearchSearchProjection<JsonObject, JsonObject> {
+
+		private final String[] hitPropertyNames;
+		private final List<JsonObject> hits = new ArrayList<>();
+
+		private HitCollectingProjection(String... hitPropertyNames) {
+			this.hitPropertyNames = hitPropertyNames;
+		}
+
+		@Override
+		public void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context) {
+		}
+
+		@Override
+		public void contributeHitPropertyNames(Set<String> hitPropertyNames) {
+			Collections.addAll( hitPropertyNames, this.hitPropertyNames );
+		}
+
+		@Override
+		public JsonObject extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
+				SearchProjectionExtractContext context) {
+			hits.add( hit );
+			return hit;
+		}
+
+		@Override
+		public JsonObject transform(LoadingResult<?> loadingResult, JsonObject extractedData,
+				SearchProjectionTransformContext context) {
+			return extractedData;
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+
+public class BulkWorkTest extends EasyMockSupport {
+
+	private static final Gson GSON = new Gson();
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private ElasticsearchClient clientMock;
+
+	@Before
+	public void initMocks() {
+		contextMock = createMock( ElasticsearchWorkExecutionContext.class );
+		clientMock = createMock( ElasticsearchClient.class );
+	}
+
+	@Test
+	public void streamedItems_onlyRelevantPropertiesRetained() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2 );
+
+		replayAll();
+		BulkWork bulkWork = new BulkWork.Builder( Arrays.asList( work1, work2 ) ).build();
+		verifyAll();
+
+		String responseBody = "{\"took\":30,\"errors\":true,\"items\":["
+				+ "{\"index\":{\"_index\":\"idx\",\"_type\":\"_doc\",\"_id\":\"1\",\"_version\":1,"
+						+ "\"result\":\"created\",\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},\"status\":201}},"
+				+ "{\"delete\":{\"_index\":\"idx\",\"_type\":\"_doc\",\"_id\":\"2\",\"status\":429,"
+						+ "\"error\":{\"type\":\"es_rejected_execution_exception\",\"reason\":\"rejected\"}}}"
+				+ "]}";
+
+		resetAll();
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( anyObject() ) ).andReturn( CompletableFuture.completedFuture( response( responseBody ) ) );
+		replayAll();
+		CompletableFuture<BulkResult> resultFuture = bulkWork.execute( contextMock );
+		verifyAll();
+		assertThat( resultFuture ).isCompleted();
+
+		Capture<JsonObject> item1Capture = Capture.newInstance();
+		Capture<JsonObject> item2Capture = Capture.newInstance();
+		resetAll();
+		expect( work1.handleBulkResult( eq( contextMock ), capture( item1Capture ) ) )
+				.andReturn( CompletableFuture.completedFuture( null ) );
+		expect( work2.handleBulkResult( eq( contextMock ), capture( item2Capture ) ) )
+				.andReturn( CompletableFuture.completedFuture( null ) );
+		replayAll();
+		BulkResultItemExtractor extractor = resultFuture.join().withContext( contextMock );
+		extractor.extract( work1, 0 );
+		extractor.extract( work2, 1 );
+		verifyAll();
+
+		assertThat( item1Capture.getValue().toString() )
+				.isEqualTo( "{\"index\":{\"status\":201}}" );
+		assertThat( item2Capture.getValue().toString() )
+				.isEqualTo( "{\"delete\":{\"status\":429,"
+						+ "\"error\":{\"type\":\"es_rejected_execution_exception\",\"reason\":\"rejected\"}}}" );
+	}
+
+	@Test
+	public void rejectedItems_retryWorkContainsOnlyRejectedItems() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2 );
+		BulkableElasticsearchWork<Void> work3 = bulkableWork( 3 );
+
+		replayAll();
+		BulkWork bulkWork = new BulkWork.Builder( Arrays.asList( work1, work2, work3 ) ).build();
+		verifyAll();
+
+		Capture<ElasticsearchRequest> requestCapture = Capture.newInstance();
+		resetAll();
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( CompletableFuture.completedFuture( response(
+				"{\"items\":[" + item( 201 ) + "," + item( 429 ) + "," + item( 429 ) + "]}"
+		) ) );
+		replayAll();
+		BulkResult result = bulkWork.execute( contextMock ).join();
+		verifyAll();
+		assertThat( requestCapture.getValue().getBodyParts() ).hasSize( 3 );
+
+		resetAll();
+		expectBulkableActions( work2 );
+		expectBulkableActions( work3 );
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( CompletableFuture.completedFuture( response(
+				"{\"items\":[" + item( 201 ) + "," + item( 429 ) + "]}"
+		) ) );
+		replayAll();
+		ElasticsearchWork<BulkResult> retryWork = result.createRetryWork();
+		result = result.withRetryResult( retryWork.execute( contextMock ).join() );
+		verifyAll();
+		// Only works 2 and 3 were sent again
+		assertThat( requestCapture.getValue().getBodyParts() ).hasSize( 2 );
+
+		resetAll();
+		expectBulkableActions( work3 );
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( CompletableFuture.completedFuture( response(
+				"{\"items\":[" + item( 201 ) + "]}"
+		) ) );
+		replayAll();
+		retryWork = result.createRetryWork();
+		result = result.withRetryResult( retryWork.execute( contextMock ).join() );
+		verifyAll();
+		// Only work 3 was sent again
+		assertThat( requestCapture.getValue().getBodyParts() ).hasSize( 1 );
+
+		// No more rejected items
+		assertThat( result.createRetryWork() ).isNull();
+
+		Capture<JsonObject> item2Capture = Capture.newInstance();
+		Capture<JsonObject> item3Capture = Capture.newInstance();
+		resetAll();
+		expect( work2.handleBulkResult( eq( contextMock ), capture( item2Capture ) ) )
+				.andReturn( CompletableFuture.completedFuture( null ) );
+		expect( work3.handleBulkResult( eq( contextMock ), capture( item3Capture ) ) )
+				.andReturn( CompletableFuture.completedFuture( null ) );
+		replayAll();
+		BulkResultItemExtractor extractor = result.withContext( contextMock );
+		extractor.extract( work2, 1 );
+		extractor.extract( work3, 2 );
+		verifyAll();
+		assertThat( item2Capture.getValue().toString() ).isEqualTo( item( 201 ) );
+		assertThat( item3Capture.getValue().toString() ).isEqualTo( item( 201 ) );
+	}
+
+	private static String item(int status) {
+		return "{\"index\":{\"status\":" + status + "}}";
+	}
+
+	private static ElasticsearchResponse response(String body) {
+		return new ElasticsearchResponse( 200, "OK", GSON, body.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+	}
+
+	@SuppressWarnings("unchecked")
+	private BulkableElasticsearchWork<Void> bulkableWork(int index) {
+		BulkableElasticsearchWork<Void> mock = createStrictMock( "bulkableWork" + index, BulkableElasticsearchWork.class );
+		expectBulkableActions( mock );
+		return mock;
+	}
+
+	private static void expectBulkableActions(BulkableElasticsearchWork<Void> mock) {
+		JsonObject metadata = new JsonObject();
+		metadata.add( "index", new JsonObject() );
+		expect( mock.getBulkableActionMetadata() ).andReturn( SerializedJsonObject.of( GSON, metadata ) ).anyTimes();
+		expect( mock.getBulkableActionBody() ).andReturn( null ).anyTimes();
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+public class DocumentWorkTargetTest {
+
+	private final DocumentWorkTarget target = new DocumentWorkTarget(
+			URLEncodedString.fromString( "my-index" ), URLEncodedString.fromString( "doc" )
+	);
+
+	@Test
+	public void documentPath() {
+		assertThat( target.getDocumentPath( URLEncodedString.fromString( "1" ) ) )
+				.isEqualTo( "/my-index/doc/1" );
+		assertThat( target.getDocumentPath( URLEncodedString.fromString( "a/b c" ) ) )
+				.isEqualTo( "/my-index/doc/a%2Fb+c" );
+	}
+
+	@Test
+	public void indexMetadata() {
+		assertThat( target.createIndexMetadata( URLEncodedString.fromString( "1" ), null ).toString() )
+				.isEqualTo( "{\"index\":{\"_index\":\"my-index\",\"_type\":\"doc\",\"_id\":\"1\"}}" );
+	}
+
+	@Test
+	public void deleteMetadata_routingKey() {
+		assertThat( target.createDeleteMetadata( URLEncodedString.fromString( "1" ), "someRoutingKey" ).toString() )
+				.isEqualTo( "{\"delete\":{\"_index\":\"my-index\",\"_type\":\"doc\",\"_id\":\"1\",\"_routing\":\"someRoutingKey\"}}" );
+	}
+
+	@Test
+	public void metadata_escaping() {
+		String id = "quote\" backslash\\ newline\n été ☃";
+		String routingKey = "tab\t";
+
+		JsonObject action = new JsonObject();
+		action.addProperty( "_index", "my-index" );
+		action.addProperty( "_type", "doc" );
+		action.addProperty( "_id", id );
+		action.addProperty( "_routing", routingKey );
+		JsonObject expected = new JsonObject();
+		expected.add( "index", action );
+
+		assertThat( target.createIndexMetadata( URLEncodedString.fromString( id ), routingKey ).toJsonObject() )
+				.isEqualTo( expected );
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorImpl;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.util.SearchException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+public class MultiSearchWorkTest extends EasyMockSupport {
+
+	private static final Gson GSON = new Gson();
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private ElasticsearchClient clientMock;
+
+	@Before
+	public void initMocks() {
+		contextMock = createMock( ElasticsearchWorkExecutionContext.class );
+		clientMock = createMock( ElasticsearchClient.class );
+	}
+
+	@Test
+	public void request_responses() {
+		List<JsonObject> extracted = new ArrayList<>();
+		MultiSearchWork work = new MultiSearchWork.Builder()
+				.add( new SearchWork.Builder<>( query( "foo" ), reader -> extract( reader, extracted ) )
+						.indexes( Collections.singletonList( URLEncodedString.fromString( "index1" ) ) )
+						.paging( 10L, 5L )
+						.routingKeys( Collections.singleton( "routing1" ) )
+						.timeout( 100L, TimeUnit.MILLISECONDS, true ) )
+				.add( new SearchWork.Builder<>( query( "bar" ), reader -> extract( reader, extracted ) )
+						.indexes( Collections.singletonList( URLEncodedString.fromString( "index2" ) ) )
+						.paging( null, null )
+						.routingKeys( Collections.emptySet() )
+						.timeout( null, null, false ) )
+				.build();
+
+		Capture<ElasticsearchRequest> requestCapture = Capture.newInstance();
+		expect( contextMock.getGsonProvider() ).andReturn( DefaultGsonProvider.create( GsonBuilder::new, false ) ).anyTimes();
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( CompletableFuture.completedFuture( response(
+				"{\"took\":3,\"responses\":["
+						+ "{\"took\":1,\"hits\":{\"total\":1},\"status\":200},"
+						+ "{\"took\":2,\"hits\":{\"total\":2},\"status\":200}"
+						+ "]}"
+		) ) );
+		replayAll();
+		List<ElasticsearchLoadableSearchResult<?>> results = work.execute( contextMock ).join();
+		verifyAll();
+
+		ElasticsearchRequest request = requestCapture.getValue();
+		assertThat( request.getPath() ).isEqualTo( "/_msearch" );
+		// One of the searches should never be aborted on the client side
+		assertThat( request.getTimeoutValue() ).isNull();
+		assertThat( request.getBodyParts() ).extracting( JsonObject::toString ).containsExactly(
+				"{\"index\":[\"index1\"],\"routing\":\"routing1\"}",
+				"{\"query\":{\"term\":{\"field\":\"foo\"}},\"from\":10,\"size\":5,\"timeout\":\"100ms\"}",
+				"{\"index\":[\"index2\"]}",
+				"{\"query\":{\"term\":{\"field\":\"bar\"}}}"
+		);
+
+		assertThat( results ).hasSize( 2 );
+		assertThat( extracted ).extracting( JsonObject::toString ).containsExactly(
+				"{\"took\":1,\"hits\":{\"total\":1},\"status\":200}",
+				"{\"took\":2,\"hits\":{\"total\":2},\"status\":200}"
+		);
+	}
+
+	@Test
+	public void failedResponse() {
+		MultiSearchWork work = new MultiSearchWork.Builder()
+				.add( new SearchWork.Builder<>( query( "foo" ), new ElasticsearchSearchResultExtractorImpl<>( null, projectionStub(), null, Collections.emptyMap() ) )
+						.indexes( Collections.singletonList( URLEncodedString.fromString( "index1" ) ) )
+						.routingKeys( Collections.emptySet() ) )
+				.add( new SearchWork.Builder<>( query( "bar" ), new ElasticsearchSearchResultExtractorImpl<>( null, projectionStub(), null, Collections.emptyMap() ) )
+						.indexes( Collections.singletonList( URLEncodedString.fromString( "index2" ) ) )
+						.routingKeys( Collections.emptySet() ) )
+				.build();
+
+		expect( contextMock.getGsonProvider() ).andReturn( DefaultGsonProvider.create( GsonBuilder::new, false ) ).anyTimes();
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( anyObject() ) ).andReturn( CompletableFuture.completedFuture( response(
+				"{\"responses\":["
+						+ "{\"took\":1,\"hits\":{\"total\":0,\"hits\":[]},\"status\":200},"
+						+ "{\"error\":{\"type\":\"index_not_found_exception\",\"reason\":\"no such index\"},\"status\":404}"
+						+ "]}"
+		) ) );
+		replayAll();
+		CompletableFuture<List<ElasticsearchLoadableSearchResult<?>>> future = work.execute( contextMock );
+		verifyAll();
+
+		assertThat( future ).isCompletedExceptionally();
+		try {
+			future.join();
+		}
+		catch (CompletionException e) {
+			assertThat( e.getCause() ).isInstanceOf( SearchException.class );
+			assertThat( e.getCause().getCause() )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "index_not_found_exception" );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ElasticsearchSearchProjection<?, Object> projectionStub() {
+		ElasticsearchSearchProjection<?, Object> projection = EasyMock.niceMock( ElasticsearchSearchProjection.class );
+		EasyMock.replay( projection );
+		return projection;
+	}
+
+	private static SerializedJsonObject query(String value) {
+		return SerializedJsonObject.of( GSON,
+				new JsonParser().parse( "{\"query\":{\"term\":{\"field\":\"" + value + "\"}}}" ).getAsJsonObject() );
+	}
+
+	private static ElasticsearchLoadableSearchResult<Object> extract(JsonReader reader,
+			List<JsonObject> extracted) {
+		extracted.add( new JsonParser().parse( reader ).getAsJsonObject() );
+		return null;
+	}
+
+	private static ElasticsearchResponse response(String body) {
+		return new ElasticsearchResponse( 200, "OK", GSON, body.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+	}
+
+}
@@ -6,10 +6,16 @@
  */
 package org.hibernate.search.backend.lucene;
 
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisCacheStatistics;
 import org.hibernate.search.engine.backend.Backend;
 
 public interface LuceneBackend extends Backend {
 
 	// TODO add Lucene-specific backend APIs
 
+	/**
+	 * @return Statistics about the cache of analysis results used when building predicates.
+	 */
+	LuceneAnalysisCacheStatistics getAnalysisCacheStatistics();
+
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.analysis;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+
+/**
+ * Statistics about the cache of analysis results used when building predicates,
+ * whose size is set through the {@link LuceneBackendSettings#ANALYSIS_CACHE_SIZE configuration properties}.
+ * <p>
+ * Counts are cumulated since the backend started.
+ */
+public interface LuceneAnalysisCacheStatistics {
+
+	/**
+	 * @return The number of times the analysis of a predicate input was skipped, its result being found in the cache.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The number of times a predicate input had to be analyzed.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of results removed from the cache to make room for new ones.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return The number of results currently in the cache.
+	 */
+	int getSize();
+
+	/**
+	 * @return The maximum number of results in the cache, {@code 0} if the cache is disabled.
+	 */
+	int getMaxSize();
+
+}
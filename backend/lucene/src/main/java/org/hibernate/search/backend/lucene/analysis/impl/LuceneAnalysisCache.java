@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.analysis.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisCacheStatistics;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.QueryBuilder;
+
+/**
+ * A bounded cache of analysis results, shared by all queries of a backend,
+ * so that predicates matching the same input on the same field do not analyze that input again.
+ * <p>
+ * Entries are keyed by analyzer, field and input.
+ * When the cache is full, entries that were not used since the eviction cursor last went past them
+ * are evicted first ("second chance" algorithm).
+ * <p>
+ * Cached queries are shared between searches: this is safe since Lucene queries are immutable.
+ */
+public final class LuceneAnalysisCache implements LuceneAnalysisCacheStatistics {
+
+	/**
+	 * Inputs longer than this are unlikely to be repeated: do not let them fill up the cache.
+	 */
+	private static final int MAX_CACHED_INPUT_LENGTH = 256;
+
+	private final int maxSize;
+
+	private final ConcurrentMap<Key, Entry> entries;
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	private Iterator<ConcurrentMap.Entry<Key, Entry>> evictionCursor;
+
+	/**
+	 * @param maxSize The maximum number of analysis results in the cache. {@code 0} to disable caching.
+	 */
+	public LuceneAnalysisCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.entries = maxSize > 0 ? new ConcurrentHashMap<>( maxSize ) : null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[maxSize=" + maxSize + ", size=" + size
+				+ ", hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + "]";
+	}
+
+	/**
+	 * @param queryBuilder The query builder to use on cache misses.
+	 * @param absoluteFieldPath The field to create a query for.
+	 * @param text The text to analyze.
+	 * @return The result of {@code queryBuilder.createBooleanQuery( absoluteFieldPath, text )}, possibly from the cache.
+	 * @see QueryBuilder#createBooleanQuery(String, String)
+	 */
+	public Query createBooleanQuery(QueryBuilder queryBuilder, String absoluteFieldPath, String text) {
+		if ( entries == null || text.length() > MAX_CACHED_INPUT_LENGTH ) {
+			return queryBuilder.createBooleanQuery( absoluteFieldPath, text );
+		}
+
+		Key key = new Key( queryBuilder.getAnalyzer(), absoluteFieldPath, text );
+		Entry entry = entries.get( key );
+		if ( entry != null ) {
+			hitCount.increment();
+			entry.used = true;
+			return entry.query;
+		}
+
+		missCount.increment();
+		// May be null if analysis did not produce any token: cache that too
+		Query query = queryBuilder.createBooleanQuery( absoluteFieldPath, text );
+		if ( entries.putIfAbsent( key, new Entry( query ) ) == null && size.incrementAndGet() > maxSize ) {
+			evict();
+		}
+		return query;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public int getSize() {
+		return size.get();
+	}
+
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	private synchronized void evict() {
+		while ( size.get() > maxSize ) {
+			if ( evictionCursor == null || !evictionCursor.hasNext() ) {
+				evictionCursor = entries.entrySet().iterator();
+			}
+			ConcurrentMap.Entry<Key, Entry> candidate = evictionCursor.next();
+			Entry entry = candidate.getValue();
+			if ( entry.used ) {
+				// Give the entry a second chance: it will be evicted next time unless it is used again
+				entry.used = false;
+			}
+			else if ( entries.remove( candidate.getKey(), entry ) ) {
+				size.decrementAndGet();
+				evictionCount.increment();
+			}
+		}
+	}
+
+	private static final class Key {
+		private final Analyzer analyzer;
+		private final String absoluteFieldPath;
+		private final String text;
+		private final int hashCode;
+
+		private Key(Analyzer analyzer, String absoluteFieldPath, String text) {
+			this.analyzer = analyzer;
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.text = text;
+			this.hashCode = 31 * ( 31 * System.identityHashCode( analyzer ) + absoluteFieldPath.hashCode() )
+					+ text.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( !( obj instanceof Key ) ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			// Analyzers do not implement equals(): compare identities
+			return analyzer == other.analyzer
+					&& absoluteFieldPath.equals( other.absoluteFieldPath )
+					&& text.equals( other.text );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class Entry {
+		private final Query query;
+		private volatile boolean used;
+
+		private Entry(Query query) {
+			this.query = query;
+		}
+	}
+}
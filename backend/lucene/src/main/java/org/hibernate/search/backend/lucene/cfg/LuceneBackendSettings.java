@@ -29,6 +29,40 @@ private LuceneBackendSettings() {
 
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The transport allowing multiple nodes to share the same indexes,
+	 * with a single node writing to each index while the others send it their works.
+	 * <p>
+	 * Expects a reference to a bean of type
+	 * {@link org.hibernate.search.backend.lucene.transport.spi.LuceneWorkTransport},
+	 * e.g. {@code loopback} for an in-JVM transport.
+	 * Defaults to no transport: works are applied by the current node.
+	 */
+	public static final String WORK_TRANSPORT = "work_transport";
+
+	/**
+	 * The number of threads used to build documents in the background, typically the number of cores.
+	 * <p>
+	 * When positive, documents are built in parallel when a work plan is executed,
+	 * instead of when works are added to the work plan.
+	 * Entities must then remain unchanged until indexing completes.
+	 * Ignored for sessions whose entities cannot be read from other threads,
+	 * such as Hibernate ORM sessions: documents are then built in the thread adding works.
+	 * Defaults to {@code 0}: documents are built in the thread adding works to the work plan.
+	 */
+	public static final String DOCUMENT_BUILDING_THREADS = "document_building_threads";
+
+	/**
+	 * The maximum number of analysis results cached by the backend when building predicates.
+	 * <p>
+	 * Cached results allow match predicates on analyzed or normalized fields
+	 * to skip analysis when the same input is matched on the same field again,
+	 * which is common with autocomplete-style queries.
+	 * Expects a positive integer, or {@code 0} to disable the cache.
+	 * Defaults to {@link Defaults#ANALYSIS_CACHE_SIZE}.
+	 */
+	public static final String ANALYSIS_CACHE_SIZE = "analysis_cache_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -46,5 +80,9 @@ private Defaults() {
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int DOCUMENT_BUILDING_THREADS = 0;
+
+		public static final int ANALYSIS_CACHE_SIZE = 1000;
 	}
 }
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+/**
+ * Configuration properties for Lucene indexes.
+ */
+public final class LuceneIndexSettings {
+
+	private LuceneIndexSettings() {
+	}
+
+	/**
+	 * The order in which documents are stored in the index,
+	 * as a whitespace-separated list of sortable fields, each optionally followed by {@code :asc} or {@code :desc},
+	 * e.g. {@code publishedAt:desc id}.
+	 * <p>
+	 * Queries sorted on a prefix of the index sort may stop collecting hits early
+	 * when the exact hit count is not required.
+	 * Only fields of the root document can be used,
+	 * and the index must not contain nested object fields.
+	 * Changing the index sort requires to reindex.
+	 * Defaults to no index sort: documents are stored in indexing order.
+	 */
+	public static final String INDEX_SORT = "index_sort";
+
+}
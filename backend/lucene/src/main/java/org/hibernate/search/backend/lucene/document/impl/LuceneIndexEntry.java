@@ -22,12 +22,24 @@ public class LuceneIndexEntry implements Iterable<Document> {
 
 	private final List<Document> documents;
 
-	LuceneIndexEntry(String indexName, String id, List<Document> documents) {
+	public LuceneIndexEntry(String indexName, String id, List<Document> documents) {
 		this.indexName = indexName;
 		this.id = id;
 		this.documents = documents;
 	}
 
+	public String getIndexName() {
+		return indexName;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public List<Document> getDocuments() {
+		return documents;
+	}
+
 	@Override
 	public Iterator<Document> iterator() {
 		return documents.iterator();
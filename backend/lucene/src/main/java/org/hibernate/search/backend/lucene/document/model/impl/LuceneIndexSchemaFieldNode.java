@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
@@ -36,12 +37,15 @@
 
 	private final LuceneFieldSortBuilderFactory sortBuilderFactory;
 
+	private final LuceneFieldAggregationBuilderFactory aggregationBuilderFactory;
+
 	private final LuceneFieldProjectionBuilderFactory projectionBuilderFactory;
 
 	public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String relativeFieldName,
 			LuceneFieldCodec<F> codec,
 			LuceneFieldPredicateBuilderFactory predicateBuilderFactory,
 			LuceneFieldSortBuilderFactory sortBuilderFactory,
+			LuceneFieldAggregationBuilderFactory aggregationBuilderFactory,
 			LuceneFieldProjectionBuilderFactory projectionBuilderFactory) {
 		this.parent = parent;
 		this.relativeFieldName = relativeFieldName;
@@ -49,6 +53,7 @@ public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String rel
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
 	}
 
@@ -78,6 +83,10 @@ public LuceneFieldSortBuilderFactory getSortBuilderFactory() {
 		return sortBuilderFactory;
 	}
 
+	public LuceneFieldAggregationBuilderFactory getAggregationBuilderFactory() {
+		return aggregationBuilderFactory;
+	}
+
 	public LuceneFieldProjectionBuilderFactory getProjectionBuilderFactory() {
 		if ( projectionBuilderFactory == null ) {
 			throw log.unsupportedDSLProjections( getEventContext() );
@@ -93,6 +102,7 @@ public String toString() {
 				.append( ", codec=" ).append( codec )
 				.append( ", predicateBuilderFactory=" ).append( predicateBuilderFactory )
 				.append( ", sortContributor=" ).append( sortBuilderFactory )
+				.append( ", aggregationBuilderFactory=" ).append( aggregationBuilderFactory )
 				.append( ", projectionBuilderFactory=" ).append( projectionBuilderFactory )
 				.append( "]" );
 		return sb.toString();
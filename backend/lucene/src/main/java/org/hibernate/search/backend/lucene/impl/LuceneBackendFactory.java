@@ -15,6 +15,7 @@
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisCache;
 import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisComponentFactory;
 import org.hibernate.search.backend.lucene.analysis.model.dsl.impl.InitialLuceneAnalysisDefinitionContainerContext;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
@@ -25,6 +26,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkTransport;
 import org.hibernate.search.backend.lucene.work.impl.LuceneStubWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -77,6 +79,23 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends LuceneWorkTransport>> WORK_TRANSPORT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.WORK_TRANSPORT )
+					.asBeanReference( LuceneWorkTransport.class )
+					.build();
+
+	private static final ConfigurationProperty<Integer> DOCUMENT_BUILDING_THREADS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DOCUMENT_BUILDING_THREADS )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.DOCUMENT_BUILDING_THREADS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ANALYSIS_CACHE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.ANALYSIS_CACHE_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.ANALYSIS_CACHE_SIZE )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -92,12 +111,17 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				backendContext, buildContext, propertySource, luceneVersion
 		);
 
+		BeanHolder<? extends LuceneWorkTransport> workTransportHolder = getWorkTransport( buildContext, propertySource );
+
 		return new LuceneBackendImpl(
 				name,
 				directoryProvider,
 				new LuceneStubWorkFactory( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
-				multiTenancyStrategy
+				multiTenancyStrategy,
+				workTransportHolder,
+				DOCUMENT_BUILDING_THREADS.get( propertySource ),
+				new LuceneAnalysisCache( ANALYSIS_CACHE_SIZE.get( propertySource ) )
 		);
 	}
 
@@ -184,6 +208,13 @@ private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventCont
 		}
 	}
 
+	private BeanHolder<? extends LuceneWorkTransport> getWorkTransport(BackendBuildContext buildContext,
+			ConfigurationPropertySource propertySource) {
+		// Without a transport, each node applies works to its own index writer
+		final BeanProvider beanProvider = buildContext.getServiceManager().getBeanProvider();
+		return WORK_TRANSPORT.getAndMap( propertySource, beanProvider::getBean ).orElse( null );
+	}
+
 	private void initializeRootDirectory(Path rootDirectory, EventContext eventContext) {
 		if ( Files.exists( rootDirectory ) ) {
 			if ( !Files.isDirectory( rootDirectory ) || !Files.isWritable( rootDirectory ) ) {
@@ -7,8 +7,15 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Pattern;
 
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisCacheStatistics;
+import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisCache;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
 import org.hibernate.search.backend.lucene.types.dsl.LuceneIndexFieldTypeFactoryContext;
@@ -24,13 +31,18 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkTransport;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.Executors;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
@@ -40,6 +52,11 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEX_SORT ).asString()
+					.multivalued( Pattern.compile( "\\s+" ) )
+					.build();
+
 	private final String name;
 
 	private final DirectoryProvider directoryProvider;
@@ -48,6 +65,8 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final BeanHolder<? extends LuceneWorkTransport> workTransportHolder;
+	private final ExecutorService documentBuildingExecutor;
 
 	private final EventContext eventContext;
 	private final IndexingBackendContext indexingContext;
@@ -55,7 +74,10 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	LuceneBackendImpl(String name, DirectoryProvider directoryProvider, LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			BeanHolder<? extends LuceneWorkTransport> workTransportHolder,
+			int documentBuildingThreads,
+			LuceneAnalysisCache analysisCache) {
 		this.name = name;
 		this.directoryProvider = directoryProvider;
 
@@ -63,14 +85,20 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 		this.queryOrchestrator = new LuceneStubQueryWorkOrchestrator();
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.workTransportHolder = workTransportHolder;
+		this.documentBuildingExecutor = documentBuildingThreads > 0
+				? Executors.newFixedThreadPool( documentBuildingThreads, "Lucene document building - " + name )
+				: null;
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
 				eventContext, directoryProvider,
-				workFactory, multiTenancyStrategy
+				workFactory, multiTenancyStrategy,
+				workTransportHolder == null ? null : workTransportHolder.get(),
+				documentBuildingExecutor
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator
+				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator, analysisCache
 		);
 	}
 
@@ -85,6 +113,11 @@ public <T> T unwrap(Class<T> clazz) {
 		);
 	}
 
+	@Override
+	public LuceneAnalysisCacheStatistics getAnalysisCacheStatistics() {
+		return searchContext.getAnalysisCache();
+	}
+
 	@Override
 	public Backend toAPI() {
 		return this;
@@ -113,7 +146,8 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexingContext, searchContext,
-				indexName, indexSchemaRootNodeBuilder
+				indexName, indexSchemaRootNodeBuilder,
+				INDEX_SORT.get( propertySource ).orElse( Collections.emptyList() )
 		);
 	}
 
@@ -121,6 +155,8 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneQueryWorkOrchestrator::close, queryOrchestrator );
+			closer.push( BeanHolder::close, workTransportHolder );
+			closer.push( ExecutorService::shutdownNow, documentBuildingExecutor );
 		}
 	}
 
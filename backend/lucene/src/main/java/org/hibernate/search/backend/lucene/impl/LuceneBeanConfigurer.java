@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.impl;
 
+import org.hibernate.search.backend.lucene.transport.impl.LoopbackLuceneWorkTransport;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkTransport;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
@@ -18,5 +20,9 @@ public void configure(BeanConfigurationContext context) {
 				BackendFactory.class, "lucene",
 				factoryCreationContext -> BeanHolder.of( new LuceneBackendFactory() )
 		);
+		context.define(
+				LuceneWorkTransport.class, LoopbackLuceneWorkTransport.NAME,
+				factoryCreationContext -> BeanHolder.of( new LoopbackLuceneWorkTransport() )
+		);
 	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.Directory;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Holds the directory of an index and, lazily, its index writer.
+ * <p>
+ * The index writer holds the write lock of the directory,
+ * so it is only opened on the node that actually applies works to the index.
+ * Other nodes sharing the directory only open readers.
+ */
+class IndexWriterHolder implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Directory directory;
+	private final Analyzer analyzer;
+	private final Sort indexSort;
+	private final EventContext eventContext;
+
+	private volatile IndexWriter indexWriter;
+	private boolean closed = false;
+
+	IndexWriterHolder(Directory directory, Analyzer analyzer, Sort indexSort, EventContext eventContext) {
+		this.directory = directory;
+		this.analyzer = analyzer;
+		this.indexSort = indexSort;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		closed = true;
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( IndexWriter::close, indexWriter );
+			indexWriter = null;
+			// Close the directory after the index writer
+			closer.push( Directory::close, directory );
+		}
+	}
+
+	IndexWriter getOrCreateIndexWriter() {
+		IndexWriter result = indexWriter;
+		if ( result == null ) {
+			synchronized (this) {
+				result = indexWriter;
+				if ( result == null ) {
+					if ( closed ) {
+						// Works received from other nodes after we stopped applying works
+						throw log.indexWriterClosed( eventContext );
+					}
+					result = createIndexWriter();
+					indexWriter = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	IndexReader openIndexReader() throws IOException {
+		IndexWriter currentIndexWriter = indexWriter;
+		if ( currentIndexWriter != null ) {
+			return DirectoryReader.open( currentIndexWriter );
+		}
+		else if ( DirectoryReader.indexExists( directory ) ) {
+			return DirectoryReader.open( directory );
+		}
+		else {
+			// The node applying works did not create the index yet
+			return new MultiReader();
+		}
+	}
+
+	private IndexWriter createIndexWriter() {
+		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( analyzer );
+		if ( indexSort != null ) {
+			indexWriterConfig.setIndexSort( indexSort );
+		}
+		try {
+			return new IndexWriter( directory, indexWriterConfig );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToCreateIndexWriter( eventContext, e );
+		}
+	}
+}
@@ -7,34 +7,57 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneRemoteIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkChannel;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkTransport;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkSerializer;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.store.Directory;
 
 public class IndexingBackendContext {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final EventContext eventContext;
 
 	private final DirectoryProvider directoryProvider;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final LuceneWorkTransport workTransport;
+	private final LuceneIndexWorkSerializer workSerializer;
+	private final ExecutorService documentBuildingExecutor;
 
 	public IndexingBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
 			LuceneWorkFactory workFactory,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			LuceneWorkTransport workTransport,
+			ExecutorService documentBuildingExecutor) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
+		this.workTransport = workTransport;
+		this.workSerializer = new LuceneIndexWorkSerializer( workFactory );
+		this.documentBuildingExecutor = documentBuildingExecutor;
 	}
 
 	@Override
@@ -46,8 +69,37 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
-	Directory createDirectory(String indexName) throws IOException {
-		return directoryProvider.createDirectory( indexName );
+	IndexWriterHolder createIndexWriterHolder(String indexName, Analyzer analyzer, Sort indexSort) {
+		EventContext indexEventContext = eventContext.append( EventContexts.fromIndexName( indexName ) );
+		try {
+			Directory directory = directoryProvider.createDirectory( indexName );
+			return new IndexWriterHolder( directory, analyzer, indexSort, indexEventContext );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexWriter( indexEventContext, e );
+		}
+	}
+
+	/**
+	 * @param indexName The name of the index.
+	 * @param localOrchestrator The orchestrator applying works to the local index writer,
+	 * used when this node receives works from other nodes.
+	 * @return A channel to the other nodes sharing this index,
+	 * or {@code null} if no work transport was configured.
+	 */
+	LuceneWorkChannel connect(String indexName, LuceneIndexWorkOrchestrator localOrchestrator) {
+		if ( workTransport == null ) {
+			return null;
+		}
+		return workTransport.connect(
+				indexName,
+				payload -> Futures.create( () -> localOrchestrator.submit( workSerializer.deserialize( payload ) ) )
+		);
+	}
+
+	LuceneIndexWorkOrchestrator createRemoteOrchestrator(LuceneIndexWorkOrchestrator localOrchestrator,
+			LuceneWorkChannel channel) {
+		return new LuceneRemoteIndexWorkOrchestrator( localOrchestrator, channel, workSerializer );
 	}
 
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
@@ -56,7 +108,7 @@ IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, sessionContext );
+				documentBuildingExecutor, indexName, sessionContext );
 	}
 
 	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
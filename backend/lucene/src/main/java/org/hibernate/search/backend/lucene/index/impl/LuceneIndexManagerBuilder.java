@@ -6,25 +6,24 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
-import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
-import org.hibernate.search.util.EventContext;
-import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.search.util.impl.common.SuppressingCloser;
 
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.store.Directory;
-
 /**
  * @author Guillaume Smet
  */
@@ -32,20 +31,26 @@ public class LuceneIndexManagerBuilder implements IndexManagerBuilder<LuceneRoot
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final String ASC_SUFFIX = ":asc";
+	private static final String DESC_SUFFIX = ":desc";
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
 	private final String indexName;
 	private final LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
+	private final List<String> indexSortElements;
 
 	public LuceneIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName,
-			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder) {
+			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
+			List<String> indexSortElements) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.indexName = indexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
+		this.indexSortElements = indexSortElements;
 	}
 
 	@Override
@@ -61,42 +66,54 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 	@Override
 	public LuceneIndexManagerImpl build() {
 		LuceneIndexModel model = null;
-		IndexWriter indexWriter = null;
+		IndexWriterHolder writerHolder = null;
 		try {
 			model = schemaRootNodeBuilder.build( indexName );
-			indexWriter = createIndexWriter( model );
+			Sort indexSort = createIndexSort( model );
+			writerHolder = indexingBackendContext.createIndexWriterHolder( indexName, model.getScopedAnalyzer(), indexSort );
 			return new LuceneIndexManagerImpl(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
+					indexingBackendContext, searchBackendContext, indexName, model, writerHolder
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( model )
-					.push( indexWriter );
+					.push( writerHolder );
 			throw e;
 		}
 	}
 
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
-		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
-		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
-			try {
-				return new IndexWriter( directory, indexWriterConfig );
-			}
-			catch (RuntimeException e) {
-				new SuppressingCloser( e ).push( directory );
-				throw e;
-			}
+	private Sort createIndexSort(LuceneIndexModel model) {
+		if ( indexSortElements.isEmpty() ) {
+			return null;
 		}
-		catch (IOException | RuntimeException e) {
-			throw log.unableToCreateIndexWriter( getEventContext(), e );
+		// Lucene does not keep blocks of nested documents together when sorting the index
+		if ( model.hasNestedObjects() ) {
+			throw log.indexSortWithNestedObjects( model.getEventContext() );
 		}
-	}
 
-	private EventContext getEventContext() {
-		return indexingBackendContext.getEventContext().append(
-				EventContexts.fromIndexName( indexName )
-		);
+		SortField[] sortFields = new SortField[indexSortElements.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			String element = indexSortElements.get( i );
+			String absoluteFieldPath = element;
+			SortOrder order = SortOrder.ASC;
+			if ( element.endsWith( DESC_SUFFIX ) ) {
+				absoluteFieldPath = element.substring( 0, element.length() - DESC_SUFFIX.length() );
+				order = SortOrder.DESC;
+			}
+			else if ( element.endsWith( ASC_SUFFIX ) ) {
+				absoluteFieldPath = element.substring( 0, element.length() - ASC_SUFFIX.length() );
+			}
+			if ( absoluteFieldPath.isEmpty() || absoluteFieldPath.contains( ":" ) ) {
+				throw log.invalidIndexSortElement( element, model.getEventContext() );
+			}
+
+			LuceneIndexSchemaFieldNode<?> fieldNode = model.getFieldNode( absoluteFieldPath );
+			if ( fieldNode == null ) {
+				throw log.unknownFieldForSearch( absoluteFieldPath, model.getEventContext() );
+			}
+			sortFields[i] = fieldNode.getSortBuilderFactory().createIndexSortField( absoluteFieldPath, order );
+		}
+		return new Sort( sortFields );
 	}
 }
@@ -8,9 +8,11 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetContextBuilder;
@@ -23,16 +25,16 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkChannel;
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
 
 
 /**
@@ -52,21 +54,34 @@
 
 	private final LuceneIndexWorkOrchestrator serialOrchestrator;
 	private final LuceneIndexWorkOrchestrator parallelOrchestrator;
-	private final IndexWriter indexWriter;
+	private final IndexWriterHolder writerHolder;
+	private final LuceneWorkChannel channel;
 
 	LuceneIndexManagerImpl(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName, LuceneIndexModel model,
-			IndexWriter indexWriter) {
+			IndexWriterHolder writerHolder) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
 		this.model = model;
 
-		this.serialOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.parallelOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.indexWriter = indexWriter;
+		LuceneIndexWorkOrchestrator localSerialOrchestrator =
+				new LuceneStubIndexWorkOrchestrator( writerHolder::getOrCreateIndexWriter );
+		LuceneIndexWorkOrchestrator localParallelOrchestrator =
+				new LuceneStubIndexWorkOrchestrator( writerHolder::getOrCreateIndexWriter );
+		this.writerHolder = writerHolder;
+		// Works received from other nodes are applied in order, like works from local work plans
+		this.channel = indexingBackendContext.connect( indexName, localSerialOrchestrator );
+		if ( channel == null ) {
+			this.serialOrchestrator = localSerialOrchestrator;
+			this.parallelOrchestrator = localParallelOrchestrator;
+		}
+		else {
+			this.serialOrchestrator = indexingBackendContext.createRemoteOrchestrator( localSerialOrchestrator, channel );
+			this.parallelOrchestrator = indexingBackendContext.createRemoteOrchestrator( localParallelOrchestrator, channel );
+		}
 	}
 
 	LuceneIndexModel getModel() {
@@ -74,7 +89,9 @@ LuceneIndexModel getModel() {
 	}
 
 	@Override
-	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContextImplementor sessionContext) {
+	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		// Works are committed, and readers are reopened on each search, so there is no separate refresh to skip
 		return indexingBackendContext.createWorkPlan( serialOrchestrator, indexName, sessionContext );
 	}
 
@@ -120,7 +137,12 @@ public void close() {
 			closer.push( LuceneIndexWorkOrchestrator::close, serialOrchestrator );
 			closer.push( LuceneIndexWorkOrchestrator::close, parallelOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
-			closer.push( IndexWriter::close, indexWriter );
+			closer.push( IndexWriterHolder::close, writerHolder );
+			/*
+			 * Leave the group last: the next master will open its own index writer,
+			 * which requires the write lock to have been released.
+			 */
+			closer.push( LuceneWorkChannel::close, channel );
 			closer.push( LuceneIndexModel::close, model );
 		}
 		catch (IOException | RuntimeException e) {
@@ -135,7 +157,7 @@ ReaderProvider getReaderProvider() {
 	@Override
 	public IndexReader openIndexReader() {
 		try {
-			return DirectoryReader.open( indexWriter );
+			return writerHolder.openIndexReader();
 		}
 		catch (IOException e) {
 			throw log.unableToCreateIndexReader( getBackendAndIndexEventContext(), e );
@@ -157,6 +179,18 @@ public IndexManager toAPI() {
 		return this;
 	}
 
+	@Override
+	public CompletableFuture<?> start() {
+		if ( channel != null && !channel.isMaster() ) {
+			// Works will be sent to the master node: do not compete for the write lock
+			return CompletableFuture.completedFuture( null );
+		}
+		return Futures.create( () -> {
+			writerHolder.getOrCreateIndexWriter();
+			return CompletableFuture.completedFuture( null );
+		} );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -9,6 +9,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
@@ -30,17 +32,25 @@ class LuceneIndexWorkPlan implements IndexWorkPlan<LuceneRootDocumentBuilder> {
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final ExecutorService documentBuildingExecutor;
 	private final String indexName;
 	private final String tenantId;
 
-	private final List<LuceneIndexWork<?>> works = new ArrayList<>();
+	/*
+	 * Works to execute, in order.
+	 * When documents are built in the background, works adding or updating documents
+	 * are represented by a DeferredDocumentWork until the work plan is executed.
+	 */
+	private final List<Supplier<? extends LuceneIndexWork<?>>> works = new ArrayList<>();
 
 	LuceneIndexWorkPlan(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
+			LuceneIndexWorkOrchestrator orchestrator, ExecutorService documentBuildingExecutor,
 			String indexName, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.documentBuildingExecutor = sessionContext.isDeferredDocumentBuildingAllowed()
+				? documentBuildingExecutor : null;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
@@ -51,11 +61,9 @@ public void add(DocumentReferenceProvider referenceProvider,
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
-		documentContributor.contribute( builder );
-		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
-
-		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
+		collectDocumentWork( () -> factory.add(
+				indexName, tenantId, id, routingKey, buildIndexEntry( id, documentContributor )
+		) );
 		// FIXME remove this explicit commit
 		collect( factory.commit( indexName ) );
 	}
@@ -66,11 +74,9 @@ public void update(DocumentReferenceProvider referenceProvider,
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
-		documentContributor.contribute( builder );
-		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
-
-		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
+		collectDocumentWork( () -> factory.update(
+				indexName, tenantId, id, routingKey, buildIndexEntry( id, documentContributor )
+		) );
 		// FIXME remove this explicit commit
 		collect( factory.commit( indexName ) );
 	}
@@ -93,14 +99,78 @@ public void prepare() {
 	@Override
 	public CompletableFuture<?> execute() {
 		try {
-			return orchestrator.submit( works );
+			if ( documentBuildingExecutor == null ) {
+				return orchestrator.submit( getWorks() );
+			}
+			else {
+				return buildDocumentsInBackground();
+			}
 		}
 		finally {
 			works.clear();
 		}
 	}
 
+	private LuceneIndexEntry buildIndexEntry(String id,
+			DocumentContributor<LuceneRootDocumentBuilder> documentContributor) {
+		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
+		documentContributor.contribute( builder );
+		return builder.build( indexName, multiTenancyStrategy, tenantId, id );
+	}
+
+	private List<LuceneIndexWork<?>> getWorks() {
+		List<LuceneIndexWork<?>> result = new ArrayList<>( works.size() );
+		for ( Supplier<? extends LuceneIndexWork<?>> work : works ) {
+			result.add( work.get() );
+		}
+		return result;
+	}
+
+	private CompletableFuture<?> buildDocumentsInBackground() {
+		List<CompletableFuture<? extends LuceneIndexWork<?>>> futures = new ArrayList<>( works.size() );
+		for ( Supplier<? extends LuceneIndexWork<?>> work : works ) {
+			if ( work instanceof DeferredDocumentWork ) {
+				futures.add( CompletableFuture.supplyAsync( work, documentBuildingExecutor ) );
+			}
+			else {
+				futures.add( CompletableFuture.completedFuture( work.get() ) );
+			}
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+				.thenCompose( ignored -> {
+					// Submit works in their original order, regardless of which document was built first
+					List<LuceneIndexWork<?>> builtWorks = new ArrayList<>( futures.size() );
+					for ( CompletableFuture<? extends LuceneIndexWork<?>> future : futures ) {
+						builtWorks.add( future.join() );
+					}
+					return orchestrator.submit( builtWorks );
+				} );
+	}
+
 	private void collect(LuceneIndexWork<?> work) {
-		works.add( work );
+		works.add( () -> work );
+	}
+
+	private void collectDocumentWork(Supplier<LuceneIndexWork<?>> workBuilder) {
+		if ( documentBuildingExecutor == null ) {
+			// Build the document right away, in the current thread
+			collect( workBuilder.get() );
+		}
+		else {
+			works.add( new DeferredDocumentWork( workBuilder ) );
+		}
+	}
+
+	private static final class DeferredDocumentWork implements Supplier<LuceneIndexWork<?>> {
+		private final Supplier<LuceneIndexWork<?>> delegate;
+
+		private DeferredDocumentWork(Supplier<LuceneIndexWork<?>> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public LuceneIndexWork<?> get() {
+			return delegate.get();
+		}
 	}
 }
@@ -10,10 +10,12 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.Version;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneFieldSortBuilderFactory;
@@ -413,4 +415,68 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 	@Message(id = ID_OFFSET_2 + 69,
 			value = "An IOException occurred while generating an Explanation.")
 	SearchException ioExceptionOnExplain(@Cause IOException e);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Query '%1$s' exceeded the timeout of %2$s %3$s.")
+	SearchException searchTimeout(Query luceneQuery, long timeoutValue, TimeUnit timeoutUnit, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 72,
+			value = "Unable to deserialize Lucene works: %1$s")
+	SearchException unableToDeserializeWorks(String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "Unsupported serialization format version for Lucene works: '%1$s'. Expected version '%2$s'.")
+	SearchException unsupportedWorkSerializationVersion(int actualVersion, int expectedVersion);
+
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Field '%1$s' cannot be serialized: only string, binary and numeric field values are supported.")
+	SearchException unserializableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "Unknown type of serialized Lucene work: '%1$s'.")
+	SearchException unknownSerializedWorkType(byte workType);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "Unknown type of serialized Lucene field value: '%1$s'.")
+	SearchException unknownSerializedValueType(byte valueType);
+
+	@Message(id = ID_OFFSET_2 + 77,
+			value = "Unable to send works: no node is connected as master for this index.")
+	SearchException noMasterNodeForIndex(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 78,
+			value = "Invalid index sort element '%1$s'."
+					+ " Expected the path of a field, optionally followed by ':asc' or ':desc'.")
+	SearchException invalidIndexSortElement(String element, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 79,
+			value = "Index sorting is not supported for indexes containing nested object fields.")
+	SearchException indexSortWithNestedObjects(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 80,
+			value = "The query uses parameter '%1$s', but it was not prepared."
+					+ " Queries with parameters must be built using prepare(), then executed after binding parameter values.")
+	SearchException cannotBuildQueryWithParameter(String parameterName);
+
+	@Message(id = ID_OFFSET_2 + 81,
+			value = "Missing value for parameter '%1$s'. All parameters used in a prepared query must be bound to a non-null value.")
+	SearchException missingParameterValue(String parameterName);
+
+	@Message(id = ID_OFFSET_2 + 83,
+			value = "%1$s aggregations are not supported by this field's type.")
+	SearchException aggregationTypeNotSupportedByFieldType(String aggregationType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 84,
+			value = "Aggregations are not enabled for field '%1$s'. Make sure the field is marked as sortable.")
+	SearchException unaggregatableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 85,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			LuceneFieldAggregationBuilderFactory component1, LuceneFieldAggregationBuilderFactory component2,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 86,
+			value = "Unable to apply works: the index writer was closed because the index manager is shutting down.")
+	SearchException indexWriterClosed(@Param EventContext context);
 }
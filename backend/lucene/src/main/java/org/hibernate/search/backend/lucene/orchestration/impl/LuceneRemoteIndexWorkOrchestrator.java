@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkChannel;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkSerializer;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * An orchestrator applying works locally when the current node is the master for the index,
+ * and sending them to the master node through a {@link LuceneWorkChannel} otherwise.
+ * <p>
+ * Works sent to the master node do not return any result: their futures hold {@code null}.
+ */
+public class LuceneRemoteIndexWorkOrchestrator implements LuceneIndexWorkOrchestrator {
+
+	private final LuceneIndexWorkOrchestrator localDelegate;
+	private final LuceneWorkChannel channel;
+	private final LuceneIndexWorkSerializer serializer;
+
+	public LuceneRemoteIndexWorkOrchestrator(LuceneIndexWorkOrchestrator localDelegate,
+			LuceneWorkChannel channel, LuceneIndexWorkSerializer serializer) {
+		this.localDelegate = localDelegate;
+		this.channel = channel;
+		this.serializer = serializer;
+	}
+
+	@Override
+	public void close() {
+		localDelegate.close();
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
+		if ( channel.isMaster() ) {
+			return localDelegate.submit( work );
+		}
+		else {
+			return send( Collections.singletonList( work ) ).thenApply( ignored -> null );
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneIndexWork<?>> works) {
+		if ( channel.isMaster() ) {
+			return localDelegate.submit( works );
+		}
+		else {
+			return send( works );
+		}
+	}
+
+	private CompletableFuture<?> send(List<LuceneIndexWork<?>> works) {
+		return Futures.create( () -> channel.send( serializer.serialize( works ) ) );
+	}
+}
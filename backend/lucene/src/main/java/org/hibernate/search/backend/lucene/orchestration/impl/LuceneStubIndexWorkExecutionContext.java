@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.util.function.Supplier;
+
 import org.apache.lucene.index.IndexWriter;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
 
@@ -14,14 +16,14 @@
  */
 public class LuceneStubIndexWorkExecutionContext implements LuceneIndexWorkExecutionContext {
 
-	private final IndexWriter indexWriter;
+	private final Supplier<IndexWriter> indexWriterSupplier;
 
-	public LuceneStubIndexWorkExecutionContext(IndexWriter indexWriter) {
-		this.indexWriter = indexWriter;
+	public LuceneStubIndexWorkExecutionContext(Supplier<IndexWriter> indexWriterSupplier) {
+		this.indexWriterSupplier = indexWriterSupplier;
 	}
 
 	@Override
 	public IndexWriter getIndexWriter() {
-		return indexWriter;
+		return indexWriterSupplier.get();
 	}
 }
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.apache.lucene.index.IndexWriter;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
@@ -25,8 +26,8 @@ public class LuceneStubIndexWorkOrchestrator implements LuceneIndexWorkOrchestra
 	// Protected by synchronization on updates
 	private CompletableFuture<?> latestFuture = CompletableFuture.completedFuture( null );
 
-	public LuceneStubIndexWorkOrchestrator(IndexWriter indexWriter) {
-		this.context = new LuceneStubIndexWorkExecutionContext( indexWriter );
+	public LuceneStubIndexWorkOrchestrator(Supplier<IndexWriter> indexWriterSupplier) {
+		this.context = new LuceneStubIndexWorkExecutionContext( indexWriterSupplier );
 	}
 
 	@Override
@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneAggregationCollector;
+
+/**
+ * A search aggregation, ready to be computed.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public interface LuceneSearchAggregation<A> {
+
+	/**
+	 * @return A new collector computing this aggregation.
+	 * Collectors hold the state of a single execution: a new one must be created for each execution of a query.
+	 */
+	LuceneAggregationCollector<A> createCollector();
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.impl.IndexSchemaFieldNodeComponentRetrievalStrategy;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public class LuceneSearchAggregationBuilderFactoryImpl
+		implements SearchAggregationBuilderFactory<LuceneSearchAggregationCollector, LuceneSearchAggregationBuilder> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final AggregationBuilderFactoryRetrievalStrategy AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY =
+			new AggregationBuilderFactoryRetrievalStrategy();
+
+	private final LuceneSearchContext searchContext;
+	private final LuceneSearchTargetModel searchTargetModel;
+
+	public LuceneSearchAggregationBuilderFactoryImpl(LuceneSearchContext searchContext,
+			LuceneSearchTargetModel searchTargetModel) {
+		this.searchContext = searchContext;
+		this.searchTargetModel = searchTargetModel;
+	}
+
+	@Override
+	public void contribute(LuceneSearchAggregationCollector collector, AggregationKey<?> key,
+			LuceneSearchAggregationBuilder builder) {
+		builder.buildAndContribute( collector, key );
+	}
+
+	@Override
+	public TermsAggregationBuilder<LuceneSearchAggregationBuilder> terms(String absoluteFieldPath) {
+		return searchTargetModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.createTermsAggregationBuilder( absoluteFieldPath );
+	}
+
+	@Override
+	public RangeAggregationBuilder<LuceneSearchAggregationBuilder> range(String absoluteFieldPath) {
+		return searchTargetModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.createRangeAggregationBuilder( searchContext, absoluteFieldPath );
+	}
+
+	@Override
+	public SearchAggregationBuilder<LuceneSearchAggregationBuilder> histogram(String absoluteFieldPath,
+			long interval) {
+		return searchTargetModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.createHistogramAggregationBuilder( absoluteFieldPath, interval );
+	}
+
+	private static class AggregationBuilderFactoryRetrievalStrategy
+			implements IndexSchemaFieldNodeComponentRetrievalStrategy<LuceneFieldAggregationBuilderFactory> {
+
+		@Override
+		public LuceneFieldAggregationBuilderFactory extractComponent(LuceneIndexSchemaFieldNode<?> schemaNode) {
+			return schemaNode.getAggregationBuilderFactory();
+		}
+
+		@Override
+		public boolean areCompatible(LuceneFieldAggregationBuilderFactory component1,
+				LuceneFieldAggregationBuilderFactory component2) {
+			return component1.isDslCompatibleWith( component2 );
+		}
+
+		@Override
+		public SearchException createCompatibilityException(String absoluteFieldPath,
+				LuceneFieldAggregationBuilderFactory component1, LuceneFieldAggregationBuilderFactory component2,
+				EventContext context) {
+			return log.conflictingFieldTypesForAggregation( absoluteFieldPath, component1, component2, context );
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorer;
+
+/**
+ * A Lucene {@code Collector} counting documents per interval of values of a field indexed as numeric doc values.
+ */
+public class HistogramCollector implements LuceneAggregationCollector<Map<Long, Long>> {
+
+	private final String absoluteFieldPath;
+	private final long interval;
+
+	private final Map<Long, long[]> counts = new HashMap<>();
+
+	// Hits often fall into the same interval as the previous hit: avoid a lookup in that case
+	private long lastBucketKey;
+	private long[] lastBucketCount;
+
+	public HistogramCollector(String absoluteFieldPath, long interval) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.interval = interval;
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+		return new HistogramLeafCollector( DocValues.getNumeric( context.reader(), absoluteFieldPath ) );
+	}
+
+	@Override
+	public boolean needsScores() {
+		return false;
+	}
+
+	@Override
+	public Map<Long, Long> getResult() {
+		Map<Long, Long> result = new LinkedHashMap<>();
+		for ( Map.Entry<Long, long[]> entry : new TreeMap<>( counts ).entrySet() ) {
+			result.put( entry.getKey(), entry.getValue()[0] );
+		}
+		return Collections.unmodifiableMap( result );
+	}
+
+	private void count(long value) {
+		long bucketKey = Math.floorDiv( value, interval ) * interval;
+		if ( lastBucketCount == null || bucketKey != lastBucketKey ) {
+			lastBucketKey = bucketKey;
+			lastBucketCount = counts.computeIfAbsent( bucketKey, ignored -> new long[1] );
+		}
+		++lastBucketCount[0];
+	}
+
+	private class HistogramLeafCollector implements LeafCollector {
+		private final NumericDocValues values;
+
+		private HistogramLeafCollector(NumericDocValues values) {
+			this.values = values;
+		}
+
+		@Override
+		public void setScorer(Scorer scorer) {
+			// we don't need any scorer
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( values.advanceExact( doc ) ) {
+				count( values.longValue() );
+			}
+		}
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.search.Collector;
+
+/**
+ * A Lucene {@code Collector} computing the result of an aggregation.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public interface LuceneAggregationCollector<A> extends Collector {
+
+	/**
+	 * @return The result of the aggregation, for the documents collected so far.
+	 * @throws IOException If reading the index fails.
+	 */
+	A getResult() throws IOException;
+
+}
@@ -6,10 +6,16 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 public class LuceneCollectors {
 
@@ -17,16 +23,24 @@ public class LuceneCollectors {
 
 	private final TotalHitCountCollector totalHitCountCollector;
 
+	private final Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors;
+
 	private final Collector compositeCollector;
 
 	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector,
+			Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors,
 			Collector compositeCollector) {
 		this.topDocsCollector = topDocsCollector;
 		this.totalHitCountCollector = totalHitCountCollector;
+		this.aggregationCollectors = aggregationCollectors;
 		this.compositeCollector = compositeCollector;
 	}
 
 	public long getTotalHits() {
+		if ( totalHitCountCollector == null ) {
+			// Hits were not counted exactly: the top docs collector estimates the hits it did not collect
+			return topDocsCollector.getTotalHits();
+		}
 		return totalHitCountCollector.getTotalHits();
 	}
 
@@ -43,6 +57,18 @@ public TopDocs getTopDocs(long firstResultIndex, Long maxResultsCount) {
 		}
 	}
 
+	public Map<AggregationKey<?>, ?> getAggregationResults() throws IOException {
+		if ( aggregationCollectors.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		Map<AggregationKey<?>, Object> results = new LinkedHashMap<>();
+		for ( Map.Entry<AggregationKey<?>, LuceneAggregationCollector<?>> entry : aggregationCollectors.entrySet() ) {
+			results.put( entry.getKey(), entry.getValue().getResult() );
+		}
+		return results;
+	}
+
 	public Collector getCompositeCollector() {
 		return compositeCollector;
 	}
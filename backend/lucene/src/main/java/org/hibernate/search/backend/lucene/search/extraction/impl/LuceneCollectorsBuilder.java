@@ -7,15 +7,20 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
 public class LuceneCollectorsBuilder {
@@ -24,25 +29,47 @@ public class LuceneCollectorsBuilder {
 
 	private final int maxDocs;
 
-	private TopDocsCollector<?> topDocsCollector;
+	private final ScoreDoc after;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final boolean approximateHitCount;
+
+	private boolean topDocsRequired;
+
+	private boolean scoreRequired;
 
 	private final List<Collector> luceneCollectors = new ArrayList<>();
 
+	private final Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors = new LinkedHashMap<>();
+
 	public LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+		this( sort, maxDocs, null, false );
+	}
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top docs to collect.
+	 * @param after The last hit of the previous page, or {@code null} to collect from the very first hit.
+	 * Must be a {@link FieldDoc} when {@code sort} is not {@code null}.
+	 * @param approximateHitCount Whether collection may stop once the top docs are known,
+	 * in which case the total hit count is only an estimate.
+	 */
+	public LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after, boolean approximateHitCount) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
-
-		this.totalHitCountCollector = new TotalHitCountCollector();
-		this.luceneCollectors.add( this.totalHitCountCollector );
+		this.after = after;
+		this.approximateHitCount = approximateHitCount;
 	}
 
 	public void requireTopDocsCollector() {
-		if ( maxDocs > 0 ) {
-			topDocsCollector = createTopDocsCollector( sort, maxDocs );
-			luceneCollectors.add( topDocsCollector );
-		}
+		topDocsRequired = true;
+	}
+
+	/**
+	 * Require the top docs to hold the score of each hit, even when they are not sorted by score.
+	 */
+	public void requireScore() {
+		topDocsRequired = true;
+		scoreRequired = true;
 	}
 
 	public DistanceCollector addDistanceCollector(String absoluteFieldPath, GeoPoint center) {
@@ -51,9 +78,35 @@ public DistanceCollector addDistanceCollector(String absoluteFieldPath, GeoPoint
 		return distanceCollector;
 	}
 
+	/**
+	 * Add a collector computing an aggregation.
+	 * <p>
+	 * Aggregation collectors see every matching document,
+	 * even when the top docs collector terminates early.
+	 *
+	 * @param key The key of the aggregation.
+	 * @param aggregationCollector The collector.
+	 */
+	public void addAggregationCollector(AggregationKey<?> key, LuceneAggregationCollector<?> aggregationCollector) {
+		aggregationCollectors.put( key, aggregationCollector );
+		luceneCollectors.add( aggregationCollector );
+	}
+
 	public LuceneCollectors build() {
-		Collector compositeCollector;
+		TopDocsCollector<?> topDocsCollector = null;
+		if ( topDocsRequired && maxDocs > 0 ) {
+			topDocsCollector = createTopDocsCollector();
+			luceneCollectors.add( topDocsCollector );
+		}
 
+		TotalHitCountCollector totalHitCountCollector = null;
+		if ( topDocsCollector == null || !approximateHitCount ) {
+			// Counting every hit prevents the top docs collector from terminating early
+			totalHitCountCollector = new TotalHitCountCollector();
+			luceneCollectors.add( totalHitCountCollector );
+		}
+
+		Collector compositeCollector;
 		if ( luceneCollectors.size() == 1 ) {
 			compositeCollector = luceneCollectors.get( 0 );
 		}
@@ -61,22 +114,27 @@ public LuceneCollectors build() {
 			compositeCollector = MultiCollector.wrap( luceneCollectors );
 		}
 
-		return new LuceneCollectors( topDocsCollector, totalHitCountCollector, compositeCollector );
+		return new LuceneCollectors( topDocsCollector, totalHitCountCollector, aggregationCollectors, compositeCollector );
 	}
 
-	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs) {
+	private TopDocsCollector<?> createTopDocsCollector() {
 		TopDocsCollector<?> topDocsCollector;
 		if ( sort == null ) {
-			topDocsCollector = TopScoreDocCollector.create( maxDocs );
+			topDocsCollector = TopScoreDocCollector.create( maxDocs, after );
 		}
 		else {
+			/*
+			 * When hits are not counted exactly, Lucene stops collecting each segment
+			 * as soon as the top docs are known, provided the sort is a prefix of the index sort.
+			 */
 			topDocsCollector = TopFieldCollector.create(
 					sort,
 					maxDocs,
+					(FieldDoc) after,
 					true,
-					true,
-					true,
-					true
+					scoreRequired,
+					false,
+					!approximateHitCount
 			);
 		}
 		return topDocsCollector;
@@ -0,0 +1,97 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorer;
+
+/**
+ * A Lucene {@code Collector} counting documents whose value of a field indexed as numeric doc values
+ * falls within given ranges.
+ */
+public class RangeCollector implements LuceneAggregationCollector<Map<String, Long>> {
+
+	private final String absoluteFieldPath;
+
+	private final List<String> keys;
+	private final long[] lowerBounds;
+	private final long[] upperBounds;
+	private final boolean[] upperBounded;
+
+	private final long[] counts;
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param keys The key of each range.
+	 * @param lowerBounds The lower bound of each range, included.
+	 * @param upperBounds The upper bound of each range, excluded.
+	 * @param upperBounded Whether each range has an upper bound.
+	 */
+	public RangeCollector(String absoluteFieldPath, List<String> keys,
+			long[] lowerBounds, long[] upperBounds, boolean[] upperBounded) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.keys = keys;
+		this.lowerBounds = lowerBounds;
+		this.upperBounds = upperBounds;
+		this.upperBounded = upperBounded;
+		this.counts = new long[keys.size()];
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+		return new RangeLeafCollector( DocValues.getNumeric( context.reader(), absoluteFieldPath ) );
+	}
+
+	@Override
+	public boolean needsScores() {
+		return false;
+	}
+
+	@Override
+	public Map<String, Long> getResult() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		for ( int i = 0; i < counts.length; i++ ) {
+			result.put( keys.get( i ), counts[i] );
+		}
+		return Collections.unmodifiableMap( result );
+	}
+
+	private class RangeLeafCollector implements LeafCollector {
+		private final NumericDocValues values;
+
+		private RangeLeafCollector(NumericDocValues values) {
+			this.values = values;
+		}
+
+		@Override
+		public void setScorer(Scorer scorer) {
+			// we don't need any scorer
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( !values.advanceExact( doc ) ) {
+				return;
+			}
+			long value = values.longValue();
+			for ( int i = 0; i < counts.length; i++ ) {
+				if ( lowerBounds[i] <= value && ( !upperBounded[i] || value < upperBounds[i] ) ) {
+					++counts[i];
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A Lucene {@code Collector} counting documents per value of a field indexed as sorted doc values.
+ * <p>
+ * Documents are counted per global ordinal, i.e. per distinct value across all segments,
+ * in a single array shared by all segments.
+ * Only the {@code maxTermCount} top ordinals are kept when the result is computed,
+ * and only their terms are resolved.
+ */
+public class TermsCollector implements LuceneAggregationCollector<Map<String, Long>> {
+
+	private final String absoluteFieldPath;
+	private final int maxTermCount;
+
+	// Initialized when collecting the first segment, since global ordinals are computed for the top-level reader
+	private SortedSetDocValues[] segmentValues;
+	private OrdinalMap ordinalMap;
+	private int[] counts;
+
+	public TermsCollector(String absoluteFieldPath, int maxTermCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+		if ( counts == null ) {
+			initGlobalOrdinals( ReaderUtil.getTopLevelContext( context ).reader() );
+		}
+
+		SortedSetDocValues values = DocValues.getSortedSet( context.reader(), absoluteFieldPath );
+		if ( values.getValueCount() == 0L ) {
+			// No value in this segment: nothing to count
+			throw new CollectionTerminatedException();
+		}
+
+		LongValues toGlobalOrd = ordinalMap == null ? LongValues.IDENTITY : ordinalMap.getGlobalOrds( context.ord );
+		SortedDocValues singleValues = DocValues.unwrapSingleton( values );
+		if ( singleValues != null ) {
+			return new SingleValuedLeafCollector( singleValues, toGlobalOrd, counts );
+		}
+		else {
+			return new MultiValuedLeafCollector( values, toGlobalOrd, counts );
+		}
+	}
+
+	@Override
+	public boolean needsScores() {
+		return false;
+	}
+
+	@Override
+	public Map<String, Long> getResult() throws IOException {
+		if ( counts == null ) {
+			// No segment was collected
+			return Collections.emptyMap();
+		}
+
+		// Global ordinals follow the order of terms: the greater ordinal has the greater term
+		Comparator<Integer> worstFirst = Comparator.<Integer>comparingInt( ord -> counts[ord] )
+				.thenComparing( Comparator.reverseOrder() );
+		// Bounded heap of the best ordinals so far, with the worst of them at the head
+		PriorityQueue<Integer> topOrds = new PriorityQueue<>(
+				Math.max( 1, Math.min( maxTermCount, counts.length ) ), worstFirst
+		);
+		for ( int ord = 0; ord < counts.length; ord++ ) {
+			if ( counts[ord] == 0 ) {
+				continue;
+			}
+			if ( topOrds.size() < maxTermCount ) {
+				topOrds.add( ord );
+			}
+			else if ( maxTermCount > 0 && worstFirst.compare( ord, topOrds.peek() ) > 0 ) {
+				topOrds.poll();
+				topOrds.add( ord );
+			}
+		}
+
+		int[] sortedOrds = new int[topOrds.size()];
+		for ( int i = sortedOrds.length - 1; i >= 0; i-- ) {
+			sortedOrds[i] = topOrds.poll();
+		}
+		Map<String, Long> result = new LinkedHashMap<>();
+		for ( int ord : sortedOrds ) {
+			result.put( lookupTerm( ord ), (long) counts[ord] );
+		}
+		return Collections.unmodifiableMap( result );
+	}
+
+	private void initGlobalOrdinals(IndexReader topLevelReader) throws IOException {
+		List<LeafReaderContext> leaves = topLevelReader.leaves();
+		segmentValues = new SortedSetDocValues[leaves.size()];
+		for ( int i = 0; i < segmentValues.length; i++ ) {
+			segmentValues[i] = DocValues.getSortedSet( leaves.get( i ).reader(), absoluteFieldPath );
+		}
+
+		long globalValueCount;
+		if ( segmentValues.length == 1 ) {
+			// Segment ordinals are global ordinals
+			globalValueCount = segmentValues[0].getValueCount();
+		}
+		else {
+			IndexReader.CacheHelper cacheHelper = topLevelReader.getReaderCacheHelper();
+			ordinalMap = OrdinalMap.build(
+					cacheHelper == null ? null : cacheHelper.getKey(), segmentValues, PackedInts.DEFAULT
+			);
+			globalValueCount = ordinalMap.getValueCount();
+		}
+		counts = new int[Math.toIntExact( globalValueCount )];
+	}
+
+	private String lookupTerm(int globalOrd) throws IOException {
+		if ( ordinalMap == null ) {
+			return segmentValues[0].lookupOrd( globalOrd ).utf8ToString();
+		}
+		int segment = ordinalMap.getFirstSegmentNumber( globalOrd );
+		long segmentOrd = ordinalMap.getFirstSegmentOrd( globalOrd );
+		return segmentValues[segment].lookupOrd( segmentOrd ).utf8ToString();
+	}
+
+	private static final class SingleValuedLeafCollector implements LeafCollector {
+		private final SortedDocValues values;
+		private final LongValues toGlobalOrd;
+		private final int[] counts;
+
+		private SingleValuedLeafCollector(SortedDocValues values, LongValues toGlobalOrd, int[] counts) {
+			this.values = values;
+			this.toGlobalOrd = toGlobalOrd;
+			this.counts = counts;
+		}
+
+		@Override
+		public void setScorer(Scorer scorer) {
+			// we don't need any scorer
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( values.advanceExact( doc ) ) {
+				++counts[(int) toGlobalOrd.get( values.ordValue() )];
+			}
+		}
+	}
+
+	private static final class MultiValuedLeafCollector implements LeafCollector {
+		private final SortedSetDocValues values;
+		private final LongValues toGlobalOrd;
+		private final int[] counts;
+
+		private MultiValuedLeafCollector(SortedSetDocValues values, LongValues toGlobalOrd, int[] counts) {
+			this.values = values;
+			this.toGlobalOrd = toGlobalOrd;
+			this.counts = counts;
+		}
+
+		@Override
+		public void setScorer(Scorer scorer) {
+			// we don't need any scorer
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( values.advanceExact( doc ) ) {
+				for ( long ord = values.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = values.nextOrd() ) {
+					++counts[(int) toGlobalOrd.get( ord )];
+				}
+			}
+		}
+	}
+}
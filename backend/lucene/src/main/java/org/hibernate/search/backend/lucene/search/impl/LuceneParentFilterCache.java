@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.search.join.QueryBitSetProducer;
+
+/**
+ * Producers of the bitsets identifying parent documents in block joins, shared by all queries of a backend.
+ * <p>
+ * {@link QueryBitSetProducer} caches bitsets per instance, keyed by segment core:
+ * sharing instances means a bitset is only computed once per segment,
+ * and is discarded along with the segment.
+ */
+public final class LuceneParentFilterCache {
+
+	private final BitSetProducer mainDocumentFilter = new QueryBitSetProducer( LuceneQueries.mainDocumentQuery() );
+
+	private final ConcurrentMap<String, BitSetProducer> nestedDocumentFilters = new ConcurrentHashMap<>();
+
+	/**
+	 * @param nestedPath The absolute path of the nested object field parent documents are instances of,
+	 * or {@code null} if parent documents are main documents.
+	 * @return A producer of the bitsets identifying parent documents.
+	 */
+	public BitSetProducer getParentFilter(String nestedPath) {
+		if ( nestedPath == null ) {
+			return mainDocumentFilter;
+		}
+		return nestedDocumentFilters.computeIfAbsent(
+				nestedPath, path -> new QueryBitSetProducer( LuceneQueries.nestedDocumentPathQuery( path ) )
+		);
+	}
+}
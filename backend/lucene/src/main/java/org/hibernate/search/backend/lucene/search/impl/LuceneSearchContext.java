@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.impl;
 
+import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisCache;
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentIdentifierValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentFieldValueConvertContextImpl;
@@ -16,10 +17,15 @@ public final class LuceneSearchContext {
 
 	private final ToDocumentIdentifierValueConvertContext toDocumentIdentifierValueConvertContext;
 	private final ToDocumentFieldValueConvertContext toDocumentFieldValueConvertContext;
+	private final LuceneParentFilterCache parentFilterCache;
+	private final LuceneAnalysisCache analysisCache;
 
-	public LuceneSearchContext(MappingContextImplementor mappingContext) {
+	public LuceneSearchContext(MappingContextImplementor mappingContext, LuceneParentFilterCache parentFilterCache,
+			LuceneAnalysisCache analysisCache) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
+		this.parentFilterCache = parentFilterCache;
+		this.analysisCache = analysisCache;
 	}
 
 	public ToDocumentIdentifierValueConvertContext getToDocumentIdentifierValueConvertContext() {
@@ -29,4 +35,12 @@ public ToDocumentIdentifierValueConvertContext getToDocumentIdentifierValueConve
 	public ToDocumentFieldValueConvertContext getToDocumentFieldValueConvertContext() {
 		return toDocumentFieldValueConvertContext;
 	}
+
+	public LuceneParentFilterCache getParentFilterCache() {
+		return parentFilterCache;
+	}
+
+	public LuceneAnalysisCache getAnalysisCache() {
+		return analysisCache;
+	}
 }
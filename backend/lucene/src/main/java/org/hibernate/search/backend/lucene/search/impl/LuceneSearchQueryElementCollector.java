@@ -8,26 +8,34 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationCollector;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateBuilder;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateCollector;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneSearchQueryElementCollector
-		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector {
+		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector, LuceneSearchAggregationCollector {
 
-	private Query luceneQueryPredicate;
+	private LuceneSearchPredicateBuilder predicateBuilder;
 	private List<SortField> sortFields;
+	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 
 	@Override
-	public void collectPredicate(Query luceneQuery) {
-		this.luceneQueryPredicate = luceneQuery;
+	public void collectPredicate(LuceneSearchPredicateBuilder predicateBuilder) {
+		this.predicateBuilder = predicateBuilder;
 	}
 
 	@Override
@@ -50,8 +58,21 @@ public void collectSortFields(SortField[] sortFields) {
 		Collections.addAll( this.sortFields, sortFields );
 	}
 
-	public Query toLuceneQueryPredicate() {
-		return luceneQueryPredicate;
+	@Override
+	public <A> void collectAggregation(AggregationKey<?> key, LuceneSearchAggregation<A> aggregation) {
+		if ( aggregations == null ) {
+			aggregations = new LinkedHashMap<>();
+		}
+		aggregations.put( key, aggregation );
+	}
+
+	/**
+	 * @param context The context to build the predicate with.
+	 * Prepared queries build the predicate again with a different context each time parameters are bound.
+	 * @return The Lucene query for the collected predicate.
+	 */
+	public Query toLuceneQueryPredicate(LuceneSearchPredicateContext context) {
+		return predicateBuilder.build( context );
 	}
 
 	public Sort toLuceneSort() {
@@ -61,4 +82,8 @@ public Sort toLuceneSort() {
 
 		return new Sort( sortFields.toArray( new SortField[0] ) );
 	}
+
+	public Map<AggregationKey<?>, LuceneSearchAggregation<?>> getAggregations() {
+		return aggregations == null ? Collections.emptyMap() : aggregations;
+	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
@@ -16,6 +18,8 @@
 import org.hibernate.search.engine.search.predicate.spi.MatchPredicateBuilder;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
+import org.apache.lucene.search.Query;
+
 /**
  * @param <F> The field type exposed to the mapper.
  * @param <E> The encoded type.
@@ -28,12 +32,20 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final LuceneSearchContext searchContext;
+	/**
+	 * The maximum number of queries kept for the most recently bound values of a parameter.
+	 */
+	private static final int MAX_CACHED_PARAMETER_QUERIES = 16;
+
+	protected final LuceneSearchContext searchContext;
 	protected final String absoluteFieldPath;
 	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
 	protected final C codec;
 
-	protected E value;
+	private E value;
+	private String parameterName;
+	// Queries built for the most recently bound parameter values, so that binding them again skips analysis
+	private Map<E, Query> parameterQueries;
 
 	protected AbstractLuceneStandardMatchPredicateBuilder(
 			LuceneSearchContext searchContext,
@@ -48,9 +60,44 @@ protected AbstractLuceneStandardMatchPredicateBuilder(
 
 	@Override
 	public void value(Object value) {
+		this.value = encode( value );
+	}
+
+	@Override
+	public void parameter(String parameterName) {
+		this.parameterName = parameterName;
+		this.parameterQueries = new LinkedHashMap<E, Query>( MAX_CACHED_PARAMETER_QUERIES, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<E, Query> eldest) {
+				return size() > MAX_CACHED_PARAMETER_QUERIES;
+			}
+		};
+	}
+
+	@Override
+	protected final Query doBuild(LuceneSearchPredicateContext context) {
+		if ( parameterName == null ) {
+			return doBuild( value );
+		}
+		E parameterValue = encode( context.getParameterValue( parameterName ) );
+		// Prepared queries may be bound concurrently
+		synchronized ( parameterQueries ) {
+			// Lucene queries are immutable: they can be shared between executions
+			return parameterQueries.computeIfAbsent( parameterValue, this::doBuild );
+		}
+	}
+
+	/**
+	 * @param value The encoded value to match: either the value passed to {@link #value(Object)},
+	 * or the value bound to the parameter passed to {@link #parameter(String)}.
+	 * @return The query matching this value.
+	 */
+	protected abstract Query doBuild(E value);
+
+	private E encode(Object value) {
 		try {
 			F converted = converter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
-			this.value = codec.encode( converted );
+			return codec.encode( converted );
 		}
 		catch (RuntimeException e) {
 			throw log.cannotConvertDslParameter(
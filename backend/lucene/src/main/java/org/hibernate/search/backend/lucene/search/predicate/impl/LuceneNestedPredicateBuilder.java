@@ -6,13 +6,15 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.hibernate.search.backend.lucene.search.impl.LuceneParentFilterCache;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
+import org.hibernate.search.engine.search.dsl.predicate.NestedScoreMode;
 import org.hibernate.search.engine.search.predicate.spi.NestedPredicateBuilder;
+import org.hibernate.search.util.AssertionFailure;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.search.join.ScoreMode;
 import org.apache.lucene.search.join.ToParentBlockJoinQuery;
 
@@ -24,11 +26,14 @@ class LuceneNestedPredicateBuilder extends AbstractLuceneSearchPredicateBuilder
 		implements NestedPredicateBuilder<LuceneSearchPredicateBuilder> {
 
 	private final String absoluteFieldPath;
+	private final LuceneParentFilterCache parentFilterCache;
 
 	private LuceneSearchPredicateBuilder nestedBuilder;
+	private ScoreMode scoreMode = ScoreMode.Avg;
 
-	LuceneNestedPredicateBuilder(String absoluteFieldPath) {
+	LuceneNestedPredicateBuilder(String absoluteFieldPath, LuceneParentFilterCache parentFilterCache) {
 		this.absoluteFieldPath = absoluteFieldPath;
+		this.parentFilterCache = parentFilterCache;
 	}
 
 	@Override
@@ -36,24 +41,39 @@ public void nested(LuceneSearchPredicateBuilder nestedBuilder) {
 		this.nestedBuilder = nestedBuilder;
 	}
 
+	@Override
+	public void scoreMode(NestedScoreMode scoreMode) {
+		this.scoreMode = toLuceneScoreMode( scoreMode );
+	}
+
 	@Override
 	protected Query doBuild(LuceneSearchPredicateContext context) {
-		LuceneSearchPredicateContext childContext = new LuceneSearchPredicateContext( absoluteFieldPath );
+		LuceneSearchPredicateContext childContext = context.nested( absoluteFieldPath );
 
 		BooleanQuery.Builder childQueryBuilder = new BooleanQuery.Builder();
 		childQueryBuilder.add( LuceneQueries.childDocumentQuery(), Occur.FILTER );
 		childQueryBuilder.add( LuceneQueries.nestedDocumentPathQuery( absoluteFieldPath ), Occur.FILTER );
 		childQueryBuilder.add( nestedBuilder.build( childContext ), Occur.MUST );
 
-		Query parentQuery;
-		if ( context.getNestedPath() == null ) {
-			parentQuery = LuceneQueries.mainDocumentQuery();
-		}
-		else {
-			parentQuery = LuceneQueries.nestedDocumentPathQuery( context.getNestedPath() );
-		}
+		return new ToParentBlockJoinQuery(
+				childQueryBuilder.build(), parentFilterCache.getParentFilter( context.getNestedPath() ), scoreMode
+		);
+	}
 
-		// TODO at some point we should have a parameter for the score mode
-		return new ToParentBlockJoinQuery( childQueryBuilder.build(), new QueryBitSetProducer( parentQuery ), ScoreMode.Avg );
+	private static ScoreMode toLuceneScoreMode(NestedScoreMode scoreMode) {
+		switch ( scoreMode ) {
+			case AVG:
+				return ScoreMode.Avg;
+			case MAX:
+				return ScoreMode.Max;
+			case MIN:
+				return ScoreMode.Min;
+			case SUM:
+				return ScoreMode.Total;
+			case NONE:
+				return ScoreMode.None;
+			default:
+				throw new AssertionFailure( "Unexpected score mode: " + scoreMode );
+		}
 	}
 }
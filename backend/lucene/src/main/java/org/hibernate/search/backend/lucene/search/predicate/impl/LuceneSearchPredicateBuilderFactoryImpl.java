@@ -64,7 +64,7 @@ public LuceneSearchPredicateBuilder toImplementation(SearchPredicate predicate)
 	@Override
 	public void contribute(LuceneSearchPredicateCollector collector,
 			LuceneSearchPredicateBuilder builder) {
-		collector.collectPredicate( builder.build( LuceneSearchPredicateContext.root() ) );
+		collector.collectPredicate( builder );
 	}
 
 	@Override
@@ -121,7 +121,7 @@ public SpatialWithinBoundingBoxPredicateBuilder<LuceneSearchPredicateBuilder> sp
 	@Override
 	public NestedPredicateBuilder<LuceneSearchPredicateBuilder> nested(String absoluteFieldPath) {
 		searchTargetModel.checkNestedField( absoluteFieldPath );
-		return new LuceneNestedPredicateBuilder( absoluteFieldPath );
+		return new LuceneNestedPredicateBuilder( absoluteFieldPath, searchContext.getParentFilterCache() );
 	}
 
 	@Override
@@ -6,11 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
-import org.apache.lucene.search.Query;
-
-
 /**
- * A predicate collector for Lucene, using Lucene {@link Query} to represent predicates.
+ * A predicate collector for Lucene, using {@link LuceneSearchPredicateBuilder} to represent predicates,
+ * so that Lucene queries can be built again with different parameter values.
  * <p>
  * Used by Lucene-specific predicate contributors.
  *
@@ -19,5 +17,5 @@
  */
 public interface LuceneSearchPredicateCollector {
 
-	void collectPredicate(Query luceneQuery);
+	void collectPredicate(LuceneSearchPredicateBuilder predicateBuilder);
 }
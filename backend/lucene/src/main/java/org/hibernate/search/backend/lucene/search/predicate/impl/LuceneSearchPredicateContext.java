@@ -6,21 +6,58 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
 public class LuceneSearchPredicateContext {
 
-	private static final LuceneSearchPredicateContext ROOT = new LuceneSearchPredicateContext( null );
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final LuceneSearchPredicateContext ROOT = new LuceneSearchPredicateContext( null, null );
 
 	private final String nestedPath;
+	private final Map<String, ?> parameterValues;
 
-	public LuceneSearchPredicateContext(String nestedPath) {
+	private LuceneSearchPredicateContext(String nestedPath, Map<String, ?> parameterValues) {
 		this.nestedPath = nestedPath;
+		this.parameterValues = parameterValues;
 	}
 
 	public String getNestedPath() {
 		return nestedPath;
 	}
 
+	LuceneSearchPredicateContext nested(String nestedPath) {
+		return new LuceneSearchPredicateContext( nestedPath, parameterValues );
+	}
+
+	/**
+	 * @param parameterName The name of a parameter.
+	 * @return The value bound to this parameter. Never null.
+	 */
+	public Object getParameterValue(String parameterName) {
+		if ( parameterValues == null ) {
+			throw log.cannotBuildQueryWithParameter( parameterName );
+		}
+		Object value = parameterValues.get( parameterName );
+		if ( value == null ) {
+			throw log.missingParameterValue( parameterName );
+		}
+		return value;
+	}
+
 	public static LuceneSearchPredicateContext root() {
 		return ROOT;
 	}
+
+	/**
+	 * @param parameterValues The values bound to the parameters of a prepared query.
+	 * @return The root context, for the given parameter values.
+	 */
+	public static LuceneSearchPredicateContext root(Map<String, ?> parameterValues) {
+		return new LuceneSearchPredicateContext( null, parameterValues );
+	}
 }
@@ -25,7 +25,7 @@ private LuceneScoreProjection() {
 
 	@Override
 	public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder) {
-		luceneCollectorBuilder.requireTopDocsCollector();
+		luceneCollectorBuilder.requireScore();
 	}
 
 	@Override
@@ -10,11 +10,13 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.spi.SimpleSearchResult;
@@ -36,14 +38,19 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
+	private final boolean timedOut;
 
 	LuceneLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			LuceneSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, Map<AggregationKey<?>, ?> aggregationResults,
+			boolean timedOut) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.aggregationResults = aggregationResults;
+		this.timedOut = timedOut;
 	}
 
 	long getHitCount() {
@@ -67,6 +74,6 @@ SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleSearchResult<>( hitCount, loadedHits );
+		return new SimpleSearchResult<>( hitCount, loadedHits, timedOut, aggregationResults );
 	}
 }
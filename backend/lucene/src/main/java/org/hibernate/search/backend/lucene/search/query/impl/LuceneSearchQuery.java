@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
@@ -14,9 +16,13 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
-import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.impl.common.Futures;
 
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 
@@ -24,9 +30,10 @@
 /**
  * @author Guillaume Smet
  */
-public class LuceneSearchQuery<T> implements SearchQuery<T> {
+public class LuceneSearchQuery<T> implements BatchableSearchQuery<T> {
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneSearchQueryBatchExecutor batchExecutor;
 	private final LuceneWorkFactory workFactory;
 	private final Set<String> indexNames;
 	private final Set<ReaderProvider> readerProviders;
@@ -35,16 +42,24 @@
 	private final Sort luceneSort;
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+	private final boolean approximateHitCount;
 
 	private Long firstResultIndex = 0L;
 	private Long maxResultsCount;
 
 	public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneSearchQueryBatchExecutor batchExecutor,
 			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
 			SessionContextImplementor sessionContext,
 			Query luceneQuery, Sort luceneSort,
-			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor) {
+			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			boolean approximateHitCount) {
 		this.queryOrchestrator = queryOrchestrator;
+		this.batchExecutor = batchExecutor;
 		this.workFactory = workFactory;
 		this.indexNames = indexNames;
 		this.readerProviders = readerProviders;
@@ -53,6 +68,10 @@ public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 		this.luceneSort = luceneSort;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.approximateHitCount = approximateHitCount;
 	}
 
 	@Override
@@ -77,28 +96,79 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
+		return load( submitSearch().join() );
+	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync() {
+		CompletableFuture<LuceneLoadableSearchResult<T>> future = submitSearch();
+		return Futures.propagateCancellation( future.thenApply( this::load ), future );
+	}
+
+	private CompletableFuture<LuceneLoadableSearchResult<T>> submitSearch() {
 		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
 				new LuceneSearcher<>(
 						indexNames,
 						readerProviders,
 						luceneQuery, luceneSort,
 						firstResultIndex, maxResultsCount,
-						luceneCollectorProvider, searchResultExtractor
+						luceneCollectorProvider, searchResultExtractor,
+						timeoutValue, timeoutUnit, exceptionOnTimeout,
+						approximateHitCount
+				)
+		);
+		return queryOrchestrator.submit( work );
+	}
+
+	@Override
+	public SearchQueryBatchExecutor getBatchExecutor() {
+		return batchExecutor;
+	}
+
+	Set<ReaderProvider> getReaderProviders() {
+		return readerProviders;
+	}
+
+	Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	/**
+	 * @param indexSearcher A searcher on the indexes targeted by this query, managed by the caller.
+	 * @return A future for the result of this query, executed using the given searcher.
+	 */
+	CompletableFuture<LuceneLoadableSearchResult<T>> submit(IndexSearcher indexSearcher) {
+		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
+				new LuceneSearcher<>(
+						indexNames,
+						indexSearcher,
+						luceneQuery, luceneSort,
+						firstResultIndex, maxResultsCount,
+						luceneCollectorProvider, searchResultExtractor,
+						timeoutValue, timeoutUnit, exceptionOnTimeout,
+						approximateHitCount
 				)
 		);
-		return queryOrchestrator.submit( work ).join()
+		return queryOrchestrator.submit( work );
+	}
+
+	SearchResult<T> load(LuceneLoadableSearchResult<T> result) {
+		return result
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in the user thread,
+				 * except for executeAsync() which documents that it loads hits in another thread.
+				 * Mappers whose loading is bound to the user thread must not expose executeAsync().
 				 */
 				.loadBlocking( sessionContext );
 	}
 
 	@Override
 	public long executeCount() {
+		return executeCountAsync().join();
+	}
+
+	@Override
+	public CompletableFuture<Long> executeCountAsync() {
 		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
 				new LuceneSearcher<>(
 						indexNames,
@@ -107,9 +177,25 @@ public long executeCount() {
 						0L, 0L,
 						// do not add any TopDocs collector
 						( luceneCollectorBuilder -> { } ),
-						searchResultExtractor
+						searchResultExtractor,
+						timeoutValue, timeoutUnit, exceptionOnTimeout,
+						false
 				)
 		);
-		return queryOrchestrator.submit( work ).join().getHitCount();
+		CompletableFuture<LuceneLoadableSearchResult<T>> future = queryOrchestrator.submit( work );
+		return Futures.propagateCancellation( future.thenApply( LuceneLoadableSearchResult::getHitCount ), future );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		return new LuceneSearchScroll<>(
+				queryOrchestrator, workFactory,
+				indexNames, readerProviders,
+				sessionContext,
+				luceneQuery, luceneSort,
+				luceneCollectorProvider, searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				firstResultIndex, maxResultsCount, chunkSize
+		);
 	}
 }
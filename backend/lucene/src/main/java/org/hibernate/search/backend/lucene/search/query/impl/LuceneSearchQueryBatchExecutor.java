@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Executes multiple queries on a single view of each index:
+ * readers are opened once for all queries targeting the same indexes,
+ * and all works are submitted before waiting for any of them.
+ */
+class LuceneSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	@Override
+	public List<SearchResult<?>> executeAll(List<? extends BatchableSearchQuery<?>> queries) {
+		Map<Set<ReaderProvider>, IndexSearcher> indexSearchers = new LinkedHashMap<>();
+		List<CompletableFuture<? extends LuceneLoadableSearchResult<?>>> futures = new ArrayList<>( queries.size() );
+		try {
+			for ( BatchableSearchQuery<?> query : queries ) {
+				LuceneSearchQuery<?> luceneQuery = (LuceneSearchQuery<?>) query;
+				IndexSearcher indexSearcher = indexSearchers.computeIfAbsent(
+						luceneQuery.getReaderProviders(),
+						readerProviders -> new IndexSearcher(
+								MultiReaderFactory.openReader( luceneQuery.getIndexNames(), readerProviders )
+						)
+				);
+				futures.add( luceneQuery.submit( indexSearcher ) );
+			}
+
+			List<SearchResult<?>> results = new ArrayList<>( queries.size() );
+			for ( int i = 0; i < queries.size(); i++ ) {
+				results.add( load( (LuceneSearchQuery<?>) queries.get( i ), futures.get( i ).join() ) );
+			}
+			return results;
+		}
+		finally {
+			// Readers must not be closed while works are still using them
+			for ( CompletableFuture<?> future : futures ) {
+				future.handle( (ignored1, ignored2) -> null ).join();
+			}
+			for ( IndexSearcher indexSearcher : indexSearchers.values() ) {
+				MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked") // The result was extracted by the result extractor of the same query
+	private static <T> SearchResult<T> load(LuceneSearchQuery<T> query, LuceneLoadableSearchResult<?> loadableResult) {
+		return query.load( (LuceneLoadableSearchResult<T>) loadableResult );
+	}
+
+}
@@ -6,19 +6,26 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.PreparedSearchQuery;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
@@ -27,6 +34,7 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneSearchQueryBatchExecutor batchExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneSearchTargetModel searchTargetModel;
@@ -37,9 +45,15 @@
 	private final LuceneSearchProjection<?, T> rootProjection;
 	private final LuceneSearchQueryElementCollector elementCollector;
 
+	private Long timeoutValue;
+	private TimeUnit timeoutUnit;
+	private boolean exceptionOnTimeout;
+	private boolean approximateHitCount;
+
 	LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneSearchQueryBatchExecutor batchExecutor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContextImplementor sessionContext,
@@ -48,6 +62,7 @@
 			LuceneSearchProjection<?, T> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.batchExecutor = batchExecutor;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.searchTargetModel = searchTargetModel;
@@ -70,27 +85,69 @@ public void addRoutingKey(String routingKey) {
 		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
 	}
 
-	private SearchQuery<T> build() {
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutValue = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = true;
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutValue = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = false;
+	}
+
+	@Override
+	public void approximateHitCount() {
+		this.approximateHitCount = true;
+	}
+
+	@Override
+	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
+		return searchQueryWrapperFactory.apply( build( LuceneSearchPredicateContext.root() ) );
+	}
+
+	@Override
+	public <Q> PreparedSearchQuery<Q> prepare(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
+		// The predicate builders are retained: only the Lucene query is built again when binding parameters
+		return parameterValues -> searchQueryWrapperFactory.apply(
+				build( LuceneSearchPredicateContext.root( parameterValues ) )
+		);
+	}
+
+	private SearchQuery<T> build(LuceneSearchPredicateContext predicateContext) {
 		LuceneSearchResultExtractor<T> searchResultExtractor = new LuceneSearchResultExtractorImpl<>(
 				storedFieldVisitor, rootProjection, projectionHitMapper
 		);
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
-		luceneQueryBuilder.add( elementCollector.toLuceneQueryPredicate(), Occur.MUST );
+		luceneQueryBuilder.add( elementCollector.toLuceneQueryPredicate( predicateContext ), Occur.MUST );
 		luceneQueryBuilder.add( LuceneQueries.mainDocumentQuery(), Occur.FILTER );
 
 		return new LuceneSearchQuery<>(
-				queryOrchestrator, workFactory,
+				queryOrchestrator, batchExecutor, workFactory,
 				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders(),
 				sessionContext,
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), sessionContext.getTenantIdentifier() ),
 				elementCollector.toLuceneSort(),
-				rootProjection, searchResultExtractor
+				createCollectorProvider(), searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				approximateHitCount
 		);
 	}
 
-	@Override
-	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
-		return searchQueryWrapperFactory.apply( build() );
+	private LuceneCollectorProvider createCollectorProvider() {
+		Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations = elementCollector.getAggregations();
+		if ( aggregations.isEmpty() ) {
+			return rootProjection;
+		}
+		return luceneCollectorBuilder -> {
+			rootProjection.contributeCollectors( luceneCollectorBuilder );
+			for ( Map.Entry<AggregationKey<?>, LuceneSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				luceneCollectorBuilder.addAggregationCollector( entry.getKey(), entry.getValue().createCollector() );
+			}
+		};
 	}
 }
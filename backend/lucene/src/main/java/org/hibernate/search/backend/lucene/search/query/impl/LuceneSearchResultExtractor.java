@@ -7,15 +7,18 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TopDocs;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 public interface LuceneSearchResultExtractor<T> {
 
 	LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+			Map<AggregationKey<?>, ?> aggregationResults, boolean timedOut,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException;
 
 }
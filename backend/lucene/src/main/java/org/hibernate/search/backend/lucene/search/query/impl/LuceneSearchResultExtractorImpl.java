@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.IndexSearcher;
@@ -19,6 +20,7 @@
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 class LuceneSearchResultExtractorImpl<T> implements LuceneSearchResultExtractor<T> {
@@ -38,12 +40,13 @@
 
 	@Override
 	public LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+			Map<AggregationKey<?>, ?> aggregationResults, boolean timedOut,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
 		List<Object> extractedData = extractHits( indexSearcher, topDocs, projectionExecutionContext );
 
 		return new LuceneLoadableSearchResult<>(
 				projectionHitMapper, rootProjection,
-				totalHits, extractedData
+				totalHits, extractedData, aggregationResults, timedOut
 		);
 	}
 
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.spi.SimpleSearchResult;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+
+/**
+ * A scroll relying on {@code searchAfter}:
+ * each chunk is retrieved by running the query again, collecting only the top hits following the last hit of the previous chunk.
+ * <p>
+ * The index reader is opened once and held until the scroll is closed,
+ * so that doc IDs remain stable and all chunks are retrieved from the same view of the index.
+ *
+ * @param <T> The type of hits.
+ */
+class LuceneSearchScroll<T> implements SearchScroll<T> {
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final Set<String> indexNames;
+	private final IndexSearcher indexSearcher;
+	private final SessionContextImplementor sessionContext;
+	private final Query luceneQuery;
+	private final Sort luceneSort;
+	private final LuceneCollectorProvider luceneCollectorProvider;
+	private final LuceneSearchResultExtractor<T> searchResultExtractor;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+	private final int chunkSize;
+
+	private long hitsToSkip;
+	private Long remainingHits;
+	private ScoreDoc after;
+	private long hitCount;
+	private boolean exhausted;
+
+	LuceneSearchScroll(LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
+			SessionContextImplementor sessionContext,
+			Query luceneQuery, Sort luceneSort,
+			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long firstResultIndex, Long maxResultsCount, int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.indexNames = indexNames;
+		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		this.sessionContext = sessionContext;
+		this.luceneQuery = luceneQuery;
+		this.luceneSort = luceneSort;
+		this.luceneCollectorProvider = luceneCollectorProvider;
+		this.searchResultExtractor = searchResultExtractor;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.chunkSize = chunkSize;
+		this.hitsToSkip = firstResultIndex == null ? 0L : firstResultIndex;
+		this.remainingHits = maxResultsCount;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		if ( exhausted || remainingHits != null && remainingHits <= 0L ) {
+			exhausted = true;
+			return new SimpleSearchResult<>( hitCount, Collections.emptyList() );
+		}
+
+		long maxHitsInChunk = remainingHits == null ? chunkSize : Math.min( chunkSize, remainingHits );
+		LuceneSearcher<T> searcher = new LuceneSearcher<>(
+				indexNames,
+				indexSearcher, after,
+				luceneQuery, luceneSort,
+				// Skipped hits must only be skipped once: they come before the first chunk
+				hitsToSkip, maxHitsInChunk,
+				luceneCollectorProvider, searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout
+		);
+		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search( searcher );
+		SearchResult<T> result = queryOrchestrator.submit( work ).join()
+				// WARNING: must run in the user thread, see LuceneSearchQuery#execute
+				.loadBlocking( sessionContext );
+
+		int hitsInChunk = result.getHits().size();
+		hitCount = result.getHitCount();
+		hitsToSkip = 0L;
+		after = searcher.getLastScoreDoc();
+		if ( remainingHits != null ) {
+			remainingHits -= hitsInChunk;
+		}
+		if ( hitsInChunk < maxHitsInChunk || after == null ) {
+			exhausted = true;
+		}
+
+		return result;
+	}
+
+	@Override
+	public void close() {
+		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + luceneQuery + ", sort=" + luceneSort
+				+ ", chunkSize=" + chunkSize + "]";
+	}
+}
@@ -7,12 +7,27 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.Set;
-
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.index.ExitableDirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.QueryTimeout;
+import org.apache.lucene.index.QueryTimeoutImpl;
+import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.search.TopDocs;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
@@ -20,14 +35,19 @@
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneSearcher<T> implements AutoCloseable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final Set<String> indexNames;
 	private final IndexSearcher indexSearcher;
+	private final boolean ownsIndexReader;
+	private final ScoreDoc after;
 
 	private final Query luceneQuery;
 	private final Sort luceneSort;
@@ -38,6 +58,13 @@
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
 
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+	private final boolean approximateHitCount;
+
+	private ScoreDoc lastScoreDoc;
+
 	public LuceneSearcher(Set<String> indexNames,
 			Set<ReaderProvider> readerProviders,
 			Query luceneQuery,
@@ -45,36 +72,134 @@ public LuceneSearcher(Set<String> indexNames,
 			Long firstResultIndex,
 			Long maxResultsCount,
 			LuceneCollectorProvider luceneCollectorProvider,
-			LuceneSearchResultExtractor<T> searchResultExtractor) {
+			LuceneSearchResultExtractor<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			boolean approximateHitCount) {
+		this( indexNames, new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) ), true,
+				null, luceneQuery, luceneSort, firstResultIndex, maxResultsCount,
+				luceneCollectorProvider, searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout, approximateHitCount );
+	}
+
+	/**
+	 * Create a searcher for the hits following a given hit, using a searcher whose reader is managed by the caller,
+	 * so that successive pages are retrieved from the same view of the index.
+	 */
+	public LuceneSearcher(Set<String> indexNames,
+			IndexSearcher indexSearcher,
+			ScoreDoc after,
+			Query luceneQuery,
+			Sort luceneSort,
+			Long firstResultIndex,
+			Long maxResultsCount,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+		this( indexNames, indexSearcher, false,
+				after, luceneQuery, luceneSort, firstResultIndex, maxResultsCount,
+				luceneCollectorProvider, searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout, false );
+	}
+
+	/**
+	 * Create a searcher using a searcher whose reader is managed by the caller,
+	 * so that multiple queries can be executed against the same view of the index.
+	 */
+	public LuceneSearcher(Set<String> indexNames,
+			IndexSearcher indexSearcher,
+			Query luceneQuery,
+			Sort luceneSort,
+			Long firstResultIndex,
+			Long maxResultsCount,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			boolean approximateHitCount) {
+		this( indexNames, indexSearcher, false,
+				null, luceneQuery, luceneSort, firstResultIndex, maxResultsCount,
+				luceneCollectorProvider, searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout, approximateHitCount );
+	}
+
+	private LuceneSearcher(Set<String> indexNames,
+			IndexSearcher indexSearcher, boolean ownsIndexReader,
+			ScoreDoc after,
+			Query luceneQuery,
+			Sort luceneSort,
+			Long firstResultIndex,
+			Long maxResultsCount,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<T> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			boolean approximateHitCount) {
 		this.indexNames = indexNames;
-		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		this.indexSearcher = indexSearcher;
+		this.ownsIndexReader = ownsIndexReader;
+		this.after = after;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.firstResultIndex = firstResultIndex == null ? 0L : firstResultIndex;
 		this.maxResultsCount = maxResultsCount;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.approximateHitCount = approximateHitCount;
 	}
 
 	public LuceneLoadableSearchResult<T> execute() throws IOException {
-		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
-
-		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder(
+				luceneSort, getMaxDocs(), after, approximateHitCount
+		);
 		luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
 		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
 
-		indexSearcher.search( luceneQuery, luceneCollectors.getCompositeCollector() );
+		boolean timedOut = false;
+		Collector collector = luceneCollectors.getCompositeCollector();
+		IndexSearcher timeLimitedIndexSearcher = indexSearcher;
+		if ( timeoutValue != null && timeoutUnit != null ) {
+			long timeoutMillis = timeoutUnit.toMillis( timeoutValue );
+			collector = new TimeLimitingCollector( collector, TimeLimitingCollector.getGlobalCounter(), timeoutMillis );
+			// Also stop term enumeration (wildcard queries, ranges, ...), which happens before collection starts
+			timeLimitedIndexSearcher = createExitableIndexSearcher( new QueryTimeoutImpl( timeoutMillis ) );
+		}
+
+		try {
+			timeLimitedIndexSearcher.search( luceneQuery, collector );
+		}
+		catch (TimeLimitingCollector.TimeExceededException | ExitableDirectoryReader.ExitingReaderException e) {
+			if ( exceptionOnTimeout ) {
+				throw log.searchTimeout( luceneQuery, timeoutValue, timeoutUnit, getEventContext() );
+			}
+			// Keep whatever was collected until now
+			timedOut = true;
+		}
 
 		SearchProjectionExtractContext projectionExecutionContext =
 				new SearchProjectionExtractContext( indexSearcher, luceneQuery );
 
+		TopDocs topDocs = luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount );
+		if ( topDocs != null && topDocs.scoreDocs.length > 0 ) {
+			lastScoreDoc = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+		}
+
 		return searchResultExtractor.extract(
 				indexSearcher, luceneCollectors.getTotalHits(),
-				luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount ),
+				topDocs,
+				luceneCollectors.getAggregationResults(),
+				timedOut,
 				projectionExecutionContext
 		);
 	}
 
+	/**
+	 * @return The last hit returned by {@link #execute()}, to retrieve the following hits, or {@code null} if there was no hit.
+	 */
+	public ScoreDoc getLastScoreDoc() {
+		return lastScoreDoc;
+	}
+
 	public Query getLuceneQuery() {
 		return luceneQuery;
 	}
@@ -85,7 +210,26 @@ public EventContext getEventContext() {
 
 	@Override
 	public void close() {
-		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		if ( ownsIndexReader ) {
+			MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		}
+	}
+
+	/*
+	 * Leaves are wrapped individually because the top-level reader is a MultiReader,
+	 * which ExitableDirectoryReader cannot wrap.
+	 * The resulting reader must not be closed: closing it would close the wrapped leaves.
+	 * Doc IDs are identical in both readers, so hits can be extracted using the original searcher.
+	 */
+	private IndexSearcher createExitableIndexSearcher(QueryTimeout queryTimeout) throws IOException {
+		IndexReader indexReader = indexSearcher.getIndexReader();
+		List<LeafReaderContext> leaves = indexReader.leaves();
+		LeafReader[] exitableLeaves = new LeafReader[leaves.size()];
+		for ( int i = 0; i < exitableLeaves.length; i++ ) {
+			exitableLeaves[i] = new ExitableDirectoryReader.ExitableFilterAtomicReader( leaves.get( i ).reader(), queryTimeout );
+		}
+		IndexSearcher exitableIndexSearcher = new IndexSearcher( new MultiReader( exitableLeaves, false ) );
+		return exitableIndexSearcher;
 	}
 
 	private int getMaxDocs() {
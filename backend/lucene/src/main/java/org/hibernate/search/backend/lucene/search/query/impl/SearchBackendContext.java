@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
+import org.hibernate.search.backend.lucene.search.impl.LuceneParentFilterCache;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -24,14 +26,23 @@ public class SearchBackendContext {
 
 	private final LuceneQueryWorkOrchestrator orchestrator;
 
+	private final LuceneSearchQueryBatchExecutor batchExecutor;
+
+	private final LuceneParentFilterCache parentFilterCache = new LuceneParentFilterCache();
+
+	private final LuceneAnalysisCache analysisCache;
+
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			LuceneQueryWorkOrchestrator orchestrator) {
+			LuceneQueryWorkOrchestrator orchestrator,
+			LuceneAnalysisCache analysisCache) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
+		this.batchExecutor = new LuceneSearchQueryBatchExecutor();
+		this.analysisCache = analysisCache;
 	}
 
 	@Override
@@ -43,6 +54,14 @@ public EventContext getEventContext() {
 		return eventContext;
 	}
 
+	LuceneParentFilterCache getParentFilterCache() {
+		return parentFilterCache;
+	}
+
+	public LuceneAnalysisCache getAnalysisCache() {
+		return analysisCache;
+	}
+
 	<T> LuceneSearchQueryBuilder<T> createSearchQueryBuilder(
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContextImplementor sessionContext,
@@ -56,6 +75,7 @@ <T> LuceneSearchQueryBuilder<T> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				orchestrator,
+				batchExecutor,
 				multiTenancyStrategy,
 				searchTargetModel,
 				sessionContext,
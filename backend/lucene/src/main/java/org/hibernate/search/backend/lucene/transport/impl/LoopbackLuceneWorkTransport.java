@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.transport.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkChannel;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkReceiver;
+import org.hibernate.search.backend.lucene.transport.spi.LuceneWorkTransport;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An in-JVM transport, mainly useful for tests: all backends of the JVM using this transport
+ * and declaring the same index share a single group, whatever the backend instance.
+ * <p>
+ * The oldest member of each group is the master.
+ * When it leaves, the next oldest member becomes the master.
+ * Works are passed to the master synchronously, in the order they were sent.
+ */
+public final class LoopbackLuceneWorkTransport implements LuceneWorkTransport {
+
+	public static final String NAME = "loopback";
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConcurrentMap<String, Group> GROUPS = new ConcurrentHashMap<>();
+
+	@Override
+	public LuceneWorkChannel connect(String indexName, LuceneWorkReceiver receiver) {
+		Member[] result = new Member[1];
+		GROUPS.compute( indexName, (key, group) -> {
+			if ( group == null ) {
+				group = new Group( key );
+			}
+			result[0] = new Member( group, receiver );
+			group.members.add( result[0] );
+			return group;
+		} );
+		return result[0];
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	private static final class Group {
+		private final String indexName;
+		// Oldest member first
+		private final List<Member> members = new CopyOnWriteArrayList<>();
+
+		private Group(String indexName) {
+			this.indexName = indexName;
+		}
+
+		private Member getMaster() {
+			return members.isEmpty() ? null : members.get( 0 );
+		}
+	}
+
+	private static final class Member implements LuceneWorkChannel {
+		private final Group group;
+		private final LuceneWorkReceiver receiver;
+
+		private Member(Group group, LuceneWorkReceiver receiver) {
+			this.group = group;
+			this.receiver = receiver;
+		}
+
+		@Override
+		public boolean isMaster() {
+			return group.getMaster() == this;
+		}
+
+		@Override
+		public CompletableFuture<?> send(byte[] payload) {
+			return Futures.create( () -> {
+				Member master = group.getMaster();
+				if ( master == null ) {
+					throw log.noMasterNodeForIndex( EventContexts.fromIndexName( group.indexName ) );
+				}
+				return master.receiver.receive( payload );
+			} );
+		}
+
+		@Override
+		public void close() {
+			GROUPS.computeIfPresent( group.indexName, (key, currentGroup) -> {
+				currentGroup.members.remove( this );
+				return currentGroup.members.isEmpty() ? null : currentGroup;
+			} );
+		}
+	}
+}
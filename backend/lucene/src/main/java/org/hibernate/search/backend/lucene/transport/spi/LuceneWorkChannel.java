@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.transport.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The connection of the current node to the group of nodes sharing an index.
+ *
+ * @see LuceneWorkTransport
+ */
+public interface LuceneWorkChannel extends AutoCloseable {
+
+	/**
+	 * @return {@code true} if the current node is currently the master for this index,
+	 * i.e. if it should apply works to the index itself.
+	 * The result may change over time, e.g. when the master node leaves the group.
+	 */
+	boolean isMaster();
+
+	/**
+	 * Send serialized works to the master node.
+	 *
+	 * @param payload The serialized works.
+	 * @return A future that will complete when the master has applied the works.
+	 */
+	CompletableFuture<?> send(byte[] payload);
+
+	/**
+	 * Disconnect from the group, giving up the master role if necessary.
+	 */
+	@Override
+	void close();
+
+}
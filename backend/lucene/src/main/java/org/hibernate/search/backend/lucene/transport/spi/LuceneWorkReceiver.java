@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.transport.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The master-side endpoint of a {@link LuceneWorkTransport}, applying works sent by other nodes.
+ */
+public interface LuceneWorkReceiver {
+
+	/**
+	 * @param payload Works serialized by another node.
+	 * @return A future that will complete when the works have been applied.
+	 */
+	CompletableFuture<?> receive(byte[] payload);
+
+}
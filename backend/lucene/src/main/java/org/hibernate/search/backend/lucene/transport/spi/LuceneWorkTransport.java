@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.transport.spi;
+
+/**
+ * A transport allowing multiple nodes to share a single Lucene index writer.
+ * <p>
+ * For each index, the transport elects one "master" node among the connected nodes:
+ * the master applies indexing works to the index itself,
+ * while the other nodes send their works to the master through the transport.
+ */
+public interface LuceneWorkTransport {
+
+	/**
+	 * Connect the current node to the group of nodes sharing the given index.
+	 *
+	 * @param indexName The name of the index.
+	 * @param receiver The receiver to which works sent by other nodes should be passed
+	 * whenever the current node is elected as master for this index.
+	 * @return The channel to use to send works for this index.
+	 */
+	LuceneWorkChannel connect(String indexName, LuceneWorkReceiver receiver);
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.HistogramCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+
+class LuceneHistogramAggregationBuilder
+		implements SearchAggregationBuilder<LuceneSearchAggregationBuilder>, LuceneSearchAggregationBuilder {
+
+	private final String absoluteFieldPath;
+	private final long interval;
+
+	LuceneHistogramAggregationBuilder(String absoluteFieldPath, long interval) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.interval = interval;
+	}
+
+	@Override
+	public LuceneSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public void buildAndContribute(LuceneSearchAggregationCollector collector, AggregationKey<?> key) {
+		collector.collectAggregation( key, () -> new HistogramCollector( absoluteFieldPath, interval ) );
+	}
+}
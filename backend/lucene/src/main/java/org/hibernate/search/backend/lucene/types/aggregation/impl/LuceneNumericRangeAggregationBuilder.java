@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.RangeCollector;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * @param <F> The field type exposed to the mapper.
+ * @param <E> The encoded type.
+ */
+class LuceneNumericRangeAggregationBuilder<F, E>
+		implements RangeAggregationBuilder<LuceneSearchAggregationBuilder>, LuceneSearchAggregationBuilder {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearchContext searchContext;
+
+	private final String absoluteFieldPath;
+
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	private final LuceneNumericFieldCodec<F, E> codec;
+
+	private final List<String> keys = new ArrayList<>();
+	private final List<Long> lowerBounds = new ArrayList<>();
+	private final List<Long> upperBounds = new ArrayList<>();
+
+	LuceneNumericRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			LuceneNumericFieldCodec<F, E> codec) {
+		this.searchContext = searchContext;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+		this.codec = codec;
+	}
+
+	@Override
+	public void range(String key, Object from, Object to) {
+		keys.add( key );
+		lowerBounds.add( convertAndEncode( from ) );
+		upperBounds.add( convertAndEncode( to ) );
+	}
+
+	@Override
+	public LuceneSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public void buildAndContribute(LuceneSearchAggregationCollector collector, AggregationKey<?> key) {
+		int rangeCount = keys.size();
+		List<String> effectiveKeys = Collections.unmodifiableList( new ArrayList<>( keys ) );
+		long[] effectiveLowerBounds = new long[rangeCount];
+		long[] effectiveUpperBounds = new long[rangeCount];
+		boolean[] upperBounded = new boolean[rangeCount];
+		for ( int i = 0; i < rangeCount; i++ ) {
+			Long lowerBound = lowerBounds.get( i );
+			Long upperBound = upperBounds.get( i );
+			effectiveLowerBounds[i] = lowerBound == null ? Long.MIN_VALUE : lowerBound;
+			upperBounded[i] = upperBound != null;
+			effectiveUpperBounds[i] = upperBound == null ? Long.MAX_VALUE : upperBound;
+		}
+
+		collector.collectAggregation( key, () -> new RangeCollector(
+				absoluteFieldPath, effectiveKeys, effectiveLowerBounds, effectiveUpperBounds, upperBounded
+		) );
+	}
+
+	private Long convertAndEncode(Object value) {
+		if ( value == null ) {
+			return null;
+		}
+		try {
+			F converted = converter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
+			return codec.getDomain().toDocValue( codec.encode( converted ) );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.TermsCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+class LuceneTermsAggregationBuilder
+		implements TermsAggregationBuilder<LuceneSearchAggregationBuilder>, LuceneSearchAggregationBuilder {
+
+	private static final int DEFAULT_MAX_TERM_COUNT = 10;
+
+	private final String absoluteFieldPath;
+
+	private int maxTermCount = DEFAULT_MAX_TERM_COUNT;
+
+	LuceneTermsAggregationBuilder(String absoluteFieldPath) {
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public void maxTermCount(int maxTermCount) {
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public LuceneSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public void buildAndContribute(LuceneSearchAggregationCollector collector, AggregationKey<?> key) {
+		int effectiveMaxTermCount = maxTermCount;
+		collector.collectAggregation( key, () -> new TermsCollector( absoluteFieldPath, effectiveMaxTermCount ) );
+	}
+}
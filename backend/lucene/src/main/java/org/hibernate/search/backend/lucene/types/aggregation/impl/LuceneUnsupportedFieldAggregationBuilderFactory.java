@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A factory for fields that do not support any aggregation.
+ */
+public final class LuceneUnsupportedFieldAggregationBuilderFactory implements LuceneFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final LuceneUnsupportedFieldAggregationBuilderFactory INSTANCE =
+			new LuceneUnsupportedFieldAggregationBuilderFactory();
+
+	private LuceneUnsupportedFieldAggregationBuilderFactory() {
+	}
+
+	@Override
+	public TermsAggregationBuilder<LuceneSearchAggregationBuilder> createTermsAggregationBuilder(
+			String absoluteFieldPath) {
+		throw log.aggregationTypeNotSupportedByFieldType( "Terms",
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
+	@Override
+	public RangeAggregationBuilder<LuceneSearchAggregationBuilder> createRangeAggregationBuilder(
+			LuceneSearchContext searchContext, String absoluteFieldPath) {
+		throw log.aggregationTypeNotSupportedByFieldType( "Range",
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
+	@Override
+	public SearchAggregationBuilder<LuceneSearchAggregationBuilder> createHistogramAggregationBuilder(
+			String absoluteFieldPath, long interval) {
+		throw log.aggregationTypeNotSupportedByFieldType( "Histogram",
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
+	@Override
+	public boolean isDslCompatibleWith(LuceneFieldAggregationBuilderFactory other) {
+		return INSTANCE == other;
+	}
+}
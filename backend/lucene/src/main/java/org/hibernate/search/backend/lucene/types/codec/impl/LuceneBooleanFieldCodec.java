@@ -75,6 +75,11 @@ public Integer encode(Boolean value) {
 		return value ? 1 : 0;
 	}
 
+	@Override
+	public boolean hasDocValues() {
+		return sortable;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
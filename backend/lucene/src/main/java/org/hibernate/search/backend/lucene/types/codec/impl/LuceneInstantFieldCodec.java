@@ -78,6 +78,11 @@ public Long encode(Instant value) {
 		return value == null ? null : value.toEpochMilli();
 	}
 
+	@Override
+	public boolean hasDocValues() {
+		return sortable;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
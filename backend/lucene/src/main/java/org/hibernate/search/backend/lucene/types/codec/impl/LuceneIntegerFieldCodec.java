@@ -72,6 +72,11 @@ public Integer encode(Integer value) {
 		return value;
 	}
 
+	@Override
+	public boolean hasDocValues() {
+		return sortable;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
@@ -99,6 +99,11 @@ public Long encode(LocalDate value) {
 		return value == null ? null : value.toEpochDay();
 	}
 
+	@Override
+	public boolean hasDocValues() {
+		return sortable;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
@@ -73,6 +73,11 @@ public Long encode(Long value) {
 		return value;
 	}
 
+	@Override
+	public boolean hasDocValues() {
+		return sortable;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
@@ -8,6 +8,8 @@
 
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
 
@@ -27,6 +29,50 @@
 
 	public abstract SortField.Type getSortFieldType();
 
+	/**
+	 * @param value A value.
+	 * @return The value, as indexed in numeric doc values.
+	 */
+	public abstract long toDocValue(E value);
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param value The value to match.
+	 * @param withDocValues Whether values of this field are indexed as doc values.
+	 * @return A query matching the given value, letting Lucene choose, for each segment,
+	 * between using points or doc values when doc values are available.
+	 */
+	public Query createExactQuery(String absoluteFieldPath, E value, boolean withDocValues) {
+		Query pointQuery = createExactQuery( absoluteFieldPath, value );
+		if ( !withDocValues ) {
+			return pointQuery;
+		}
+		return new IndexOrDocValuesQuery(
+				pointQuery,
+				NumericDocValuesField.newSlowExactQuery( absoluteFieldPath, toDocValue( value ) )
+		);
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param lowerLimit The lower limit, inclusive.
+	 * @param upperLimit The upper limit, inclusive.
+	 * @param withDocValues Whether values of this field are indexed as doc values.
+	 * @return A query matching values in the given range, letting Lucene choose, for each segment,
+	 * between using points (best when the range leads the query) or doc values
+	 * (best when other, more selective clauses lead the query) when doc values are available.
+	 */
+	public Query createRangeQuery(String absoluteFieldPath, E lowerLimit, E upperLimit, boolean withDocValues) {
+		Query pointQuery = createRangeQuery( absoluteFieldPath, lowerLimit, upperLimit );
+		if ( !withDocValues ) {
+			return pointQuery;
+		}
+		return new IndexOrDocValuesQuery(
+				pointQuery,
+				NumericDocValuesField.newSlowRangeQuery( absoluteFieldPath, toDocValue( lowerLimit ), toDocValue( upperLimit ) )
+		);
+	}
+
 	public static final LuceneNumericDomain<Integer> INTEGER = new LuceneNumericDomain<Integer>() {
 		@Override
 		public Integer getMinValue() {
@@ -64,6 +110,11 @@ public Query createRangeQuery(String absoluteFieldPath, Integer lowerLimit, Inte
 		public SortField.Type getSortFieldType() {
 			return SortField.Type.INT;
 		}
+
+		@Override
+		public long toDocValue(Integer value) {
+			return value.longValue();
+		}
 	};
 
 	public static final LuceneNumericDomain<Long> LONG = new LuceneNumericDomain<Long>() {
@@ -103,6 +154,11 @@ public Query createRangeQuery(String absoluteFieldPath, Long lowerLimit, Long up
 		public SortField.Type getSortFieldType() {
 			return SortField.Type.LONG;
 		}
+
+		@Override
+		public long toDocValue(Long value) {
+			return value;
+		}
 	};
 
 }
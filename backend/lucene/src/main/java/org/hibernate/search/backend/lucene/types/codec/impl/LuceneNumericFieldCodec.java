@@ -10,4 +10,9 @@
 
 	LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return Whether encoded values are also indexed as numeric doc values.
+	 */
+	boolean hasDocValues();
+
 }
@@ -6,7 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
@@ -19,16 +23,32 @@
 
 public final class LuceneStringFieldCodec implements LuceneTextFieldCodec<String> {
 
+	/*
+	 * Sortable string fields often hold a few distinct values repeated over many documents (status, country, ...).
+	 * Sort keys of short values are cached, up to this many values,
+	 * so that such values are not normalized and encoded again for each document.
+	 * When the cache is full, entries that were not used since the eviction cursor last went past them
+	 * are evicted first ("second chance" algorithm), so the cache follows changes in the indexed values.
+	 */
+	private static final int MAX_CACHED_SORT_KEY_COUNT = 1024;
+	private static final int MAX_CACHED_SORT_KEY_INPUT_LENGTH = 64;
+
 	private final boolean sortable;
 
 	private final FieldType fieldType;
 
 	private final Analyzer analyzerOrNormalizer;
 
+	private final ConcurrentMap<String, SortKey> sortKeyCache;
+	private final AtomicInteger sortKeyCacheSize;
+	private Iterator<ConcurrentMap.Entry<String, SortKey>> sortKeyEvictionCursor;
+
 	public LuceneStringFieldCodec(boolean sortable, FieldType fieldType, Analyzer analyzerOrNormalizer) {
 		this.sortable = sortable;
 		this.fieldType = fieldType;
 		this.analyzerOrNormalizer = analyzerOrNormalizer;
+		this.sortKeyCache = sortable ? new ConcurrentHashMap<>() : null;
+		this.sortKeyCacheSize = sortable ? new AtomicInteger() : null;
 	}
 
 	@Override
@@ -40,10 +60,7 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 		documentBuilder.addField( new Field( absoluteFieldPath, value, fieldType ) );
 
 		if ( sortable ) {
-			documentBuilder.addField( new SortedDocValuesField(
-					absoluteFieldPath,
-					new BytesRef( normalize( absoluteFieldPath, value ) )
-			) );
+			documentBuilder.addField( new SortedDocValuesField( absoluteFieldPath, toSortKey( absoluteFieldPath, value ) ) );
 		}
 	}
 
@@ -83,4 +100,53 @@ public String normalize(String absoluteFieldPath, String value) {
 				? AnalyzerUtils.normalize( analyzerOrNormalizer, absoluteFieldPath, value )
 				: value;
 	}
+
+	/*
+	 * The returned BytesRef may be shared between documents: it must not be modified.
+	 * This is fine since Lucene copies doc values when indexing.
+	 */
+	private BytesRef toSortKey(String absoluteFieldPath, String value) {
+		if ( value.length() > MAX_CACHED_SORT_KEY_INPUT_LENGTH ) {
+			return new BytesRef( normalize( absoluteFieldPath, value ) );
+		}
+
+		SortKey sortKey = sortKeyCache.get( value );
+		if ( sortKey != null ) {
+			sortKey.used = true;
+			return sortKey.bytes;
+		}
+
+		BytesRef bytes = new BytesRef( normalize( absoluteFieldPath, value ) );
+		if ( sortKeyCache.putIfAbsent( value, new SortKey( bytes ) ) == null
+				&& sortKeyCacheSize.incrementAndGet() > MAX_CACHED_SORT_KEY_COUNT ) {
+			evictSortKeys();
+		}
+		return bytes;
+	}
+
+	private synchronized void evictSortKeys() {
+		while ( sortKeyCacheSize.get() > MAX_CACHED_SORT_KEY_COUNT ) {
+			if ( sortKeyEvictionCursor == null || !sortKeyEvictionCursor.hasNext() ) {
+				sortKeyEvictionCursor = sortKeyCache.entrySet().iterator();
+			}
+			ConcurrentMap.Entry<String, SortKey> candidate = sortKeyEvictionCursor.next();
+			SortKey sortKey = candidate.getValue();
+			if ( sortKey.used ) {
+				// Give the entry a second chance: it will be evicted next time unless it is used again
+				sortKey.used = false;
+			}
+			else if ( sortKeyCache.remove( candidate.getKey(), sortKey ) ) {
+				sortKeyCacheSize.decrementAndGet();
+			}
+		}
+	}
+
+	private static final class SortKey {
+		private final BytesRef bytes;
+		private volatile boolean used;
+
+		private SortKey(BytesRef bytes) {
+			this.bytes = bytes;
+		}
+	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl.impl;
 
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneUnsupportedFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldContributor;
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldValueExtractor;
@@ -41,6 +42,7 @@ public IndexFieldType<F> toIndexFieldType() {
 				codec,
 				null,
 				null,
+				LuceneUnsupportedFieldAggregationBuilderFactory.INSTANCE,
 				new LuceneStandardFieldProjectionBuilderFactory<>( fieldValueExtractor != null, indexToProjectionConverter, codec )
 		);
 	}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl.impl;
 
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneUnsupportedFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneGeoPointFieldCodec;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexFieldType;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneGeoPointFieldPredicateBuilderFactory;
@@ -48,6 +49,7 @@ public LuceneIndexFieldType<GeoPoint> toIndexFieldType() {
 				codec,
 				LuceneGeoPointFieldPredicateBuilderFactory.INSTANCE,
 				new LuceneGeoPointFieldSortBuilderFactory( resolvedSortable ),
+				LuceneUnsupportedFieldAggregationBuilderFactory.INSTANCE,
 				new LuceneGeoPointFieldProjectionBuilderFactory( resolvedProjectable, codec, indexToProjectionConverter )
 		);
 	}
@@ -8,6 +8,7 @@
 
 import java.time.Instant;
 
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneUnsupportedFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneInstantFieldCodec;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexFieldType;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneNumericFieldPredicateBuilderFactory;
@@ -47,6 +48,7 @@ public LuceneIndexFieldType<Instant> toIndexFieldType() {
 				codec,
 				new LuceneNumericFieldPredicateBuilderFactory<>( dslToIndexConverter, codec ),
 				new LuceneNumericFieldSortBuilderFactory<>( resolvedSortable, dslToIndexConverter, codec ),
+				LuceneUnsupportedFieldAggregationBuilderFactory.INSTANCE,
 				new LuceneStandardFieldProjectionBuilderFactory<>( resolvedProjectable, indexToProjectionConverter, codec )
 		);
 	}
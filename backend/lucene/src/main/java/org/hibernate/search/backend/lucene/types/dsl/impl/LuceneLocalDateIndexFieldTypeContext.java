@@ -8,6 +8,7 @@
 
 import java.time.LocalDate;
 
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneUnsupportedFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneLocalDateFieldCodec;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexFieldType;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneNumericFieldPredicateBuilderFactory;
@@ -50,6 +51,7 @@ public LuceneIndexFieldType<LocalDate> toIndexFieldType() {
 				codec,
 				new LuceneNumericFieldPredicateBuilderFactory<>( dslToIndexConverter, codec ),
 				new LuceneNumericFieldSortBuilderFactory<>( resolvedSortable, dslToIndexConverter, codec ),
+				LuceneUnsupportedFieldAggregationBuilderFactory.INSTANCE,
 				new LuceneStandardFieldProjectionBuilderFactory<>( resolvedProjectable, indexToProjectionConverter, codec )
 		);
 	}
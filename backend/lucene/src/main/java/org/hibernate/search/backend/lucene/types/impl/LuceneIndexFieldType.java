@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeCollector;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
@@ -23,24 +24,28 @@
 	private final LuceneFieldCodec<F> codec;
 	private final LuceneFieldPredicateBuilderFactory predicateBuilderFactory;
 	private final LuceneFieldSortBuilderFactory sortBuilderFactory;
+	private final LuceneFieldAggregationBuilderFactory aggregationBuilderFactory;
 	private final LuceneFieldProjectionBuilderFactory projectionBuilderFactory;
 	private final Analyzer analyzerOrNormalizer;
 
 	public LuceneIndexFieldType(LuceneFieldCodec<F> codec,
 			LuceneFieldPredicateBuilderFactory predicateBuilderFactory,
 			LuceneFieldSortBuilderFactory sortBuilderFactory,
+			LuceneFieldAggregationBuilderFactory aggregationBuilderFactory,
 			LuceneFieldProjectionBuilderFactory projectionBuilderFactory) {
-		this( codec, predicateBuilderFactory, sortBuilderFactory, projectionBuilderFactory, null );
+		this( codec, predicateBuilderFactory, sortBuilderFactory, aggregationBuilderFactory, projectionBuilderFactory, null );
 	}
 
 	public LuceneIndexFieldType(LuceneFieldCodec<F> codec,
 			LuceneFieldPredicateBuilderFactory predicateBuilderFactory,
 			LuceneFieldSortBuilderFactory sortBuilderFactory,
+			LuceneFieldAggregationBuilderFactory aggregationBuilderFactory,
 			LuceneFieldProjectionBuilderFactory projectionBuilderFactory,
 			Analyzer analyzerOrNormalizer) {
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
 		this.analyzerOrNormalizer = analyzerOrNormalizer;
 	}
@@ -53,6 +58,7 @@ public IndexFieldAccessor<F> addField(LuceneIndexSchemaNodeCollector collector,
 				codec,
 				predicateBuilderFactory,
 				sortBuilderFactory,
+				aggregationBuilderFactory,
 				projectionBuilderFactory
 		);
 
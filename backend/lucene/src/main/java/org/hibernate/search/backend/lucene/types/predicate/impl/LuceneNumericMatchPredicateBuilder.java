@@ -8,7 +8,6 @@
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneStandardMatchPredicateBuilder;
-import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
 
@@ -26,7 +25,7 @@
 	}
 
 	@Override
-	protected Query doBuild(LuceneSearchPredicateContext context) {
-		return codec.getDomain().createExactQuery( absoluteFieldPath, value );
+	protected Query doBuild(E value) {
+		return codec.getDomain().createExactQuery( absoluteFieldPath, value, codec.hasDocValues() );
 	}
 }
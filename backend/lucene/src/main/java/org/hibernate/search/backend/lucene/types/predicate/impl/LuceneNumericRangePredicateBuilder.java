@@ -32,7 +32,8 @@ protected Query doBuild(LuceneSearchPredicateContext context) {
 		return domain.createRangeQuery(
 				absoluteFieldPath,
 				getLowerValue( domain, lowerLimit, excludeLowerLimit ),
-				getUpperValue( domain, upperLimit, excludeUpperLimit )
+				getUpperValue( domain, upperLimit, excludeUpperLimit ),
+				codec.hasDocValues()
 		);
 	}
 
@@ -14,7 +14,6 @@
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneStandardMatchPredicateBuilder;
-import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
 
@@ -34,9 +33,9 @@
 	}
 
 	@Override
-	protected Query doBuild(LuceneSearchPredicateContext context) {
+	protected Query doBuild(String value) {
 		if ( queryBuilder != null ) {
-			Query analyzed = queryBuilder.createBooleanQuery( absoluteFieldPath, value );
+			Query analyzed = searchContext.getAnalysisCache().createBooleanQuery( queryBuilder, absoluteFieldPath, value );
 			if ( analyzed == null ) {
 				// Either the value was an empty string
 				// or the analysis removed all tokens (that can happen if the value contained only stopwords, for example)
@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import org.apache.lucene.search.SortField;
+
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
@@ -38,6 +41,15 @@ FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 	DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(String absoluteFieldPath, GeoPoint center);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param order The sort order.
+	 * @return A sort field to sort the index itself on this field,
+	 * equal to the sort field of a query sorted on this field with the same order and no missing value,
+	 * so that Lucene can detect such queries are sorted on the index sort.
+	 */
+	SortField createIndexSortField(String absoluteFieldPath, SortOrder order);
+
 	/**
 	 * Determine whether another sort builder factory is DSL-compatible with this one,
 	 * i.e. whether it creates builders that behave the same way.
@@ -8,10 +8,13 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.apache.lucene.search.SortField;
+
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
@@ -42,6 +45,12 @@ public DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(St
 		return new LuceneGeoPointDistanceSortBuilder( absoluteFieldPath, center );
 	}
 
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		throw log.traditionalSortNotSupportedByGeoPoint(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
 	@Override
 	public boolean isDslCompatibleWith(LuceneFieldSortBuilderFactory obj) {
 		if ( obj.getClass() != this.getClass() ) {
@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.util.BytesRef;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
@@ -17,11 +20,29 @@
 public class LuceneTextFieldSortBuilder<F>
 		extends AbstractLuceneStandardFieldSortBuilder<F, String, LuceneTextFieldCodec<F>> {
 
+	/*
+	 * One sort field per order (ascending, descending)
+	 * and per missing value mode (default, MISSING_FIRST, MISSING_LAST).
+	 */
+	private static final int SHARED_SORT_FIELD_COUNT = 2 * ( 1 + SortMissingValue.values().length );
+
+	/**
+	 * @return A holder for the sort fields that do not depend on user input,
+	 * to be shared between all the sorts on a given field.
+	 */
+	static AtomicReferenceArray<SortField> createSharedSortFields() {
+		return new AtomicReferenceArray<>( SHARED_SORT_FIELD_COUNT );
+	}
+
+	private final AtomicReferenceArray<SortField> sharedSortFields;
+
 	LuceneTextFieldSortBuilder(LuceneSearchContext searchContext,
 			String absoluteFieldPath,
 			ToDocumentFieldValueConverter<?, ? extends F> converter,
-			LuceneTextFieldCodec<F> codec) {
+			LuceneTextFieldCodec<F> codec,
+			AtomicReferenceArray<SortField> sharedSortFields) {
 		super( searchContext, absoluteFieldPath, converter, codec, SortField.STRING_FIRST, SortField.STRING_LAST );
+		this.sharedSortFields = sharedSortFields;
 	}
 
 	@Override
@@ -31,8 +52,27 @@ protected Object encodeMissingAs(F converted) {
 
 	@Override
 	public void buildAndContribute(LuceneSearchSortCollector collector) {
-		SortField sortField = new SortField( absoluteFieldPath, SortField.Type.STRING, order == SortOrder.DESC );
-		setEffectiveMissingValue( sortField, missingValue, order );
+		boolean reverse = order == SortOrder.DESC;
+
+		if ( missingValue instanceof String ) {
+			// Lucene's string sort does not support arbitrary missing values
+			collector.collectSortField( new SortField(
+					absoluteFieldPath,
+					new StringMissingValueComparatorSource( new BytesRef( (String) missingValue ) ),
+					reverse
+			) );
+			return;
+		}
+
+		int sharedSortFieldIndex = ( reverse ? SHARED_SORT_FIELD_COUNT / 2 : 0 )
+				+ ( missingValue == null ? 0 : 1 + ( (SortMissingValue) missingValue ).ordinal() );
+		SortField sortField = sharedSortFields.get( sharedSortFieldIndex );
+		if ( sortField == null ) {
+			sortField = new SortField( absoluteFieldPath, SortField.Type.STRING, reverse );
+			setEffectiveMissingValue( sortField, missingValue, order );
+			// Concurrent sorts may create equivalent sort fields: keeping any of them is fine
+			sharedSortFields.set( sharedSortFieldIndex, sortField );
+		}
 
 		collector.collectSortField( sortField );
 	}
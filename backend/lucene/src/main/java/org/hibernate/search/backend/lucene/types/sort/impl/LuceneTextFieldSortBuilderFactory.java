@@ -6,15 +6,29 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.lucene.search.SortField;
+
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 
 public class LuceneTextFieldSortBuilderFactory<F>
 		extends AbstractLuceneStandardFieldSortBuilderFactory<F, LuceneTextFieldCodec<F>> {
 
+	/*
+	 * Sort fields are immutable once built and do not depend on the query for most sorts:
+	 * build them once per field and share them between queries.
+	 */
+	private final ConcurrentMap<String, AtomicReferenceArray<SortField>> sharedSortFieldsByPath =
+			new ConcurrentHashMap<>();
+
 	public LuceneTextFieldSortBuilderFactory(boolean sortable,
 			ToDocumentFieldValueConverter<?, ? extends F> converter,
 			LuceneTextFieldCodec<F> codec) {
@@ -26,6 +40,16 @@ public FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 			LuceneSearchContext searchContext, String absoluteFieldPath) {
 		checkSortable( absoluteFieldPath );
 
-		return new LuceneTextFieldSortBuilder<>( searchContext, absoluteFieldPath, converter, codec );
+		AtomicReferenceArray<SortField> sharedSortFields = sharedSortFieldsByPath.computeIfAbsent(
+				absoluteFieldPath, ignored -> LuceneTextFieldSortBuilder.createSharedSortFields()
+		);
+		return new LuceneTextFieldSortBuilder<>( searchContext, absoluteFieldPath, converter, codec, sharedSortFields );
+	}
+
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		checkSortable( absoluteFieldPath );
+
+		return new SortField( absoluteFieldPath, SortField.Type.STRING, order == SortOrder.DESC );
 	}
 }
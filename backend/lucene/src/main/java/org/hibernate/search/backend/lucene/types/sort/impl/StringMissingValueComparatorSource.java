@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.sort.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.FieldComparatorSource;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A comparator source for string sorts where documents without a value
+ * are sorted as if they had a given value.
+ * <p>
+ * Lucene's own string sort only supports sorting such documents first or last.
+ * This one relies on the same per-segment ordinal comparisons,
+ * but exposes doc values where documents without a value have the ordinal of the missing value,
+ * inserted in the segment's term dictionary if necessary.
+ * The missing value is only looked up once per segment: collection does not allocate.
+ */
+final class StringMissingValueComparatorSource extends FieldComparatorSource {
+
+	private final BytesRef missingValue;
+
+	StringMissingValueComparatorSource(BytesRef missingValue) {
+		this.missingValue = missingValue;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[missingValue=" + missingValue.utf8ToString() + "]";
+	}
+
+	@Override
+	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
+		return new FieldComparator.TermOrdValComparator( numHits, fieldname ) {
+			@Override
+			protected SortedDocValues getSortedDocValues(LeafReaderContext context, String field) throws IOException {
+				return new MissingValueSortedDocValues(
+						super.getSortedDocValues( context, field ), missingValue, context.reader().maxDoc()
+				);
+			}
+		};
+	}
+
+	/**
+	 * Dense doc values, where documents without a value in the delegate have the missing value.
+	 */
+	private static final class MissingValueSortedDocValues extends SortedDocValues {
+
+		private final SortedDocValues delegate;
+		private final BytesRef missingValue;
+		private final int maxDoc;
+
+		/*
+		 * The ordinal of the missing value.
+		 * If the missing value is not in the delegate's term dictionary,
+		 * it is inserted at that ordinal and the delegate's ordinals starting from there are shifted by one.
+		 */
+		private final int missingOrd;
+		private final boolean missingValueInserted;
+
+		private int docId = -1;
+		private boolean delegateHasValue;
+
+		MissingValueSortedDocValues(SortedDocValues delegate, BytesRef missingValue, int maxDoc) throws IOException {
+			this.delegate = delegate;
+			this.missingValue = missingValue;
+			this.maxDoc = maxDoc;
+			int lookupResult = delegate.lookupTerm( missingValue );
+			if ( lookupResult >= 0 ) {
+				this.missingOrd = lookupResult;
+				this.missingValueInserted = false;
+			}
+			else {
+				this.missingOrd = -lookupResult - 1;
+				this.missingValueInserted = true;
+			}
+		}
+
+		@Override
+		public int ordValue() throws IOException {
+			if ( !delegateHasValue ) {
+				return missingOrd;
+			}
+			int ord = delegate.ordValue();
+			return missingValueInserted && ord >= missingOrd ? ord + 1 : ord;
+		}
+
+		@Override
+		public BytesRef lookupOrd(int ord) throws IOException {
+			if ( !missingValueInserted || ord < missingOrd ) {
+				return delegate.lookupOrd( ord );
+			}
+			else if ( ord == missingOrd ) {
+				return missingValue;
+			}
+			else {
+				return delegate.lookupOrd( ord - 1 );
+			}
+		}
+
+		@Override
+		public int getValueCount() {
+			return missingValueInserted ? delegate.getValueCount() + 1 : delegate.getValueCount();
+		}
+
+		@Override
+		public boolean advanceExact(int target) throws IOException {
+			docId = target;
+			delegateHasValue = delegate.advanceExact( target );
+			return true;
+		}
+
+		@Override
+		public int docID() {
+			return docId;
+		}
+
+		@Override
+		public int nextDoc() throws IOException {
+			return advance( docId + 1 );
+		}
+
+		@Override
+		public int advance(int target) throws IOException {
+			if ( target >= maxDoc ) {
+				docId = NO_MORE_DOCS;
+				delegateHasValue = false;
+				return docId;
+			}
+			advanceExact( target );
+			return docId;
+		}
+
+		@Override
+		public long cost() {
+			return maxDoc;
+		}
+	}
+}
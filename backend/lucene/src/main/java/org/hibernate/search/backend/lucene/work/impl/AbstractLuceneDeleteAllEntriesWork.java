@@ -43,6 +43,11 @@ private Long deleteDocuments(IndexWriter indexWriter) {
 
 	protected abstract long doDeleteDocuments(IndexWriter indexWriter, String tenantId) throws IOException;
 
+	@Override
+	public <R> R accept(LuceneIndexWorkVisitor<R> visitor) {
+		return visitor.visitDeleteAllEntries( indexName, tenantId );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -49,6 +49,11 @@ private Long deleteDocuments(IndexWriter indexWriter) {
 
 	protected abstract long doDeleteDocuments(IndexWriter indexWriter, String tenantId, String id) throws IOException;
 
+	@Override
+	public <R> R accept(LuceneIndexWorkVisitor<R> visitor) {
+		return visitor.visitDeleteEntry( indexName, tenantId, id );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
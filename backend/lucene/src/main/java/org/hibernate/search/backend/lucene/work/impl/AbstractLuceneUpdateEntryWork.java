@@ -53,6 +53,11 @@ private long updateEntry(IndexWriter indexWriter) {
 
 	protected abstract long doUpdateEntry(IndexWriter indexWriter, String tenantId, String id, LuceneIndexEntry indexEntry) throws IOException;
 
+	@Override
+	public <R> R accept(LuceneIndexWorkVisitor<R> visitor) {
+		return visitor.visitUpdateEntry( indexName, tenantId, id, indexEntry );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
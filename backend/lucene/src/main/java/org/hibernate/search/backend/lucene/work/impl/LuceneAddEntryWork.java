@@ -51,6 +51,11 @@ private CompletableFuture<Long> addEntry(IndexWriter indexWriter) {
 		}
 	}
 
+	@Override
+	public <R> R accept(LuceneIndexWorkVisitor<R> visitor) {
+		return visitor.visitAddEntry( indexName, tenantId, id, indexEntry );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
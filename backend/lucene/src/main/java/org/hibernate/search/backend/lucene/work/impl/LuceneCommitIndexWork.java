@@ -41,6 +41,11 @@ private CompletableFuture<Long> commitIndex(IndexWriter indexWriter) {
 		}
 	}
 
+	@Override
+	public <R> R accept(LuceneIndexWorkVisitor<R> visitor) {
+		return visitor.visitCommit( indexName );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
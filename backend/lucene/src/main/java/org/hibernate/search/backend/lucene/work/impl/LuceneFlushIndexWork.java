@@ -40,6 +40,11 @@ private void flushIndex(IndexWriter indexWriter) {
 		}
 	}
 
+	@Override
+	public <R> R accept(LuceneIndexWorkVisitor<R> visitor) {
+		return visitor.visitFlush( indexName );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
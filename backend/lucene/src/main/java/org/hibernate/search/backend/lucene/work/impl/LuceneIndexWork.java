@@ -15,4 +15,6 @@
 
 	CompletableFuture<T> execute(LuceneIndexWorkExecutionContext context);
 
+	<R> R accept(LuceneIndexWorkVisitor<R> visitor);
+
 }
@@ -0,0 +1,402 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.util.BytesRef;
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.backend.index.serialization.spi.SerializationInput;
+import org.hibernate.search.engine.backend.index.serialization.spi.SerializationOutput;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Serializes {@link LuceneIndexWork}s to a compact binary format, and back.
+ * <p>
+ * The format starts with a version byte, followed by the works.
+ * Primitives are written through a {@link SerializationOutput}, like other serialized index works:
+ * index names, tenant identifiers and field names are symbols, written only once per payload.
+ * Field types are also written only once per payload, then referenced by their ordinal.
+ * Binary values are decoded without copying: they point directly to the payload.
+ *
+ * @see LuceneIndexWorkVisitor
+ */
+public final class LuceneIndexWorkSerializer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final byte VERSION = 2;
+
+	private static final byte WORK_ADD = 0;
+	private static final byte WORK_UPDATE = 1;
+	private static final byte WORK_DELETE = 2;
+	private static final byte WORK_DELETE_ALL = 3;
+	private static final byte WORK_COMMIT = 4;
+	private static final byte WORK_FLUSH = 5;
+	private static final byte WORK_OPTIMIZE = 6;
+
+	private static final byte VALUE_STRING = 0;
+	private static final byte VALUE_BINARY = 1;
+	private static final byte VALUE_INT = 2;
+	private static final byte VALUE_LONG = 3;
+	private static final byte VALUE_FLOAT = 4;
+	private static final byte VALUE_DOUBLE = 5;
+
+	private static final int FLAG_STORED = 1;
+	private static final int FLAG_TOKENIZED = 1 << 1;
+	private static final int FLAG_OMIT_NORMS = 1 << 2;
+	private static final int FLAG_TERM_VECTORS = 1 << 3;
+	private static final int FLAG_TERM_VECTOR_OFFSETS = 1 << 4;
+	private static final int FLAG_TERM_VECTOR_POSITIONS = 1 << 5;
+	private static final int FLAG_TERM_VECTOR_PAYLOADS = 1 << 6;
+
+	private static final IndexOptions[] INDEX_OPTIONS = IndexOptions.values();
+	private static final DocValuesType[] DOC_VALUES_TYPES = DocValuesType.values();
+
+	private final LuceneWorkFactory workFactory;
+
+	public LuceneIndexWorkSerializer(LuceneWorkFactory workFactory) {
+		this.workFactory = workFactory;
+	}
+
+	public byte[] serialize(List<LuceneIndexWork<?>> works) {
+		// Works may be serialized from multiple threads concurrently: do not share the output
+		SerializationOutput output = new SerializationOutput();
+		WorkWriter writer = new WorkWriter( output );
+		output.writeByte( VERSION );
+		output.writeVInt( works.size() );
+		for ( LuceneIndexWork<?> work : works ) {
+			work.accept( writer );
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * @param payload A payload created by {@link #serialize(List)}.
+	 * The payload must not be altered afterwards, because binary field values point to it.
+	 * @return The works, re-created through the work factory of this serializer.
+	 */
+	public List<LuceneIndexWork<?>> deserialize(byte[] payload) {
+		SerializationInput input = new SerializationInput( payload, 0, payload.length );
+		try {
+			byte version = input.readByte();
+			if ( version != VERSION ) {
+				throw log.unsupportedWorkSerializationVersion( version, VERSION );
+			}
+			WorkReader reader = new WorkReader( input );
+			int workCount = input.readVInt();
+			List<LuceneIndexWork<?>> works = new ArrayList<>( workCount );
+			for ( int i = 0; i < workCount; i++ ) {
+				works.add( reader.readWork() );
+			}
+			input.checkFullyRead();
+			return works;
+		}
+		// The payload is truncated or corrupted
+		catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw log.unableToDeserializeWorks( e.getMessage(), e );
+		}
+	}
+
+	private static final class WorkWriter implements LuceneIndexWorkVisitor<Void> {
+
+		private final SerializationOutput output;
+
+		private final Map<FieldType, Integer> fieldTypeOrdinals = new HashMap<>();
+
+		private WorkWriter(SerializationOutput output) {
+			this.output = output;
+		}
+
+		@Override
+		public Void visitAddEntry(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+			return write( WORK_ADD, indexName, tenantId, id, indexEntry );
+		}
+
+		@Override
+		public Void visitUpdateEntry(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+			return write( WORK_UPDATE, indexName, tenantId, id, indexEntry );
+		}
+
+		@Override
+		public Void visitDeleteEntry(String indexName, String tenantId, String id) {
+			return write( WORK_DELETE, indexName, tenantId, id, null );
+		}
+
+		@Override
+		public Void visitDeleteAllEntries(String indexName, String tenantId) {
+			return write( WORK_DELETE_ALL, indexName, tenantId, null, null );
+		}
+
+		@Override
+		public Void visitCommit(String indexName) {
+			return write( WORK_COMMIT, indexName, null, null, null );
+		}
+
+		@Override
+		public Void visitFlush(String indexName) {
+			return write( WORK_FLUSH, indexName, null, null, null );
+		}
+
+		@Override
+		public Void visitOptimize(String indexName) {
+			return write( WORK_OPTIMIZE, indexName, null, null, null );
+		}
+
+		private Void write(byte workType, String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+			output.writeByte( workType );
+			output.writeSymbol( indexName );
+			switch ( workType ) {
+				case WORK_ADD:
+				case WORK_UPDATE:
+					output.writeSymbol( tenantId );
+					output.writeString( id );
+					writeEntry( indexEntry );
+					break;
+				case WORK_DELETE:
+					output.writeSymbol( tenantId );
+					output.writeString( id );
+					break;
+				case WORK_DELETE_ALL:
+					output.writeSymbol( tenantId );
+					break;
+				default:
+					// Nothing more to write
+					break;
+			}
+			return null;
+		}
+
+		private void writeEntry(LuceneIndexEntry indexEntry) {
+			List<Document> documents = indexEntry.getDocuments();
+			output.writeVInt( documents.size() );
+			for ( Document document : documents ) {
+				List<IndexableField> fields = document.getFields();
+				output.writeVInt( fields.size() );
+				for ( IndexableField field : fields ) {
+					writeField( field );
+				}
+			}
+		}
+
+		private void writeField(IndexableField field) {
+			output.writeSymbol( field.name() );
+			writeFieldType( field.fieldType() );
+
+			// Check binary values first: point fields also expose their decoded value through numericValue(),
+			// then numbers: Field.stringValue() also returns a value for numeric fields
+			BytesRef bytes = field.binaryValue();
+			Number number = field.numericValue();
+			String string = field.stringValue();
+			if ( bytes != null ) {
+				output.writeByte( VALUE_BINARY );
+				output.writeBytes( bytes.bytes, bytes.offset, bytes.length );
+			}
+			else if ( number != null ) {
+				writeNumber( field.name(), number );
+			}
+			else if ( string != null ) {
+				output.writeByte( VALUE_STRING );
+				output.writeString( string );
+			}
+			else {
+				// Reader or token stream values cannot be serialized
+				throw log.unserializableField( field.name(), EventContexts.fromIndexFieldAbsolutePath( field.name() ) );
+			}
+		}
+
+		private void writeNumber(String fieldName, Number number) {
+			if ( number instanceof Integer ) {
+				output.writeByte( VALUE_INT );
+				output.writeZInt( number.intValue() );
+			}
+			else if ( number instanceof Long ) {
+				output.writeByte( VALUE_LONG );
+				output.writeZLong( number.longValue() );
+			}
+			else if ( number instanceof Float ) {
+				output.writeByte( VALUE_FLOAT );
+				output.writeInt( Float.floatToRawIntBits( number.floatValue() ) );
+			}
+			else if ( number instanceof Double ) {
+				output.writeByte( VALUE_DOUBLE );
+				output.writeLong( Double.doubleToRawLongBits( number.doubleValue() ) );
+			}
+			else {
+				throw log.unserializableField( fieldName, EventContexts.fromIndexFieldAbsolutePath( fieldName ) );
+			}
+		}
+
+		private void writeFieldType(IndexableFieldType type) {
+			FieldType key = type instanceof FieldType ? (FieldType) type : new FieldType( type );
+			Integer ordinal = fieldTypeOrdinals.get( key );
+			if ( ordinal != null ) {
+				output.writeVInt( ordinal );
+				return;
+			}
+			// A new type: write the next ordinal, followed by the type
+			output.writeVInt( fieldTypeOrdinals.size() );
+			fieldTypeOrdinals.put( key, fieldTypeOrdinals.size() );
+
+			int flags = 0;
+			flags |= type.stored() ? FLAG_STORED : 0;
+			flags |= type.tokenized() ? FLAG_TOKENIZED : 0;
+			flags |= type.omitNorms() ? FLAG_OMIT_NORMS : 0;
+			flags |= type.storeTermVectors() ? FLAG_TERM_VECTORS : 0;
+			flags |= type.storeTermVectorOffsets() ? FLAG_TERM_VECTOR_OFFSETS : 0;
+			flags |= type.storeTermVectorPositions() ? FLAG_TERM_VECTOR_POSITIONS : 0;
+			flags |= type.storeTermVectorPayloads() ? FLAG_TERM_VECTOR_PAYLOADS : 0;
+			output.writeByte( (byte) flags );
+			output.writeByte( (byte) type.indexOptions().ordinal() );
+			output.writeByte( (byte) type.docValuesType().ordinal() );
+			output.writeVInt( type.pointDataDimensionCount() );
+			output.writeVInt( type.pointIndexDimensionCount() );
+			output.writeVInt( type.pointNumBytes() );
+		}
+	}
+
+	private final class WorkReader {
+
+		private final SerializationInput input;
+
+		private final List<FieldType> fieldTypes = new ArrayList<>();
+
+		private WorkReader(SerializationInput input) {
+			this.input = input;
+		}
+
+		LuceneIndexWork<?> readWork() {
+			byte workType = input.readByte();
+			String indexName = input.readSymbol();
+			String tenantId;
+			String id;
+			switch ( workType ) {
+				case WORK_ADD:
+					tenantId = input.readSymbol();
+					id = input.readString();
+					return workFactory.add( indexName, tenantId, id, null, readEntry( indexName, id ) );
+				case WORK_UPDATE:
+					tenantId = input.readSymbol();
+					id = input.readString();
+					return workFactory.update( indexName, tenantId, id, null, readEntry( indexName, id ) );
+				case WORK_DELETE:
+					tenantId = input.readSymbol();
+					id = input.readString();
+					return workFactory.delete( indexName, tenantId, id, null );
+				case WORK_DELETE_ALL:
+					tenantId = input.readSymbol();
+					return workFactory.deleteAll( indexName, tenantId );
+				case WORK_COMMIT:
+					return workFactory.commit( indexName );
+				case WORK_FLUSH:
+					return workFactory.flush( indexName );
+				case WORK_OPTIMIZE:
+					return workFactory.optimize( indexName );
+				default:
+					throw log.unknownSerializedWorkType( workType );
+			}
+		}
+
+		private LuceneIndexEntry readEntry(String indexName, String id) {
+			int documentCount = input.readVInt();
+			List<Document> documents = new ArrayList<>( documentCount );
+			for ( int i = 0; i < documentCount; i++ ) {
+				Document document = new Document();
+				int fieldCount = input.readVInt();
+				for ( int j = 0; j < fieldCount; j++ ) {
+					document.add( readField() );
+				}
+				documents.add( document );
+			}
+			return new LuceneIndexEntry( indexName, id, documents );
+		}
+
+		private IndexableField readField() {
+			String name = input.readSymbol();
+			FieldType type = readFieldType();
+			Object value;
+			byte valueType = input.readByte();
+			switch ( valueType ) {
+				case VALUE_STRING:
+					value = input.readString();
+					break;
+				case VALUE_BINARY:
+					int length = input.readVInt();
+					// Zero-copy: point to the payload directly
+					value = new BytesRef( input.getPayload(), input.readBytesOffset( length ), length );
+					break;
+				case VALUE_INT:
+					value = input.readZInt();
+					break;
+				case VALUE_LONG:
+					value = input.readZLong();
+					break;
+				case VALUE_FLOAT:
+					value = Float.intBitsToFloat( input.readInt() );
+					break;
+				case VALUE_DOUBLE:
+					value = Double.longBitsToDouble( input.readLong() );
+					break;
+				default:
+					throw log.unknownSerializedValueType( valueType );
+			}
+			return new DeserializedField( name, type, value );
+		}
+
+		private FieldType readFieldType() {
+			int ordinal = input.readVInt();
+			if ( ordinal < fieldTypes.size() ) {
+				return fieldTypes.get( ordinal );
+			}
+			int flags = input.readByte();
+			FieldType type = new FieldType();
+			type.setStored( ( flags & FLAG_STORED ) != 0 );
+			type.setTokenized( ( flags & FLAG_TOKENIZED ) != 0 );
+			type.setOmitNorms( ( flags & FLAG_OMIT_NORMS ) != 0 );
+			type.setStoreTermVectors( ( flags & FLAG_TERM_VECTORS ) != 0 );
+			type.setStoreTermVectorOffsets( ( flags & FLAG_TERM_VECTOR_OFFSETS ) != 0 );
+			type.setStoreTermVectorPositions( ( flags & FLAG_TERM_VECTOR_POSITIONS ) != 0 );
+			type.setStoreTermVectorPayloads( ( flags & FLAG_TERM_VECTOR_PAYLOADS ) != 0 );
+			type.setIndexOptions( INDEX_OPTIONS[input.readByte()] );
+			type.setDocValuesType( DOC_VALUES_TYPES[input.readByte()] );
+			int pointDataDimensionCount = input.readVInt();
+			int pointIndexDimensionCount = input.readVInt();
+			int pointNumBytes = input.readVInt();
+			if ( pointDataDimensionCount > 0 ) {
+				type.setDimensions( pointDataDimensionCount, pointIndexDimensionCount, pointNumBytes );
+			}
+			type.freeze();
+			fieldTypes.add( type );
+			return type;
+		}
+	}
+
+	/**
+	 * A field re-created from its serialized form,
+	 * holding its value the same way the original field ({@link org.apache.lucene.document.StringField},
+	 * {@link org.apache.lucene.document.IntPoint}, ...) did.
+	 */
+	private static final class DeserializedField extends Field {
+		private DeserializedField(String name, IndexableFieldType type, Object value) {
+			super( name, type );
+			this.fieldsData = value;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+
+/**
+ * A visitor for {@link LuceneIndexWork}s, exposing the parameters each work was created with.
+ * <p>
+ * The parameters are those passed to the {@link LuceneWorkFactory},
+ * so that the works can be re-created elsewhere, e.g. after being sent to another node.
+ *
+ * @param <R> The return type of the visit methods.
+ */
+public interface LuceneIndexWorkVisitor<R> {
+
+	R visitAddEntry(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry);
+
+	R visitUpdateEntry(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry);
+
+	R visitDeleteEntry(String indexName, String tenantId, String id);
+
+	R visitDeleteAllEntries(String indexName, String tenantId);
+
+	R visitCommit(String indexName);
+
+	R visitFlush(String indexName);
+
+	R visitOptimize(String indexName);
+
+}
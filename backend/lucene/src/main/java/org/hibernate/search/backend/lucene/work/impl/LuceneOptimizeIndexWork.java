@@ -42,6 +42,11 @@ private CompletableFuture<Long> commitIndex(IndexWriter indexWriter) {
 		}
 	}
 
+	@Override
+	public <R> R accept(LuceneIndexWorkVisitor<R> visitor) {
+		return visitor.visitOptimize( indexName );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
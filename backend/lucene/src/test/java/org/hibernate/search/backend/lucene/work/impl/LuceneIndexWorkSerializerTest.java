@@ -0,0 +1,258 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.util.SearchException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LatLonPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
+
+public class LuceneIndexWorkSerializerTest {
+
+	private static final String INDEX_NAME = "indexName";
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void roundTrip_allWorkTypes() {
+		LuceneWorkFactory factory = new LuceneStubWorkFactory( new NoMultiTenancyStrategy() );
+		List<LuceneIndexWork<?>> works = Arrays.asList(
+				factory.add( INDEX_NAME, null, "1", null, entry( "1", document( "1" ) ) ),
+				factory.update( INDEX_NAME, null, "2", null, entry( "2", document( "2" ) ) ),
+				factory.delete( INDEX_NAME, null, "3", null ),
+				factory.deleteAll( INDEX_NAME, null ),
+				factory.commit( INDEX_NAME ),
+				factory.flush( INDEX_NAME ),
+				factory.optimize( INDEX_NAME )
+		);
+
+		assertRoundTrip( factory, works );
+	}
+
+	@Test
+	public void roundTrip_allWorkTypes_multiTenancy() {
+		LuceneWorkFactory factory = new LuceneStubWorkFactory( new DiscriminatorMultiTenancyStrategy() );
+		List<LuceneIndexWork<?>> works = Arrays.asList(
+				factory.add( INDEX_NAME, "tenant1", "1", null, entry( "1", document( "1" ) ) ),
+				factory.update( INDEX_NAME, "tenant2", "1", null, entry( "1", document( "1" ) ) ),
+				factory.delete( INDEX_NAME, "tenant1", "3", null ),
+				factory.deleteAll( INDEX_NAME, "tenant2" )
+		);
+
+		assertRoundTrip( factory, works );
+	}
+
+	@Test
+	public void roundTrip_fieldValues() {
+		LuceneWorkFactory factory = new LuceneStubWorkFactory( new NoMultiTenancyStrategy() );
+		Document document = new Document();
+		document.add( new StringField( "string", "some value", Field.Store.YES ) );
+		document.add( new TextField( "text", "some text", Field.Store.NO ) );
+		document.add( new StoredField( "storedString", "stored value" ) );
+		document.add( new StoredField( "storedBinary", new BytesRef( new byte[] { 0, 1, (byte) 0xFF } ) ) );
+		document.add( new StoredField( "int", Integer.MIN_VALUE ) );
+		document.add( new StoredField( "long", Long.MAX_VALUE ) );
+		document.add( new StoredField( "float", -1.5f ) );
+		document.add( new StoredField( "double", Double.NaN ) );
+		document.add( new IntPoint( "intPoint", -42 ) );
+		document.add( new LongPoint( "longPoint", 42L ) );
+		document.add( new FloatPoint( "floatPoint", 4.2f ) );
+		document.add( new DoublePoint( "doublePoint", -4.2 ) );
+		document.add( new LatLonPoint( "latLonPoint", 45.7, 4.8 ) );
+		document.add( new NumericDocValuesField( "numericDocValues", -7L ) );
+		document.add( new SortedDocValuesField( "sortedDocValues", new BytesRef( "sorted" ) ) );
+		document.add( new SortedSetDocValuesField( "sortedSetDocValues", new BytesRef( "a" ) ) );
+		document.add( new SortedSetDocValuesField( "sortedSetDocValues", new BytesRef( "b" ) ) );
+		// Nested documents are serialized along with their parent
+		List<LuceneIndexWork<?>> works = Collections.singletonList(
+				factory.add( INDEX_NAME, null, "1", null, entry( "1", document( "nested" ), document ) )
+		);
+
+		assertRoundTrip( factory, works );
+	}
+
+	@Test
+	public void serialize_readerValue() {
+		LuceneWorkFactory factory = new LuceneStubWorkFactory( new NoMultiTenancyStrategy() );
+		Document document = new Document();
+		document.add( new TextField( "reader", new StringReader( "some text" ) ) );
+		List<LuceneIndexWork<?>> works = Collections.singletonList(
+				factory.add( INDEX_NAME, null, "1", null, entry( "1", document ) )
+		);
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Field 'reader' cannot be serialized" );
+		new LuceneIndexWorkSerializer( factory ).serialize( works );
+	}
+
+	@Test
+	public void deserialize_unsupportedVersion() {
+		LuceneWorkFactory factory = new LuceneStubWorkFactory( new NoMultiTenancyStrategy() );
+		LuceneIndexWorkSerializer serializer = new LuceneIndexWorkSerializer( factory );
+		byte[] payload = serializer.serialize( Collections.singletonList( factory.commit( INDEX_NAME ) ) );
+		payload[0] = 42;
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Unsupported serialization format version for Lucene works: '42'" );
+		serializer.deserialize( payload );
+	}
+
+	@Test
+	public void deserialize_truncatedPayload() {
+		LuceneWorkFactory factory = new LuceneStubWorkFactory( new NoMultiTenancyStrategy() );
+		LuceneIndexWorkSerializer serializer = new LuceneIndexWorkSerializer( factory );
+		byte[] payload = serializer.serialize( Collections.singletonList(
+				factory.add( INDEX_NAME, null, "1", null, entry( "1", document( "1" ) ) )
+		) );
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Unable to deserialize Lucene works" );
+		serializer.deserialize( Arrays.copyOf( payload, payload.length - 3 ) );
+	}
+
+	private static void assertRoundTrip(LuceneWorkFactory factory, List<LuceneIndexWork<?>> works) {
+		LuceneIndexWorkSerializer serializer = new LuceneIndexWorkSerializer( factory );
+
+		List<LuceneIndexWork<?>> deserialized = serializer.deserialize( serializer.serialize( works ) );
+
+		assertThat( deserialized ).hasSameSizeAs( works );
+		for ( int i = 0; i < works.size(); i++ ) {
+			LuceneIndexWork<?> expected = works.get( i );
+			LuceneIndexWork<?> actual = deserialized.get( i );
+			assertThat( actual ).isExactlyInstanceOf( expected.getClass() );
+			assertThat( actual.accept( WorkDescriber.INSTANCE ) )
+					.isEqualTo( expected.accept( WorkDescriber.INSTANCE ) );
+		}
+	}
+
+	private static LuceneIndexEntry entry(String id, Document... documents) {
+		return new LuceneIndexEntry( INDEX_NAME, id, Arrays.asList( documents ) );
+	}
+
+	private static Document document(String id) {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.YES ) );
+		document.add( new TextField( "text", "text of " + id, Field.Store.YES ) );
+		document.add( new IntPoint( "number", id.length() ) );
+		return document;
+	}
+
+	/**
+	 * Describes works through their parameters,
+	 * including the name, type and value of each field of each document.
+	 */
+	private static final class WorkDescriber implements LuceneIndexWorkVisitor<List<Object>> {
+
+		private static final WorkDescriber INSTANCE = new WorkDescriber();
+
+		@Override
+		public List<Object> visitAddEntry(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+			return describe( "add", indexName, tenantId, id, indexEntry );
+		}
+
+		@Override
+		public List<Object> visitUpdateEntry(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+			return describe( "update", indexName, tenantId, id, indexEntry );
+		}
+
+		@Override
+		public List<Object> visitDeleteEntry(String indexName, String tenantId, String id) {
+			return describe( "delete", indexName, tenantId, id, null );
+		}
+
+		@Override
+		public List<Object> visitDeleteAllEntries(String indexName, String tenantId) {
+			return describe( "deleteAll", indexName, tenantId, null, null );
+		}
+
+		@Override
+		public List<Object> visitCommit(String indexName) {
+			return describe( "commit", indexName, null, null, null );
+		}
+
+		@Override
+		public List<Object> visitFlush(String indexName) {
+			return describe( "flush", indexName, null, null, null );
+		}
+
+		@Override
+		public List<Object> visitOptimize(String indexName) {
+			return describe( "optimize", indexName, null, null, null );
+		}
+
+		private static List<Object> describe(String workType, String indexName, String tenantId, String id,
+				LuceneIndexEntry indexEntry) {
+			List<Object> description = new ArrayList<>();
+			description.add( workType );
+			description.add( indexName );
+			description.add( tenantId );
+			description.add( id );
+			if ( indexEntry != null ) {
+				description.add( indexEntry.getIndexName() );
+				description.add( indexEntry.getId() );
+				for ( Document document : indexEntry.getDocuments() ) {
+					List<Object> fields = new ArrayList<>();
+					for ( IndexableField field : document.getFields() ) {
+						fields.add( Arrays.asList(
+								field.name(),
+								// Describes every attribute of the field type
+								field.fieldType().toString(),
+								value( field )
+						) );
+					}
+					description.add( fields );
+				}
+			}
+			return description;
+		}
+
+		/*
+		 * Point fields also expose their decoded value through numericValue(),
+		 * but only their binary value is indexed.
+		 */
+		private static Object value(IndexableField field) {
+			if ( field.binaryValue() != null ) {
+				return field.binaryValue();
+			}
+			else if ( field.numericValue() != null ) {
+				return field.numericValue();
+			}
+			else {
+				return field.stringValue();
+			}
+		}
+	}
+}
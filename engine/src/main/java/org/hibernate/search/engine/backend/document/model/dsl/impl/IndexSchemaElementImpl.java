@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaObjectFieldNodeBuilder;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaObjectNodeBuilder;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexAccessorRegistry;
 import org.hibernate.search.engine.backend.types.IndexFieldType;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeTerminalContext;
 import org.hibernate.search.engine.logging.impl.Log;
@@ -29,12 +30,24 @@
 	private final IndexFieldTypeFactoryContext typeFactoryContext;
 	final B objectNodeBuilder;
 	private final IndexSchemaNestingContext nestingContext;
+	final IndexAccessorRegistry accessorRegistry;
+	private final String absolutePath;
 
+	/**
+	 * @param typeFactoryContext The type factory.
+	 * @param objectNodeBuilder The builder of the object node represented by this element.
+	 * @param nestingContext The nesting context.
+	 * @param accessorRegistry The registry in which to register accessors of included fields.
+	 * @param absolutePath The absolute path of the object node, or {@code null} for the root.
+	 */
 	public IndexSchemaElementImpl(IndexFieldTypeFactoryContext typeFactoryContext,
-			B objectNodeBuilder, IndexSchemaNestingContext nestingContext) {
+			B objectNodeBuilder, IndexSchemaNestingContext nestingContext,
+			IndexAccessorRegistry accessorRegistry, String absolutePath) {
 		this.typeFactoryContext = typeFactoryContext;
 		this.objectNodeBuilder = objectNodeBuilder;
 		this.nestingContext = nestingContext;
+		this.accessorRegistry = accessorRegistry;
+		this.absolutePath = absolutePath;
 	}
 
 	@Override
@@ -54,7 +67,11 @@ public <F> IndexSchemaFieldTerminalContext<IndexFieldAccessor<F>> field(
 		return nestingContext.nest(
 				relativeFieldName,
 				// If the field is included
-				prefixedName -> objectNodeBuilder.addField( prefixedName, type ),
+				prefixedName -> {
+					IndexSchemaFieldTerminalContext<IndexFieldAccessor<F>> delegate =
+							objectNodeBuilder.addField( prefixedName, type );
+					return () -> accessorRegistry.register( getAbsolutePath( prefixedName ), delegate.createAccessor() );
+				},
 				// If the field is filtered out
 				prefixedName -> objectNodeBuilder.createExcludedField( prefixedName, type )
 		);
@@ -75,17 +92,27 @@ public IndexSchemaObjectField objectField(String relativeFieldName, ObjectFieldS
 				(prefixedName, filter) -> {
 					IndexSchemaObjectFieldNodeBuilder objectFieldBuilder =
 							this.objectNodeBuilder.addObjectField( prefixedName, storage );
-					return new IndexSchemaObjectFieldImpl( typeFactoryContext, objectFieldBuilder, filter );
+					return new IndexSchemaObjectFieldImpl( typeFactoryContext, objectFieldBuilder, filter,
+							accessorRegistry, getAbsolutePath( prefixedName ), true );
 				},
 				// If the field is filtered out
 				(prefixedName, filter) -> {
 					IndexSchemaObjectFieldNodeBuilder objectFieldBuilder =
 							this.objectNodeBuilder.createExcludedObjectField( prefixedName, storage );
-					return new IndexSchemaObjectFieldImpl( typeFactoryContext, objectFieldBuilder, filter );
+					return new IndexSchemaObjectFieldImpl( typeFactoryContext, objectFieldBuilder, filter,
+							accessorRegistry, getAbsolutePath( prefixedName ), false );
 				}
 		);
 	}
 
+	String getAbsolutePath() {
+		return absolutePath;
+	}
+
+	private String getAbsolutePath(String relativeFieldName) {
+		return absolutePath == null ? relativeFieldName : absolutePath + "." + relativeFieldName;
+	}
+
 	private void checkRelativeFieldName(String relativeFieldName) {
 		if ( StringHelper.isEmpty( relativeFieldName ) ) {
 			throw log.relativeFieldNameCannotBeNullOrEmpty( relativeFieldName, objectNodeBuilder.getEventContext() );
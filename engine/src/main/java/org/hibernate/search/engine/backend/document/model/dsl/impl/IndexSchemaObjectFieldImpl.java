@@ -9,20 +9,32 @@
 import org.hibernate.search.engine.backend.document.IndexObjectFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaObjectFieldNodeBuilder;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexAccessorRegistry;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeFactoryContext;
 
 class IndexSchemaObjectFieldImpl extends IndexSchemaElementImpl<IndexSchemaObjectFieldNodeBuilder>
 		implements IndexSchemaObjectField {
 
+	private final boolean included;
+
 	IndexSchemaObjectFieldImpl(IndexFieldTypeFactoryContext typeFactoryContext,
 			IndexSchemaObjectFieldNodeBuilder objectFieldBuilder,
-			IndexSchemaNestingContext nestingContext) {
-		super( typeFactoryContext, objectFieldBuilder, nestingContext );
+			IndexSchemaNestingContext nestingContext,
+			IndexAccessorRegistry accessorRegistry, String absolutePath, boolean included) {
+		super( typeFactoryContext, objectFieldBuilder, nestingContext, accessorRegistry, absolutePath );
+		this.included = included;
 	}
 
 	@Override
 	public IndexObjectFieldAccessor createAccessor() {
-		return objectNodeBuilder.createAccessor();
+		IndexObjectFieldAccessor accessor = objectNodeBuilder.createAccessor();
+		if ( included ) {
+			return accessorRegistry.register( getAbsolutePath(), accessor );
+		}
+		else {
+			// Writes to excluded fields are ignored: no need to record them
+			return accessor;
+		}
 	}
 
 }
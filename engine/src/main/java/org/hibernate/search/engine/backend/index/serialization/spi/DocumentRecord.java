@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.serialization.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.util.AssertionFailure;
+
+/**
+ * A backend-neutral document element, recording field values by absolute field path
+ * instead of building a backend-specific document.
+ * <p>
+ * Accessors registered in an {@link IndexAccessorRegistry} record into this element
+ * when they are passed an instance of this class.
+ */
+public final class DocumentRecord implements DocumentElement {
+
+	static final byte ENTRY_VALUE = 0;
+	static final byte ENTRY_OBJECT = 1;
+	static final byte ENTRY_MISSING_OBJECT = 2;
+
+	// Entries are kept in the order they were added, so that multi-valued fields are replayed in order
+	final List<Entry> entries = new ArrayList<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + entries + "]";
+	}
+
+	public void addValue(String absoluteFieldPath, Object value) {
+		entries.add( new Entry( ENTRY_VALUE, absoluteFieldPath, value ) );
+	}
+
+	public DocumentRecord addObject(String absoluteFieldPath) {
+		DocumentRecord child = new DocumentRecord();
+		entries.add( new Entry( ENTRY_OBJECT, absoluteFieldPath, child ) );
+		return child;
+	}
+
+	public void addMissingObject(String absoluteFieldPath) {
+		entries.add( new Entry( ENTRY_MISSING_OBJECT, absoluteFieldPath, null ) );
+	}
+
+	/**
+	 * Write the recorded content to an actual document.
+	 *
+	 * @param target The document element to write to.
+	 * @param accessorRegistry The accessors of the index the target belongs to.
+	 */
+	public void writeTo(DocumentElement target, IndexAccessorRegistry accessorRegistry) {
+		for ( Entry entry : entries ) {
+			switch ( entry.kind ) {
+				case ENTRY_VALUE:
+					IndexFieldAccessor<Object> accessor = accessorRegistry.getFieldAccessor( entry.absoluteFieldPath );
+					accessor.write( target, entry.value );
+					break;
+				case ENTRY_OBJECT:
+					DocumentElement child = accessorRegistry.getObjectFieldAccessor( entry.absoluteFieldPath ).add( target );
+					( (DocumentRecord) entry.value ).writeTo( child, accessorRegistry );
+					break;
+				case ENTRY_MISSING_OBJECT:
+					accessorRegistry.getObjectFieldAccessor( entry.absoluteFieldPath ).addMissing( target );
+					break;
+				default:
+					throw new AssertionFailure( "Unknown entry kind: " + entry.kind );
+			}
+		}
+	}
+
+	static final class Entry {
+		final byte kind;
+		final String absoluteFieldPath;
+		final Object value;
+
+		Entry(byte kind, String absoluteFieldPath, Object value) {
+			this.kind = kind;
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.value = value;
+		}
+
+		@Override
+		public String toString() {
+			return absoluteFieldPath + "=" + ( kind == ENTRY_MISSING_OBJECT ? "<missing>" : value );
+		}
+	}
+}
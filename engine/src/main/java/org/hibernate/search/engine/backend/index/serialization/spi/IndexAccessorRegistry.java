@@ -0,0 +1,167 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.serialization.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldAccessor;
+import org.hibernate.search.engine.cfg.IndexSettings;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * The accessors of an index, by absolute field path.
+ * <p>
+ * When work recording is enabled, accessors are registered while the index schema is being defined,
+ * and wrapped so that they record values into {@link DocumentRecord}s.
+ * They can then be retrieved by path to replay recorded documents.
+ * When it is disabled, accessors are left untouched so that writing to backend documents incurs no overhead.
+ *
+ * @see org.hibernate.search.engine.cfg.IndexSettings#WORK_RECORDING_ENABLED
+ */
+public final class IndexAccessorRegistry {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String indexName;
+	private final boolean enabled;
+	private final Map<String, IndexFieldAccessor<?>> fieldAccessors = new HashMap<>();
+	private final Map<String, IndexObjectFieldAccessor> objectFieldAccessors = new HashMap<>();
+
+	public IndexAccessorRegistry(String indexName, boolean enabled) {
+		this.indexName = indexName;
+		this.enabled = enabled;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexName=" + indexName + ", enabled=" + enabled + "]";
+	}
+
+	/**
+	 * @throws org.hibernate.search.util.SearchException If work recording is disabled for this index.
+	 */
+	public void checkEnabled() {
+		if ( !enabled ) {
+			throw log.indexWorkRecordingDisabled( indexName, IndexSettings.WORK_RECORDING_ENABLED );
+		}
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param delegate The backend accessor.
+	 * @param <F> The type of field values.
+	 * @return An accessor to be used instead of the backend accessor,
+	 * delegating to the backend accessor except when writing to a {@link DocumentRecord},
+	 * or the backend accessor itself if work recording is disabled.
+	 */
+	public <F> IndexFieldAccessor<F> register(String absoluteFieldPath, IndexFieldAccessor<F> delegate) {
+		if ( !enabled ) {
+			return delegate;
+		}
+		IndexFieldAccessor<F> accessor = new RecordingIndexFieldAccessor<>( absoluteFieldPath, delegate );
+		fieldAccessors.put( absoluteFieldPath, accessor );
+		return accessor;
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the object field.
+	 * @param delegate The backend accessor.
+	 * @return An accessor to be used instead of the backend accessor,
+	 * delegating to the backend accessor except when writing to a {@link DocumentRecord},
+	 * or the backend accessor itself if work recording is disabled.
+	 */
+	public IndexObjectFieldAccessor register(String absoluteFieldPath, IndexObjectFieldAccessor delegate) {
+		if ( !enabled ) {
+			return delegate;
+		}
+		IndexObjectFieldAccessor accessor = new RecordingIndexObjectFieldAccessor( absoluteFieldPath, delegate );
+		objectFieldAccessors.put( absoluteFieldPath, accessor );
+		return accessor;
+	}
+
+	@SuppressWarnings("unchecked") // Values were recorded through this very accessor, so they have the right type
+	IndexFieldAccessor<Object> getFieldAccessor(String absoluteFieldPath) {
+		IndexFieldAccessor<?> accessor = fieldAccessors.get( absoluteFieldPath );
+		if ( accessor == null ) {
+			throw log.unknownFieldInIndexWorkRecord( absoluteFieldPath, indexName );
+		}
+		return (IndexFieldAccessor<Object>) accessor;
+	}
+
+	IndexObjectFieldAccessor getObjectFieldAccessor(String absoluteFieldPath) {
+		IndexObjectFieldAccessor accessor = objectFieldAccessors.get( absoluteFieldPath );
+		if ( accessor == null ) {
+			throw log.unknownFieldInIndexWorkRecord( absoluteFieldPath, indexName );
+		}
+		return accessor;
+	}
+
+	private static final class RecordingIndexFieldAccessor<F> implements IndexFieldAccessor<F> {
+		private final String absoluteFieldPath;
+		private final IndexFieldAccessor<F> delegate;
+
+		private RecordingIndexFieldAccessor(String absoluteFieldPath, IndexFieldAccessor<F> delegate) {
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public void write(DocumentElement target, F value) {
+			if ( target instanceof DocumentRecord ) {
+				( (DocumentRecord) target ).addValue( absoluteFieldPath, value );
+			}
+			else {
+				delegate.write( target, value );
+			}
+		}
+	}
+
+	private static final class RecordingIndexObjectFieldAccessor implements IndexObjectFieldAccessor {
+		private final String absoluteFieldPath;
+		private final IndexObjectFieldAccessor delegate;
+
+		private RecordingIndexObjectFieldAccessor(String absoluteFieldPath, IndexObjectFieldAccessor delegate) {
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public DocumentElement add(DocumentElement target) {
+			if ( target instanceof DocumentRecord ) {
+				return ( (DocumentRecord) target ).addObject( absoluteFieldPath );
+			}
+			else {
+				return delegate.add( target );
+			}
+		}
+
+		@Override
+		public void addMissing(DocumentElement target) {
+			if ( target instanceof DocumentRecord ) {
+				( (DocumentRecord) target ).addMissingObject( absoluteFieldPath );
+			}
+			else {
+				delegate.addMissing( target );
+			}
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.serialization.spi;
+
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+
+/**
+ * A backend-neutral representation of an index work,
+ * which can be serialized with an {@link IndexWorkRecordSerializer}
+ * and replayed later, possibly on another node.
+ */
+public final class IndexWorkRecord implements DocumentReferenceProvider {
+
+	public enum Type {
+		ADD,
+		UPDATE,
+		DELETE
+	}
+
+	private final Type type;
+	private final String tenantId;
+	private final String identifier;
+	private final String routingKey;
+	private final DocumentRecord document;
+
+	/**
+	 * @param type The type of work.
+	 * @param tenantId The tenant identifier, or {@code null}.
+	 * @param identifier The document identifier.
+	 * @param routingKey The routing key, or {@code null}.
+	 * @param document The document content, or {@code null} for {@link Type#DELETE delete} works.
+	 */
+	public IndexWorkRecord(Type type, String tenantId, String identifier, String routingKey,
+			DocumentRecord document) {
+		this.type = type;
+		this.tenantId = tenantId;
+		this.identifier = identifier;
+		this.routingKey = routingKey;
+		this.document = document;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "type=" ).append( type )
+				.append( ", tenantId=" ).append( tenantId )
+				.append( ", identifier=" ).append( identifier )
+				.append( ", routingKey=" ).append( routingKey )
+				.append( "]" )
+				.toString();
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public String getTenantId() {
+		return tenantId;
+	}
+
+	@Override
+	public String getIdentifier() {
+		return identifier;
+	}
+
+	@Override
+	public String getRoutingKey() {
+		return routingKey;
+	}
+
+	public DocumentRecord getDocument() {
+		return document;
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.serialization.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Serializes {@link IndexWorkRecord}s to a compact, versioned binary format.
+ * <p>
+ * The format is made of:
+ * <ul>
+ *     <li>a version byte;</li>
+ *     <li>a variable-length count of works, followed by each work:
+ *     its type, tenant identifier, document identifier, routing key and document content.</li>
+ * </ul>
+ * Primitives are written through a {@link SerializationOutput}:
+ * field paths and tenant identifiers are symbols, written only once per payload.
+ * <p>
+ * Serialization reuses an internal buffer, so instances must not be used to serialize from multiple threads concurrently.
+ * Deserialization decodes strings straight from the payload, without intermediate buffers,
+ * and may be performed concurrently.
+ */
+public final class IndexWorkRecordSerializer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final byte VERSION = 1;
+
+	private static final byte WORK_ADD = 0;
+	private static final byte WORK_UPDATE = 1;
+	private static final byte WORK_DELETE = 2;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_STRING = 1;
+	private static final byte VALUE_INTEGER = 2;
+	private static final byte VALUE_LONG = 3;
+	private static final byte VALUE_FALSE = 4;
+	private static final byte VALUE_TRUE = 5;
+	private static final byte VALUE_LOCAL_DATE = 6;
+	private static final byte VALUE_INSTANT = 7;
+	private static final byte VALUE_GEO_POINT = 8;
+
+	private final SerializationOutput output = new SerializationOutput();
+
+	public byte[] serialize(List<IndexWorkRecord> works) {
+		try {
+			output.writeByte( VERSION );
+			output.writeVInt( works.size() );
+			for ( IndexWorkRecord work : works ) {
+				writeWork( work );
+			}
+			return output.toByteArray();
+		}
+		finally {
+			output.reset();
+		}
+	}
+
+	public List<IndexWorkRecord> deserialize(byte[] payload) {
+		return deserialize( payload, 0, payload.length );
+	}
+
+	public List<IndexWorkRecord> deserialize(byte[] payload, int offset, int length) {
+		try {
+			return readWorks( new SerializationInput( payload, offset, length ) );
+		}
+		catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw log.corruptIndexWorkRecordPayload( e.getMessage(), e );
+		}
+	}
+
+	private void writeWork(IndexWorkRecord work) {
+		switch ( work.getType() ) {
+			case ADD:
+				output.writeByte( WORK_ADD );
+				break;
+			case UPDATE:
+				output.writeByte( WORK_UPDATE );
+				break;
+			case DELETE:
+				output.writeByte( WORK_DELETE );
+				break;
+		}
+		output.writeSymbol( work.getTenantId() );
+		output.writeString( work.getIdentifier() );
+		output.writeString( work.getRoutingKey() );
+		if ( work.getType() != IndexWorkRecord.Type.DELETE ) {
+			writeDocument( work.getDocument() );
+		}
+	}
+
+	private void writeDocument(DocumentRecord document) {
+		output.writeVInt( document.entries.size() );
+		for ( DocumentRecord.Entry entry : document.entries ) {
+			output.writeByte( entry.kind );
+			output.writeSymbol( entry.absoluteFieldPath );
+			switch ( entry.kind ) {
+				case DocumentRecord.ENTRY_VALUE:
+					writeValue( entry.absoluteFieldPath, entry.value );
+					break;
+				case DocumentRecord.ENTRY_OBJECT:
+					writeDocument( (DocumentRecord) entry.value );
+					break;
+				default:
+					// Missing object: nothing more to write
+					break;
+			}
+		}
+	}
+
+	private void writeValue(String absoluteFieldPath, Object value) {
+		if ( value == null ) {
+			output.writeByte( VALUE_NULL );
+		}
+		else if ( value instanceof String ) {
+			output.writeByte( VALUE_STRING );
+			output.writeString( (String) value );
+		}
+		else if ( value instanceof Integer ) {
+			output.writeByte( VALUE_INTEGER );
+			output.writeZInt( (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			output.writeByte( VALUE_LONG );
+			output.writeZLong( (Long) value );
+		}
+		else if ( value instanceof Boolean ) {
+			output.writeByte( (Boolean) value ? VALUE_TRUE : VALUE_FALSE );
+		}
+		else if ( value instanceof LocalDate ) {
+			output.writeByte( VALUE_LOCAL_DATE );
+			output.writeZLong( ( (LocalDate) value ).toEpochDay() );
+		}
+		else if ( value instanceof Instant ) {
+			Instant instant = (Instant) value;
+			output.writeByte( VALUE_INSTANT );
+			output.writeZLong( instant.getEpochSecond() );
+			output.writeVInt( instant.getNano() );
+		}
+		else if ( value instanceof GeoPoint ) {
+			GeoPoint geoPoint = (GeoPoint) value;
+			output.writeByte( VALUE_GEO_POINT );
+			output.writeLong( Double.doubleToRawLongBits( geoPoint.getLatitude() ) );
+			output.writeLong( Double.doubleToRawLongBits( geoPoint.getLongitude() ) );
+		}
+		else {
+			throw log.unserializableIndexFieldValue( absoluteFieldPath, value.getClass() );
+		}
+	}
+
+	private static List<IndexWorkRecord> readWorks(SerializationInput input) {
+		int version = input.readByte();
+		if ( version != VERSION ) {
+			throw log.unsupportedIndexWorkRecordVersion( VERSION, version );
+		}
+		int workCount = input.readVInt();
+		List<IndexWorkRecord> works = new ArrayList<>( workCount );
+		for ( int i = 0; i < workCount; i++ ) {
+			works.add( readWork( input ) );
+		}
+		input.checkFullyRead();
+		return works;
+	}
+
+	private static IndexWorkRecord readWork(SerializationInput input) {
+		byte workType = input.readByte();
+		String tenantId = input.readSymbol();
+		String identifier = input.readString();
+		String routingKey = input.readString();
+		switch ( workType ) {
+			case WORK_ADD:
+				return new IndexWorkRecord( IndexWorkRecord.Type.ADD, tenantId, identifier, routingKey,
+						readDocument( input ) );
+			case WORK_UPDATE:
+				return new IndexWorkRecord( IndexWorkRecord.Type.UPDATE, tenantId, identifier, routingKey,
+						readDocument( input ) );
+			case WORK_DELETE:
+				return new IndexWorkRecord( IndexWorkRecord.Type.DELETE, tenantId, identifier, routingKey,
+						null );
+			default:
+				throw new IllegalArgumentException( "Unknown work type: " + workType );
+		}
+	}
+
+	private static DocumentRecord readDocument(SerializationInput input) {
+		DocumentRecord document = new DocumentRecord();
+		int entryCount = input.readVInt();
+		for ( int i = 0; i < entryCount; i++ ) {
+			byte kind = input.readByte();
+			String absoluteFieldPath = input.readSymbol();
+			switch ( kind ) {
+				case DocumentRecord.ENTRY_VALUE:
+					document.addValue( absoluteFieldPath, readValue( input ) );
+					break;
+				case DocumentRecord.ENTRY_OBJECT:
+					document.entries.add( new DocumentRecord.Entry( kind, absoluteFieldPath, readDocument( input ) ) );
+					break;
+				case DocumentRecord.ENTRY_MISSING_OBJECT:
+					document.addMissingObject( absoluteFieldPath );
+					break;
+				default:
+					throw new IllegalArgumentException( "Unknown document entry kind: " + kind );
+			}
+		}
+		return document;
+	}
+
+	private static Object readValue(SerializationInput input) {
+		byte valueType = input.readByte();
+		switch ( valueType ) {
+			case VALUE_NULL:
+				return null;
+			case VALUE_STRING:
+				return input.readString();
+			case VALUE_INTEGER:
+				return input.readZInt();
+			case VALUE_LONG:
+				return input.readZLong();
+			case VALUE_FALSE:
+				return Boolean.FALSE;
+			case VALUE_TRUE:
+				return Boolean.TRUE;
+			case VALUE_LOCAL_DATE:
+				return LocalDate.ofEpochDay( input.readZLong() );
+			case VALUE_INSTANT:
+				long epochSecond = input.readZLong();
+				return Instant.ofEpochSecond( epochSecond, input.readVInt() );
+			case VALUE_GEO_POINT:
+				double latitude = Double.longBitsToDouble( input.readLong() );
+				double longitude = Double.longBitsToDouble( input.readLong() );
+				return GeoPoint.of( latitude, longitude );
+			default:
+				throw new IllegalArgumentException( "Unknown value type: " + valueType );
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.serialization.spi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the primitives written by a {@link SerializationOutput}.
+ * <p>
+ * Strings are decoded straight from the payload, without intermediate buffers,
+ * and bytes can be referenced in the payload without being copied.
+ * <p>
+ * Reading past the end of the payload throws an {@link IndexOutOfBoundsException},
+ * and reading invalid data throws an {@link IllegalArgumentException}:
+ * callers are expected to report both as a corrupt payload.
+ */
+public final class SerializationInput {
+
+	private final byte[] payload;
+	private final int limit;
+	private int position;
+
+	private final List<String> symbols = new ArrayList<>();
+
+	/**
+	 * @param payload The array containing the payload.
+	 * The payload must not be altered while the data read from it is in use, since bytes are not copied.
+	 * @param offset The offset of the payload in the array.
+	 * @param length The length of the payload.
+	 */
+	public SerializationInput(byte[] payload, int offset, int length) {
+		this.payload = payload;
+		this.position = offset;
+		this.limit = offset + length;
+	}
+
+	/**
+	 * @return The array containing the payload, to be used along with {@link #readBytesOffset(int)}.
+	 */
+	public byte[] getPayload() {
+		return payload;
+	}
+
+	/**
+	 * @throws IllegalArgumentException If the payload has not been read entirely.
+	 */
+	public void checkFullyRead() {
+		if ( position != limit ) {
+			throw new IllegalArgumentException( "Unexpected trailing bytes at offset " + position );
+		}
+	}
+
+	public byte readByte() {
+		checkAvailable( 1 );
+		return payload[position++];
+	}
+
+	public int readVInt() {
+		int result = 0;
+		for ( int shift = 0; shift < 32; shift += 7 ) {
+			byte b = readByte();
+			result |= ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException( "Invalid variable-length integer" );
+	}
+
+	public long readVLong() {
+		long result = 0L;
+		for ( int shift = 0; shift < 64; shift += 7 ) {
+			byte b = readByte();
+			result |= ( b & 0x7FL ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException( "Invalid variable-length long" );
+	}
+
+	public int readZInt() {
+		int value = readVInt();
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	public long readZLong() {
+		long value = readVLong();
+		return ( value >>> 1 ) ^ -( value & 1L );
+	}
+
+	public int readInt() {
+		checkAvailable( 4 );
+		int result = 0;
+		for ( int i = 0; i < 4; i++ ) {
+			result = ( result << 8 ) | ( payload[position++] & 0xFF );
+		}
+		return result;
+	}
+
+	public long readLong() {
+		checkAvailable( 8 );
+		long result = 0L;
+		for ( int i = 0; i < 8; i++ ) {
+			result = ( result << 8 ) | ( payload[position++] & 0xFFL );
+		}
+		return result;
+	}
+
+	public String readString() {
+		int lengthPlusOne = readVInt();
+		if ( lengthPlusOne == 0 ) {
+			return null;
+		}
+		int length = lengthPlusOne - 1;
+		checkAvailable( length );
+		String result = new String( payload, position, length, StandardCharsets.UTF_8 );
+		position += length;
+		return result;
+	}
+
+	public String readSymbol() {
+		int reference = readVInt();
+		switch ( reference ) {
+			case SerializationOutput.SYMBOL_NULL:
+				return null;
+			case SerializationOutput.SYMBOL_NEW:
+				String symbol = readString();
+				symbols.add( symbol );
+				return symbol;
+			default:
+				return symbols.get( reference - SerializationOutput.SYMBOL_FIRST_ORDINAL );
+		}
+	}
+
+	/**
+	 * Skip bytes written by {@link SerializationOutput#writeBytes(byte[], int, int)},
+	 * after their length has been read with {@link #readVInt()}.
+	 *
+	 * @param length The number of bytes.
+	 * @return The offset of the first byte in the {@link #getPayload() payload}.
+	 */
+	public int readBytesOffset(int length) {
+		checkAvailable( length );
+		int offset = position;
+		position += length;
+		return offset;
+	}
+
+	private void checkAvailable(int length) {
+		if ( length < 0 || position + length > limit ) {
+			throw new IndexOutOfBoundsException( "Unexpected end of payload at offset " + position );
+		}
+	}
+}
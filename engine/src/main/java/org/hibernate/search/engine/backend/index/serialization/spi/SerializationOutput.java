@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.serialization.spi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the primitives of the binary format shared by serializers of index works,
+ * to be read back with a {@link SerializationInput}.
+ * <p>
+ * Unsigned integers are written as variable-length values, signed integers as zig-zag encoded variable-length values.
+ * Strings are written as their UTF-8 length followed by their UTF-8 bytes.
+ * Symbols are strings expected to be repeated within a payload, such as field names:
+ * each distinct symbol is only written once per payload, then referred to by ordinal.
+ * <p>
+ * The buffer can be {@link #reset() reset} and reused for multiple payloads,
+ * but instances must not be used from multiple threads concurrently.
+ */
+public final class SerializationOutput {
+
+	// Symbol references: 0 for null, 1 for a new symbol, followed by its value, n > 1 for the symbol of ordinal n - 2
+	static final int SYMBOL_NULL = 0;
+	static final int SYMBOL_NEW = 1;
+	static final int SYMBOL_FIRST_ORDINAL = 2;
+
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+	// Do not retain huge buffers after serializing unusually large payloads
+	private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+	private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+	private int position;
+	private final Map<String, Integer> symbolOrdinals = new HashMap<>();
+
+	/**
+	 * Start a new payload, discarding the content of the previous one.
+	 */
+	public void reset() {
+		position = 0;
+		symbolOrdinals.clear();
+		if ( buffer.length > MAX_RETAINED_BUFFER_SIZE ) {
+			buffer = new byte[INITIAL_BUFFER_SIZE];
+		}
+	}
+
+	/**
+	 * @return A copy of the payload written since the last {@link #reset()}.
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf( buffer, position );
+	}
+
+	public void writeByte(byte value) {
+		ensureCapacity( 1 );
+		buffer[position++] = value;
+	}
+
+	/**
+	 * @param value A non-negative integer. Negative integers are supported, but take 5 bytes.
+	 */
+	public void writeVInt(int value) {
+		ensureCapacity( 5 );
+		while ( ( value & ~0x7F ) != 0 ) {
+			buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+	}
+
+	/**
+	 * @param value A non-negative long. Negative longs are supported, but take 10 bytes.
+	 */
+	public void writeVLong(long value) {
+		ensureCapacity( 10 );
+		while ( ( value & ~0x7FL ) != 0L ) {
+			buffer[position++] = (byte) ( ( value & 0x7FL ) | 0x80L );
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+	}
+
+	/**
+	 * @param value An integer, small in absolute value, be it positive or negative.
+	 */
+	public void writeZInt(int value) {
+		writeVInt( ( value << 1 ) ^ ( value >> 31 ) );
+	}
+
+	/**
+	 * @param value A long, small in absolute value, be it positive or negative.
+	 */
+	public void writeZLong(long value) {
+		writeVLong( ( value << 1 ) ^ ( value >> 63 ) );
+	}
+
+	/**
+	 * @param value An integer, written on exactly 4 bytes.
+	 */
+	public void writeInt(int value) {
+		ensureCapacity( 4 );
+		for ( int shift = 24; shift >= 0; shift -= 8 ) {
+			buffer[position++] = (byte) ( value >>> shift );
+		}
+	}
+
+	/**
+	 * @param value A long, written on exactly 8 bytes.
+	 */
+	public void writeLong(long value) {
+		ensureCapacity( 8 );
+		for ( int shift = 56; shift >= 0; shift -= 8 ) {
+			buffer[position++] = (byte) ( value >>> shift );
+		}
+	}
+
+	/**
+	 * @param string A string, or {@code null}.
+	 */
+	public void writeString(String string) {
+		// The length is shifted by one so that 0 can represent null
+		if ( string == null ) {
+			writeVInt( 0 );
+			return;
+		}
+		byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+		writeVInt( bytes.length + 1 );
+		writeRawBytes( bytes, 0, bytes.length );
+	}
+
+	/**
+	 * @param symbol A string expected to be repeated within the payload, or {@code null}.
+	 */
+	public void writeSymbol(String symbol) {
+		if ( symbol == null ) {
+			writeVInt( SYMBOL_NULL );
+			return;
+		}
+		Integer ordinal = symbolOrdinals.get( symbol );
+		if ( ordinal != null ) {
+			writeVInt( SYMBOL_FIRST_ORDINAL + ordinal );
+		}
+		else {
+			symbolOrdinals.put( symbol, symbolOrdinals.size() );
+			writeVInt( SYMBOL_NEW );
+			writeString( symbol );
+		}
+	}
+
+	/**
+	 * Write bytes preceded by their length,
+	 * to be read without copying through {@link SerializationInput#readBytesOffset(int)}.
+	 *
+	 * @param bytes The array containing the bytes.
+	 * @param offset The offset of the first byte in the array.
+	 * @param length The number of bytes.
+	 */
+	public void writeBytes(byte[] bytes, int offset, int length) {
+		writeVInt( length );
+		writeRawBytes( bytes, offset, length );
+	}
+
+	private void writeRawBytes(byte[] bytes, int offset, int length) {
+		ensureCapacity( length );
+		System.arraycopy( bytes, offset, buffer, position, length );
+		position += length;
+	}
+
+	private void ensureCapacity(int additionalBytes) {
+		int required = position + additionalBytes;
+		if ( required > buffer.length ) {
+			buffer = Arrays.copyOf( buffer, Math.max( required, buffer.length * 2 ) );
+		}
+	}
+}
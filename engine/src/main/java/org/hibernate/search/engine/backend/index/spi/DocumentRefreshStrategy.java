@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+/**
+ * Determines whether writes must be made visible to searches before a work plan is considered executed.
+ */
+public enum DocumentRefreshStrategy {
+
+	/**
+	 * Refresh the index after writes if the index is configured to do so,
+	 * so that the changes are visible to searches as soon as the work plan is executed.
+	 */
+	DEFAULT,
+	/**
+	 * Do not refresh the index after writes, regardless of the index configuration:
+	 * changes are durable as soon as the work plan is executed,
+	 * but may only become visible to searches later.
+	 */
+	NONE
+
+}
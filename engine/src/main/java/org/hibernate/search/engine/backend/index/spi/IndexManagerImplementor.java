@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.backend.index.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
@@ -23,7 +25,18 @@
 	 */
 	IndexManager toAPI();
 
-	IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext);
+	/**
+	 * Start the index manager, e.g. by creating or validating the index schema.
+	 * <p>
+	 * Called once, after all index managers have been built.
+	 * The engine starts all index managers concurrently,
+	 * so implementations should avoid blocking and perform expensive operations asynchronously.
+	 *
+	 * @return A future that will complete when the index manager is ready for use.
+	 */
+	CompletableFuture<?> start();
+
+	IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext, DocumentRefreshStrategy refreshStrategy);
 
 	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContextImplementor sessionContext);
 
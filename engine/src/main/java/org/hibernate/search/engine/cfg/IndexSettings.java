@@ -19,4 +19,27 @@ private IndexSettings() {
 	 */
 	public static final String BACKEND = "backend";
 
+	/**
+	 * Whether works on this index can be recorded in a backend-neutral form, to be serialized and replayed later.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#WORK_RECORDING_ENABLED}.
+	 *
+	 * @see org.hibernate.search.engine.backend.index.serialization.spi.IndexWorkRecordSerializer
+	 */
+	public static final String WORK_RECORDING_ENABLED = "work_recording.enabled";
+
+	/**
+	 * Default values for the different settings if no values are given.
+	 */
+	public static final class Defaults {
+
+		private Defaults() {
+		}
+
+		public static final boolean WORK_RECORDING_ENABLED = false;
+	}
+
 }
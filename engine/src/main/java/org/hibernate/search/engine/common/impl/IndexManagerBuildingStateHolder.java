@@ -8,8 +8,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
@@ -20,9 +22,11 @@
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexAccessorRegistry;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -33,6 +37,7 @@
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexManagerBuildingState;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexModelBindingContext;
 import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.search.util.impl.common.SuppressingCloser;
 
@@ -50,6 +55,11 @@ class IndexManagerBuildingStateHolder {
 	private static final OptionalConfigurationProperty<String> INDEX_BACKEND_NAME =
 			ConfigurationProperty.forKey( IndexSettings.BACKEND ).asString().build();
 
+	private static final ConfigurationProperty<Boolean> INDEX_WORK_RECORDING_ENABLED =
+			ConfigurationProperty.forKey( IndexSettings.WORK_RECORDING_ENABLED ).asBoolean()
+					.withDefault( IndexSettings.Defaults.WORK_RECORDING_ENABLED )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends BackendFactory>> BACKEND_TYPE =
 			ConfigurationProperty.forKey( BackendSettings.TYPE ).asBeanReference( BackendFactory.class )
 					.build();
@@ -123,6 +133,25 @@ Map<String, IndexManagerImplementor<?>> getIndexManagersByName() {
 		return indexManagersByName;
 	}
 
+	void startIndexManagers() {
+		// Start all index managers first, then wait: starting may involve remote calls, which should happen concurrently
+		Map<String, CompletableFuture<?>> futures = new LinkedHashMap<>();
+		for ( Map.Entry<String, IndexManagerBuildingStateImpl<?>> entry : indexManagerBuildingStateByName.entrySet() ) {
+			IndexManagerImplementor<?> indexManager = entry.getValue().getBuilt();
+			futures.put( entry.getKey(), Futures.create( indexManager::start ) );
+		}
+		for ( Map.Entry<String, CompletableFuture<?>> entry : futures.entrySet() ) {
+			try {
+				Futures.unwrappedExceptionJoin( entry.getValue() );
+			}
+			catch (RuntimeException e) {
+				rootBuildContext.getFailureCollector()
+						.withContext( EventContexts.fromIndexName( entry.getKey() ) )
+						.add( e );
+			}
+		}
+	}
+
 	void closeOnFailure(SuppressingCloser closer) {
 		closer.pushAll( state -> state.closeOnFailure( closer ), indexManagerBuildingStateByName.values() );
 		closer.pushAll( BackendBuildingState::closeOnFailure, backendBuildingStateByName.values() );
@@ -168,8 +197,12 @@ IndexManagerBuildingStateImpl<D> createIndexManagerBuildingState(
 					indexName, multiTenancyEnabled, backendBuildContext, defaultedIndexPropertySource
 			);
 			IndexSchemaRootNodeBuilder schemaRootNodeBuilder = builder.getSchemaRootNodeBuilder();
-			IndexModelBindingContext bindingContext = new RootIndexModelBindingContext( schemaRootNodeBuilder );
-			return new IndexManagerBuildingStateImpl<>( indexName, builder, bindingContext );
+			IndexAccessorRegistry accessorRegistry = new IndexAccessorRegistry(
+					indexName, INDEX_WORK_RECORDING_ENABLED.get( defaultedIndexPropertySource )
+			);
+			IndexModelBindingContext bindingContext =
+					new RootIndexModelBindingContext( schemaRootNodeBuilder, accessorRegistry );
+			return new IndexManagerBuildingStateImpl<>( indexName, builder, bindingContext, accessorRegistry );
 		}
 
 		void closeOnFailure() {
@@ -186,15 +219,18 @@ BackendImplementor<D> getBuilt() {
 		private final String indexName;
 		private final IndexManagerBuilder<D> builder;
 		private final IndexModelBindingContext bindingContext;
+		private final IndexAccessorRegistry accessorRegistry;
 
 		private IndexManagerImplementor<D> built;
 
 		IndexManagerBuildingStateImpl(String indexName,
 				IndexManagerBuilder<D> builder,
-				IndexModelBindingContext bindingContext) {
+				IndexModelBindingContext bindingContext,
+				IndexAccessorRegistry accessorRegistry) {
 			this.indexName = indexName;
 			this.builder = builder;
 			this.bindingContext = bindingContext;
+			this.accessorRegistry = accessorRegistry;
 		}
 
 		void closeOnFailure(SuppressingCloser closer) {
@@ -225,7 +261,7 @@ public MappedIndexManager<D> build() {
 				);
 			}
 			built = builder.build();
-			return new MappedIndexManagerImpl<>( built );
+			return new MappedIndexManagerImpl<>( built, accessorRegistry );
 		}
 
 		public IndexManagerImplementor<D> getBuilt() {
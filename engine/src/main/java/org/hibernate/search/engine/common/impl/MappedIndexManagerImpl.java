@@ -6,10 +6,15 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexAccessorRegistry;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexWorkRecord;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
@@ -23,9 +28,11 @@
 class MappedIndexManagerImpl<D extends DocumentElement> implements MappedIndexManager<D> {
 
 	private final IndexManagerImplementor<D> implementor;
+	private final IndexAccessorRegistry accessorRegistry;
 
-	MappedIndexManagerImpl(IndexManagerImplementor<D> implementor) {
+	MappedIndexManagerImpl(IndexManagerImplementor<D> implementor, IndexAccessorRegistry accessorRegistry) {
 		this.implementor = implementor;
+		this.accessorRegistry = accessorRegistry;
 	}
 
 	@Override
@@ -35,7 +42,37 @@ public IndexManager toAPI() {
 
 	@Override
 	public IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext) {
-		return implementor.createWorkPlan( sessionContext );
+		return createWorkPlan( sessionContext, DocumentRefreshStrategy.DEFAULT );
+	}
+
+	@Override
+	public IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext, DocumentRefreshStrategy refreshStrategy) {
+		return implementor.createWorkPlan( sessionContext, refreshStrategy );
+	}
+
+	@Override
+	public IndexWorkPlan<D> createRecordingWorkPlan(SessionContextImplementor sessionContext,
+			Consumer<? super List<IndexWorkRecord>> sink) {
+		accessorRegistry.checkEnabled();
+		return new RecordingIndexWorkPlan<>( sessionContext.getTenantIdentifier(), sink );
+	}
+
+	@Override
+	public void replay(IndexWorkPlan<D> workPlan, List<IndexWorkRecord> records) {
+		accessorRegistry.checkEnabled();
+		for ( IndexWorkRecord record : records ) {
+			switch ( record.getType() ) {
+				case ADD:
+					workPlan.add( record, document -> record.getDocument().writeTo( document, accessorRegistry ) );
+					break;
+				case UPDATE:
+					workPlan.update( record, document -> record.getDocument().writeTo( document, accessorRegistry ) );
+					break;
+				case DELETE:
+					workPlan.delete( record );
+					break;
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.serialization.spi.DocumentRecord;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexWorkRecord;
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+
+/**
+ * A work plan recording works as {@link IndexWorkRecord}s instead of executing them.
+ */
+class RecordingIndexWorkPlan<D extends DocumentElement> implements IndexWorkPlan<D> {
+
+	private final String tenantId;
+	private final Consumer<? super List<IndexWorkRecord>> sink;
+
+	private final List<IndexWorkRecord> records = new ArrayList<>();
+
+	RecordingIndexWorkPlan(String tenantId, Consumer<? super List<IndexWorkRecord>> sink) {
+		this.tenantId = tenantId;
+		this.sink = sink;
+	}
+
+	@Override
+	public void add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor) {
+		records.add( new IndexWorkRecord(
+				IndexWorkRecord.Type.ADD, tenantId,
+				documentReferenceProvider.getIdentifier(), documentReferenceProvider.getRoutingKey(),
+				record( documentContributor )
+		) );
+	}
+
+	@Override
+	public void update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor) {
+		records.add( new IndexWorkRecord(
+				IndexWorkRecord.Type.UPDATE, tenantId,
+				documentReferenceProvider.getIdentifier(), documentReferenceProvider.getRoutingKey(),
+				record( documentContributor )
+		) );
+	}
+
+	@Override
+	public void delete(DocumentReferenceProvider documentReferenceProvider) {
+		records.add( new IndexWorkRecord(
+				IndexWorkRecord.Type.DELETE, tenantId,
+				documentReferenceProvider.getIdentifier(), documentReferenceProvider.getRoutingKey(),
+				null
+		) );
+	}
+
+	@Override
+	public void prepare() {
+		// Nothing to do: documents are recorded as soon as works are added
+	}
+
+	@Override
+	public CompletableFuture<?> execute() {
+		List<IndexWorkRecord> result = new ArrayList<>( records );
+		records.clear();
+		sink.accept( result );
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@SuppressWarnings("unchecked")
+	private DocumentRecord record(DocumentContributor<D> documentContributor) {
+		DocumentRecord document = new DocumentRecord();
+		/*
+		 * Contributors only pass the document to accessors, which all know how to write to a DocumentRecord:
+		 * see IndexAccessorRegistry.
+		 */
+		documentContributor.contribute( (D) document );
+		return document;
+	}
+}
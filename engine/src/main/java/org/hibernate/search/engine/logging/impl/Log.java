@@ -7,6 +7,7 @@
 
 package org.hibernate.search.engine.logging.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.hibernate.search.engine.environment.classpath.spi.ClassLoadingException;
@@ -14,6 +15,7 @@
 import org.hibernate.search.engine.logging.spi.MappingKeyFormatter;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingKey;
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.SearchException;
@@ -244,4 +246,34 @@ SearchException invalidBeanType(
 					+ " Set the property '%2$s' to a supported value or set '%3$s' to set a default value for all indexes."
 	)
 	SearchException indexBackendCannotBeNullOrEmpty(String indexName, String key, String defaultKey);
+
+	@Message(id = ID_OFFSET_2 + 51,
+			value = "Unsupported version for serialized index works: expected version %1$s, got version %2$s.")
+	SearchException unsupportedIndexWorkRecordVersion(int expectedVersion, int actualVersion);
+
+	@Message(id = ID_OFFSET_2 + 52,
+			value = "Unable to serialize the value of field '%1$s': values of type '%2$s' are not supported.")
+	SearchException unserializableIndexFieldValue(String absoluteFieldPath,
+			@FormatWith(ClassFormatter.class) Class<?> valueType);
+
+	@Message(id = ID_OFFSET_2 + 53,
+			value = "Unable to deserialize index works: the payload is corrupt. %1$s")
+	SearchException corruptIndexWorkRecordPayload(String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 54,
+			value = "Unable to replay an index work: field '%1$s' does not exist in the schema of index '%2$s'.")
+	SearchException unknownFieldInIndexWorkRecord(String absoluteFieldPath, String indexName);
+
+	@Message(id = ID_OFFSET_2 + 55,
+			value = "Unknown aggregation key '%1$s'. Aggregations defined in this query: %2$s.")
+	SearchException unknownAggregationKey(String keyName, Collection<AggregationKey<?>> definedKeys);
+
+	@Message(id = ID_OFFSET_2 + 56,
+			value = "Multiple aggregations with the same key '%1$s'. Aggregation keys must be unique within a query.")
+	SearchException duplicateAggregationKey(String keyName);
+
+	@Message(id = ID_OFFSET_2 + 57,
+			value = "Unable to record or replay index works: work recording is disabled for index '%1$s'."
+					+ " Set the index property '%2$s' to 'true' to enable it.")
+	SearchException indexWorkRecordingDisabled(String indexName, String propertyKey);
 }
@@ -18,6 +18,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaObjectFieldNodeBuilder;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaObjectNodeBuilder;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexAccessorRegistry;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeFactoryContext;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexModelBindingContext;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexSchemaContributionListener;
@@ -28,12 +29,17 @@
 	private final IndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder;
 	final B indexSchemaObjectNodeBuilder;
 	private final ConfiguredIndexSchemaNestingContext nestingContext;
+	final IndexAccessorRegistry accessorRegistry;
+	private final String absolutePath;
 
 	AbstractIndexModelBindingContext(IndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder,
-			B indexSchemaObjectNodeBuilder, ConfiguredIndexSchemaNestingContext nestingContext) {
+			B indexSchemaObjectNodeBuilder, ConfiguredIndexSchemaNestingContext nestingContext,
+			IndexAccessorRegistry accessorRegistry, String absolutePath) {
 		this.indexSchemaRootNodeBuilder = indexSchemaRootNodeBuilder;
 		this.indexSchemaObjectNodeBuilder = indexSchemaObjectNodeBuilder;
 		this.nestingContext = nestingContext;
+		this.accessorRegistry = accessorRegistry;
+		this.absolutePath = absolutePath;
 	}
 
 	@Override
@@ -56,7 +62,8 @@ public IndexSchemaElement getSchemaElement() {
 		return new IndexSchemaElementImpl<>(
 				getTypeFactory(),
 				indexSchemaObjectNodeBuilder,
-				nestingContext
+				nestingContext,
+				accessorRegistry, absolutePath
 		);
 	}
 
@@ -65,7 +72,8 @@ public IndexSchemaElement getSchemaElement(IndexSchemaContributionListener liste
 		return new IndexSchemaElementImpl<>(
 				getTypeFactory(),
 				indexSchemaObjectNodeBuilder,
-				new NotifyingNestingContext( nestingContext, listener )
+				new NotifyingNestingContext( nestingContext, listener ),
+				accessorRegistry, absolutePath
 		);
 	}
 
@@ -74,7 +82,8 @@ public Optional<IndexModelBindingContext> addIndexedEmbeddedIfIncluded(MappableT
 			String relativePrefix, ObjectFieldStorage storage, Integer maxDepth, Set<String> includePaths) {
 		return nestingContext.addIndexedEmbeddedIfIncluded(
 				parentTypeModel, relativePrefix, maxDepth, includePaths,
-				new NestedContextBuilderImpl( indexSchemaRootNodeBuilder, indexSchemaObjectNodeBuilder, storage )
+				new NestedContextBuilderImpl( indexSchemaRootNodeBuilder, indexSchemaObjectNodeBuilder, storage,
+						accessorRegistry, absolutePath )
 		);
 	}
 
@@ -84,20 +93,26 @@ public Optional<IndexModelBindingContext> addIndexedEmbeddedIfIncluded(MappableT
 		private final IndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder;
 		private IndexSchemaObjectNodeBuilder currentNodeBuilder;
 		private final ObjectFieldStorage storage;
+		private final IndexAccessorRegistry accessorRegistry;
+		private String currentAbsolutePath;
 		private final List<IndexObjectFieldAccessor> parentObjectAccessors = new ArrayList<>();
 
 		private NestedContextBuilderImpl(IndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder,
-				IndexSchemaObjectNodeBuilder currentNodeBuilder, ObjectFieldStorage storage) {
+				IndexSchemaObjectNodeBuilder currentNodeBuilder, ObjectFieldStorage storage,
+				IndexAccessorRegistry accessorRegistry, String currentAbsolutePath) {
 			this.indexSchemaRootNodeBuilder = indexSchemaRootNodeBuilder;
 			this.currentNodeBuilder = currentNodeBuilder;
 			this.storage = storage;
+			this.accessorRegistry = accessorRegistry;
+			this.currentAbsolutePath = currentAbsolutePath;
 		}
 
 		@Override
 		public void appendObject(String objectName) {
 			IndexSchemaObjectFieldNodeBuilder nextNodeBuilder =
 					currentNodeBuilder.addObjectField( objectName, storage );
-			parentObjectAccessors.add( nextNodeBuilder.createAccessor() );
+			currentAbsolutePath = currentAbsolutePath == null ? objectName : currentAbsolutePath + "." + objectName;
+			parentObjectAccessors.add( accessorRegistry.register( currentAbsolutePath, nextNodeBuilder.createAccessor() ) );
 			currentNodeBuilder = nextNodeBuilder;
 		}
 
@@ -105,7 +120,8 @@ public void appendObject(String objectName) {
 		public IndexModelBindingContext build(ConfiguredIndexSchemaNestingContext nestingContext) {
 			return new NonRootIndexModelBindingContext(
 					indexSchemaRootNodeBuilder,
-					currentNodeBuilder, parentObjectAccessors, nestingContext
+					currentNodeBuilder, parentObjectAccessors, nestingContext,
+					accessorRegistry, currentAbsolutePath
 			);
 		}
 	}
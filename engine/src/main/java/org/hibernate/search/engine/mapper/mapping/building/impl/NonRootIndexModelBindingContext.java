@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaObjectNodeBuilder;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexAccessorRegistry;
 import org.hibernate.search.util.AssertionFailure;
 
 class NonRootIndexModelBindingContext
@@ -22,8 +23,10 @@
 	NonRootIndexModelBindingContext(IndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder,
 			IndexSchemaObjectNodeBuilder indexSchemaObjectNodeBuilder,
 			Collection<IndexObjectFieldAccessor> parentObjectAccessors,
-			ConfiguredIndexSchemaNestingContext nestingContext) {
-		super( indexSchemaRootNodeBuilder, indexSchemaObjectNodeBuilder, nestingContext );
+			ConfiguredIndexSchemaNestingContext nestingContext,
+			IndexAccessorRegistry accessorRegistry, String absolutePath) {
+		super( indexSchemaRootNodeBuilder, indexSchemaObjectNodeBuilder, nestingContext,
+				accessorRegistry, absolutePath );
 		this.parentObjectAccessors = Collections.unmodifiableCollection( parentObjectAccessors );
 	}
 
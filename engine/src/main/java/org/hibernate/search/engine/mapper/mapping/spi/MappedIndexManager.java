@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.engine.mapper.mapping.spi;
 
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexWorkRecord;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -28,6 +32,35 @@
 
 	IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext);
 
+	IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext, DocumentRefreshStrategy refreshStrategy);
+
+	/**
+	 * Create a work plan that records works instead of executing them.
+	 * <p>
+	 * Upon execution, the recorded works are passed to the given sink;
+	 * they can then be serialized, stored or sent to another node,
+	 * and eventually {@link #replay(IndexWorkPlan, List) replayed}.
+	 *
+	 * @param sessionContext The session context.
+	 * @param sink A consumer for the recorded works.
+	 * @return A recording work plan.
+	 * @throws org.hibernate.search.util.SearchException If work recording is disabled for this index.
+	 * @see org.hibernate.search.engine.cfg.IndexSettings#WORK_RECORDING_ENABLED
+	 */
+	IndexWorkPlan<D> createRecordingWorkPlan(SessionContextImplementor sessionContext,
+			Consumer<? super List<IndexWorkRecord>> sink);
+
+	/**
+	 * Add recorded works to a work plan.
+	 * <p>
+	 * The works must have been recorded for the same index, and for the same tenant as the work plan.
+	 *
+	 * @param workPlan A work plan created by this index manager.
+	 * @param records The recorded works.
+	 * @throws org.hibernate.search.util.SearchException If work recording is disabled for this index.
+	 */
+	void replay(IndexWorkPlan<D> workPlan, List<IndexWorkRecord> records);
+
 	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContextImplementor sessionContext);
 
 	IndexWorkExecutor createWorkExecutor();
@@ -20,4 +20,15 @@ public interface SessionContextImplementor {
 
 	String getTenantIdentifier();
 
+	/**
+	 * @return {@code true} if backends may build documents for this session in other threads,
+	 * after works have been submitted.
+	 * {@code false} if documents must be built in the thread submitting works,
+	 * for instance because entities are attached to a session that is not thread-safe
+	 * or that may be closed once works have been submitted.
+	 */
+	default boolean isDeferredDocumentBuildingAllowed() {
+		return true;
+	}
+
 }
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A search query built once, with parameters, and turned into executable queries by binding parameter values.
+ * <p>
+ * Binding values is much cheaper than building a query through the DSL:
+ * backends reuse the structure built when the query was prepared,
+ * and only convert and insert the parameter values.
+ *
+ * @param <Q> The type of queries created when binding parameter values.
+ * @see org.hibernate.search.engine.search.dsl.query.SearchQueryContext#prepare()
+ */
+public interface PreparedSearchQuery<Q> {
+
+	/**
+	 * @param parameterValues The values of parameters, by parameter name.
+	 * All parameters used in the query must have a value.
+	 * @return A new query, with the given values bound to parameters.
+	 */
+	Q bind(Map<String, ?> parameterValues);
+
+	/**
+	 * @param parameterName The name of the only parameter used in the query.
+	 * @param value The value of that parameter.
+	 * @return A new query, with the given value bound to the parameter.
+	 */
+	default Q bind(String parameterName, Object value) {
+		return bind( Collections.singletonMap( parameterName, value ) );
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+
+/**
+ * Utilities to execute multiple search queries at once.
+ */
+public final class SearchQueries {
+
+	private SearchQueries() {
+		// Private constructor, do not use.
+	}
+
+	/**
+	 * Execute multiple queries together.
+	 * <p>
+	 * Queries targeting the same backend are executed as a batch when the backend supports it,
+	 * e.g. in a single request for Elasticsearch backends, or on a single view of each index for Lucene backends.
+	 * Other queries are simply executed one after the other.
+	 * <p>
+	 * If any query fails, this method throws an exception and no result is returned.
+	 *
+	 * @param queries The queries to execute.
+	 * @return The results of the queries, in the same order as the queries.
+	 */
+	public static List<SearchResult<?>> executeAll(List<? extends SearchQuery<?>> queries) {
+		SearchResult<?>[] results = new SearchResult<?>[queries.size()];
+
+		Map<SearchQueryBatchExecutor, List<Integer>> batches = new LinkedHashMap<>();
+		for ( int i = 0; i < queries.size(); i++ ) {
+			SearchQuery<?> query = queries.get( i );
+			if ( query instanceof BatchableSearchQuery ) {
+				SearchQueryBatchExecutor executor = ( (BatchableSearchQuery<?>) query ).getBatchExecutor();
+				batches.computeIfAbsent( executor, ignored -> new ArrayList<>() ).add( i );
+			}
+			else {
+				results[i] = query.execute();
+			}
+		}
+
+		for ( Map.Entry<SearchQueryBatchExecutor, List<Integer>> entry : batches.entrySet() ) {
+			List<Integer> queryIndexes = entry.getValue();
+			if ( queryIndexes.size() == 1 ) {
+				int queryIndex = queryIndexes.get( 0 );
+				results[queryIndex] = queries.get( queryIndex ).execute();
+				continue;
+			}
+			List<BatchableSearchQuery<?>> batch = new ArrayList<>( queryIndexes.size() );
+			for ( Integer queryIndex : queryIndexes ) {
+				batch.add( (BatchableSearchQuery<?>) queries.get( queryIndex ) );
+			}
+			List<SearchResult<?>> batchResults = entry.getKey().executeAll( batch );
+			for ( int i = 0; i < queryIndexes.size(); i++ ) {
+				results[queryIndexes.get( i )] = batchResults.get( i );
+			}
+		}
+
+		return Collections.unmodifiableList( Arrays.asList( results ) );
+	}
+
+	/**
+	 * Execute multiple queries together.
+	 *
+	 * @param queries The queries to execute.
+	 * @return The results of the queries, in the same order as the queries.
+	 * @see #executeAll(List)
+	 */
+	public static List<SearchResult<?>> executeAll(SearchQuery<?>... queries) {
+		return executeAll( Arrays.asList( queries ) );
+	}
+
+}
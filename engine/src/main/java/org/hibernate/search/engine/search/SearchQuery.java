@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Yoann Rodiere
  */
@@ -21,4 +23,34 @@
 
 	long executeCount();
 
+	/**
+	 * Execute this query asynchronously.
+	 * <p>
+	 * Cancelling the returned future aborts the execution of the query if it is still in progress,
+	 * for instance by aborting the request sent to a remote cluster.
+	 * <p>
+	 * Hits are loaded in the thread completing the execution, not in the calling thread.
+	 *
+	 * @return A future eventually holding the result of this query.
+	 */
+	CompletableFuture<SearchResult<T>> executeAsync();
+
+	/**
+	 * Count the hits of this query asynchronously.
+	 * <p>
+	 * Cancelling the returned future aborts the execution of the query if it is still in progress.
+	 *
+	 * @return A future eventually holding the number of hits of this query.
+	 * @see #executeCount()
+	 */
+	CompletableFuture<Long> executeCountAsync();
+
+	/**
+	 * Scroll through the hits of this query, taking into account the first result index and max results count.
+	 *
+	 * @param chunkSize The maximum number of hits to retrieve and load for each {@link SearchScroll#next() chunk}.
+	 * @return A scroll, to be closed once it is no longer needed.
+	 */
+	SearchScroll<T> scroll(int chunkSize);
+
 }
@@ -8,6 +8,8 @@
 
 import java.util.List;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
 /**
  * @author Yoann Rodiere
  */
@@ -17,6 +19,20 @@
 
 	List<T> getHits();
 
-	// TODO aggregations, facets, ...
+	/**
+	 * @return {@code true} if the query was stopped early because of a timeout
+	 * set through {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#truncateAfter(long, java.util.concurrent.TimeUnit)},
+	 * in which case the hits and hit count are partial; {@code false} otherwise.
+	 */
+	boolean isTimedOut();
+
+	/**
+	 * @param key The key of an aggregation defined through
+	 * {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#aggregation(AggregationKey, java.util.function.Function)}.
+	 * @param <A> The type of the aggregation result.
+	 * @return The result of the aggregation.
+	 * @throws org.hibernate.search.util.SearchException If no aggregation was defined with this key in the query.
+	 */
+	<A> A getAggregation(AggregationKey<A> key);
 
 }
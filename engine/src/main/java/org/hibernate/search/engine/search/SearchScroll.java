@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * A cursor over the hits of a {@link SearchQuery}, returning hits chunk by chunk.
+ * <p>
+ * Backend resources (index readers, server-side cursors, ...) are held until the scroll is closed,
+ * so that all chunks are retrieved from the same view of the index.
+ * Only the hits of the current chunk are loaded at any given time.
+ *
+ * @param <T> The type of hits.
+ */
+public interface SearchScroll<T> extends AutoCloseable {
+
+	/**
+	 * Retrieve and load the next chunk of hits.
+	 *
+	 * @return A result whose hits are the next chunk of hits, and whose hit count is the total hit count of the query.
+	 * The hits are empty when there are no more hits to retrieve.
+	 */
+	SearchResult<T> next();
+
+	@Override
+	void close();
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation;
+
+import java.util.Objects;
+
+import org.hibernate.search.util.impl.common.Contracts;
+
+/**
+ * A key identifying an aggregation in a search query, used to retrieve its result from the search result.
+ * <p>
+ * Keys are equal if their names are equal.
+ *
+ * @param <A> The type of the aggregation result.
+ * @see org.hibernate.search.engine.search.dsl.query.SearchQueryContext#aggregation(AggregationKey, java.util.function.Function)
+ * @see org.hibernate.search.engine.search.SearchResult#getAggregation(AggregationKey)
+ */
+public final class AggregationKey<A> {
+
+	/**
+	 * @param name The name of the aggregation, unique within a given query.
+	 * @param <A> The type of the aggregation result.
+	 * @return A new key.
+	 */
+	public static <A> AggregationKey<A> of(String name) {
+		Contracts.assertNotNullNorEmpty( name, "name" );
+		return new AggregationKey<>( name );
+	}
+
+	private final String name;
+
+	private AggregationKey(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + "]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		AggregationKey<?> other = (AggregationKey<?>) obj;
+		return name.equals( other.name );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode( name );
+	}
+
+	public String getName() {
+		return name;
+	}
+
+}
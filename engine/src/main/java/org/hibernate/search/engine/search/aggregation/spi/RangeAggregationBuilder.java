@@ -0,0 +1,18 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+public interface RangeAggregationBuilder<B> extends SearchAggregationBuilder<B> {
+
+	/**
+	 * @param key The key of the range in the aggregation result.
+	 * @param from The lower bound, included, or {@code null} for no lower bound.
+	 * @param to The upper bound, excluded, or {@code null} for no upper bound.
+	 */
+	void range(String key, Object from, Object to);
+
+}
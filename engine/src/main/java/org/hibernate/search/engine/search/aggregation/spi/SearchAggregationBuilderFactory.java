@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
+/**
+ * A factory for search aggregation builders.
+ * <p>
+ * This is the main entry point for the engine
+ * to ask the backend to build search aggregations.
+ *
+ * @param <C> The type of query element collector
+ * @param <B> The implementation type of builders
+ * This type is backend-specific. See {@link SearchAggregationBuilder#toImplementation()}
+ */
+public interface SearchAggregationBuilderFactory<C, B> {
+
+	/**
+	 * Contribute an aggregation builder to a collector.
+	 * <p>
+	 * May be called multiple times per collector, if there are multiple aggregations.
+	 *
+	 * @param collector The query element collector.
+	 * @param key The key identifying the aggregation in the search result.
+	 * @param builder The aggregation builder implementation.
+	 */
+	void contribute(C collector, AggregationKey<?> key, B builder);
+
+	TermsAggregationBuilder<B> terms(String absoluteFieldPath);
+
+	RangeAggregationBuilder<B> range(String absoluteFieldPath);
+
+	SearchAggregationBuilder<B> histogram(String absoluteFieldPath, long interval);
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * The context used when defining a range aggregation,
+ * which counts matching documents whose field value falls within each given range.
+ * <p>
+ * The result maps the key of each range to its count of matching documents,
+ * in the order ranges were defined.
+ */
+public interface RangeAggregationContext extends SearchAggregationTerminalContext<Map<String, Long>> {
+
+	/**
+	 * Add a range.
+	 *
+	 * @param key The key of this range in the aggregation result.
+	 * @param from The lower bound of the range, included, or {@code null} for no lower bound.
+	 * @param to The upper bound of the range, excluded, or {@code null} for no upper bound.
+	 * @return {@code this}, for method chaining.
+	 */
+	RangeAggregationContext range(String key, Object from, Object to);
+
+}
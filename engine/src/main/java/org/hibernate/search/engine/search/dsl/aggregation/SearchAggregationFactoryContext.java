@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * A context allowing to create an aggregation.
+ * <p>
+ * Aggregations rely on the values of the field for each document,
+ * and thus require the field to be sortable.
+ */
+public interface SearchAggregationFactoryContext {
+
+	/**
+	 * Count matching documents for each distinct value of a string field.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A context allowing to define the aggregation more precisely.
+	 */
+	TermsAggregationContext terms(String absoluteFieldPath);
+
+	/**
+	 * Count matching documents whose value of an integer or long field falls within given ranges.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A context allowing to define the ranges.
+	 */
+	RangeAggregationContext range(String absoluteFieldPath);
+
+	/**
+	 * Count matching documents for each interval of values of an integer or long field.
+	 * <p>
+	 * The result maps the lower bound of each interval to its count of matching documents,
+	 * in ascending order, omitting intervals without any matching document.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param interval The width of intervals. Intervals start at multiples of this width.
+	 * @return The final context.
+	 */
+	SearchAggregationTerminalContext<Map<Long, Long>> histogram(String absoluteFieldPath, long interval);
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * The context used when defining a terms aggregation,
+ * which counts matching documents for each distinct value of a field.
+ * <p>
+ * The result maps each value to its count of matching documents,
+ * ordered by descending count, then by ascending value.
+ */
+public interface TermsAggregationContext extends SearchAggregationTerminalContext<Map<String, Long>> {
+
+	/**
+	 * @param maxTermCount The maximum number of values to return, those with the highest count of documents.
+	 * Defaults to {@code 10}.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationContext maxTermCount(int maxTermCount);
+
+}
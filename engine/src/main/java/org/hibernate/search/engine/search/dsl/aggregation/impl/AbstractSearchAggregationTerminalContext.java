@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
+
+/**
+ * @param <A> The type of the aggregation result.
+ * @param <B> The implementation type of builders.
+ */
+public abstract class AbstractSearchAggregationTerminalContext<A, B> implements SearchAggregationTerminalContext<A> {
+
+	private final SearchAggregationBuilder<B> builder;
+
+	AbstractSearchAggregationTerminalContext(SearchAggregationBuilder<B> builder) {
+		this.builder = builder;
+	}
+
+	public B toImplementation() {
+		return builder.toImplementation();
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationContext;
+import org.hibernate.search.util.impl.common.Contracts;
+
+public class DefaultSearchAggregationFactoryContext<B> implements SearchAggregationFactoryContext {
+
+	private final SearchAggregationBuilderFactory<?, B> factory;
+
+	public DefaultSearchAggregationFactoryContext(SearchAggregationBuilderFactory<?, B> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public TermsAggregationContext terms(String absoluteFieldPath) {
+		return new TermsAggregationContextImpl<>( factory.terms( absoluteFieldPath ) );
+	}
+
+	@Override
+	public RangeAggregationContext range(String absoluteFieldPath) {
+		return new RangeAggregationContextImpl<>( factory.range( absoluteFieldPath ) );
+	}
+
+	@Override
+	public SearchAggregationTerminalContext<Map<Long, Long>> histogram(String absoluteFieldPath, long interval) {
+		Contracts.assertStrictlyPositive( interval, "interval" );
+		return new HistogramAggregationContextImpl<>( factory.histogram( absoluteFieldPath, interval ) );
+	}
+}
@@ -0,0 +1,18 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+
+class HistogramAggregationContextImpl<B> extends AbstractSearchAggregationTerminalContext<Map<Long, Long>, B> {
+
+	HistogramAggregationContextImpl(SearchAggregationBuilder<B> builder) {
+		super( builder );
+	}
+}
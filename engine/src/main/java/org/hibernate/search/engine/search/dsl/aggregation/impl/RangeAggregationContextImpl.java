@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationContext;
+import org.hibernate.search.util.impl.common.Contracts;
+
+class RangeAggregationContextImpl<B>
+		extends AbstractSearchAggregationTerminalContext<Map<String, Long>, B>
+		implements RangeAggregationContext {
+
+	private final RangeAggregationBuilder<B> builder;
+
+	RangeAggregationContextImpl(RangeAggregationBuilder<B> builder) {
+		super( builder );
+		this.builder = builder;
+	}
+
+	@Override
+	public RangeAggregationContext range(String key, Object from, Object to) {
+		Contracts.assertNotNull( key, "key" );
+		builder.range( key, from, to );
+		return this;
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationContext;
+import org.hibernate.search.util.impl.common.Contracts;
+
+class TermsAggregationContextImpl<B>
+		extends AbstractSearchAggregationTerminalContext<Map<String, Long>, B>
+		implements TermsAggregationContext {
+
+	private final TermsAggregationBuilder<B> builder;
+
+	TermsAggregationContextImpl(TermsAggregationBuilder<B> builder) {
+		super( builder );
+		this.builder = builder;
+	}
+
+	@Override
+	public TermsAggregationContext maxTermCount(int maxTermCount) {
+		Contracts.assertStrictlyPositive( maxTermCount, "maxTermCount" );
+		builder.maxTermCount( maxTermCount );
+		return this;
+	}
+}
@@ -50,4 +50,17 @@ default MatchPredicateFieldSetContext orField(String absoluteFieldPath) {
 	 */
 	SearchPredicateTerminalContext matching(Object value);
 
+	/**
+	 * Require at least one of the targeted fields to match the value of the given parameter,
+	 * bound when creating a query from a {@link org.hibernate.search.engine.search.PreparedSearchQuery prepared query}.
+	 * <p>
+	 * Queries using parameters must be built using
+	 * {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#prepare()}.
+	 *
+	 * @param parameterName The name of the parameter.
+	 * The value bound to that parameter is expected to have the same type as a value passed to {@link #matching(Object)}.
+	 * @return A context allowing to get the resulting predicate.
+	 */
+	SearchPredicateTerminalContext matchingParameter(String parameterName);
+
 }
@@ -15,7 +15,15 @@
  */
 public interface NestedPredicateFieldContext {
 
-	// TODO add tuning methods, like the "score_mode" in Elasticsearch (avg, min, ...)
+	/**
+	 * Set how the scores of matching nested objects are combined into the score of the parent document.
+	 * <p>
+	 * Defaults to {@link NestedScoreMode#AVG}.
+	 *
+	 * @param scoreMode The score mode.
+	 * @return {@code this}, for method chaining.
+	 */
+	NestedPredicateFieldContext scoreMode(NestedScoreMode scoreMode);
 
 	/**
 	 * Set the inner predicate to a previously-built {@link SearchPredicate}.
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.predicate;
+
+/**
+ * How the scores of matching nested objects are combined into the score of the parent document.
+ */
+public enum NestedScoreMode {
+
+	/**
+	 * Use the average score of matching nested objects.
+	 */
+	AVG,
+	/**
+	 * Use the maximum score of matching nested objects.
+	 */
+	MAX,
+	/**
+	 * Use the minimum score of matching nested objects.
+	 */
+	MIN,
+	/**
+	 * Use the sum of the scores of matching nested objects.
+	 */
+	SUM,
+	/**
+	 * Do not score nested objects.
+	 * <p>
+	 * Faster, best used when the predicate is only used as a filter.
+	 */
+	NONE
+
+}
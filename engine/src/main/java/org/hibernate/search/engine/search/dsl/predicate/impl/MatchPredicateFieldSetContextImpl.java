@@ -19,6 +19,7 @@
 import org.hibernate.search.engine.search.dsl.predicate.MatchPredicateFieldSetContext;
 import org.hibernate.search.engine.search.predicate.spi.MatchPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
+import org.hibernate.search.util.impl.common.Contracts;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 
@@ -58,6 +59,11 @@ public SearchPredicateTerminalContext matching(Object value) {
 		return commonState.matching( value );
 	}
 
+	@Override
+	public SearchPredicateTerminalContext matchingParameter(String parameterName) {
+		return commonState.matchingParameter( parameterName );
+	}
+
 	@Override
 	public void contributePredicateBuilders(Consumer<B> collector) {
 		for ( MatchPredicateBuilder<B> predicateBuilder : predicateBuilders ) {
@@ -80,6 +86,12 @@ public SearchPredicateTerminalContext matching(Object value) {
 			return this;
 		}
 
+		public SearchPredicateTerminalContext matchingParameter(String parameterName) {
+			Contracts.assertNotNullNorEmpty( parameterName, "parameterName" );
+			getQueryBuilders().forEach( b -> b.parameter( parameterName ) );
+			return this;
+		}
+
 		private List<String> collectAbsoluteFieldPaths() {
 			return getFieldSetContexts().stream().flatMap( f -> f.absoluteFieldPaths.stream() )
 					.collect( Collectors.toList() );
@@ -15,6 +15,7 @@
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateTerminalContext;
 import org.hibernate.search.engine.search.dsl.predicate.NestedPredicateContext;
 import org.hibernate.search.engine.search.dsl.predicate.NestedPredicateFieldContext;
+import org.hibernate.search.engine.search.dsl.predicate.NestedScoreMode;
 import org.hibernate.search.engine.search.dsl.predicate.spi.AbstractSearchPredicateTerminalContext;
 import org.hibernate.search.engine.search.predicate.spi.NestedPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
@@ -42,6 +43,12 @@ public NestedPredicateFieldContext onObjectField(String absoluteFieldPath) {
 		return this;
 	}
 
+	@Override
+	public NestedPredicateFieldContext scoreMode(NestedScoreMode scoreMode) {
+		builder.scoreMode( scoreMode );
+		return this;
+	}
+
 	@Override
 	public SearchPredicateTerminalContext nest(SearchPredicate searchPredicate) {
 		if ( this.childPredicateBuilder != null ) {
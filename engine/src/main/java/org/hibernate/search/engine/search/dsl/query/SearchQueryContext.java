@@ -8,9 +8,15 @@
 
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import org.hibernate.search.engine.search.PreparedSearchQuery;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 
 /**
@@ -26,6 +32,64 @@
 
 	SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> sortContributor);
 
+	/**
+	 * Compute an aggregation, e.g. counts of documents per value of a field, along with the hits.
+	 * <p>
+	 * The result is retrieved through {@link org.hibernate.search.engine.search.SearchResult#getAggregation(AggregationKey)}.
+	 *
+	 * @param key The key identifying the aggregation in the search result. Must be unique within this query.
+	 * @param aggregationContributor A function defining the aggregation.
+	 * @param <A> The type of the aggregation result.
+	 * @return {@code this}, for method chaining.
+	 */
+	<A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> aggregationContributor);
+
+	/**
+	 * Stop the query and throw an exception if it takes longer than the given timeout.
+	 * <p>
+	 * Depending on the backend, resources held by the query (threads, connections)
+	 * are released as soon as possible once the timeout is reached.
+	 *
+	 * @param timeout The timeout value.
+	 * @param timeUnit The timeout unit.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchQueryContext<Q> failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop the query and return partial results if it takes longer than the given timeout.
+	 * <p>
+	 * Results of a query that was stopped early are flagged through {@link org.hibernate.search.engine.search.SearchResult#isTimedOut()}.
+	 *
+	 * @param timeout The timeout value.
+	 * @param timeUnit The timeout unit.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchQueryContext<Q> truncateAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Allow the backend to stop counting matching documents early,
+	 * for instance once the requested hits are known for a query sorted on the order of the index itself.
+	 * <p>
+	 * The {@link org.hibernate.search.engine.search.SearchResult#getHitCount() hit count} of results
+	 * may then be an estimate of the number of matching documents.
+	 *
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchQueryContext<Q> approximateHitCount();
+
 	Q build();
 
+	/**
+	 * Build a query template whose parameters will be bound when creating queries,
+	 * for instance to execute a query many times with different values to match.
+	 * <p>
+	 * Parameters are defined in the predicate, see
+	 * {@link org.hibernate.search.engine.search.dsl.predicate.MatchPredicateFieldSetContext#matchingParameter(String)}.
+	 *
+	 * @return The prepared query.
+	 */
+	PreparedSearchQuery<Q> prepare();
+
 }
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.AbstractSearchAggregationTerminalContext;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.DefaultSearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Collect search aggregations to later add them to a search query.
+ * <p>
+ * This class is essentially a bridge transferring information from {@link SearchQueryContext}
+ * to {@link SearchQueryBuilder#getQueryElementCollector()}.
+ */
+class SearchQueryAggregationCollector<C, B> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchAggregationBuilderFactory<C, B> factory;
+	private final SearchAggregationFactoryContext factoryContext;
+
+	private final Map<AggregationKey<?>, AbstractSearchAggregationTerminalContext<?, B>> aggregations =
+			new LinkedHashMap<>();
+
+	SearchQueryAggregationCollector(SearchAggregationBuilderFactory<C, B> factory) {
+		this.factory = factory;
+		this.factoryContext = new DefaultSearchAggregationFactoryContext<>( factory );
+	}
+
+	void contribute(C collector) {
+		for ( Map.Entry<AggregationKey<?>, AbstractSearchAggregationTerminalContext<?, B>> entry : aggregations.entrySet() ) {
+			factory.contribute( collector, entry.getKey(), entry.getValue().toImplementation() );
+		}
+	}
+
+	<A> void collect(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> aggregationContributor) {
+		if ( aggregations.containsKey( key ) ) {
+			throw log.duplicateAggregationKey( key.getName() );
+		}
+		// The cast is safe: terminal contexts can only be created from the factory context we pass
+		@SuppressWarnings("unchecked")
+		AbstractSearchAggregationTerminalContext<?, B> terminalContext =
+				(AbstractSearchAggregationTerminalContext<?, B>) aggregationContributor.apply( factoryContext );
+		aggregations.put( key, terminalContext );
+	}
+}
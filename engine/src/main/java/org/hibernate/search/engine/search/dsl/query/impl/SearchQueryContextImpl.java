@@ -7,11 +7,16 @@
 package org.hibernate.search.engine.search.dsl.query.impl;
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.search.PreparedSearchQuery;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 import org.hibernate.search.engine.search.dsl.spi.SearchTargetContext;
@@ -26,6 +31,8 @@
 
 	private final SearchQuerySortCollector<? super C, ?> searchSortCollector;
 
+	private final SearchQueryAggregationCollector<? super C, ?> searchAggregationCollector;
+
 	public SearchQueryContextImpl(SearchTargetContext<C> targetContext, SearchQueryBuilder<T, C> searchQueryBuilder,
 			Function<SearchQuery<T>, Q> searchQueryWrapperFactory,
 			SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector) {
@@ -33,6 +40,8 @@ public SearchQueryContextImpl(SearchTargetContext<C> targetContext, SearchQueryB
 		this.searchQueryWrapperFactory = searchQueryWrapperFactory;
 		this.searchPredicateCollector = searchPredicateCollector;
 		this.searchSortCollector = new SearchQuerySortCollector<>( targetContext.getSearchSortBuilderFactory() );
+		this.searchAggregationCollector =
+				new SearchQueryAggregationCollector<>( targetContext.getSearchAggregationBuilderFactory() );
 	}
 
 	@Override
@@ -59,6 +68,31 @@ public SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> d
 		return this;
 	}
 
+	@Override
+	public <A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> aggregationContributor) {
+		searchAggregationCollector.collect( key, aggregationContributor );
+		return this;
+	}
+
+	@Override
+	public SearchQueryContext<Q> failAfter(long timeout, TimeUnit timeUnit) {
+		searchQueryBuilder.failAfter( timeout, timeUnit );
+		return this;
+	}
+
+	@Override
+	public SearchQueryContext<Q> truncateAfter(long timeout, TimeUnit timeUnit) {
+		searchQueryBuilder.truncateAfter( timeout, timeUnit );
+		return this;
+	}
+
+	@Override
+	public SearchQueryContext<Q> approximateHitCount() {
+		searchQueryBuilder.approximateHitCount();
+		return this;
+	}
+
 	@Override
 	public Q build() {
 		/*
@@ -72,10 +106,22 @@ public Q build() {
 		 * otherwise we'd need to execute the contribution upon some DSL method being called
 		 * (an end() method for example), and this method could be called twice by the user.
 		 */
+		contribute();
+		return searchQueryBuilder.build( searchQueryWrapperFactory );
+	}
+
+	@Override
+	public PreparedSearchQuery<Q> prepare() {
+		// Same as build(): contributions must only be executed once, see HSEARCH-3207
+		contribute();
+		return searchQueryBuilder.prepare( searchQueryWrapperFactory );
+	}
+
+	private void contribute() {
 		C collector = searchQueryBuilder.getQueryElementCollector();
 		searchPredicateCollector.contribute( collector );
 		searchSortCollector.contribute( collector );
-		return searchQueryBuilder.build( searchQueryWrapperFactory );
+		searchAggregationCollector.contribute( collector );
 	}
 
 }
@@ -10,4 +10,12 @@
 
 	void value(Object value);
 
+	/**
+	 * Match the value bound to the given parameter, instead of a value known when building the predicate.
+	 *
+	 * @param parameterName The name of the parameter.
+	 * @see org.hibernate.search.engine.search.PreparedSearchQuery
+	 */
+	void parameter(String parameterName);
+
 }
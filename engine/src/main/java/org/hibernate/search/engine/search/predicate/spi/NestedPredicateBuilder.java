@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.engine.search.predicate.spi;
 
+import org.hibernate.search.engine.search.dsl.predicate.NestedScoreMode;
+
 public interface NestedPredicateBuilder<B> extends SearchPredicateBuilder<B> {
 
 	void nested(B nestedBuilder);
 
+	void scoreMode(NestedScoreMode scoreMode);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.query.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
@@ -21,7 +22,7 @@
 	private final Function<DocumentReference, R> documentReferenceTransformer;
 	private final ObjectLoader<R, O> objectLoader;
 
-	private final List<R> referencesToLoad = new ArrayList<>();
+	private List<R> referencesToLoad = new ArrayList<>();
 
 	public DefaultProjectionHitMapper(Function<DocumentReference, R> documentReferenceTransformer,
 			ObjectLoader<R, O> objectLoader) {
@@ -42,7 +43,14 @@ public Object planLoading(DocumentReference reference) {
 
 	@Override
 	public LoadingResult<O> loadBlocking() {
-		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		List<R> references = referencesToLoad;
+		if ( references.isEmpty() ) {
+			// Nothing to load, e.g. with field projections only: don't even involve the object loader
+			return new DefaultLoadingResult<>( Collections.emptyList() );
+		}
+		// Start afresh for the next execution (or the next chunk when scrolling)
+		referencesToLoad = new ArrayList<>();
+		return new DefaultLoadingResult<>( objectLoader.loadBlocking( references ) );
 	}
 
 	private static class DefaultLoadingResult<O> implements LoadingResult<O> {
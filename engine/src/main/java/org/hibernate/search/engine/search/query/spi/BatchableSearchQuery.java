@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import org.hibernate.search.engine.search.SearchQuery;
+
+/**
+ * A search query that can be executed together with other queries of the same backend,
+ * see {@link org.hibernate.search.engine.search.SearchQueries#executeAll(java.util.List)}.
+ *
+ * @param <T> The type of query results
+ */
+public interface BatchableSearchQuery<T> extends SearchQuery<T> {
+
+	/**
+	 * @return The executor able to execute this query in a batch.
+	 * Queries returning the same executor (according to {@link Object#equals(Object)}) may be executed together.
+	 */
+	SearchQueryBatchExecutor getBatchExecutor();
+
+}
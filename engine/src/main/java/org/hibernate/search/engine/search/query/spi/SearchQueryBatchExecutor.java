@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.SearchResult;
+
+/**
+ * Executes multiple search queries of the same backend together,
+ * for instance in a single request to a remote cluster.
+ */
+public interface SearchQueryBatchExecutor {
+
+	/**
+	 * @param queries The queries to execute, all of them returning this executor
+	 * from {@link BatchableSearchQuery#getBatchExecutor()}.
+	 * @return The results of the queries, in the same order as the queries.
+	 */
+	List<SearchResult<?>> executeAll(List<? extends BatchableSearchQuery<?>> queries);
+
+}
@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.search.PreparedSearchQuery;
 import org.hibernate.search.engine.search.SearchQuery;
 
 /**
@@ -22,8 +24,22 @@
 
 	void addRoutingKey(String routingKey);
 
+	void failAfter(long timeout, TimeUnit timeUnit);
+
+	void truncateAfter(long timeout, TimeUnit timeUnit);
+
+	void approximateHitCount();
+
 	// TODO add more arguments, such as faceting options
 
 	<Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory);
 
+	/**
+	 * @param searchQueryWrapperFactory A factory to wrap each query created by the prepared query.
+	 * @param <Q> The type of queries created by the prepared query.
+	 * @return A prepared query, creating a new query each time parameter values are bound.
+	 * @see org.hibernate.search.engine.search.dsl.query.SearchQueryContext#prepare()
+	 */
+	<Q> PreparedSearchQuery<Q> prepare(Function<SearchQuery<T>, Q> searchQueryWrapperFactory);
+
 }
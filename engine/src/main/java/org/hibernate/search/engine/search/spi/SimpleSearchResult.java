@@ -6,17 +6,45 @@
  */
 package org.hibernate.search.engine.search.spi;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 public final class SimpleSearchResult<T> implements SearchResult<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final long hitCount;
 	private final List<T> hits;
+	private final boolean timedOut;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
 
 	public SimpleSearchResult(long hitCount, List<T> hits) {
+		this( hitCount, hits, false );
+	}
+
+	public SimpleSearchResult(long hitCount, List<T> hits, boolean timedOut) {
+		this( hitCount, hits, timedOut, Collections.emptyMap() );
+	}
+
+	/**
+	 * @param hitCount The total hit count.
+	 * @param hits The hits.
+	 * @param timedOut Whether the query was stopped early because of a timeout.
+	 * @param aggregationResults The result of each aggregation of the query, by key.
+	 */
+	public SimpleSearchResult(long hitCount, List<T> hits, boolean timedOut,
+			Map<AggregationKey<?>, ?> aggregationResults) {
 		this.hitCount = hitCount;
 		this.hits = hits;
+		this.timedOut = timedOut;
+		this.aggregationResults = aggregationResults;
 	}
 
 	@Override
@@ -29,11 +57,27 @@ public List<T> getHits() {
 		return hits;
 	}
 
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The type of results is enforced when defining aggregations
+	public <A> A getAggregation(AggregationKey<A> key) {
+		if ( !aggregationResults.containsKey( key ) ) {
+			throw log.unknownAggregationKey( key.getName(), aggregationResults.keySet() );
+		}
+		return (A) aggregationResults.get( key );
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "hitCount=" + hitCount
 				+ ", hits=" + hits
+				+ ", timedOut=" + timedOut
+				+ ", aggregationResults=" + aggregationResults
 				+ "]";
 	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.serialization.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+public class IndexWorkRecordSerializerTest {
+
+	private final IndexWorkRecordSerializer serializer = new IndexWorkRecordSerializer();
+
+	@Test
+	public void roundTrip() {
+		DocumentRecord document = new DocumentRecord();
+		document.addValue( "string", "some text, with non-ASCII characters: é中" );
+		document.addValue( "string", null );
+		document.addValue( "integer", -42 );
+		document.addValue( "long", Long.MAX_VALUE );
+		document.addValue( "boolean", true );
+		document.addValue( "localDate", LocalDate.of( 2018, 12, 31 ) );
+		document.addValue( "instant", Instant.ofEpochSecond( -1_000_000L, 999_999_999 ) );
+		document.addValue( "geoPoint", GeoPoint.of( 45.7705687, 4.835233 ) );
+		DocumentRecord object = document.addObject( "object" );
+		object.addValue( "object.string", "nested" );
+		document.addMissingObject( "object" );
+
+		List<IndexWorkRecord> works = Arrays.asList(
+				new IndexWorkRecord( IndexWorkRecord.Type.ADD, "tenant1", "1", null, document ),
+				new IndexWorkRecord( IndexWorkRecord.Type.UPDATE, "tenant1", "2", "routingKey", document ),
+				new IndexWorkRecord( IndexWorkRecord.Type.DELETE, null, "3", null, null )
+		);
+
+		List<IndexWorkRecord> result = serializer.deserialize( serializer.serialize( works ) );
+
+		assertThat( result ).hasSize( 3 );
+		for ( int i = 0; i < works.size(); i++ ) {
+			IndexWorkRecord expected = works.get( i );
+			IndexWorkRecord actual = result.get( i );
+			assertThat( actual.getType() ).isEqualTo( expected.getType() );
+			assertThat( actual.getTenantId() ).isEqualTo( expected.getTenantId() );
+			assertThat( actual.getIdentifier() ).isEqualTo( expected.getIdentifier() );
+			assertThat( actual.getRoutingKey() ).isEqualTo( expected.getRoutingKey() );
+			assertThat( String.valueOf( actual.getDocument() ) ).isEqualTo( String.valueOf( expected.getDocument() ) );
+		}
+	}
+
+	@Test
+	public void fieldPathsWrittenOnce() {
+		List<IndexWorkRecord> works = new ArrayList<>();
+		for ( int i = 0; i < 100; i++ ) {
+			DocumentRecord document = new DocumentRecord();
+			document.addValue( "someQuiteLongFieldName", i );
+			works.add( new IndexWorkRecord( IndexWorkRecord.Type.ADD, "tenant", String.valueOf( i ), null, document ) );
+		}
+
+		byte[] payload = serializer.serialize( works );
+
+		// Without a dictionary, the field name alone would take more than 20 bytes per work
+		assertThat( payload.length ).isLessThan( 100 * 16 );
+		assertThat( serializer.deserialize( payload ) ).hasSize( 100 );
+	}
+
+	@Test
+	public void unsupportedValueType() {
+		DocumentRecord document = new DocumentRecord();
+		document.addValue( "myField", new Object() );
+		List<IndexWorkRecord> works = Arrays.asList(
+				new IndexWorkRecord( IndexWorkRecord.Type.ADD, null, "1", null, document )
+		);
+
+		SubTest.expectException( () -> serializer.serialize( works ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to serialize the value of field 'myField'" );
+	}
+
+	@Test
+	public void unsupportedVersion() {
+		byte[] payload = serializer.serialize( new ArrayList<>() );
+		payload[0] = 42;
+
+		SubTest.expectException( () -> serializer.deserialize( payload ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "expected version 1, got version 42" );
+	}
+
+	@Test
+	public void truncatedPayload() {
+		DocumentRecord document = new DocumentRecord();
+		document.addValue( "string", "some text" );
+		byte[] payload = serializer.serialize( Arrays.asList(
+				new IndexWorkRecord( IndexWorkRecord.Type.ADD, null, "1", null, document )
+		) );
+
+		SubTest.expectException( () -> serializer.deserialize( payload, 0, payload.length - 3 ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "the payload is corrupt" );
+	}
+}
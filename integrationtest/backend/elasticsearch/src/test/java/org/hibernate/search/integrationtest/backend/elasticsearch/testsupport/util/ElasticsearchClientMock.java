@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.util.impl.integrationtest.common.rule.CallQueue;
 
@@ -74,8 +75,8 @@ private class SpyingElasticsearchClientFactory implements ElasticsearchClientFac
 
 		@Override
 		public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
-				GsonProvider initialGsonProvider) {
-			return new SpyingElasticsearchClient( delegate.create( propertySource, initialGsonProvider ) );
+				BeanProvider beanProvider, GsonProvider initialGsonProvider) {
+			return new SpyingElasticsearchClient( delegate.create( propertySource, beanProvider, initialGsonProvider ) );
 		}
 	}
 
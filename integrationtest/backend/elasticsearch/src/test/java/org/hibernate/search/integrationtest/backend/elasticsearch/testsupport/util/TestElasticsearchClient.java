@@ -28,6 +28,11 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.Elasticsearch6WorkBuilderFactory;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanProvider;
+import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
+import org.hibernate.search.engine.environment.bean.spi.ReflectionBeanResolver;
+import org.hibernate.search.engine.environment.classpath.spi.DefaultClassAndResourceResolver;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
 import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.impl.common.Closer;
@@ -437,7 +442,8 @@ public void evaluate() throws Throwable {
 	private void before(Description description) {
 		testHelper = TestHelper.create( description );
 		ConfigurationPropertySource backendProperties = TckConfiguration.get().getBackendProperties( testHelper, null );
-		client = clientFactory.create( backendProperties, DefaultGsonProvider.create( GsonBuilder::new, true ) );
+		client = clientFactory.create( backendProperties, new ReflectionBeanProvider(),
+				DefaultGsonProvider.create( GsonBuilder::new, true ) );
 	}
 
 	private void after(Closer<IOException> closer) {
@@ -549,4 +555,22 @@ private JsonElement toJsonElement(String jsonAsString) {
 		return new JsonParser().parse( jsonAsString );
 	}
 
+
+	/**
+	 * A bean provider relying on reflection only,
+	 * so that the test client can resolve the same beans (e.g. HTTP client configurers) as backends.
+	 */
+	private static class ReflectionBeanProvider implements BeanProvider {
+		private final BeanResolver beanResolver = new ReflectionBeanResolver( new DefaultClassAndResourceResolver() );
+
+		@Override
+		public <T> BeanHolder<T> getBean(Class<T> typeReference) {
+			return beanResolver.resolve( typeReference );
+		}
+
+		@Override
+		public <T> BeanHolder<T> getBean(Class<T> typeReference, String nameReference) {
+			return beanResolver.resolve( typeReference, nameReference );
+		}
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that documents can be built in the background, when work plans are executed.
+ */
+public class LuceneDocumentBuildingIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DOCUMENT_BUILDING_THREADS, 2 )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void deferredAndParallel() {
+		Set<Thread> buildingThreads = ConcurrentHashMap.newKeySet();
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < 20; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				buildingThreads.add( Thread.currentThread() );
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		// Works on the same document must be applied in order, even if built out of order
+		workPlan.update( referenceProvider( "0" ), document -> {
+			buildingThreads.add( Thread.currentThread() );
+			indexAccessors.integer.write( document, 100 );
+		} );
+		workPlan.delete( referenceProvider( "1" ) );
+
+		assertThat( buildingThreads ).as( "Threads building documents before execution" ).isEmpty();
+
+		workPlan.execute().join();
+
+		assertThat( buildingThreads ).isNotEmpty().doesNotContain( Thread.currentThread() );
+
+		SearchQuery<Integer> query = indexManager.createSearchTarget().query()
+				.asProjection( f -> f.field( "integer", Integer.class ) )
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.build();
+		assertThat( query ).hasHitsExactOrder(
+				2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 100
+		);
+	}
+
+	@Test
+	public void buildingFailure() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> {
+			throw new IllegalStateException( "Some failure" );
+		} );
+
+		assertThat( workPlan.execute() ).hasFailedWithThrowableThat()
+				.hasMessageContaining( "Some failure" );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.createAccessor();
+		}
+	}
+}
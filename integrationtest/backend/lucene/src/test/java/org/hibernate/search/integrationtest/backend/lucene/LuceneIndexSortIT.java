@@ -0,0 +1,181 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that an index sort can be declared, and that queries sorted on that index sort
+ * stop collecting hits early when the exact hit count is not required.
+ */
+public class LuceneIndexSortIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int SEGMENT_COUNT = 4;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void approximateHitCount_sortedOnIndexSort() {
+		setup( "integer:desc string" );
+		initData();
+
+		// Matches the 10 first and 10 last documents in the index order
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.bool()
+						.should( f.range().onField( "integer" ).from( 90 ).to( 99 ) )
+						.should( f.range().onField( "integer" ).from( 0 ).to( 9 ) )
+				)
+				.sort( c -> c.byField( "integer" ).desc() )
+				.approximateHitCount()
+				.build();
+		query.setMaxResults( 3L );
+
+		/*
+		 * Collection stopped after the top 3 hits of each segment,
+		 * so the hit count was extrapolated from the first documents of each segment, which all match.
+		 */
+		assertThat( query ).hasDocRefHitsExactOrder( INDEX_NAME, "99", "98", "97" );
+		assertThat( query.execute().getHitCount() ).isGreaterThan( 20L );
+	}
+
+	@Test
+	public void approximateHitCount_notSortedOnIndexSort() {
+		setup( "integer:desc" );
+		initData();
+
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.approximateHitCount()
+				.build();
+		query.setMaxResults( 3L );
+
+		assertThat( query ).hasDocRefHitsExactOrder( INDEX_NAME, "0", "1", "2" )
+				.hasHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void exactHitCount() {
+		setup( "integer:desc" );
+		initData();
+
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ).desc() )
+				.build();
+		query.setMaxResults( 3L );
+
+		assertThat( query ).hasDocRefHitsExactOrder( INDEX_NAME, "99", "98", "97" )
+				.hasHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void unknownField() {
+		SubTest.expectException( () -> setup( "unknownField:desc" ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unknown field 'unknownField'" )
+				.satisfies( FailureReportUtils.hasContext(
+						EventContexts.fromIndexName( INDEX_NAME )
+				) );
+	}
+
+	@Test
+	public void invalidElement() {
+		SubTest.expectException( () -> setup( "integer:descending" ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort element 'integer:descending'" );
+	}
+
+	@Test
+	public void nestedObjects() {
+		SubTest.expectException( () -> setup( "integer", root -> {
+			root.objectField( "nested", ObjectFieldStorage.NESTED ).createAccessor();
+		} ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Index sorting is not supported for indexes containing nested object fields" );
+	}
+
+	private void setup(String indexSort) {
+		setup( indexSort, root -> { } );
+	}
+
+	private void setup(String indexSort, Consumer<IndexSchemaElement> additionalMapping) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.INDEX_SORT, indexSort )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> {
+							this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() );
+							additionalMapping.accept( ctx.getSchemaElement() );
+						},
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void initData() {
+		// Index documents in multiple batches, so that the index contains multiple segments
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = segment; i < DOCUMENT_COUNT; i += SEGMENT_COUNT ) {
+				int value = i;
+				workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+					indexAccessors.integer.write( document, value );
+					indexAccessors.string.write( document, "text " + value );
+				} );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).createAccessor();
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).createAccessor();
+		}
+	}
+}
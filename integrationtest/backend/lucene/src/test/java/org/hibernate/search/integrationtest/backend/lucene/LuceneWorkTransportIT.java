@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that two backends sharing the same directories through a work transport
+ * route all works to a single node, and see each other's changes.
+ */
+public class LuceneWorkTransportIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+
+	@Test
+	public void worksRoutedToMaster() {
+		Node master = new Node();
+		Node slave = new Node();
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = slave.indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "text 1" );
+			indexAccessors.integer.write( document, 1 );
+		} );
+		workPlan.add( referenceProvider( "2" ), document -> {
+			indexAccessors.string.write( document, "text 2" );
+			indexAccessors.integer.write( document, 2 );
+		} );
+		workPlan.execute().join();
+
+		assertThat( createQuery( master.indexManager ) ).hasHitsExactOrder( 1, 2 );
+		assertThat( createQuery( slave.indexManager ) ).hasHitsExactOrder( 1, 2 );
+
+		workPlan = master.indexManager.createWorkPlan();
+		workPlan.delete( referenceProvider( "1" ) );
+		workPlan.execute().join();
+
+		assertThat( createQuery( slave.indexManager ) ).hasHitsExactOrder( 2 );
+	}
+
+	@Test
+	public void masterLeaves() {
+		Node master = new Node();
+		Node slave = new Node();
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = slave.indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "text 1" );
+			indexAccessors.integer.write( document, 1 );
+		} );
+		workPlan.execute().join();
+
+		master.integration.close();
+
+		// The remaining node takes over the index writer
+		workPlan = slave.indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "2" ), document -> {
+			indexAccessors.string.write( document, "text 2" );
+			indexAccessors.integer.write( document, 2 );
+		} );
+		workPlan.execute().join();
+
+		assertThat( createQuery( slave.indexManager ) ).hasHitsExactOrder( 1, 2 );
+	}
+
+	private SearchQuery<Integer> createQuery(StubMappingIndexManager indexManager) {
+		return indexManager.createSearchTarget().query()
+				.asProjection( f -> f.field( "integer", Integer.class ) )
+				.predicate( f -> f.match().onField( "string" ).matching( "text" ) )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.build();
+	}
+
+	private class Node {
+		private final SearchIntegration integration;
+		private StubMappingIndexManager indexManager;
+
+		Node() {
+			integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+					.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.WORK_TRANSPORT, "loopback" )
+					.withIndex(
+							"MappedType", INDEX_NAME,
+							ctx -> indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+							indexManager -> this.indexManager = indexManager
+					)
+					.setup();
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD.name ) )
+					.createAccessor();
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.createAccessor();
+		}
+	}
+}
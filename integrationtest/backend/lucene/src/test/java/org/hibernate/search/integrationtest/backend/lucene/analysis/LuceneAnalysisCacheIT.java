@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.PreparedSearchQuery;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that the results of analysis are cached when building match predicates.
+ */
+public class LuceneAnalysisCacheIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int CACHE_SIZE = 2;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+	private LuceneAnalysisCacheStatistics statistics;
+
+	@Before
+	public void setup() {
+		SearchIntegration integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.ANALYSIS_CACHE_SIZE, CACHE_SIZE )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		statistics = integration.getBackend( BACKEND_NAME ).unwrap( LuceneBackend.class )
+				.getAnalysisCacheStatistics();
+
+		initData();
+	}
+
+	@Test
+	public void repeatedInput() {
+		assertThat( statistics.getMaxSize() ).isEqualTo( CACHE_SIZE );
+
+		assertThat( matchAnalyzed( "quick fox" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( statistics.getMissCount() ).isEqualTo( 1L );
+		assertThat( statistics.getHitCount() ).isEqualTo( 0L );
+
+		assertThat( matchAnalyzed( "quick fox" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( statistics.getMissCount() ).isEqualTo( 1L );
+		assertThat( statistics.getHitCount() ).isEqualTo( 1L );
+		assertThat( statistics.getSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void noTokens() {
+		assertThat( matchAnalyzed( "" ) ).hasNoHits();
+		assertThat( matchAnalyzed( "" ) ).hasNoHits();
+		assertThat( statistics.getMissCount() ).isEqualTo( 1L );
+		assertThat( statistics.getHitCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void normalizer() {
+		assertThat( matchNormalized( "QUICK" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( matchNormalized( "quick" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		// Same field, different inputs
+		assertThat( statistics.getMissCount() ).isEqualTo( 2L );
+
+		// Same input, different field
+		assertThat( matchAnalyzed( "quick" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( statistics.getMissCount() ).isEqualTo( 3L );
+		assertThat( statistics.getHitCount() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void eviction() {
+		assertThat( matchAnalyzed( "quick" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( matchAnalyzed( "fox" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "2" );
+		assertThat( matchAnalyzed( "lazy" ) ).hasNoHits();
+		assertThat( statistics.getEvictionCount() ).isEqualTo( 1L );
+		assertThat( statistics.getSize() ).isEqualTo( CACHE_SIZE );
+
+		// Evicted entries are analyzed again
+		assertThat( matchAnalyzed( "quick" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( matchAnalyzed( "fox" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "2" );
+		assertThat( matchAnalyzed( "lazy" ) ).hasNoHits();
+		assertThat( statistics.getHitCount() + statistics.getMissCount() ).isEqualTo( 6L );
+		assertThat( statistics.getSize() ).isEqualTo( CACHE_SIZE );
+	}
+
+	@Test
+	public void preparedQuery() {
+		PreparedSearchQuery<SearchQuery<DocumentReference>> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( "analyzed" ).matchingParameter( "text" ) )
+				.prepare();
+
+		assertThat( query.bind( "text", "quick fox" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( query.bind( "text", "quick" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( statistics.getMissCount() ).isEqualTo( 2L );
+
+		// Values bound again are not analyzed again, nor looked up in the backend cache
+		assertThat( query.bind( "text", "quick fox" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( query.bind( "text", "quick" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( statistics.getMissCount() ).isEqualTo( 2L );
+		assertThat( statistics.getHitCount() ).isEqualTo( 0L );
+	}
+
+	private SearchQuery<DocumentReference> matchAnalyzed(String text) {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( "analyzed" ).matching( text ) )
+				.build();
+	}
+
+	private SearchQuery<DocumentReference> matchNormalized(String text) {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( "normalized" ).matching( text ) )
+				.build();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> {
+			indexAccessors.analyzed.write( document, "The quick brown" );
+			indexAccessors.normalized.write( document, "Quick" );
+		} );
+		workPlan.add( referenceProvider( "2" ), document -> {
+			indexAccessors.analyzed.write( document, "red fox" );
+			indexAccessors.normalized.write( document, "Fox" );
+		} );
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> analyzed;
+		final IndexFieldAccessor<String> normalized;
+
+		IndexAccessors(IndexSchemaElement root) {
+			analyzed = root.field(
+					"analyzed",
+					f -> f.asString().analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD.name )
+			)
+					.createAccessor();
+			normalized = root.field(
+					"normalized",
+					f -> f.asString().normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+			)
+					.createAccessor();
+		}
+	}
+}
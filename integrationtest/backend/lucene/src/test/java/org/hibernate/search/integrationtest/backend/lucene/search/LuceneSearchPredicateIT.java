@@ -0,0 +1,135 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.time.LocalDate;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test predicates on numeric fields with doc values,
+ * for which Lucene may use either points or doc values depending on the other clauses of the query.
+ */
+public class LuceneSearchPredicateIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 50;
+	private static final String SELECTIVE_VALUE = "selective";
+	private static final String COMMON_VALUE = "common";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void range_leading() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).from( 10 ).to( 12 ).excludeLimit() )
+				.build();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, "10", "11" );
+	}
+
+	@Test
+	public void range_withSelectiveClause() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		// The selective clause should lead, the wide range being checked using doc values
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.bool()
+						.must( f.match().onField( "string" ).matching( SELECTIVE_VALUE ) )
+						.filter( f.range().onField( "integer" ).from( 10 ).to( DOCUMENT_COUNT ) )
+						.filter( f.range().onField( "localDate" ).from( LocalDate.of( 2018, 1, 1 ) ).to( LocalDate.of( 2018, 2, 10 ) ) )
+				)
+				.build();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, "21", "35" );
+	}
+
+	@Test
+	public void match_withSelectiveClause() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.bool()
+						.must( f.match().onField( "string" ).matching( SELECTIVE_VALUE ) )
+						.filter( f.match().onField( "localDate" ).matching( LocalDate.of( 2018, 1, 1 ).plusDays( 7 ) ) )
+				)
+				.build();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, "7" );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, value % 7 == 0 && value % 2 == 1 ? SELECTIVE_VALUE : COMMON_VALUE );
+				indexAccessors.integer.write( document, value );
+				indexAccessors.localDate.write( document, LocalDate.of( 2018, 1, 1 ).plusDays( value ) );
+			} );
+		}
+		workPlan.add( referenceProvider( "empty" ), document -> { } );
+
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+		assertThat( query ).hasHitCount( DOCUMENT_COUNT + 1 );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<LocalDate> localDate;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).createAccessor();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).createAccessor();
+			localDate = root.field( "localDate", f -> f.asLocalDate().sortable( Sortable.YES ) ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.search.SearchQueryIT;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * This is an extension of the backend TCK test {@link SearchQueryIT},
+ * using a slow native query so that timeouts are reached reliably.
+ */
+public class LuceneSearchTimeoutIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	private static final long QUERY_TIMEOUT_MS = 100L;
+	private static final long SLOW_QUERY_DELAY_MS = 1_000L;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void failAfter_exceeded() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( new SlowQuery() ) )
+				.failAfter( QUERY_TIMEOUT_MS, TimeUnit.MILLISECONDS )
+				.build();
+
+		SubTest.expectException( query::execute )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "exceeded the timeout of " + QUERY_TIMEOUT_MS + " MILLISECONDS" );
+	}
+
+	@Test
+	public void truncateAfter_exceeded() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( new SlowQuery() ) )
+				.truncateAfter( QUERY_TIMEOUT_MS, TimeUnit.MILLISECONDS )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.isTimedOut() ).isTrue();
+		// Only the hits collected before the timeout are returned
+		assertThat( result.getHitCount() ).isEqualTo( 1L );
+		assertThat( result.getHits() ).hasSize( 1 );
+	}
+
+	@Test
+	public void truncateAfter_exceeded_termEnumeration() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		// Range predicates on text fields enumerate terms before collection starts
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "string" ).from( "a" ).to( "z" ) )
+				.truncateAfter( 1L, TimeUnit.NANOSECONDS )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.isTimedOut() ).isTrue();
+		assertThat( result.getHitCount() ).isLessThan( 3L );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			indexAccessors.string.write( document, "aaa" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			indexAccessors.string.write( document, "bbb" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			indexAccessors.string.write( document, "ccc" );
+		} );
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+		SearchResultAssert.assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).createAccessor();
+		}
+	}
+
+	/**
+	 * Matches all documents, but stalls before moving past the first matching document.
+	 */
+	private static class SlowQuery extends Query {
+		@Override
+		public Weight createWeight(IndexSearcher searcher, boolean needsScores, float boost) {
+			return new ConstantScoreWeight( this, boost ) {
+				@Override
+				public Scorer scorer(LeafReaderContext context) {
+					return new ConstantScoreScorer( this, score(),
+							new SlowDocIdSetIterator( DocIdSetIterator.all( context.reader().maxDoc() ) ) );
+				}
+
+				@Override
+				public boolean isCacheable(LeafReaderContext ctx) {
+					return false;
+				}
+			};
+		}
+
+		@Override
+		public String toString(String field) {
+			return "SlowQuery";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return sameClassAs( obj );
+		}
+
+		@Override
+		public int hashCode() {
+			return classHash();
+		}
+	}
+
+	private static class SlowDocIdSetIterator extends DocIdSetIterator {
+		private final DocIdSetIterator delegate;
+
+		SlowDocIdSetIterator(DocIdSetIterator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int docID() {
+			return delegate.docID();
+		}
+
+		@Override
+		public int nextDoc() throws IOException {
+			stallAfterFirstDoc();
+			return delegate.nextDoc();
+		}
+
+		@Override
+		public int advance(int target) throws IOException {
+			stallAfterFirstDoc();
+			return delegate.advance( target );
+		}
+
+		@Override
+		public long cost() {
+			return delegate.cost();
+		}
+
+		private void stallAfterFirstDoc() {
+			if ( delegate.docID() < 0 ) {
+				return;
+			}
+			try {
+				Thread.sleep( SLOW_QUERY_DELAY_MS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -10,12 +10,6 @@
 
 public class LuceneTckBackendFeatures extends TckBackendFeatures {
 
-	@Override
-	public boolean stringTypeOnMissingValueUse() {
-		// See https://hibernate.atlassian.net/browse/HSEARCH-3254
-		return false;
-	}
-
 	@Override
 	public boolean distanceSortDesc() {
 		// we don't test the descending order here as it's currently not supported by Lucene
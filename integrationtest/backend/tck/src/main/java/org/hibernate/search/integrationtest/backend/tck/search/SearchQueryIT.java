@@ -10,16 +10,27 @@
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.PreparedSearchQuery;
+import org.hibernate.search.engine.search.SearchQueries;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+import org.hibernate.search.util.impl.test.SubTest;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
 import org.junit.Before;
 import org.junit.Rule;
@@ -171,6 +182,156 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void failAfter_notExceeded() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.failAfter( 1L, TimeUnit.MINUTES )
+				.build();
+
+		assertThat( query )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void truncateAfter_notExceeded() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.truncateAfter( 1L, TimeUnit.MINUTES )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void executeAsync() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+		query.setFirstResult( 1L );
+
+		assertThat( query.executeAsync().join() )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+		assertThat( query.executeCountAsync().join() ).isEqualTo( 3L );
+	}
+
+	@Test
+	public void scroll() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			assertThat( scroll.next() )
+					.hasHitCount( 3 )
+					.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+			assertThat( scroll.next() )
+					.hasHitCount( 3 )
+					.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_3 );
+			assertThat( scroll.next() ).hasNoHits();
+		}
+	}
+
+	@Test
+	public void scroll_paging() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+		query.setFirstResult( 1L );
+		query.setMaxResults( 1L );
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			assertThat( scroll.next() )
+					.hasHitCount( 3 )
+					.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2 );
+			assertThat( scroll.next() ).hasNoHits();
+		}
+	}
+
+	@Test
+	public void executeAll() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query1 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).desc() )
+				.build();
+		query1.setMaxResults( 2L );
+
+		SearchQuery<DocumentReference> query2 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( STRING_2 ) )
+				.truncateAfter( 1L, TimeUnit.MINUTES )
+				.build();
+
+		SearchQuery<DocumentReference> query3 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.failAfter( 1L, TimeUnit.MINUTES )
+				.build();
+		query3.setFirstResult( 1L );
+
+		List<SearchResult<?>> results = SearchQueries.executeAll( query1, query2, query3 );
+
+		assertThat( results ).hasSize( 3 );
+		assertThat( results.get( 0 ) )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_3, DOCUMENT_2 );
+		assertThat( results.get( 1 ) )
+				.hasHitCount( 1 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2 );
+		assertThat( results.get( 1 ).isTimedOut() ).isFalse();
+		assertThat( results.get( 2 ) )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void executeAll_singleQuery() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+
+		List<SearchResult<?>> results = SearchQueries.executeAll( query );
+
+		assertThat( results ).hasSize( 1 );
+		assertThat( results.get( 0 ) )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
 	@Test
 	public void getQueryString() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
@@ -194,6 +355,84 @@ public void queryWrapper() {
 		assertThat( queryWrapper.query.getQueryString() ).contains( "platypus" );
 	}
 
+	@Test
+	public void prepare() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		PreparedSearchQuery<SearchQuery<DocumentReference>> preparedQuery = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matchingParameter( "value" ) )
+				.prepare();
+
+		assertThat( preparedQuery.bind( "value", STRING_1 ).execute() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1 );
+		assertThat( preparedQuery.bind( "value", STRING_3 ).execute() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_3 );
+		assertThat( preparedQuery.bind( "value", "platypus" ).execute() )
+				.hasNoHits();
+	}
+
+	@Test
+	public void prepare_multipleParameters() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		PreparedSearchQuery<SearchQuery<DocumentReference>> preparedQuery = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.bool()
+						.should( f.match().onField( "string" ).matchingParameter( "first" ) )
+						.should( f.match().onField( "string" ).matchingParameter( "second" ) )
+				)
+				.sort( c -> c.byField( "string" ).asc() )
+				.prepare();
+
+		Map<String, Object> parameterValues = new HashMap<>();
+		parameterValues.put( "first", STRING_3 );
+		parameterValues.put( "second", STRING_1 );
+		SearchQuery<DocumentReference> query = preparedQuery.bind( parameterValues );
+		assertThat( query.execute() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_3 );
+
+		parameterValues.put( "second", STRING_2 );
+		assertThat( preparedQuery.bind( parameterValues ).execute() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void prepare_missingParameterValue() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		PreparedSearchQuery<SearchQuery<DocumentReference>> preparedQuery = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matchingParameter( "value" ) )
+				.prepare();
+
+		SubTest.expectException(
+				"bind without a value for a parameter",
+				() -> preparedQuery.bind( "otherParameter", STRING_1 )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Missing value for parameter 'value'" );
+	}
+
+	@Test
+	public void build_withParameter() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SubTest.expectException(
+				"build a query with parameters",
+				() -> searchTarget.query()
+						.asReference()
+						.predicate( f -> f.match().onField( "string" ).matchingParameter( "value" ) )
+						.build()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "The query uses parameter" )
+				.hasMessageContaining( "value" )
+				.hasMessageContaining( "but it was not prepared" );
+	}
+
 	private void initData() {
 		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
 		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
@@ -0,0 +1,296 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchAggregationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final AggregationKey<Map<String, Long>> TERMS_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<String, Long>> RANGE_KEY = AggregationKey.of( "range" );
+	private static final AggregationKey<Map<Long, Long>> HISTOGRAM_KEY = AggregationKey.of( "histogram" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void terms() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms( "string" ) )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( 8L );
+		assertThat( result.getAggregation( TERMS_KEY ) )
+				.containsExactly( entry( "red", 4L ), entry( "blue", 2L ), entry( "green", 1L ) );
+	}
+
+	@Test
+	public void terms_maxTermCount() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms( "string" ).maxTermCount( 2 ) )
+				.build();
+
+		assertThat( query.execute().getAggregation( TERMS_KEY ) )
+				.containsExactly( entry( "red", 4L ), entry( "blue", 2L ) );
+	}
+
+	@Test
+	public void terms_matchingDocumentsOnly() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).from( 10 ).to( 20 ) )
+				.aggregation( TERMS_KEY, f -> f.terms( "string" ) )
+				.build();
+
+		// Ties are broken by ascending term
+		assertThat( query.execute().getAggregation( TERMS_KEY ) )
+				.containsExactly( entry( "blue", 1L ), entry( "green", 1L ), entry( "red", 1L ) );
+	}
+
+	@Test
+	public void terms_maxTermCount_ties() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).from( 10 ).to( 20 ) )
+				.aggregation( TERMS_KEY, f -> f.terms( "string" ).maxTermCount( 2 ) )
+				.build();
+
+		// Terms with the same count are kept in ascending order
+		assertThat( query.execute().getAggregation( TERMS_KEY ) )
+				.containsExactly( entry( "blue", 1L ), entry( "green", 1L ) );
+	}
+
+	@Test
+	public void range() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range( "integer" )
+						.range( "20+", 20, null )
+						.range( "<10", null, 10 )
+						.range( "10-20", 10, 20 )
+						.range( "none", 100, 200 )
+				)
+				.build();
+
+		// Ranges are returned in the order they were defined
+		assertThat( query.execute().getAggregation( RANGE_KEY ) )
+				.containsExactly( entry( "20+", 1L ), entry( "<10", 3L ), entry( "10-20", 3L ), entry( "none", 0L ) );
+	}
+
+	@Test
+	public void histogram() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( HISTOGRAM_KEY, f -> f.histogram( "integer", 10 ) )
+				.build();
+
+		// Empty intervals are omitted
+		assertThat( query.execute().getAggregation( HISTOGRAM_KEY ) )
+				.containsExactly( entry( -10L, 1L ), entry( 0L, 2L ), entry( 10L, 3L ), entry( 40L, 1L ) );
+	}
+
+	@Test
+	public void multipleAggregations() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms( "string" ).maxTermCount( 1 ) )
+				.aggregation( HISTOGRAM_KEY, f -> f.histogram( "integer", 100 ) )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getAggregation( TERMS_KEY ) ).containsExactly( entry( "red", 4L ) );
+		assertThat( result.getAggregation( HISTOGRAM_KEY ) ).containsExactly( entry( -100L, 1L ), entry( 0L, 6L ) );
+	}
+
+	@Test
+	public void unknownKey() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchResult<DocumentReference> result = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms( "string" ) )
+				.build()
+				.execute();
+
+		SubTest.expectException(
+				"get an aggregation that was not requested",
+				() -> result.getAggregation( RANGE_KEY )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "range" );
+	}
+
+	@Test
+	public void duplicateKey() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SubTest.expectException(
+				"request two aggregations with the same key",
+				() -> searchTarget.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( TERMS_KEY, f -> f.terms( "string" ) )
+						.aggregation( TERMS_KEY, f -> f.terms( "string" ).maxTermCount( 1 ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "terms" );
+	}
+
+	@Test
+	public void error_unsortable() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SubTest.expectException(
+				"terms aggregation on a field that is not sortable",
+				() -> searchTarget.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( TERMS_KEY, f -> f.terms( "unsortable" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Aggregations are not enabled for field" )
+				.hasMessageContaining( "unsortable" );
+	}
+
+	@Test
+	public void error_unsupportedType() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SubTest.expectException(
+				"histogram aggregation on a string field",
+				() -> searchTarget.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( HISTOGRAM_KEY, f -> f.histogram( "string", 10 ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Histogram aggregations are not supported by this field's type" );
+	}
+
+	@Test
+	public void error_unsupportedFieldType() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SubTest.expectException(
+				"terms aggregation on a boolean field",
+				() -> searchTarget.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( TERMS_KEY, f -> f.terms( "bool" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Terms aggregations are not supported by this field's type" );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		add( workPlan, "1", "red", -3 );
+		add( workPlan, "2", "red", 1 );
+		add( workPlan, "3", "blue", 5 );
+		add( workPlan, "4", "green", 12 );
+		add( workPlan, "5", "red", 15 );
+		add( workPlan, "6", "blue", 18 );
+		add( workPlan, "7", "red", 42 );
+		workPlan.add( referenceProvider( "empty" ), document -> { } );
+		workPlan.execute().join();
+	}
+
+	private void add(IndexWorkPlan<? extends DocumentElement> workPlan, String id, String string, int integer) {
+		workPlan.add( referenceProvider( id ), document -> {
+			indexAccessors.string.write( document, string );
+			indexAccessors.integer.write( document, integer );
+			indexAccessors.unsortable.write( document, string );
+		} );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<String> unsortable;
+		final IndexFieldAccessor<Boolean> bool;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) )
+					.createAccessor();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.createAccessor();
+			unsortable = root.field( "unsortable", f -> f.asString().sortable( Sortable.NO ) )
+					.createAccessor();
+			bool = root.field( "bool", f -> f.asBoolean().sortable( Sortable.YES ) )
+					.createAccessor();
+		}
+	}
+}
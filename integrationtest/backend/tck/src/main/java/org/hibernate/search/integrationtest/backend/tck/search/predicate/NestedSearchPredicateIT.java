@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.integrationtest.backend.tck.search.predicate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
 
@@ -22,6 +23,7 @@
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.dsl.predicate.NestedScoreMode;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -227,6 +229,39 @@ public void search_nestedOnTwoLevels_separatePredicates() {
 				.hasHitCount( 1 );
 	}
 
+	@Test
+	public void search_scoreMode() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<Float> query = searchTarget.query()
+				.asProjection( f -> f.score() )
+				.predicate( f -> f.nested().onObjectField( "nestedObject.nestedObject" )
+						.nest( f.match()
+								.onField( "nestedObject.nestedObject.field1" )
+								.matching( MATCHING_SECOND_LEVEL_CONDITION1_FIELD1 )
+						)
+				)
+				.build();
+		assertThat( query.execute().getHits() )
+				.hasSize( 3 )
+				.allSatisfy( score -> assertThat( score ).isGreaterThan( 0.0f ) );
+
+		query = searchTarget.query()
+				.asProjection( f -> f.score() )
+				.predicate( f -> f.nested().onObjectField( "nestedObject.nestedObject" )
+						.scoreMode( NestedScoreMode.NONE )
+						.nest( f.match()
+								.onField( "nestedObject.nestedObject.field1" )
+								.matching( MATCHING_SECOND_LEVEL_CONDITION1_FIELD1 )
+						)
+				)
+				.build();
+		// The score mode does not affect matching, only scoring
+		assertThat( query.execute().getHits() )
+				.hasSize( 3 )
+				.containsOnly( 0.0f );
+	}
+
 	private void initData() {
 		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
 		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexWorkRecord;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexWorkRecordSerializer;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.cfg.IndexSettings;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that works recorded in a backend-neutral form can be serialized, deserialized and replayed.
+ */
+public class IndexWorkRecordIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	private final IndexWorkRecordSerializer serializer = new IndexWorkRecordSerializer();
+
+	private void setup(boolean workRecordingEnabled) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, IndexSettings.WORK_RECORDING_ENABLED, workRecordingEnabled )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void recordAndReplay() {
+		setup( true );
+
+		List<IndexWorkRecord> records = new ArrayList<>();
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createRecordingWorkPlan( records::addAll );
+		workPlan.add( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "text 1" );
+			indexAccessors.integer.write( document, 1 );
+			indexAccessors.localDate.write( document, LocalDate.of( 2018, 1, 1 ) );
+			indexAccessors.geoPoint.write( document, GeoPoint.of( 0, 1 ) );
+			DocumentElement nestedObject = indexAccessors.nestedObject.add( document );
+			indexAccessors.nestedObjectString.write( nestedObject, "nested 1" );
+			indexAccessors.nestedObject.addMissing( document );
+		} );
+		workPlan.add( referenceProvider( "2" ), document -> {
+			indexAccessors.string.write( document, "text 2" );
+			indexAccessors.integer.write( document, null );
+		} );
+		workPlan.execute().join();
+
+		// Recording must not affect the index
+		assertThat( records ).hasSize( 2 );
+		assertThat( createMatchAllQuery() ).hasNoHits();
+
+		indexManager.replay( serializer.deserialize( serializer.serialize( records ) ) ).join();
+
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+		SearchQuery<List<?>> query = searchTarget.query()
+				.asProjection( f -> f.composite(
+						f.field( "string", String.class ),
+						f.field( "integer", Integer.class )
+				) )
+				.predicate( f -> f.matchAll() )
+				.build();
+		assertThat( query ).hasListHitsAnyOrder( b -> {
+			b.list( "text 1", 1 );
+			b.list( "text 2", (Object) null );
+		} );
+
+		SearchQuery<DocumentReference> nestedQuery = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.nested().onObjectField( "nestedObject" )
+						.nest( f.match().onField( "nestedObject.string" ).matching( "nested 1" ) )
+				)
+				.build();
+		assertThat( nestedQuery ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void recordAndReplay_updateAndDelete() {
+		setup( true );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> indexAccessors.string.write( document, "text 1" ) );
+		workPlan.add( referenceProvider( "2" ), document -> indexAccessors.string.write( document, "text 2" ) );
+		workPlan.execute().join();
+
+		List<IndexWorkRecord> records = new ArrayList<>();
+		workPlan = indexManager.createRecordingWorkPlan( records::addAll );
+		workPlan.update( referenceProvider( "1" ), document -> indexAccessors.string.write( document, "updated" ) );
+		workPlan.delete( referenceProvider( "2" ) );
+		workPlan.execute().join();
+
+		indexManager.replay( serializer.deserialize( serializer.serialize( records ) ) ).join();
+
+		SearchQuery<String> query = indexManager.createSearchTarget().query()
+				.asProjection( f -> f.field( "string", String.class ) )
+				.predicate( f -> f.matchAll() )
+				.build();
+		assertThat( query ).hasHitsAnyOrder( "updated" );
+	}
+
+	@Test
+	public void recordingDisabled() {
+		setup( false );
+
+		SubTest.expectException(
+				"Recording works with work recording disabled",
+				() -> indexManager.createRecordingWorkPlan( records -> { } )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "work recording is disabled for index '" + INDEX_NAME + "'" )
+				.hasMessageContaining( IndexSettings.WORK_RECORDING_ENABLED );
+
+		SubTest.expectException(
+				"Replaying works with work recording disabled",
+				() -> indexManager.replay( new ArrayList<>() )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "work recording is disabled for index '" + INDEX_NAME + "'" );
+	}
+
+	private SearchQuery<DocumentReference> createMatchAllQuery() {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<LocalDate> localDate;
+		final IndexFieldAccessor<GeoPoint> geoPoint;
+		final IndexObjectFieldAccessor nestedObject;
+		final IndexFieldAccessor<String> nestedObjectString;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().projectable( Projectable.YES ) ).createAccessor();
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) ).createAccessor();
+			localDate = root.field( "localDate", f -> f.asLocalDate() ).createAccessor();
+			geoPoint = root.field( "geoPoint", f -> f.asGeoPoint() ).createAccessor();
+			IndexSchemaObjectField nestedObjectField = root.objectField( "nestedObject", ObjectFieldStorage.NESTED );
+			nestedObject = nestedObjectField.createAccessor();
+			nestedObjectString = nestedObjectField.field( "string", f -> f.asString() ).createAccessor();
+		}
+	}
+}
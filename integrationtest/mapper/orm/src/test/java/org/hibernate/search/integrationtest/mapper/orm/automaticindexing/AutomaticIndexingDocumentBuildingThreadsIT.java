@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.Access;
+import javax.persistence.AccessType;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Transient;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing of entities with lazy associations
+ * when the Lucene backend is configured to build documents in background threads.
+ * <p>
+ * Hibernate ORM sessions are not thread-safe and may be closed right after the transaction,
+ * so documents must still be built in the thread executing the work plan.
+ */
+public class AutomaticIndexingDocumentBuildingThreadsIT {
+
+	private static final String BACKEND_NAME = "backendName";
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	// Threads reading the contained entities, through ORM or when building documents
+	private static final Set<Thread> READING_THREADS = ConcurrentHashMap.newKeySet();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		READING_THREADS.clear();
+		sessionFactory = ormSetupHelper.withBackend( "lucene", BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DOCUMENT_BUILDING_THREADS, 2 )
+				.setup( IndexedEntity.class, ContainedEntity.class );
+	}
+
+	@Test
+	public void lazyAssociation() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = new IndexedEntity();
+			entity.setId( 1 );
+			entity.setIndexedField( "initial" );
+			for ( int i = 1; i <= 2; i++ ) {
+				ContainedEntity contained = new ContainedEntity();
+				contained.setId( i );
+				contained.setIndexedField( "contained" + i );
+				contained.setContaining( entity );
+				entity.getContained().add( contained );
+				session.persist( contained );
+			}
+			session.persist( entity );
+		} );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			assertThat( Hibernate.isInitialized( entity.getContained() ) ).isFalse();
+			// Reindexing this entity requires loading the lazy association
+			entity.setIndexedField( "updated" );
+		} );
+		assertThat( READING_THREADS ).containsExactly( Thread.currentThread() );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			List<IndexedEntity> hits = Search.getFullTextSession( session ).search( IndexedEntity.class ).query()
+					.asEntity()
+					.predicate( f -> f.bool( b -> {
+						b.must( f.match().onField( "indexedField" ).matching( "updated" ) );
+						b.must( f.match().onField( "contained.indexedField" ).matching( "contained2" ) );
+					} ) )
+					.build()
+					.list();
+			assertThat( hits ).extracting( IndexedEntity::getId ).containsExactly( 1 );
+		} );
+	}
+
+	@Entity(name = "IndexedEntity")
+	@Indexed
+	public static class IndexedEntity {
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		@OneToMany(mappedBy = "containing")
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+
+		public List<ContainedEntity> getContained() {
+			return contained;
+		}
+	}
+
+	@Entity(name = "ContainedEntity")
+	public static class ContainedEntity {
+
+		@Id
+		private Integer id;
+
+		@Transient
+		private String indexedField;
+
+		@ManyToOne
+		private IndexedEntity containing;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@Access(AccessType.PROPERTY)
+		@Basic
+		@GenericField
+		public String getIndexedField() {
+			READING_THREADS.add( Thread.currentThread() );
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+	}
+}
@@ -0,0 +1,520 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToOne;
+
+import org.hibernate.JDBCException;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.search.engine.common.spi.ErrorContext;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing with the outbox indexing strategy,
+ * where indexing events are written to a table and processed in the background.
+ */
+public class AutomaticIndexingOutboxIT {
+
+	private static final String OUTBOX_TABLE = HibernateOrmMapperSettings.Defaults.OUTBOX_TABLE;
+
+	private static final long PROCESSING_TIMEOUT_MS = 10_000L;
+	private static final int POLLING_INTERVAL_MS = 50;
+
+	private static final String SIMULATED_FAILURE_MESSAGE = "Simulated indexing failure";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private final RecordingErrorHandler errorHandler = new RecordingErrorHandler();
+
+	private SessionFactory sessionFactory;
+
+	@After
+	public void checkNoFailure() {
+		assertThat( errorHandler.failures ).as( "Outbox processing failures" ).isEmpty();
+	}
+
+	@Test
+	public void persistUpdateDelete() {
+		setup( HibernateOrmMapperSettings.Defaults.OUTBOX_BATCH_SIZE );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "indexedField", "updatedValue" ) )
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			session.delete( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.delete( "1" )
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed();
+	}
+
+	@Test
+	public void containedUpdate() {
+		setup( HibernateOrmMapperSettings.Defaults.OUTBOX_BATCH_SIZE );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = new ContainedEntity();
+			contained.setId( 2 );
+			contained.setIndexedField( "initialValue" );
+			session.persist( contained );
+
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setContained( contained );
+			contained.setContaining( entity1 );
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", null )
+							.objectField( "contained", b2 -> b2
+									.field( "indexedField", "initialValue" )
+							)
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed();
+
+		// Containing entities are resolved when the transaction completes
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = session.get( ContainedEntity.class, 2 );
+			contained.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", null )
+							.objectField( "contained", b2 -> b2
+									.field( "indexedField", "updatedValue" )
+							)
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed();
+	}
+
+	@Test
+	public void pendingEvents_coalesced() {
+		setup( HibernateOrmMapperSettings.Defaults.OUTBOX_BATCH_SIZE );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "value" ) )
+				.delete( "2" )
+				.preparedThenExecuted();
+
+		// Simulate events left in the table by a crash: native queries do not trigger indexing
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			insertIndexedEntity( session, 1, "value" );
+			for ( String documentId : new String[] { "1", "2", "1", "1" } ) {
+				insertOutboxEvent( session, documentId );
+			}
+		} );
+		awaitOutboxProcessed();
+	}
+
+	@Test
+	public void eventCommittedLate() {
+		setup( HibernateOrmMapperSettings.Defaults.OUTBOX_BATCH_SIZE );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			insertIndexedEntity( session, 1, "value1" );
+			insertIndexedEntity( session, 2, "value2" );
+		} );
+
+		// Identifiers are assigned on insert: this event gets a lower identifier, but is committed last
+		try ( Session lateSession = sessionFactory.openSession() ) {
+			Transaction lateTransaction = lateSession.beginTransaction();
+			insertOutboxEvent( lateSession, "1" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "2", b -> b.field( "indexedField", "value2" ) )
+					.preparedThenExecuted();
+			OrmUtils.withinTransaction( sessionFactory, session -> insertOutboxEvent( session, "2" ) );
+			awaitOutboxProcessed();
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "indexedField", "value1" ) )
+					.preparedThenExecuted();
+			lateTransaction.commit();
+		}
+		awaitOutboxProcessed();
+	}
+
+	@Test
+	public void deleteFailure() {
+		setup( HibernateOrmMapperSettings.Defaults.OUTBOX_BATCH_SIZE );
+
+		// Rows referenced from this table cannot be deleted
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.createNativeQuery( "create table OutboxEventReference (eventId bigint references "
+					+ OUTBOX_TABLE + " (ID))" )
+					.executeUpdate();
+		} );
+		try {
+			CompletableFuture<Void> firstIndexingFuture = new CompletableFuture<>();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "indexedField", "value" ) )
+					.preparedThenExecuted( firstIndexingFuture );
+			OrmUtils.withinTransaction( sessionFactory, session -> {
+				IndexedEntity entity1 = new IndexedEntity();
+				entity1.setId( 1 );
+				entity1.setIndexedField( "value" );
+				session.persist( entity1 );
+			} );
+			await( backendMock::verifyExpectationsMet );
+
+			OrmUtils.withinTransaction( sessionFactory, session -> {
+				session.createNativeQuery( "insert into OutboxEventReference (eventId) select ID from " + OUTBOX_TABLE )
+						.executeUpdate();
+			} );
+
+			// The event cannot be deleted after indexing: it must be processed again
+			CompletableFuture<Void> secondIndexingFuture = new CompletableFuture<>();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "indexedField", "value" ) )
+					.preparedThenExecuted( secondIndexingFuture );
+			firstIndexingFuture.complete( null );
+			await( backendMock::verifyExpectationsMet );
+			assertThat( errorHandler.failures ).hasSize( 1 );
+			assertThat( errorHandler.failures.get( 0 ) ).isInstanceOf( JDBCException.class );
+			errorHandler.clear();
+
+			OrmUtils.withinTransaction( sessionFactory, session -> {
+				session.createNativeQuery( "delete from OutboxEventReference" ).executeUpdate();
+			} );
+			secondIndexingFuture.complete( null );
+			awaitOutboxProcessed();
+		}
+		finally {
+			OrmUtils.withinTransaction( sessionFactory, session -> {
+				session.createNativeQuery( "drop table OutboxEventReference" ).executeUpdate();
+			} );
+		}
+	}
+
+	@Test
+	public void indexingFailure() {
+		setup( HibernateOrmMapperSettings.Defaults.OUTBOX_BATCH_SIZE );
+		assertThat( HibernateOrmMapperSettings.Defaults.OUTBOX_MAX_ATTEMPTS ).isEqualTo( 3 );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			insertIndexedEntity( session, 1, "value1" );
+			insertIndexedEntity( session, 2, "value2" );
+		} );
+
+		// First attempt: both events in the same batch
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "value1" ) )
+				.update( "2", b -> b.field( "indexedField", "value2" ) )
+				.preparedThenExecuted( failedFuture() );
+		// Next attempts: each event in its own batch, so that the failing event does not block the other
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "value1" ) )
+				.preparedThenExecuted( failedFuture() );
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "2", b -> b.field( "indexedField", "value2" ) )
+				.preparedThenExecuted();
+		// Last attempt: the failing event is given up on
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "value1" ) )
+				.preparedThenExecuted( failedFuture() );
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			insertOutboxEvent( session, "1" );
+			insertOutboxEvent( session, "2" );
+		} );
+		awaitOutboxProcessed();
+
+		await( () -> assertThat( errorHandler.messages ).hasSize( 4 ) );
+		assertThat( errorHandler.failures ).allSatisfy( failure -> assertThat( failure )
+				.hasStackTraceContaining( SIMULATED_FAILURE_MESSAGE ) );
+		assertThat( errorHandler.messages.get( 3 ) )
+				.contains( "'" + IndexedEntity.class.getName() + "' with identifier '1' after 3 attempts" );
+		errorHandler.clear();
+
+		// Later events for the same entity are processed normally
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "value1" ) )
+				.preparedThenExecuted();
+		OrmUtils.withinTransaction( sessionFactory, session -> insertOutboxEvent( session, "1" ) );
+		awaitOutboxProcessed();
+	}
+
+	@Test
+	public void concurrentBatches() {
+		// One event per batch, with the default maximum of concurrent batches
+		setup( 1 );
+		assertThat( HibernateOrmMapperSettings.Defaults.OUTBOX_MAX_CONCURRENCY ).isGreaterThan( 1 );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			insertIndexedEntity( session, 1, "value1" );
+			insertIndexedEntity( session, 2, "value2" );
+		} );
+
+		CompletableFuture<Void> indexingFuture1 = new CompletableFuture<>();
+		CompletableFuture<Void> indexingFuture2 = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "value1" ) )
+				.preparedThenExecuted( indexingFuture1 );
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "2", b -> b.field( "indexedField", "value2" ) )
+				.preparedThenExecuted( indexingFuture2 );
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			insertOutboxEvent( session, "1" );
+			insertOutboxEvent( session, "2" );
+		} );
+		// Both batches are being indexed at the same time
+		await( backendMock::verifyExpectationsMet );
+
+		// Batches may complete out of order
+		indexingFuture2.complete( null );
+		await( () -> assertThat( countOutboxEvents() ).isEqualTo( 1L ) );
+
+		// An entity being indexed by a batch must not be indexed concurrently by another batch
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.createNativeQuery( "update IndexedEntity set indexedField = 'updated1' where id = 1" )
+					.executeUpdate();
+			insertOutboxEvent( session, "1" );
+		} );
+		sleep( 5 * POLLING_INTERVAL_MS );
+		assertThat( countOutboxEvents() ).isEqualTo( 2L );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "updated1" ) )
+				.preparedThenExecuted();
+		indexingFuture1.complete( null );
+		awaitOutboxProcessed();
+	}
+
+	private void setup(int batchSize) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+				.objectField( "contained", b2 -> b2
+						.field( "indexedField", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical(
+						HibernateOrmMapperSettings.Radicals.INDEXING_STRATEGY,
+						HibernateOrmIndexingStrategyName.OUTBOX.toExternalRepresentation()
+				)
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.OUTBOX_POLLING_INTERVAL, POLLING_INTERVAL_MS )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.OUTBOX_BATCH_SIZE, batchSize )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.ERROR_HANDLER, errorHandler )
+				.setup( IndexedEntity.class, ContainedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void awaitOutboxProcessed() {
+		await( () -> {
+			backendMock.verifyExpectationsMet();
+			assertThat( countOutboxEvents() ).as( "Events remaining in the outbox" ).isZero();
+		} );
+	}
+
+	private void await(Runnable assertion) {
+		long deadline = System.currentTimeMillis() + PROCESSING_TIMEOUT_MS;
+		while ( true ) {
+			try {
+				assertion.run();
+				return;
+			}
+			catch (AssertionError e) {
+				if ( System.currentTimeMillis() > deadline ) {
+					throw e;
+				}
+			}
+			sleep( 10L );
+		}
+	}
+
+	private static CompletableFuture<?> failedFuture() {
+		CompletableFuture<?> future = new CompletableFuture<>();
+		future.completeExceptionally( new IllegalStateException( SIMULATED_FAILURE_MESSAGE ) );
+		return future;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep( millis );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( e );
+		}
+	}
+
+	// Native queries do not trigger indexing
+	private static void insertIndexedEntity(Session session, int id, String indexedField) {
+		session.createNativeQuery( "insert into IndexedEntity (id, indexedField) values (" + id + ", '" + indexedField + "')" )
+				.executeUpdate();
+	}
+
+	private static void insertOutboxEvent(Session session, String documentId) {
+		session.createNativeQuery( "insert into " + OUTBOX_TABLE
+				+ " (ENTITY_NAME, DOCUMENT_ID) values ('" + IndexedEntity.class.getName() + "', '" + documentId + "')" )
+				.executeUpdate();
+	}
+
+	private long countOutboxEvents() {
+		long[] count = new long[1];
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			count[0] = ( (Number) session.createNativeQuery( "select count(*) from " + OUTBOX_TABLE )
+					.getSingleResult() ).longValue();
+		} );
+		return count[0];
+	}
+
+	private static class RecordingErrorHandler implements ErrorHandler {
+		private final List<String> messages = new CopyOnWriteArrayList<>();
+		private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void handle(ErrorContext context) {
+			handleException( null, context.getThrowable() );
+		}
+
+		@Override
+		public void handleException(String errorMsg, Throwable exception) {
+			messages.add( String.valueOf( errorMsg ) );
+			failures.add( exception );
+		}
+
+		void clear() {
+			messages.clear();
+			failures.clear();
+		}
+	}
+
+	@Entity(name = "IndexedEntity")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		@OneToOne
+		@IndexedEmbedded
+		private ContainedEntity contained;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+
+		public ContainedEntity getContained() {
+			return contained;
+		}
+
+		public void setContained(ContainedEntity contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = "ContainedEntity")
+	public static class ContainedEntity {
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		@OneToOne(mappedBy = "contained")
+		private IndexedEntity containing;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+	}
+}
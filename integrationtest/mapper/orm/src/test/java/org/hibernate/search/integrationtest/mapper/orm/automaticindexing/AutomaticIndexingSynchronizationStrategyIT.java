@@ -0,0 +1,265 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.spi.ErrorContext;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test when the committing thread is released, and how indexes are refreshed,
+ * depending on the indexing synchronization strategy.
+ */
+public class AutomaticIndexingSynchronizationStrategyIT {
+
+	// Let's say 3 seconds are long enough to consider that, if nothing changed after this time, nothing ever will.
+	private static final long ALMOST_FOREVER_VALUE = 3L;
+	private static final TimeUnit ALMOST_FOREVER_UNIT = TimeUnit.SECONDS;
+
+	private static final long SMALL_DURATION_VALUE = 100L;
+	private static final TimeUnit SMALL_DURATION_UNIT = TimeUnit.MILLISECONDS;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Test
+	public void sync() throws InterruptedException, ExecutionException, TimeoutException {
+		SessionFactory sessionFactory = setup( HibernateOrmSynchronizationStrategyName.SYNC, null );
+
+		CompletableFuture<Void> indexingWorkFuture = new CompletableFuture<>();
+		CompletableFuture<CompletableFuture<?>> transactionFuture = runTransactionInDifferentThread(
+				sessionFactory, null, DocumentRefreshStrategy.DEFAULT, indexingWorkFuture
+		);
+
+		assertBlockedUntilIndexingDone( indexingWorkFuture, transactionFuture );
+	}
+
+	@Test
+	public void async() throws InterruptedException, ExecutionException, TimeoutException {
+		SessionFactory sessionFactory = setup( HibernateOrmSynchronizationStrategyName.ASYNC, null );
+
+		CompletableFuture<Void> indexingWorkFuture = new CompletableFuture<>();
+		CompletableFuture<CompletableFuture<?>> transactionFuture = runTransactionInDifferentThread(
+				sessionFactory, null, DocumentRefreshStrategy.DEFAULT, indexingWorkFuture
+		);
+
+		assertNotBlocked( indexingWorkFuture, transactionFuture );
+	}
+
+	@Test
+	public void async_failure() throws InterruptedException, ExecutionException, TimeoutException {
+		RecordingErrorHandler errorHandler = new RecordingErrorHandler();
+		SessionFactory sessionFactory = setup( HibernateOrmSynchronizationStrategyName.ASYNC, errorHandler );
+
+		CompletableFuture<Void> indexingWorkFuture = new CompletableFuture<>();
+		CompletableFuture<CompletableFuture<?>> transactionFuture = runTransactionInDifferentThread(
+				sessionFactory, null, DocumentRefreshStrategy.DEFAULT, indexingWorkFuture
+		);
+
+		// The transaction completes even though indexing did not
+		CompletableFuture<?> lastIndexingFuture = transactionFuture.get( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT );
+		backendMock.verifyExpectationsMet();
+		assertThat( lastIndexingFuture ).isNotDone();
+
+		// The failure is reported to the configured error handler
+		RuntimeException indexingFailure = new RuntimeException( "Simulated indexing failure" );
+		indexingWorkFuture.completeExceptionally( indexingFailure );
+		Throwable reportedFailure = errorHandler.failure.get( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT );
+		assertThat( reportedFailure ).isSameAs( indexingFailure );
+		assertThat( errorHandler.message )
+				.contains( "Indexing failed after the transaction completed" );
+		assertThat( lastIndexingFuture ).isCompletedExceptionally();
+	}
+
+	@Test
+	public void awaitCommittedOnly() throws InterruptedException, ExecutionException, TimeoutException {
+		SessionFactory sessionFactory = setup( HibernateOrmSynchronizationStrategyName.AWAIT_COMMITTED_ONLY, null );
+
+		// Searchability is not required: no refresh
+		CompletableFuture<Void> indexingWorkFuture = new CompletableFuture<>();
+		CompletableFuture<CompletableFuture<?>> transactionFuture = runTransactionInDifferentThread(
+				sessionFactory, null, DocumentRefreshStrategy.NONE, indexingWorkFuture
+		);
+
+		assertBlockedUntilIndexingDone( indexingWorkFuture, transactionFuture );
+	}
+
+	@Test
+	public void override_async() throws InterruptedException, ExecutionException, TimeoutException {
+		SessionFactory sessionFactory = setup( HibernateOrmSynchronizationStrategyName.SYNC, null );
+
+		CompletableFuture<Void> indexingWorkFuture = new CompletableFuture<>();
+		CompletableFuture<CompletableFuture<?>> transactionFuture = runTransactionInDifferentThread(
+				sessionFactory, HibernateOrmSynchronizationStrategyName.ASYNC,
+				DocumentRefreshStrategy.DEFAULT, indexingWorkFuture
+		);
+
+		assertNotBlocked( indexingWorkFuture, transactionFuture );
+	}
+
+	@Test
+	public void override_awaitCommittedOnly() throws InterruptedException, ExecutionException, TimeoutException {
+		SessionFactory sessionFactory = setup( HibernateOrmSynchronizationStrategyName.ASYNC, null );
+
+		CompletableFuture<Void> indexingWorkFuture = new CompletableFuture<>();
+		CompletableFuture<CompletableFuture<?>> transactionFuture = runTransactionInDifferentThread(
+				sessionFactory, HibernateOrmSynchronizationStrategyName.AWAIT_COMMITTED_ONLY,
+				DocumentRefreshStrategy.NONE, indexingWorkFuture
+		);
+
+		assertBlockedUntilIndexingDone( indexingWorkFuture, transactionFuture );
+	}
+
+	private void assertBlockedUntilIndexingDone(CompletableFuture<Void> indexingWorkFuture,
+			CompletableFuture<CompletableFuture<?>> transactionFuture)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		// The transaction does not complete as long as indexing is not done
+		Thread.sleep( SMALL_DURATION_UNIT.toMillis( SMALL_DURATION_VALUE ) );
+		backendMock.verifyExpectationsMet();
+		assertThat( transactionFuture ).isNotDone();
+
+		indexingWorkFuture.complete( null );
+		CompletableFuture<?> lastIndexingFuture = transactionFuture.get( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT );
+		assertThat( lastIndexingFuture ).isCompleted();
+	}
+
+	private void assertNotBlocked(CompletableFuture<Void> indexingWorkFuture,
+			CompletableFuture<CompletableFuture<?>> transactionFuture)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		// The transaction completes even though indexing is not done
+		CompletableFuture<?> lastIndexingFuture = transactionFuture.get( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT );
+		backendMock.verifyExpectationsMet();
+		assertThat( lastIndexingFuture ).isNotDone();
+
+		indexingWorkFuture.complete( null );
+		lastIndexingFuture.get( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT );
+		assertThat( lastIndexingFuture ).isCompleted();
+	}
+
+	/**
+	 * @return A future completed when the transaction completes,
+	 * holding the future of the indexing triggered by the transaction.
+	 */
+	private CompletableFuture<CompletableFuture<?>> runTransactionInDifferentThread(SessionFactory sessionFactory,
+			HibernateOrmSynchronizationStrategyName synchronizationStrategyOverride,
+			DocumentRefreshStrategy expectedRefreshStrategy, CompletableFuture<Void> indexingWorkFuture) {
+		return CompletableFuture.supplyAsync( () -> {
+			CompletableFuture<?>[] lastIndexingFuture = new CompletableFuture<?>[1];
+			OrmUtils.withinSession( sessionFactory, session -> {
+				FullTextSession fullTextSession = Search.getFullTextSession( session );
+				if ( synchronizationStrategyOverride != null ) {
+					fullTextSession.setIndexingSynchronizationStrategy( synchronizationStrategyOverride );
+				}
+				OrmUtils.withinTransaction( session, transaction -> {
+					IndexedEntity entity1 = new IndexedEntity();
+					entity1.setId( 1 );
+					entity1.setIndexedField( "initialValue" );
+
+					session.persist( entity1 );
+
+					backendMock.expectWorks( IndexedEntity.INDEX )
+							.refreshStrategy( expectedRefreshStrategy )
+							.add( "1", b -> b.field( "indexedField", entity1.getIndexedField() ) )
+							.preparedThenExecuted( indexingWorkFuture );
+				} );
+				lastIndexingFuture[0] = fullTextSession.getLastIndexingFuture();
+			} );
+			return lastIndexingFuture[0];
+		} );
+	}
+
+	private SessionFactory setup(HibernateOrmSynchronizationStrategyName synchronizationStrategy,
+			ErrorHandler errorHandler) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		OrmSetupHelper.SetupContext setupContext = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical(
+						HibernateOrmMapperSettings.Radicals.SYNCHRONIZATION_STRATEGY,
+						synchronizationStrategy.toExternalRepresentation()
+				);
+		if ( errorHandler != null ) {
+			setupContext.withPropertyRadical( HibernateOrmMapperSettings.Radicals.ERROR_HANDLER, errorHandler );
+		}
+		SessionFactory sessionFactory = setupContext.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	private static class RecordingErrorHandler implements ErrorHandler {
+		private final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+		private volatile String message;
+
+		@Override
+		public void handle(ErrorContext context) {
+			handleException( null, context.getThrowable() );
+		}
+
+		@Override
+		public void handleException(String errorMsg, Throwable exception) {
+			this.message = errorMsg;
+			failure.complete( exception );
+		}
+	}
+
+	@Entity(name = "IndexedEntity")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
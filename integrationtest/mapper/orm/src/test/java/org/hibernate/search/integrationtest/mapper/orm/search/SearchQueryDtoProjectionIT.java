@@ -0,0 +1,218 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.search.DtoProjection;
+import org.hibernate.search.mapper.pojo.search.ProjectionField;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+import org.hibernate.stat.Statistics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test projections to DTOs, which must not involve the database.
+ */
+public class SearchQueryDtoProjectionIT {
+
+	private static final String TITLE_4_3_2_1 = "4 3 2 1";
+	private static final String AUTHOR_4_3_2_1 = "Paul Auster";
+
+	private static final String TITLE_CIDER_HOUSE = "The Cider House Rules";
+	private static final String AUTHOR_CIDER_HOUSE = "John Irving";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void dto() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			FullTextQuery<BookDto> query = ftSession.search( Book.class )
+					.query()
+					.asProjection( f -> DtoProjection.of( BookDto.class ).create( f ) )
+					.predicate( f -> f.matchAll() )
+					.build();
+
+			backendMock.expectSearchProjection(
+					Arrays.asList( Book.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							Arrays.asList( TITLE_4_3_2_1, AUTHOR_4_3_2_1, 2016 ),
+							Arrays.asList( TITLE_CIDER_HOUSE, AUTHOR_CIDER_HOUSE, 1985 )
+					)
+			);
+
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			Assertions.assertThat( query.list() ).containsExactly(
+					new BookDto( TITLE_4_3_2_1, AUTHOR_4_3_2_1, 2016 ),
+					new BookDto( TITLE_CIDER_HOUSE, AUTHOR_CIDER_HOUSE, 1985 )
+			);
+
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0L );
+		} );
+	}
+
+	@Test
+	public void dto_withinComposite() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			FullTextQuery<List<?>> query = ftSession.search( Book.class )
+					.query()
+					.asProjection( f -> f.composite(
+							DtoProjection.of( BookDto.class ).create( f ),
+							f.score()
+					) )
+					.predicate( f -> f.matchAll() )
+					.build();
+
+			backendMock.expectSearchProjection(
+					Arrays.asList( Book.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							1L,
+							Arrays.asList( Arrays.asList( TITLE_4_3_2_1, AUTHOR_4_3_2_1, 2016 ), 4.0F )
+					)
+			);
+
+			Assertions.assertThat( query.list() ).containsExactly(
+					Arrays.asList( new BookDto( TITLE_4_3_2_1, AUTHOR_4_3_2_1, 2016 ), 4.0F )
+			);
+		} );
+	}
+
+	@Test
+	public void dto_cached() {
+		Assertions.assertThat( DtoProjection.of( BookDto.class ) ).isSameAs( DtoProjection.of( BookDto.class ) );
+	}
+
+	@Test
+	public void dto_invalid() {
+		SubTest.expectException( () -> DtoProjection.of( InvalidDto.class ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Type '" + InvalidDto.class.getName() + "' cannot be used as a DTO projection" )
+				.hasMessageContaining( "@ProjectionField" );
+	}
+
+	@Entity(name = "Book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@GenericField
+		private String author;
+
+		@GenericField
+		private int publicationYear;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public String getAuthor() {
+			return author;
+		}
+
+		public int getPublicationYear() {
+			return publicationYear;
+		}
+	}
+
+	private static class BookDto {
+
+		private final String title;
+		private final String author;
+		private final int publicationYear;
+
+		BookDto(@ProjectionField("title") String title, @ProjectionField("author") String author,
+				@ProjectionField("publicationYear") int publicationYear) {
+			this.title = title;
+			this.author = author;
+			this.publicationYear = publicationYear;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( !( obj instanceof BookDto ) ) {
+				return false;
+			}
+			BookDto other = (BookDto) obj;
+			return Objects.equals( title, other.title )
+					&& Objects.equals( author, other.author )
+					&& publicationYear == other.publicationYear;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( title, author, publicationYear );
+		}
+
+		@Override
+		public String toString() {
+			return title + " - " + author + " - " + publicationYear;
+		}
+	}
+
+	private static class InvalidDto {
+
+		InvalidDto(@ProjectionField("title") String title, String author) {
+		}
+	}
+}
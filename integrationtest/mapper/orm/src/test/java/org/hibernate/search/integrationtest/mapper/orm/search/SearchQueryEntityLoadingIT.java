@@ -0,0 +1,290 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.UnknownProfileException;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfile;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+import org.hibernate.stat.Statistics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the loading of entities from search hits.
+ */
+public class SearchQueryEntityLoadingIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Dog.INDEX );
+		backendMock.expectAnySchema( Cat.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( Owner.class, Animal.class, Dog.class, Cat.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void multipleTypesInHierarchy_singleStatement() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			FullTextQuery<Animal> query = ftSession.<Animal>search( Arrays.asList( Dog.class, Cat.class ) )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.build();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Dog.INDEX, Cat.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( Cat.INDEX, "2" ),
+							reference( Dog.INDEX, "1" ),
+							reference( Dog.INDEX, "3" )
+					)
+			);
+
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			List<Animal> result = query.list();
+			Assertions.assertThat( result ).extracting( Animal::getId ).containsExactly( 2, 1, 3 );
+			Assertions.assertThat( result.get( 0 ) ).isInstanceOf( Cat.class );
+			Assertions.assertThat( result.get( 1 ) ).isInstanceOf( Dog.class );
+
+			// Both types belong to the same hierarchy: they are loaded together
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void persistenceContext() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			Dog alreadyLoaded = session.get( Dog.class, 1 );
+
+			FullTextQuery<Dog> query = ftSession.search( Dog.class )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.build();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Dog.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							1L,
+							reference( Dog.INDEX, "1" )
+					)
+			);
+
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			Assertions.assertThat( query.list() ).containsExactly( alreadyLoaded );
+
+			// Entities already in the persistence context are not loaded again
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0L );
+		} );
+	}
+
+	@Test
+	public void fetchProfile() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			FullTextQuery<Animal> query = ftSession.<Animal>search( Arrays.asList( Dog.class, Cat.class ) )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.build();
+			query.enableFetchProfile( Animal.FETCH_PROFILE_OWNER );
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Dog.INDEX, Cat.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( Dog.INDEX, "1" ),
+							reference( Cat.INDEX, "2" )
+					)
+			);
+
+			List<Animal> result = query.list();
+			Assertions.assertThat( result ).hasSize( 2 );
+			for ( Animal animal : result ) {
+				Assertions.assertThat( Hibernate.isInitialized( animal.getOwner() ) ).isTrue();
+			}
+
+			// The fetch profile is only enabled during loading
+			Assertions.assertThat( session.isFetchProfileEnabled( Animal.FETCH_PROFILE_OWNER ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void fetchProfile_unknown() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			FullTextQuery<Dog> query = ftSession.search( Dog.class )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.build();
+
+			SubTest.expectException( () -> query.enableFetchProfile( "unknownProfile" ) )
+					.assertThrown()
+					.isInstanceOf( UnknownProfileException.class )
+					.hasMessageContaining( "unknownProfile" );
+		} );
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Owner owner = new Owner( 1 );
+			session.persist( owner );
+			session.persist( new Dog( 1, "Rex", owner ) );
+			session.persist( new Cat( 2, "Felix", owner ) );
+			session.persist( new Dog( 3, "Lassie", owner ) );
+
+			backendMock.expectWorks( Dog.INDEX )
+					.add( "1", b -> b.field( "name", "Rex" ) )
+					.add( "3", b -> b.field( "name", "Lassie" ) )
+					.preparedThenExecuted();
+			backendMock.expectWorks( Cat.INDEX )
+					.add( "2", b -> b.field( "name", "Felix" ) )
+					.preparedThenExecuted();
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+
+		@Id
+		private Integer id;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@FetchProfile(name = Animal.FETCH_PROFILE_OWNER, fetchOverrides = @FetchProfile.FetchOverride(
+			entity = Animal.class, association = "owner", mode = FetchMode.JOIN
+	))
+	public abstract static class Animal {
+
+		public static final String FETCH_PROFILE_OWNER = "animal-owner";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Owner owner;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+
+	@Entity(name = "Dog")
+	@Indexed(index = Dog.INDEX)
+	public static class Dog extends Animal {
+
+		public static final String INDEX = "Dog";
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, Owner owner) {
+			super( id, name, owner );
+		}
+	}
+
+	@Entity(name = "Cat")
+	@Indexed(index = Cat.INDEX)
+	public static class Cat extends Animal {
+
+		public static final String INDEX = "Cat";
+
+		public Cat() {
+		}
+
+		public Cat(Integer id, String name, Owner owner) {
+			super( id, name, owner );
+		}
+	}
+}
@@ -11,6 +11,8 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -132,6 +134,50 @@ public void offsetAndLimit() {
 		} );
 	}
 
+	@Test
+	public void resultStream() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			FullTextQuery<Book> query = ftSession.search( Book.class )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.build();
+
+			query.setFetchSize( 2 );
+
+			// Hits are retrieved and loaded one chunk at a time
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> b.firstResultIndex( 0L )
+							.maxResultsCount( 2L ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( Book.INDEX, "1" ),
+							reference( Book.INDEX, "2" )
+					)
+			);
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> b.firstResultIndex( 2L )
+							.maxResultsCount( 2L ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( Book.INDEX, "3" )
+					)
+			);
+
+			try ( Stream<Book> stream = query.getResultStream() ) {
+				Assertions.assertThat( stream.collect( Collectors.toList() ) ).containsExactly(
+						session.load( Book.class, 1 ),
+						session.load( Book.class, 2 ),
+						session.load( Book.class, 3 )
+				);
+			}
+		} );
+	}
+
 	@Test
 	public void asProjection_searchProjectionObject_single() {
 		OrmUtils.withinSession( sessionFactory, session -> {
@@ -68,8 +68,9 @@ public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactor
 			return;
 		}
 
+		HibernateOrmIndexingStrategyName indexingStrategy = INDEXING_MODE.get( propertySource );
 		FullTextIndexEventListener fullTextIndexEventListener = new FullTextIndexEventListener(
-				HibernateOrmIndexingStrategyName.EVENT.equals( INDEXING_MODE.get( propertySource ) ),
+				!HibernateOrmIndexingStrategyName.MANUAL.equals( indexingStrategy ),
 				DIRTY_PROCESSING_ENABLED.get( propertySource )
 		);
 		registerHibernateSearchEventListener( fullTextIndexEventListener, serviceRegistry );
@@ -82,6 +83,7 @@ public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactor
 		HibernateSearchSessionFactoryObserver observer = new HibernateSearchSessionFactoryObserver(
 				metadata,
 				propertySource,
+				indexingStrategy,
 				fullTextIndexEventListener,
 				hibernateOrmClassLoaderService,
 				environmentSynchronizerBinding == null ? null : serviceRegistry.getService( EnvironmentSynchronizer.class ),
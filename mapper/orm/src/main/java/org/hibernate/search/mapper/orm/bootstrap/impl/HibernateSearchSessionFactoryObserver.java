@@ -6,28 +6,44 @@
  */
 package org.hibernate.search.mapper.orm.bootstrap.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.HibernateException;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
+import org.hibernate.Transaction;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.resource.beans.container.spi.BeanContainer;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
 import org.hibernate.search.engine.environment.bean.spi.ReflectionBeanResolver;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
 import org.hibernate.search.mapper.orm.cfg.impl.HibernateOrmConfigurationPropertySource;
 import org.hibernate.search.mapper.orm.event.impl.FullTextIndexEventListener;
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingInitiator;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingKey;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxEventProcessor;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxTable;
 import org.hibernate.search.mapper.orm.spi.EnvironmentSynchronizer;
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.Contracts;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.search.util.impl.common.SuppressingCloser;
 
 /**
@@ -39,7 +55,46 @@
  */
 public class HibernateSearchSessionFactoryObserver implements SessionFactoryObserver {
 
+	private static final ConfigurationProperty<HibernateOrmSynchronizationStrategyName> SYNCHRONIZATION_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.SYNCHRONIZATION_STRATEGY )
+					.as( HibernateOrmSynchronizationStrategyName.class, HibernateOrmSynchronizationStrategyName::fromExternalRepresentation )
+					.withDefault( HibernateOrmMapperSettings.Defaults.SYNCHRONIZATION_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<String> OUTBOX_TABLE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.OUTBOX_TABLE )
+					.asString()
+					.withDefault( HibernateOrmMapperSettings.Defaults.OUTBOX_TABLE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> OUTBOX_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.OUTBOX_POLLING_INTERVAL )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> OUTBOX_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> OUTBOX_MAX_CONCURRENCY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.OUTBOX_MAX_CONCURRENCY )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.OUTBOX_MAX_CONCURRENCY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> OUTBOX_MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.OUTBOX_MAX_ATTEMPTS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.OUTBOX_MAX_ATTEMPTS )
+					.build();
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final HibernateOrmConfigurationPropertySource propertySource;
+	private final HibernateOrmIndexingStrategyName indexingStrategy;
 	// TODO JMX
 	//private final JndiService namingService;
 	private final ClassLoaderService hibernateOrmClassLoaderService;
@@ -59,12 +114,14 @@ public class HibernateSearchSessionFactoryObserver implements SessionFactoryObse
 	HibernateSearchSessionFactoryObserver(
 			Metadata metadata,
 			HibernateOrmConfigurationPropertySource propertySource,
+			HibernateOrmIndexingStrategyName indexingStrategy,
 			FullTextIndexEventListener listener,
 			ClassLoaderService hibernateOrmClassLoaderService,
 			EnvironmentSynchronizer environmentSynchronizer,
 			ManagedBeanRegistry managedBeanRegistry) {
 		this.metadata = metadata;
 		this.propertySource = propertySource;
+		this.indexingStrategy = indexingStrategy;
 		this.listener = listener;
 		Contracts.assertNotNull( hibernateOrmClassLoaderService, "Hibernate ORM ClassResolver" );
 		this.hibernateOrmClassLoaderService = hibernateOrmClassLoaderService;
@@ -125,11 +182,17 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 		ReflectionBeanResolver reflectionBeanResolver = null;
 		BeanResolver beanResolver = null;
+		HibernateOrmMappingInitiator mappingInitiator = null;
 		try {
+			OutboxTable outboxTable = null;
+			if ( HibernateOrmIndexingStrategyName.OUTBOX.equals( indexingStrategy ) ) {
+				outboxTable = createOutboxTable( sessionFactoryImplementor );
+			}
+
 			SearchIntegrationBuilder builder = SearchIntegration.builder( propertySource );
 
 			HibernateOrmMappingKey mappingKey = new HibernateOrmMappingKey();
-			HibernateOrmMappingInitiator mappingInitiator = HibernateOrmMappingInitiator.create(
+			mappingInitiator = HibernateOrmMappingInitiator.create(
 					metadata, sessionFactoryImplementor
 			);
 			builder.addMappingInitiator( mappingKey, mappingInitiator );
@@ -157,6 +220,7 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 
 			SearchIntegration integration = builder.build();
 			HibernateOrmMapping mapping = integration.getMapping( mappingKey );
+			BeanHolder<? extends ErrorHandler> errorHandlerHolder = mappingInitiator.getErrorHandlerHolder();
 
 			// TODO JMX
 //			this.jmx = new JMXHook( propertySource );
@@ -165,13 +229,31 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 			//Register the SearchFactory in the ORM ServiceRegistry (for convenience of lookup)
 			HibernateSearchContextService contextService =
 					sessionFactoryImplementor.getServiceRegistry().getService( HibernateSearchContextService.class );
-			contextService.initialize( integration, mapping );
+			OutboxEventProcessor outboxProcessor = null;
+			if ( outboxTable != null ) {
+				outboxProcessor = new OutboxEventProcessor(
+						sessionFactoryImplementor, mapping, outboxTable,
+						OUTBOX_POLLING_INTERVAL.get( propertySource ),
+						OUTBOX_BATCH_SIZE.get( propertySource ),
+						OUTBOX_MAX_CONCURRENCY.get( propertySource ),
+						OUTBOX_MAX_ATTEMPTS.get( propertySource ),
+						errorHandlerHolder.get()
+				);
+			}
+			contextService.initialize(
+					integration, mapping, SYNCHRONIZATION_STRATEGY.get( propertySource ),
+					errorHandlerHolder, outboxProcessor
+			);
 			contextFuture.complete( contextService );
+			if ( outboxProcessor != null ) {
+				outboxProcessor.start();
+			}
 
 			propertySource.afterBootstrap();
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
+					.push( BeanHolder::close, mappingInitiator == null ? null : mappingInitiator.getErrorHandlerHolder() )
 					.push( BeanResolver::close, reflectionBeanResolver )
 					.push( BeanResolver::close, beanResolver );
 
@@ -181,6 +263,24 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 	}
 
+	private OutboxTable createOutboxTable(SessionFactoryImplementor sessionFactoryImplementor) {
+		if ( !MultiTenancyStrategy.NONE.equals(
+				sessionFactoryImplementor.getSessionFactoryOptions().getMultiTenancyStrategy() ) ) {
+			throw log.outboxMultiTenancyNotSupported();
+		}
+		OutboxTable table = new OutboxTable( OUTBOX_TABLE.get( propertySource ) );
+		Dialect dialect = sessionFactoryImplementor.getJdbcServices().getDialect();
+		try ( Session session = sessionFactoryImplementor.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.doWork( connection -> table.createIfAbsent( connection, dialect ) );
+			transaction.commit();
+		}
+		catch (HibernateException e) {
+			throw log.unableToCreateOutboxTable( table.getName(), e.getMessage(), e );
+		}
+		return table;
+	}
+
 	@Override
 	public synchronized void sessionFactoryClosing(SessionFactory factory) {
 		cancelBoot();
@@ -210,7 +310,10 @@ public void sessionFactoryClosed(SessionFactory factory) {
 
 	private synchronized void cleanup(HibernateSearchContextService context) {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// Stop processing the outbox before the backends are closed
+			closer.push( OutboxEventProcessor::close, context.getOutboxProcessor() );
 			closer.push( c -> c.getIntegration().close(), context );
+			closer.push( BeanHolder::close, context.getErrorHandlerHolder() );
 			// TODO JMX
 			// closer.push( JMXHook::unRegisterIfRegistered, jmx );
 		}
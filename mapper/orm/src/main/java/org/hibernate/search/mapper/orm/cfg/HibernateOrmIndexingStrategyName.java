@@ -27,7 +27,14 @@ public enum HibernateOrmIndexingStrategyName {
 	/**
 	 * Indexing is triggered explicitly.
 	 */
-	MANUAL("manual");
+	MANUAL("manual"),
+
+	/**
+	 * Indexing is triggered automatically upon entity insertion, update etc.,
+	 * but deferred: references to the entities to reindex are written to an outbox table
+	 * in the same database transaction, and processed later by a background processor.
+	 */
+	OUTBOX("outbox");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -50,6 +57,9 @@ public static HibernateOrmIndexingStrategyName fromExternalRepresentation(String
 		else if ( MANUAL.toExternalRepresentation().equals( indexingMode ) ) {
 			return HibernateOrmIndexingStrategyName.MANUAL;
 		}
+		else if ( OUTBOX.toExternalRepresentation().equals( indexingMode ) ) {
+			return HibernateOrmIndexingStrategyName.OUTBOX;
+		}
 		else {
 			throw log.unknownIndexingMode( indexingMode );
 		}
@@ -32,10 +32,55 @@ public final class HibernateOrmMapperSettings {
 
 	/**
 	 * Defines the indexing strategy, default <code>event</code>
-	 * Other options <code>manual</code>
+	 * Other options <code>manual</code>, <code>outbox</code>
 	 */
 	public static final String INDEXING_STRATEGY = PREFIX + Radicals.INDEXING_STRATEGY;
 
+	/**
+	 * The name of the table holding the indexing events with the <code>outbox</code> indexing strategy.
+	 * <p>
+	 * The table is created automatically on startup if it does not exist.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_TABLE}.
+	 */
+	public static final String OUTBOX_TABLE = PREFIX + Radicals.OUTBOX_TABLE;
+
+	/**
+	 * The interval between two polls of the outbox table, in milliseconds,
+	 * with the <code>outbox</code> indexing strategy.
+	 * <p>
+	 * The table is also polled right after a transaction adding events commits.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String OUTBOX_POLLING_INTERVAL = PREFIX + Radicals.OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of events processed in a single batch with the <code>outbox</code> indexing strategy.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String OUTBOX_BATCH_SIZE = PREFIX + Radicals.OUTBOX_BATCH_SIZE;
+
+	/**
+	 * The maximum number of batches of events being indexed concurrently
+	 * with the <code>outbox</code> indexing strategy.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_MAX_CONCURRENCY}.
+	 */
+	public static final String OUTBOX_MAX_CONCURRENCY = PREFIX + Radicals.OUTBOX_MAX_CONCURRENCY;
+
+	/**
+	 * The maximum number of times processing an event is attempted with the <code>outbox</code> indexing strategy.
+	 * <p>
+	 * Events whose processing failed are processed again on a later poll, each in its own batch.
+	 * Once this number of attempts is reached, the event is deleted from the table
+	 * and the failure is reported to the {@link #ERROR_HANDLER error handler}.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_MAX_ATTEMPTS}.
+	 */
+	public static final String OUTBOX_MAX_ATTEMPTS = PREFIX + Radicals.OUTBOX_MAX_ATTEMPTS;
+
 	/**
 	 * When enabled re-indexing of an entity is skipped if the updates affect only non-indexed fields.
 	 * Enabled by default as it should be safe and should improve performance, disable it to force updates
@@ -44,6 +89,28 @@ public final class HibernateOrmMapperSettings {
 	 */
 	public static final String ENABLE_DIRTY_CHECK = PREFIX + Radicals.ENABLE_DIRTY_CHECK;
 
+	/**
+	 * Defines how committing threads synchronize with the indexing triggered by their transaction.
+	 * <p>
+	 * Expects one of the external representations of {@link HibernateOrmSynchronizationStrategyName}:
+	 * <code>sync</code> (default), <code>async</code> or <code>await-committed-only</code>.
+	 * <p>
+	 * Can be overridden for a given session through
+	 * {@link org.hibernate.search.mapper.orm.jpa.FullTextEntityManager#setIndexingSynchronizationStrategy(HibernateOrmSynchronizationStrategyName)}.
+	 */
+	public static final String SYNCHRONIZATION_STRATEGY = PREFIX + Radicals.SYNCHRONIZATION_STRATEGY;
+
+	/**
+	 * The handler for indexing failures that cannot be reported to the committing thread,
+	 * i.e. with the <code>async</code> synchronization strategy or the <code>outbox</code> indexing strategy.
+	 * <p>
+	 * Accepts an {@link org.hibernate.search.engine.common.spi.ErrorHandler} instance
+	 * or a reference to an {@link org.hibernate.search.engine.common.spi.ErrorHandler} bean.
+	 * <p>
+	 * Defaults to logging the failures.
+	 */
+	public static final String ERROR_HANDLER = PREFIX + Radicals.ERROR_HANDLER;
+
 	/**
 	 * When enabled, annotations will be automatically processed for entity types,
 	 * as well as nested types in those entity types, for instance embedded types.
@@ -64,7 +131,14 @@ public static class Radicals {
 		public static final String ENABLE_CONFIGURATION_PROPERTY_TRACKING = "enable_configuration_property_tracking";
 		public static final String AUTOREGISTER_LISTENERS = "autoregister_listeners";
 		public static final String INDEXING_STRATEGY = "indexing_strategy";
+		public static final String OUTBOX_TABLE = "outbox.table";
+		public static final String OUTBOX_POLLING_INTERVAL = "outbox.polling_interval";
+		public static final String OUTBOX_BATCH_SIZE = "outbox.batch_size";
+		public static final String OUTBOX_MAX_CONCURRENCY = "outbox.max_concurrency";
+		public static final String OUTBOX_MAX_ATTEMPTS = "outbox.max_attempts";
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
+		public static final String SYNCHRONIZATION_STRATEGY = "synchronization_strategy";
+		public static final String ERROR_HANDLER = "error_handler";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
 		public static final String MAPPING_CONFIGURER = "mapping_configurer";
 
@@ -83,7 +157,13 @@ private Defaults() {
 		public static final boolean ENABLE_CONFIGURATION_PROPERTY_TRACKING = true;
 		public static final boolean AUTOREGISTER_LISTENERS = true;
 		public static final HibernateOrmIndexingStrategyName INDEXING_STRATEGY = HibernateOrmIndexingStrategyName.EVENT;
+		public static final String OUTBOX_TABLE = "HSEARCH_OUTBOX";
+		public static final int OUTBOX_POLLING_INTERVAL = 100;
+		public static final int OUTBOX_BATCH_SIZE = 500;
+		public static final int OUTBOX_MAX_CONCURRENCY = 2;
+		public static final int OUTBOX_MAX_ATTEMPTS = 3;
 		public static final boolean ENABLE_DIRTY_CHECK = true;
+		public static final HibernateOrmSynchronizationStrategyName SYNCHRONIZATION_STRATEGY = HibernateOrmSynchronizationStrategyName.SYNC;
 		public static final boolean ENABLE_ANNOTATION_MAPPING = true;
 	}
 
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Strategies for synchronizing committing threads with the indexing of the changes they triggered.
+ */
+public enum HibernateOrmSynchronizationStrategyName {
+
+	/**
+	 * The committing thread waits until indexing is done,
+	 * i.e. changes are durable and, if the backend is configured to refresh after writes, visible to searches.
+	 */
+	SYNC("sync"),
+
+	/**
+	 * The committing thread does not wait for indexing.
+	 * Indexing failures are reported to the {@link HibernateOrmMapperSettings#ERROR_HANDLER error handler}.
+	 */
+	ASYNC("async"),
+
+	/**
+	 * The committing thread waits until changes are durable in the index,
+	 * but does not wait for them to be visible to searches.
+	 */
+	AWAIT_COMMITTED_ONLY("await-committed-only");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	HibernateOrmSynchronizationStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * Returns the {@link HibernateOrmSynchronizationStrategyName} matching the given external representation
+	 * as specified via {@link HibernateOrmMapperSettings#SYNCHRONIZATION_STRATEGY}.
+	 * @param synchronizationStrategy the synchronization strategy external representation
+	 * @return the {@link HibernateOrmSynchronizationStrategyName}
+	 */
+	public static HibernateOrmSynchronizationStrategyName fromExternalRepresentation(String synchronizationStrategy) {
+		for ( HibernateOrmSynchronizationStrategyName candidate : values() ) {
+			if ( candidate.toExternalRepresentation().equals( synchronizationStrategy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownSynchronizationStrategy( synchronizationStrategy );
+	}
+
+	/**
+	 * @return the external representation of this synchronization strategy, as a string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -10,6 +10,18 @@
 
 public interface FullTextQuery<T> extends Query<T>, org.hibernate.search.mapper.orm.jpa.FullTextQuery<T> {
 
+	/**
+	 * Enable a fetch profile when loading entities from search hits.
+	 * <p>
+	 * The fetch profile is only enabled during loading:
+	 * fetch profiles enabled on the session itself are not affected.
+	 *
+	 * @param fetchProfileName The name of a fetch profile, see {@link org.hibernate.annotations.FetchProfile}.
+	 * @return {@code this}, for method chaining.
+	 * @throws org.hibernate.UnknownProfileException If there is no fetch profile with the given name.
+	 */
+	FullTextQuery<T> enableFetchProfile(String fetchProfileName);
+
 	// TODO facets
 
 	// TODO timeouts
@@ -23,6 +23,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.UnknownProfileException;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.query.QueryParameter;
@@ -38,6 +39,8 @@
 
 public class FullTextQueryImpl<R> extends AbstractProducedQuery<R> implements FullTextQuery<R> {
 
+	private static final int DEFAULT_SCROLL_CHUNK_SIZE = 100;
+
 	private final SearchQuery<R> searchQuery;
 
 	private final MutableObjectLoadingOptions loadingOptions;
@@ -76,26 +79,38 @@ public List<R> getResultList() {
 
 	/**
 	 * Return an iterator on the results.
-	 * Retrieve the object one by one (initialize it during the next() operation)
+	 * Hits are retrieved and loaded in chunks of {@link #setFetchSize(int) fetch size} hits,
+	 * and backend resources are released once the iterator is exhausted.
 	 */
 	@Override
 	public Iterator<R> iterate() {
-		throw resultStreamingNotImplemented();
+		return doScroll().asIterator();
 	}
 
 	@Override
 	public ScrollableResultsImplementor scroll() {
-		throw resultStreamingNotImplemented();
+		return doScroll();
 	}
 
+	/**
+	 * @param scrollMode The scroll mode; ignored, since only forward navigation is supported.
+	 * @return Forward-only scrollable results,
+	 * retrieving and loading hits in chunks of {@link #setFetchSize(int) fetch size} hits.
+	 */
 	@Override
 	public ScrollableResultsImplementor scroll(ScrollMode scrollMode) {
-		throw resultStreamingNotImplemented();
+		return doScroll();
 	}
 
-	private UnsupportedOperationException resultStreamingNotImplemented() {
-		// TODO result streaming
-		return new UnsupportedOperationException( "Not implemented yet" );
+	private FullTextScrollableResultsImpl<R> doScroll() {
+		int fetchSize = loadingOptions.getFetchSize();
+		int chunkSize = fetchSize > 0 ? fetchSize : DEFAULT_SCROLL_CHUNK_SIZE;
+		try {
+			return new FullTextScrollableResultsImpl<>( searchQuery.scroll( chunkSize ) );
+		}
+		catch (HibernateException he) {
+			throw getExceptionConverter().convert( he );
+		}
 	}
 
 	@Override
@@ -297,6 +312,15 @@ public FullTextQueryImpl<R> setFetchSize(int fetchSize) {
 		return this;
 	}
 
+	@Override
+	public FullTextQueryImpl<R> enableFetchProfile(String fetchProfileName) {
+		if ( !getProducer().getFactory().containsFetchProfileDefinition( fetchProfileName ) ) {
+			throw new UnknownProfileException( fetchProfileName );
+		}
+		loadingOptions.enableFetchProfile( fetchProfileName );
+		return this;
+	}
+
 	@Override
 	public FullTextQueryImpl<R> setLockOptions(LockOptions lockOptions) {
 		throw new UnsupportedOperationException( "Lock options are not implemented in Hibernate Search queries" );
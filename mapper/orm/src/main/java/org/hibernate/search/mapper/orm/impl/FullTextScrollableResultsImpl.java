@@ -0,0 +1,344 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.TimeZone;
+
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * Forward-only scrollable results on top of a {@link SearchScroll}.
+ * <p>
+ * Hits are retrieved and loaded one chunk at a time, the chunk size being the fetch size of the query,
+ * and no reference to the hits of previous chunks is kept.
+ * Thus memory usage is bounded by the fetch size rather than by the total hit count,
+ * provided the caller clears the session regularly, ideally after having processed a multiple of the fetch size.
+ *
+ * @param <R> The type of hits.
+ */
+class FullTextScrollableResultsImpl<R> implements ScrollableResultsImplementor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchScroll<R> scroll;
+
+	private List<R> currentChunk = Collections.emptyList();
+	private List<R> nextChunk;
+	private int indexInCurrentChunk = -1;
+	private int rowNumber = -1;
+	private boolean exhausted;
+	private boolean afterLast;
+	private boolean closed;
+
+	FullTextScrollableResultsImpl(SearchScroll<R> scroll) {
+		this.scroll = scroll;
+	}
+
+	@Override
+	public boolean next() {
+		checkNotClosed();
+		if ( afterLast ) {
+			return false;
+		}
+		++indexInCurrentChunk;
+		if ( indexInCurrentChunk >= currentChunk.size() ) {
+			if ( !hasNextChunk() ) {
+				afterLast = true;
+				currentChunk = Collections.emptyList();
+				indexInCurrentChunk = -1;
+				return false;
+			}
+			currentChunk = nextChunk;
+			nextChunk = null;
+			indexInCurrentChunk = 0;
+		}
+		++rowNumber;
+		return true;
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		checkNotClosed();
+		if ( positions < 0 ) {
+			throw log.backwardScrollingNotSupported( "scroll(" + positions + ")" );
+		}
+		boolean onRow = isOnRow();
+		for ( int i = 0; i < positions; i++ ) {
+			onRow = next();
+			if ( !onRow ) {
+				break;
+			}
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean previous() {
+		throw log.backwardScrollingNotSupported( "previous()" );
+	}
+
+	@Override
+	public boolean last() {
+		throw log.backwardScrollingNotSupported( "last()" );
+	}
+
+	@Override
+	public boolean first() {
+		throw log.backwardScrollingNotSupported( "first()" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw log.backwardScrollingNotSupported( "beforeFirst()" );
+	}
+
+	@Override
+	public void afterLast() {
+		throw log.backwardScrollingNotSupported( "afterLast()" );
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		throw log.backwardScrollingNotSupported( "setRowNumber(" + rowNumber + ")" );
+	}
+
+	@Override
+	public boolean isFirst() {
+		checkNotClosed();
+		return rowNumber == 0 && isOnRow();
+	}
+
+	@Override
+	public boolean isLast() {
+		checkNotClosed();
+		return isOnRow() && indexInCurrentChunk == currentChunk.size() - 1 && !hasNextChunk();
+	}
+
+	@Override
+	public int getRowNumber() {
+		checkNotClosed();
+		return isOnRow() ? rowNumber : -1;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		currentChunk = null;
+		nextChunk = null;
+		scroll.close();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public int getNumberOfTypes() {
+		return 1;
+	}
+
+	@Override
+	public Object[] get() {
+		checkNotClosed();
+		if ( !isOnRow() ) {
+			return null;
+		}
+		return new Object[] { getCurrent() };
+	}
+
+	@Override
+	public Object get(int column) {
+		checkNotClosed();
+		if ( column != 0 ) {
+			throw log.columnAccessNotSupported( column );
+		}
+		return isOnRow() ? getCurrent() : null;
+	}
+
+	@Override
+	public Type getType(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Integer getInteger(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Long getLong(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Float getFloat(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Boolean getBoolean(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Double getDouble(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Short getShort(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Byte getByte(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Character getCharacter(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public byte[] getBinary(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public String getText(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Blob getBlob(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Clob getClob(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public String getString(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Date getDate(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Locale getLocale(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public Calendar getCalendar(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int column) {
+		throw log.columnAccessNotSupported( column );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scroll=" + scroll + ", rowNumber=" + rowNumber + "]";
+	}
+
+	/**
+	 * @return An iterator on the remaining hits, closing these scrollable results once all hits have been consumed.
+	 */
+	Iterator<R> asIterator() {
+		return new Iterator<R>() {
+			private boolean nextFetched;
+			private boolean hasNext;
+
+			@Override
+			public boolean hasNext() {
+				if ( !nextFetched ) {
+					hasNext = !closed && FullTextScrollableResultsImpl.this.next();
+					nextFetched = true;
+					if ( !hasNext ) {
+						close();
+					}
+				}
+				return hasNext;
+			}
+
+			@Override
+			public R next() {
+				if ( !hasNext() ) {
+					throw new NoSuchElementException();
+				}
+				nextFetched = false;
+				return getCurrent();
+			}
+		};
+	}
+
+	private boolean isOnRow() {
+		return indexInCurrentChunk >= 0 && indexInCurrentChunk < currentChunk.size();
+	}
+
+	private R getCurrent() {
+		return currentChunk.get( indexInCurrentChunk );
+	}
+
+	private boolean hasNextChunk() {
+		if ( nextChunk == null && !exhausted ) {
+			List<R> hits = scroll.next().getHits();
+			if ( hits.isEmpty() ) {
+				exhausted = true;
+			}
+			else {
+				nextChunk = hits;
+			}
+		}
+		return nextChunk != null;
+	}
+
+	private void checkNotClosed() {
+		if ( closed ) {
+			throw log.closedScrollableResults();
+		}
+	}
+}
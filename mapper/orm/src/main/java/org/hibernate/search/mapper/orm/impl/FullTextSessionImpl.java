@@ -7,9 +7,11 @@
 package org.hibernate.search.mapper.orm.impl;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.engine.spi.SessionDelegatorBaseImpl;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.hibernate.FullTextSearchTarget;
 import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
@@ -59,12 +61,24 @@ public MassIndexer createIndexer(Class<?>... types) {
 		return new MassIndexerImpl( getFactory(), getTenantIdentifier(), types );
 	}
 
+	@Override
+	public void setIndexingSynchronizationStrategy(HibernateOrmSynchronizationStrategyName synchronizationStrategy) {
+		getSearchManager().setSynchronizationStrategy( synchronizationStrategy );
+	}
+
+	@Override
+	public CompletableFuture<?> getLastIndexingFuture() {
+		return getContextService().getLastIndexingFuture( delegate );
+	}
+
 	private HibernateOrmSearchManager getSearchManager() {
 		if ( searchManager == null ) {
-			HibernateSearchContextService contextService = delegate.getSessionFactory().getServiceRegistry()
-					.getService( HibernateSearchContextService.class );
-			searchManager = contextService.getSearchManager( delegate );
+			searchManager = getContextService().getSearchManager( delegate );
 		}
 		return searchManager;
 	}
+
+	private HibernateSearchContextService getContextService() {
+		return delegate.getSessionFactory().getServiceRegistry().getService( HibernateSearchContextService.class );
+	}
 }
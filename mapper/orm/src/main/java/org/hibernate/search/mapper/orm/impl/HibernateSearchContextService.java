@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
@@ -21,10 +22,15 @@
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
 import org.hibernate.search.mapper.orm.session.spi.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxEventCollector;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxEventProcessor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.service.Service;
@@ -33,6 +39,9 @@ public class HibernateSearchContextService implements Service {
 
 	private volatile SearchIntegration integration;
 	private volatile HibernateOrmMapping mapping;
+	private volatile HibernateOrmSynchronizationStrategyName synchronizationStrategy;
+	private volatile OutboxEventProcessor outboxProcessor;
+	private volatile BeanHolder<? extends ErrorHandler> errorHandlerHolder;
 
 	/*
 	 * FIXME support "enlist in transaction"? This only makes sense when index managers support it,
@@ -46,9 +55,25 @@ public class HibernateSearchContextService implements Service {
 	private static final String WORK_PLAN_PER_TRANSACTION_MAP_KEY =
 			HibernateSearchContextService.class.getName() + "#WORK_PLAN_PER_TRANSACTION_KEY";
 
-	public void initialize(SearchIntegration integration, HibernateOrmMapping mapping) {
+	private static final String LAST_INDEXING_FUTURE_KEY =
+			HibernateSearchContextService.class.getName() + "#LAST_INDEXING_FUTURE_KEY";
+
+	/**
+	 * @param integration The Search integration.
+	 * @param mapping The Hibernate ORM mapping.
+	 * @param synchronizationStrategy The default synchronization strategy.
+	 * @param errorHandlerHolder The holder of the handler for indexing failures that cannot be reported to the caller.
+	 * @param outboxProcessor The outbox processor if the outbox indexing strategy is used, {@code null} otherwise.
+	 */
+	public void initialize(SearchIntegration integration, HibernateOrmMapping mapping,
+			HibernateOrmSynchronizationStrategyName synchronizationStrategy,
+			BeanHolder<? extends ErrorHandler> errorHandlerHolder,
+			OutboxEventProcessor outboxProcessor) {
 		this.integration = integration;
 		this.mapping = mapping;
+		this.synchronizationStrategy = synchronizationStrategy;
+		this.errorHandlerHolder = errorHandlerHolder;
+		this.outboxProcessor = outboxProcessor;
 	}
 
 	public SearchIntegration getIntegration() {
@@ -60,6 +85,14 @@ public SearchIntegration getIntegration() {
 		}
 	}
 
+	public OutboxEventProcessor getOutboxProcessor() {
+		return outboxProcessor;
+	}
+
+	public BeanHolder<? extends ErrorHandler> getErrorHandlerHolder() {
+		return errorHandlerHolder;
+	}
+
 	public HibernateOrmMapping getMapping() {
 		if ( mapping != null ) {
 			return mapping;
@@ -81,7 +114,9 @@ public HibernateOrmSearchManager getSearchManager(SessionImplementor sessionImpl
 		@SuppressWarnings("resource") // The listener below handles closing
 		HibernateOrmSearchManager searchManager = reference == null ? null : reference.get();
 		if ( searchManager == null ) {
-			searchManager = getMapping().createSearchManager( sessionImplementor );
+			searchManager = getMapping().createSearchManagerWithOptions( sessionImplementor )
+					.synchronizationStrategy( synchronizationStrategy )
+					.build();
 			reference = new TransientReference<>( searchManager );
 			sessionImplementor.setProperty( SEARCH_MANAGER_KEY, reference );
 
@@ -91,6 +126,24 @@ public HibernateOrmSearchManager getSearchManager(SessionImplementor sessionImpl
 		return searchManager;
 	}
 
+	/**
+	 * @param sessionImplementor A Hibernate session
+	 *
+	 * @return A future that will be completed when the works executed upon completion
+	 * of the last transaction of the given session are done.
+	 */
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<?> getLastIndexingFuture(SessionImplementor sessionImplementor) {
+		TransientReference<CompletableFuture<?>> reference =
+				(TransientReference<CompletableFuture<?>>) sessionImplementor.getProperties().get( LAST_INDEXING_FUTURE_KEY );
+		CompletableFuture<?> future = reference == null ? null : reference.get();
+		return future == null ? CompletableFuture.completedFuture( null ) : future;
+	}
+
+	static void setLastIndexingFuture(SessionImplementor sessionImplementor, CompletableFuture<?> future) {
+		sessionImplementor.setProperty( LAST_INDEXING_FUTURE_KEY, new TransientReference<>( future ) );
+	}
+
 	/**
 	 * @param sessionImplementor A Hibernate session
 	 *
@@ -111,11 +164,27 @@ public PojoWorkPlan getCurrentWorkPlan(SessionImplementor sessionImplementor) {
 				sessionImplementor.setProperty( WORK_PLAN_PER_TRANSACTION_MAP_KEY, reference );
 			}
 			PojoWorkPlan workPlan = workPlanPerTransaction.get( transactionIdentifier );
-			if ( workPlan == null ) {
-				workPlan = searchManager.createWorkPlan();
+			if ( workPlan == null && outboxProcessor != null ) {
+				OutboxEventCollector collector = outboxProcessor.createEventCollector();
+				workPlan = searchManager.createWorkPlan( collector );
+				workPlanPerTransaction.put( transactionIdentifier, workPlan );
+				Synchronization txSync = new OutboxWorkQueueSynchronization(
+						workPlan, collector, outboxProcessor, sessionImplementor,
+						workPlanPerTransaction, transactionIdentifier
+				);
+				registerSynchronization( sessionImplementor, txSync );
+			}
+			else if ( workPlan == null ) {
+				HibernateOrmSynchronizationStrategyName transactionSynchronizationStrategy =
+						searchManager.getSynchronizationStrategy();
+				workPlan = searchManager.createWorkPlan(
+						WorkPlanSynchronizer.getRefreshStrategy( transactionSynchronizationStrategy )
+				);
 				workPlanPerTransaction.put( transactionIdentifier, workPlan );
+				WorkPlanSynchronizer synchronizer =
+						new WorkPlanSynchronizer( sessionImplementor, transactionSynchronizationStrategy, errorHandlerHolder.get() );
 				Synchronization txSync = createTransactionWorkQueueSynchronization(
-						workPlan, workPlanPerTransaction, transactionIdentifier
+						workPlan, synchronizer, workPlanPerTransaction, transactionIdentifier
 				);
 				registerSynchronization( sessionImplementor, txSync );
 			}
@@ -145,15 +214,16 @@ else if ( some condition ) {
 	}
 
 	private Synchronization createTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
+			WorkPlanSynchronizer synchronizer,
 			Map<Transaction, PojoWorkPlan> workPlanPerTransaction, Object transactionIdentifier) {
 		if ( enlistInTransaction ) {
 			return new InTransactionWorkQueueSynchronization(
-					workPlan, workPlanPerTransaction, transactionIdentifier
+					workPlan, synchronizer, workPlanPerTransaction, transactionIdentifier
 			);
 		}
 		else {
 			return new PostTransactionWorkQueueSynchronization(
-					workPlan, workPlanPerTransaction, transactionIdentifier
+					workPlan, synchronizer, workPlanPerTransaction, transactionIdentifier
 			);
 		}
 	}
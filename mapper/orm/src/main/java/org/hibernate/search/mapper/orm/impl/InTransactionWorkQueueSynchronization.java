@@ -9,7 +9,6 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import javax.transaction.Synchronization;
 
 import org.hibernate.search.mapper.orm.logging.impl.Log;
@@ -26,12 +25,14 @@ class InTransactionWorkQueueSynchronization implements Synchronization {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final PojoWorkPlan workPlan;
+	private final WorkPlanSynchronizer synchronizer;
 	private final Map<?, ?> workPlanPerTransaction;
 	private final Object transactionIdentifier;
 
-	InTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
+	InTransactionWorkQueueSynchronization(PojoWorkPlan workPlan, WorkPlanSynchronizer synchronizer,
 			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
 		this.workPlan = workPlan;
+		this.synchronizer = synchronizer;
 		this.workPlanPerTransaction = workPlanPerTransaction;
 		this.transactionIdentifier = transactionIdentifier;
 	}
@@ -43,13 +44,7 @@ public void beforeCompletion() {
 			log.tracef(
 					"Processing Transaction's beforeCompletion() phase for %s. Performing work.", this
 			);
-			CompletableFuture<?> future = workPlan.execute();
-			/*
-			 * TODO decide whether we want the sync/async setting to be scoped per index,
-			 * or per EntityManager/SearchManager, or both (with one scope overriding the other).
-			 * See also PostTransactionWorkQueueSynchronization#afterCompletion
-			 */
-			future.join();
+			synchronizer.execute( workPlan );
 		}
 		finally {
 			//clean the Synchronization per Transaction
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxEventCollector;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxEventProcessor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Write the entities to reindex to the outbox table in the before transaction synchronization,
+ * so that they are committed along with the changes that triggered reindexing.
+ */
+class OutboxWorkQueueSynchronization implements Synchronization {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoWorkPlan workPlan;
+	private final OutboxEventCollector collector;
+	private final OutboxEventProcessor processor;
+	private final SessionImplementor sessionImplementor;
+	private final Map<?, ?> workPlanPerTransaction;
+	private final Object transactionIdentifier;
+
+	OutboxWorkQueueSynchronization(PojoWorkPlan workPlan, OutboxEventCollector collector,
+			OutboxEventProcessor processor, SessionImplementor sessionImplementor,
+			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
+		this.workPlan = workPlan;
+		this.collector = collector;
+		this.processor = processor;
+		this.sessionImplementor = sessionImplementor;
+		this.workPlanPerTransaction = workPlanPerTransaction;
+		this.transactionIdentifier = transactionIdentifier;
+	}
+
+	@Override
+	public void beforeCompletion() {
+		log.tracef( "Processing Transaction's beforeCompletion() phase: %s", this );
+		// Passes references to the entities to reindex, including containing entities, to the collector
+		workPlan.prepare();
+		collector.writeTo( sessionImplementor );
+	}
+
+	@Override
+	public void afterCompletion(int i) {
+		try {
+			if ( Status.STATUS_COMMITTED == i ) {
+				log.tracef( "Processing Transaction's afterCompletion() phase for %s. Waking up the outbox processor.", this );
+				processor.wakeUp();
+			}
+		}
+		finally {
+			//clean the Synchronization per Transaction
+			workPlanPerTransaction.remove( transactionIdentifier );
+		}
+	}
+}
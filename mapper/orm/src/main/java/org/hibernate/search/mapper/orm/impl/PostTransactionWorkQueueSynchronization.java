@@ -8,7 +8,6 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
 
@@ -26,12 +25,14 @@ public class PostTransactionWorkQueueSynchronization implements Synchronization
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final PojoWorkPlan workPlan;
+	private final WorkPlanSynchronizer synchronizer;
 	private final Map<?, ?> workPlanPerTransaction;
 	private final Object transactionIdentifier;
 
-	PostTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
+	PostTransactionWorkQueueSynchronization(PojoWorkPlan workPlan, WorkPlanSynchronizer synchronizer,
 			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
 		this.workPlan = workPlan;
+		this.synchronizer = synchronizer;
 		this.workPlanPerTransaction = workPlanPerTransaction;
 		this.transactionIdentifier = transactionIdentifier;
 	}
@@ -47,13 +48,7 @@ public void afterCompletion(int i) {
 		try {
 			if ( Status.STATUS_COMMITTED == i ) {
 				log.tracef( "Processing Transaction's afterCompletion() phase for %s. Performing work.", this );
-				CompletableFuture<?> future = workPlan.execute();
-				/*
-				 * TODO decide whether we want the sync/async setting to be scoped per index,
-				 * or per EntityManager/SearchManager, or both (with one scope overriding the other).
-				 * See also InTransactionWorkQueueSynchronization#beforeCompletion
-				 */
-				future.join();
+				synchronizer.execute( workPlan );
 			}
 			else {
 				log.tracef(
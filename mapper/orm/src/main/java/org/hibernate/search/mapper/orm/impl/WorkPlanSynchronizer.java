@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Executes the work plan of a transaction
+ * and synchronizes the calling thread with that execution according to a {@link HibernateOrmSynchronizationStrategyName}.
+ */
+final class WorkPlanSynchronizer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionImplementor sessionImplementor;
+	private final HibernateOrmSynchronizationStrategyName synchronizationStrategy;
+	private final ErrorHandler errorHandler;
+
+	WorkPlanSynchronizer(SessionImplementor sessionImplementor,
+			HibernateOrmSynchronizationStrategyName synchronizationStrategy,
+			ErrorHandler errorHandler) {
+		this.sessionImplementor = sessionImplementor;
+		this.synchronizationStrategy = synchronizationStrategy;
+		this.errorHandler = errorHandler;
+	}
+
+	static DocumentRefreshStrategy getRefreshStrategy(HibernateOrmSynchronizationStrategyName synchronizationStrategy) {
+		switch ( synchronizationStrategy ) {
+			case AWAIT_COMMITTED_ONLY:
+				// Searchability is not required: spare the refresh
+				return DocumentRefreshStrategy.NONE;
+			case SYNC:
+			case ASYNC:
+			default:
+				return DocumentRefreshStrategy.DEFAULT;
+		}
+	}
+
+	void execute(PojoWorkPlan workPlan) {
+		CompletableFuture<?> future = workPlan.execute();
+		HibernateSearchContextService.setLastIndexingFuture( sessionImplementor, future );
+		switch ( synchronizationStrategy ) {
+			case ASYNC:
+				future.whenComplete( Futures.handler( (result, throwable) -> {
+					if ( throwable != null ) {
+						errorHandler.handleException( log.asyncIndexingFailure(), throwable );
+					}
+				} ) );
+				break;
+			case SYNC:
+			case AWAIT_COMMITTED_ONLY:
+			default:
+				future.join();
+				break;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + synchronizationStrategy + "]";
+	}
+}
@@ -7,8 +7,11 @@
 package org.hibernate.search.mapper.orm.jpa;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import javax.persistence.EntityManager;
 
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 
 public interface FullTextEntityManager extends EntityManager {
@@ -18,4 +21,21 @@ public interface FullTextEntityManager extends EntityManager {
 	<T> FullTextSearchTarget<T> search(Collection<? extends Class<? extends T>> types);
 
 	MassIndexer createIndexer(Class<?>... types);
+
+	/**
+	 * Set the synchronization strategy for the indexing triggered by transactions
+	 * that will be started after this call.
+	 * <p>
+	 * Defaults to the strategy set through {@link HibernateOrmMapperSettings#SYNCHRONIZATION_STRATEGY}.
+	 *
+	 * @param synchronizationStrategy The synchronization strategy to use.
+	 */
+	void setIndexingSynchronizationStrategy(HibernateOrmSynchronizationStrategyName synchronizationStrategy);
+
+	/**
+	 * @return A future that will be completed when the indexing triggered by the last transaction
+	 * of this entity manager completes.
+	 * Mostly useful with the {@link HibernateOrmSynchronizationStrategyName#ASYNC async} synchronization strategy.
+	 */
+	CompletableFuture<?> getLastIndexingFuture();
 }
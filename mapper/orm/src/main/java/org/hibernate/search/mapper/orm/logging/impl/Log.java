@@ -176,4 +176,64 @@ SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.cl
 	@Message(id = ID_OFFSET_2 + 13, value = "Interrupted on batch Indexing; index will be left in unknown state!")
 	SearchException interruptedBatchIndexingException(@Cause Exception cause);
 
+	@Message(id = ID_OFFSET_2 + 14,
+			value = "Unknown synchronization strategy: %1$s")
+	SearchException unknownSynchronizationStrategy(String synchronizationStrategy);
+
+	/*
+	 * This is not an exception factory nor a logging statement.
+	 * The returned string is passed to the ErrorHandler.
+	 */
+	@Message(id = ID_OFFSET_2 + 15,
+			value = "Indexing failed after the transaction completed; the index may be out of sync with the database.")
+	String asyncIndexingFailure();
+
+	@Message(id = ID_OFFSET_2 + 16,
+			value = "Cannot use scrollable results after they were closed.")
+	SearchException closedScrollableResults();
+
+	@Message(id = ID_OFFSET_2 + 17,
+			value = "Cannot execute '%1$s' on the scrollable results of a full-text query: only forward navigation is supported.")
+	UnsupportedOperationException backwardScrollingNotSupported(String operation);
+
+	@Message(id = ID_OFFSET_2 + 18,
+			value = "Cannot access column %1$d on the scrollable results of a full-text query: the only column has index 0."
+					+ " Use get() or get(0) instead.")
+	UnsupportedOperationException columnAccessNotSupported(int column);
+
+	@Message(id = ID_OFFSET_2 + 19,
+			value = "The 'outbox' indexing strategy does not support multi-tenancy.")
+	SearchException outboxMultiTenancyNotSupported();
+
+	@Message(id = ID_OFFSET_2 + 20,
+			value = "The 'outbox' indexing strategy requires identity columns, but dialect '%1$s' does not support them.")
+	SearchException outboxIdentityColumnsNotSupported(String dialect);
+
+	@Message(id = ID_OFFSET_2 + 21,
+			value = "Unable to create the outbox table '%1$s': %2$s")
+	SearchException unableToCreateOutboxTable(String tableName, String causeMessage, @Cause Exception cause);
+
+	/*
+	 * This is not an exception factory nor a logging statement.
+	 * The returned string is passed to the ErrorHandler.
+	 */
+	@Message(id = ID_OFFSET_2 + 22,
+			value = "Failed to process indexing events from the outbox table; they will be processed again later.")
+	String outboxProcessingFailure();
+
+	/*
+	 * This is not an exception factory nor a logging statement.
+	 * The returned string is passed to the ErrorHandler.
+	 */
+	@Message(id = ID_OFFSET_2 + 23,
+			value = "Failed to process the indexing event for entity '%1$s' with identifier '%2$s' after %3$d attempts;"
+					+ " the event was deleted from the outbox table and will not be processed again.")
+	String outboxEventAbandoned(String entityName, String documentId, int attempts);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 24,
+			value = "Indexing of events from the outbox table '%1$s' did not complete within %2$d ms;"
+					+ " shutting down anyway. Events that were not deleted will be processed again on the next startup.")
+	void outboxShutdownTimeout(String tableName, long timeout);
+
 }
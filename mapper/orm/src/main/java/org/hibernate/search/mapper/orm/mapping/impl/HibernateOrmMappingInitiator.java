@@ -17,6 +17,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.common.spi.LogErrorHandler;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -52,6 +54,12 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 					.asBeanReference( HibernateOrmSearchMappingConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<BeanReference<? extends ErrorHandler>> ERROR_HANDLER =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.ERROR_HANDLER )
+					.asBeanReference( ErrorHandler.class )
+					.withDefault( () -> BeanReference.ofInstance( new LogErrorHandler() ) )
+					.build();
+
 	public static HibernateOrmMappingInitiator create(Metadata metadata,
 			SessionFactoryImplementor sessionFactoryImplementor) {
 		HibernateOrmBootstrapIntrospector introspector =
@@ -66,6 +74,8 @@ public static HibernateOrmMappingInitiator create(Metadata metadata,
 	private final Metadata metadata;
 	private final HibernateOrmBootstrapIntrospector introspector;
 
+	private BeanHolder<? extends ErrorHandler> errorHandlerHolder;
+
 	private HibernateOrmMappingInitiator(Metadata metadata,
 			HibernateOrmBootstrapIntrospector introspector,
 			SessionFactoryImplementor sessionFactoryImplementor) {
@@ -122,6 +132,17 @@ public void configure(MappingBuildContext buildContext, ConfigurationPropertySou
 					}
 				} );
 
+		errorHandlerHolder = ERROR_HANDLER.get( propertySource ).getBean( beanProvider );
+
 		super.configure( buildContext, propertySource, configurationCollector );
 	}
+
+	/**
+	 * @return The holder of the handler for indexing failures that cannot be reported to the caller,
+	 * or {@code null} if this initiator was not configured yet.
+	 * The caller is responsible for closing the holder.
+	 */
+	public BeanHolder<? extends ErrorHandler> getErrorHandlerHolder() {
+		return errorHandlerHolder;
+	}
 }
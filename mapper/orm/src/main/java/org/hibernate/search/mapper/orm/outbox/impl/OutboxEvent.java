@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+/**
+ * A row of the outbox table: a reference to an entity that must be reindexed.
+ */
+public final class OutboxEvent {
+
+	private final long id;
+	private final String entityName;
+	private final String documentId;
+	private final String routingKey;
+	private final int attempts;
+
+	OutboxEvent(String entityName, String documentId, String routingKey) {
+		this( 0L, entityName, documentId, routingKey, 0 );
+	}
+
+	OutboxEvent(long id, String entityName, String documentId, String routingKey, int attempts) {
+		this.id = id;
+		this.entityName = entityName;
+		this.documentId = documentId;
+		this.routingKey = routingKey;
+		this.attempts = attempts;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[id=" + id + ", entityName=" + entityName
+				+ ", documentId=" + documentId + ", routingKey=" + routingKey + ", attempts=" + attempts + "]";
+	}
+
+	/**
+	 * @return The identifier of the row, or {@code 0} if it has not been persisted yet.
+	 */
+	public long getId() {
+		return id;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public String getDocumentId() {
+		return documentId;
+	}
+
+	public String getRoutingKey() {
+		return routingKey;
+	}
+
+	/**
+	 * @return The number of failed attempts at processing this event.
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+}
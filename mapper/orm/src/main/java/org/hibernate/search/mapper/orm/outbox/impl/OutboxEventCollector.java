@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
+
+/**
+ * Collects the entities to reindex in a given transaction,
+ * to write them to the outbox table before the transaction commits.
+ */
+public final class OutboxEventCollector implements PojoEntityReferenceCollector {
+
+	private final MetamodelImplementor metamodel;
+	private final OutboxTable table;
+
+	private final List<OutboxEvent> events = new ArrayList<>();
+
+	public OutboxEventCollector(MetamodelImplementor metamodel, OutboxTable table) {
+		this.metamodel = metamodel;
+		this.table = table;
+	}
+
+	@Override
+	public void collect(Class<?> indexedType, String documentIdentifier, String routingKey) {
+		String entityName = metamodel.entityPersister( indexedType ).getEntityName();
+		events.add( new OutboxEvent( entityName, documentIdentifier, routingKey ) );
+	}
+
+	/**
+	 * Write the collected events to the outbox table, in the current transaction of the given session.
+	 *
+	 * @param sessionImplementor The session whose changes triggered the events.
+	 */
+	public void writeTo(SessionImplementor sessionImplementor) {
+		if ( events.isEmpty() ) {
+			return;
+		}
+		try {
+			sessionImplementor.doWork( connection -> table.insert( connection, events ) );
+		}
+		finally {
+			events.clear();
+		}
+	}
+}
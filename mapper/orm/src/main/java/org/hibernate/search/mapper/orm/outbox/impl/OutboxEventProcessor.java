@@ -0,0 +1,380 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.session.spi.HibernateOrmSearchManager;
+import org.hibernate.search.mapper.pojo.work.spi.PojoDocumentWorkPlan;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Polls the outbox table in the background and reindexes the entities it references.
+ * <p>
+ * Events are processed in batches:
+ * repeated events for the same entity within a batch are coalesced,
+ * entities are loaded from the database in bulk,
+ * then reindexed if they still exist or deleted from the index if they don't.
+ * <p>
+ * Identifiers are assigned when events are inserted, not when their transaction commits,
+ * so an event may become visible after events with a higher identifier were processed.
+ * Thus, there is no cursor: each poll scans the table from the lowest identifier,
+ * skipping events that are already being processed.
+ * Events for an entity that is being indexed by another batch are left in the table until that batch completes,
+ * so that the entity is reloaded, and its latest state indexed, after that batch.
+ * <p>
+ * Events are deleted from the table only once the backend acknowledged the corresponding works,
+ * so that events are processed again after a crash, an indexing failure or a failure to delete them.
+ * At most {@code maxConcurrency} batches are being indexed at any given time.
+ * <p>
+ * When processing a batch fails, the number of attempts of each of its events is incremented,
+ * and each event is then processed again in its own batch,
+ * so that a single failing event does not prevent other events from being processed.
+ * Once an event reaches {@code maxAttempts}, it is deleted from the table and reported to the error handler.
+ */
+public final class OutboxEventProcessor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long SHUTDOWN_TIMEOUT_MS = 30_000L;
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final HibernateOrmMapping mapping;
+	private final OutboxTable table;
+	private final int pollingInterval;
+	private final int batchSize;
+	private final int maxConcurrency;
+	private final int maxAttempts;
+	private final ErrorHandler errorHandler;
+
+	private final Semaphore batchPermits;
+	private final AtomicBoolean pollScheduled = new AtomicBoolean( false );
+	private final ScheduledExecutorService executor;
+
+	private volatile boolean stopped = false;
+
+	/*
+	 * The events being processed, by identifier:
+	 * from the moment they are polled to the moment their batch completes and they are deleted from the table.
+	 */
+	private final Map<Long, OutboxEvent> inFlightEvents = new ConcurrentHashMap<>();
+
+	public OutboxEventProcessor(SessionFactoryImplementor sessionFactory, HibernateOrmMapping mapping,
+			OutboxTable table, int pollingInterval, int batchSize, int maxConcurrency, int maxAttempts,
+			ErrorHandler errorHandler) {
+		this.sessionFactory = sessionFactory;
+		this.mapping = mapping;
+		this.table = table;
+		this.pollingInterval = pollingInterval;
+		this.batchSize = batchSize;
+		this.maxConcurrency = maxConcurrency;
+		this.maxAttempts = maxAttempts;
+		this.errorHandler = errorHandler;
+		this.batchPermits = new Semaphore( maxConcurrency );
+		this.executor = Executors.newScheduledThreadPool( "Hibernate Search outbox processor - " + table.getName() );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[table=" + table + "]";
+	}
+
+	/**
+	 * @return A collector for the events of a new transaction.
+	 */
+	public OutboxEventCollector createEventCollector() {
+		return new OutboxEventCollector( sessionFactory.getMetamodel(), table );
+	}
+
+	public void start() {
+		executor.scheduleWithFixedDelay( this::poll, 0L, pollingInterval, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * Poll the table as soon as possible, without waiting for the polling interval to elapse.
+	 */
+	public void wakeUp() {
+		if ( !stopped && pollScheduled.compareAndSet( false, true ) ) {
+			executor.execute( this::poll );
+		}
+	}
+
+	@Override
+	public void close() {
+		stopped = true;
+		try {
+			// Wait for in-flight batches, so that their events get deleted from the table
+			if ( !batchPermits.tryAcquire( maxConcurrency, SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS ) ) {
+				log.outboxShutdownTimeout( table.getName(), SHUTDOWN_TIMEOUT_MS );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void poll() {
+		pollScheduled.set( false );
+		try {
+			List<OutboxEvent> events;
+			do {
+				if ( stopped || !batchPermits.tryAcquire() ) {
+					// Completion of an in-flight batch will trigger a new poll
+					return;
+				}
+				events = pollBatch();
+				if ( events.isEmpty() ) {
+					batchPermits.release();
+					return;
+				}
+				processBatch( events );
+			}
+			// Retried events are processed alone: there may be more events to process
+			while ( events.size() == batchSize || events.get( 0 ).getAttempts() > 0 );
+		}
+		catch (RuntimeException e) {
+			// Do not propagate the exception: it would cancel the scheduled polling
+			errorHandler.handleException( log.outboxProcessingFailure(), e );
+		}
+	}
+
+	private List<OutboxEvent> pollBatch() {
+		List<OutboxEvent> candidates;
+		try {
+			// In-flight events are still in the table: skip them, but still fill the batch if possible
+			int maxResults = batchSize + inFlightEvents.size();
+			candidates = inTransaction( connection -> table.poll( connection, maxResults ) );
+		}
+		catch (RuntimeException e) {
+			batchPermits.release();
+			throw e;
+		}
+
+		Map<String, Set<String>> inFlightDocumentIdsByEntityName = new HashMap<>();
+		for ( OutboxEvent event : inFlightEvents.values() ) {
+			inFlightDocumentIdsByEntityName.computeIfAbsent( event.getEntityName(), ignored -> new HashSet<>() )
+					.add( event.getDocumentId() );
+		}
+		List<OutboxEvent> events = new ArrayList<>();
+		for ( OutboxEvent candidate : candidates ) {
+			if ( events.size() == batchSize ) {
+				break;
+			}
+			if ( inFlightEvents.containsKey( candidate.getId() ) ) {
+				continue;
+			}
+			Set<String> inFlightDocumentIds = inFlightDocumentIdsByEntityName.get( candidate.getEntityName() );
+			if ( inFlightDocumentIds != null && inFlightDocumentIds.contains( candidate.getDocumentId() ) ) {
+				// Another batch is indexing this entity: wait for it to complete
+				continue;
+			}
+			if ( candidate.getAttempts() > 0 ) {
+				// Events that failed before are processed alone, so that they cannot make other events fail
+				if ( events.isEmpty() ) {
+					events.add( candidate );
+					break;
+				}
+				continue;
+			}
+			events.add( candidate );
+		}
+		for ( OutboxEvent event : events ) {
+			inFlightEvents.put( event.getId(), event );
+		}
+		return events;
+	}
+
+	private void processBatch(List<OutboxEvent> events) {
+		CompletableFuture<?> future;
+		try {
+			future = index( events );
+		}
+		catch (RuntimeException | Error e) {
+			/*
+			 * Always complete the batch, so that its permit is released.
+			 * Complete it after the current poll, so that failed events are not retried right away.
+			 */
+			completeBatch( events, e );
+			return;
+		}
+		future.whenComplete( Futures.handler( (Object result, Throwable throwable) -> completeBatch( events, throwable ) ) );
+	}
+
+	private void completeBatch(List<OutboxEvent> events, Throwable throwable) {
+		if ( stopped ) {
+			// The executor may be shutting down: complete the batch in the current thread
+			onBatchCompleted( events, throwable );
+		}
+		else {
+			executor.execute( () -> onBatchCompleted( events, throwable ) );
+		}
+	}
+
+	private CompletableFuture<?> index(List<OutboxEvent> events) {
+		// Coalesce repeated events for the same entity, keeping the last routing key
+		Map<String, Map<String, OutboxEvent>> eventsByEntityName = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			eventsByEntityName.computeIfAbsent( event.getEntityName(), ignored -> new LinkedHashMap<>() )
+					.put( event.getDocumentId(), event );
+		}
+
+		try ( Session session = sessionFactory.openSession() ) {
+			session.setDefaultReadOnly( true );
+			Transaction transaction = session.beginTransaction();
+			try {
+				HibernateOrmSearchManager searchManager = mapping.createSearchManager( session );
+				PojoDocumentWorkPlan workPlan = searchManager.createDocumentWorkPlan( DocumentRefreshStrategy.DEFAULT );
+				for ( Map.Entry<String, Map<String, OutboxEvent>> entry : eventsByEntityName.entrySet() ) {
+					Class<?> indexedType = sessionFactory.getMetamodel().entityPersister( entry.getKey() ).getMappedClass();
+					addWorks( session, workPlan, indexedType, entry.getValue().values() );
+				}
+				// ORM sessions never defer document building: documents are built while the session is still open
+				CompletableFuture<?> future = workPlan.execute();
+				transaction.commit();
+				return future;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+
+	private void addWorks(Session session, PojoDocumentWorkPlan workPlan, Class<?> indexedType,
+			Collection<OutboxEvent> events) {
+		List<Serializable> ids = new ArrayList<>( events.size() );
+		for ( OutboxEvent event : events ) {
+			ids.add( (Serializable) workPlan.toEntityIdentifier( indexedType, event.getDocumentId() ) );
+		}
+		List<?> entities = session.byMultipleIds( indexedType )
+				.withBatchSize( batchSize )
+				.multiLoad( ids );
+		int i = 0;
+		for ( OutboxEvent event : events ) {
+			Object entity = entities.get( i );
+			if ( entity != null ) {
+				workPlan.update( ids.get( i ), entity );
+			}
+			else {
+				workPlan.delete( indexedType, event.getDocumentId(), event.getRoutingKey() );
+			}
+			++i;
+		}
+	}
+
+	private void onBatchCompleted(List<OutboxEvent> events, Throwable throwable) {
+		boolean deleted = false;
+		try {
+			Throwable failure = throwable;
+			if ( failure == null ) {
+				try {
+					inTransaction( connection -> {
+						table.delete( connection, events );
+						return null;
+					} );
+					deleted = true;
+				}
+				catch (RuntimeException e) {
+					failure = e;
+				}
+			}
+			if ( failure != null ) {
+				errorHandler.handleException( log.outboxProcessingFailure(), failure );
+				onBatchFailed( events, failure );
+			}
+		}
+		catch (RuntimeException e) {
+			errorHandler.handleException( log.outboxProcessingFailure(), e );
+		}
+		finally {
+			// Events that were not deleted will be processed again on a later poll
+			for ( OutboxEvent event : events ) {
+				inFlightEvents.remove( event.getId() );
+			}
+			batchPermits.release();
+			if ( deleted ) {
+				wakeUp();
+			}
+			// else: wait for the next scheduled poll before trying again
+		}
+	}
+
+	private void onBatchFailed(List<OutboxEvent> events, Throwable failure) {
+		List<OutboxEvent> retriedEvents = new ArrayList<>();
+		List<OutboxEvent> abandonedEvents = new ArrayList<>();
+		for ( OutboxEvent event : events ) {
+			if ( event.getAttempts() + 1 < maxAttempts ) {
+				retriedEvents.add( event );
+			}
+			else {
+				abandonedEvents.add( event );
+			}
+		}
+		inTransaction( connection -> {
+			if ( !retriedEvents.isEmpty() ) {
+				table.incrementAttempts( connection, retriedEvents );
+			}
+			if ( !abandonedEvents.isEmpty() ) {
+				table.delete( connection, abandonedEvents );
+			}
+			return null;
+		} );
+		for ( OutboxEvent event : abandonedEvents ) {
+			errorHandler.handleException(
+					log.outboxEventAbandoned( event.getEntityName(), event.getDocumentId(), event.getAttempts() + 1 ),
+					failure
+			);
+		}
+	}
+
+	private <T> T inTransaction(ReturningWork<T> work) {
+		try ( Session session = sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				T result = session.doReturningWork( work );
+				transaction.commit();
+				return result;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.identity.IdentityColumnSupport;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * The SQL operations on the outbox table.
+ * <p>
+ * Rows are identified by an identity column, so that they can be processed
+ * roughly in the order they were inserted.
+ * Identity values are assigned on insert, not on commit: rows do not necessarily become visible in that order.
+ * <p>
+ * Rows also hold the number of failed attempts at processing them.
+ */
+public final class OutboxTable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String ID = "ID";
+	private static final String ENTITY_NAME = "ENTITY_NAME";
+	private static final String DOCUMENT_ID = "DOCUMENT_ID";
+	private static final String ROUTING_KEY = "ROUTING_KEY";
+	private static final String ATTEMPTS = "ATTEMPTS";
+
+	private static final int STRING_COLUMN_LENGTH = 255;
+
+	private final String name;
+	private final String insertSql;
+	private final String selectSql;
+	private final String updateAttemptsSql;
+	private final String deleteSql;
+
+	public OutboxTable(String name) {
+		this.name = name;
+		this.insertSql = "insert into " + name + " (" + ENTITY_NAME + ", " + DOCUMENT_ID + ", " + ROUTING_KEY + ")"
+				+ " values (?, ?, ?)";
+		this.selectSql = "select " + ID + ", " + ENTITY_NAME + ", " + DOCUMENT_ID + ", " + ROUTING_KEY + ", " + ATTEMPTS
+				+ " from " + name + " order by " + ID;
+		this.updateAttemptsSql = "update " + name + " set " + ATTEMPTS + " = ? where " + ID + " = ?";
+		this.deleteSql = "delete from " + name + " where " + ID + " = ?";
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[name=" + name + "]";
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void createIfAbsent(Connection connection, Dialect dialect) throws SQLException {
+		if ( exists( connection ) ) {
+			return;
+		}
+
+		IdentityColumnSupport identityColumnSupport = dialect.getIdentityColumnSupport();
+		if ( !identityColumnSupport.supportsIdentityColumns() ) {
+			throw log.outboxIdentityColumnsNotSupported( dialect.toString() );
+		}
+		String idColumnDefinition = identityColumnSupport.getIdentityColumnString( Types.BIGINT );
+		if ( identityColumnSupport.hasDataTypeInIdentityColumn() ) {
+			idColumnDefinition = dialect.getTypeName( Types.BIGINT ) + " " + idColumnDefinition;
+		}
+		String stringType = dialect.getTypeName( Types.VARCHAR, STRING_COLUMN_LENGTH, 0, 0 );
+
+		String sql = dialect.getCreateTableString() + " " + name + " ("
+				+ ID + " " + idColumnDefinition + ", "
+				+ ENTITY_NAME + " " + stringType + " not null, "
+				+ DOCUMENT_ID + " " + stringType + " not null, "
+				+ ROUTING_KEY + " " + stringType + ", "
+				+ ATTEMPTS + " " + dialect.getTypeName( Types.INTEGER ) + " default 0 not null, "
+				+ "primary key (" + ID + "))";
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( sql );
+		}
+	}
+
+	void insert(Connection connection, List<OutboxEvent> events) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( insertSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setString( 1, event.getEntityName() );
+				statement.setString( 2, event.getDocumentId() );
+				statement.setString( 3, event.getRoutingKey() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * @param connection A JDBC connection.
+	 * @param maxResults The maximum number of events to return.
+	 * @return The events with the lowest identifiers, ordered by identifier.
+	 * @throws SQLException If the table cannot be accessed.
+	 */
+	List<OutboxEvent> poll(Connection connection, int maxResults) throws SQLException {
+		List<OutboxEvent> events = new ArrayList<>();
+		try ( PreparedStatement statement = connection.prepareStatement( selectSql ) ) {
+			statement.setMaxRows( maxResults );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				while ( resultSet.next() ) {
+					events.add( new OutboxEvent(
+							resultSet.getLong( 1 ), resultSet.getString( 2 ),
+							resultSet.getString( 3 ), resultSet.getString( 4 ),
+							resultSet.getInt( 5 )
+					) );
+				}
+			}
+		}
+		return events;
+	}
+
+	/**
+	 * @param connection A JDBC connection.
+	 * @param events The events whose processing failed.
+	 * @throws SQLException If the table cannot be accessed.
+	 */
+	void incrementAttempts(Connection connection, List<OutboxEvent> events) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( updateAttemptsSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setInt( 1, event.getAttempts() + 1 );
+				statement.setLong( 2, event.getId() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	void delete(Connection connection, List<OutboxEvent> events) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( deleteSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setLong( 1, event.getId() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private boolean exists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		// Unquoted identifiers may be stored in any case depending on the database
+		String[] candidates = new String[] { name, name.toUpperCase( Locale.ROOT ), name.toLowerCase( Locale.ROOT ) };
+		for ( String candidate : candidates ) {
+			try ( ResultSet resultSet = metaData.getTables( null, null, candidate, new String[] { "TABLE" } ) ) {
+				if ( resultSet.next() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
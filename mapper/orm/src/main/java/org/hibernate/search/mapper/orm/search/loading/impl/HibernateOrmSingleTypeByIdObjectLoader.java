@@ -11,15 +11,23 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.hibernate.MultiIdentifierLoadAccess;
-import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 
+/**
+ * Loads entities of a given type (or of any of its subtypes) by ID.
+ * <p>
+ * Entities already present in the persistence context or in the second-level cache
+ * are retrieved from there, and only the remaining ones are loaded from the database,
+ * with the fetch profiles from the loading options enabled.
+ */
 class HibernateOrmSingleTypeByIdObjectLoader<O, T> implements HibernateOrmComposableObjectLoader<PojoReference, T> {
-	private final Session session;
+	private final SessionImplementor session;
 	private final Class<O> entityType;
 	private final MutableObjectLoadingOptions loadingOptions;
 	private final Function<? super O, T> hitTransformer;
@@ -27,7 +35,7 @@
 	private MultiIdentifierLoadAccess<O> multiAccess;
 
 	public HibernateOrmSingleTypeByIdObjectLoader(
-			Session session,
+			SessionImplementor session,
 			Class<O> entityType,
 			MutableObjectLoadingOptions loadingOptions,
 			Function<? super O, T> hitTransformer) {
@@ -65,14 +73,38 @@ private List<O> loadEntities(List<PojoReference> references) {
 			ids.add( (Serializable) reference.getId() );
 		}
 
-		return getMultiAccess().multiLoad( ids );
+		Set<String> fetchProfileNames = loadingOptions.getFetchProfileNames();
+		if ( fetchProfileNames.isEmpty() ) {
+			return getMultiAccess().multiLoad( ids );
+		}
+
+		List<String> enabledFetchProfileNames = new ArrayList<>( fetchProfileNames.size() );
+		try {
+			for ( String fetchProfileName : fetchProfileNames ) {
+				if ( !session.isFetchProfileEnabled( fetchProfileName ) ) {
+					session.enableFetchProfile( fetchProfileName );
+					enabledFetchProfileNames.add( fetchProfileName );
+				}
+			}
+			return getMultiAccess().multiLoad( ids );
+		}
+		finally {
+			// Leave the session as we found it
+			for ( String fetchProfileName : enabledFetchProfileNames ) {
+				session.disableFetchProfile( fetchProfileName );
+			}
+		}
 	}
 
 	private MultiIdentifierLoadAccess<O> getMultiAccess() {
 		if ( multiAccess == null ) {
-			multiAccess = session.byMultipleIds( entityType );
+			multiAccess = session.byMultipleIds( entityType )
+					// Only hit the database for entities that are neither in the session nor in the 2nd level cache
+					.enableSessionCheck( true );
 		}
-		multiAccess.withBatchSize( loadingOptions.getFetchSize() );
+		multiAccess.withBatchSize( loadingOptions.getFetchSize() )
+				// The 2nd level cache is only checked if a cache mode is set explicitly
+				.with( session.getCacheMode() );
 		return multiAccess;
 	}
 }
@@ -6,8 +6,13 @@
  */
 package org.hibernate.search.mapper.orm.search.loading.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 public class MutableObjectLoadingOptions {
 	private int fetchSize;
+	private final Set<String> fetchProfileNames = new LinkedHashSet<>();
 
 	public int getFetchSize() {
 		return fetchSize;
@@ -19,4 +24,12 @@ public void setFetchSize(int fetchSize) {
 		}
 		this.fetchSize = fetchSize;
 	}
+
+	public Set<String> getFetchProfileNames() {
+		return Collections.unmodifiableSet( fetchProfileNames );
+	}
+
+	public void enableFetchProfile(String fetchProfileName) {
+		fetchProfileNames.add( fetchProfileName );
+	}
 }
@@ -7,20 +7,23 @@
 package org.hibernate.search.mapper.orm.search.loading.impl;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
-import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
 
 public class ObjectLoaderBuilder<O> {
 
-	private final Session session;
+	private final SessionImplementor session;
 	private final Set<Class<? extends O>> concreteIndexedClasses;
 
-	public ObjectLoaderBuilder(Session session, Set<Class<? extends O>> concreteIndexedClasses) {
+	public ObjectLoaderBuilder(SessionImplementor session, Set<Class<? extends O>> concreteIndexedClasses) {
 		this.session = session;
 		this.concreteIndexedClasses = concreteIndexedClasses;
 	}
@@ -51,17 +54,50 @@ private <T> HibernateOrmComposableObjectLoader<PojoReference, T> buildForSingleT
 	private <T> ObjectLoader<PojoReference, T> buildForMultipleTypes(
 			MutableObjectLoadingOptions mutableLoadingOptions, Function<? super O, T> hitTransformer) {
 		/*
-		 * TODO Group together entity types from a same hierarchy, so as to optimize loads
+		 * Group together entity types from a same hierarchy, so as to optimize loads
 		 * (one query per entity hierarchy, and not one query per index).
 		 */
+		Map<Class<?>, Set<Class<? extends O>>> concreteIndexedClassesByRootClass = new LinkedHashMap<>();
+		for ( Class<? extends O> concreteIndexedClass : concreteIndexedClasses ) {
+			concreteIndexedClassesByRootClass.computeIfAbsent( getRootEntityClass( concreteIndexedClass ), ignored -> new LinkedHashSet<>() )
+					.add( concreteIndexedClass );
+		}
+
 		Map<Class<? extends O>, HibernateOrmComposableObjectLoader<PojoReference, ? extends T>> delegateByConcreteType =
 				new HashMap<>( concreteIndexedClasses.size() );
-		for ( Class<? extends O> concreteIndexedClass : concreteIndexedClasses ) {
-			HibernateOrmComposableObjectLoader<PojoReference, T> delegate =
-					buildForSingleType( mutableLoadingOptions, concreteIndexedClass, hitTransformer );
-			delegateByConcreteType.put( concreteIndexedClass, delegate );
+		for ( Map.Entry<Class<?>, Set<Class<? extends O>>> entry : concreteIndexedClassesByRootClass.entrySet() ) {
+			Set<Class<? extends O>> concreteIndexedClassesInHierarchy = entry.getValue();
+			HibernateOrmComposableObjectLoader<PojoReference, T> delegate;
+			if ( concreteIndexedClassesInHierarchy.size() == 1 ) {
+				delegate = buildForSingleType( mutableLoadingOptions, concreteIndexedClassesInHierarchy.iterator().next(), hitTransformer );
+			}
+			else {
+				delegate = buildForHierarchy( mutableLoadingOptions, entry.getKey(), hitTransformer );
+			}
+			for ( Class<? extends O> concreteIndexedClass : concreteIndexedClassesInHierarchy ) {
+				delegateByConcreteType.put( concreteIndexedClass, delegate );
+			}
 		}
 		return new HibernateOrmByTypeObjectLoader<>( delegateByConcreteType );
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> HibernateOrmComposableObjectLoader<PojoReference, T> buildForHierarchy(
+			MutableObjectLoadingOptions mutableLoadingOptions, Class<?> rootEntityClass,
+			Function<? super O, T> hitTransformer) {
+		/*
+		 * The root entity class is not necessarily a subtype of O,
+		 * but loaded entities are instances of the concrete classes referenced in search hits,
+		 * which are all subtypes of O.
+		 */
+		return new HibernateOrmSingleTypeByIdObjectLoader<>( session, rootEntityClass, mutableLoadingOptions,
+				(Function<Object, T>) hitTransformer );
+	}
+
+	private Class<?> getRootEntityClass(Class<?> entityClass) {
+		MetamodelImplementor metamodel = session.getFactory().getMetamodel();
+		String rootEntityName = metamodel.entityPersister( entityClass ).getRootEntityName();
+		return metamodel.entityPersister( rootEntityName ).getMappedClass();
+	}
+
 }
@@ -37,6 +37,12 @@ public String getTenantIdentifier() {
 		return sessionImplementor.getTenantIdentifier();
 	}
 
+	@Override
+	public boolean isDeferredDocumentBuildingAllowed() {
+		// Building documents may initialize lazy associations, which requires the session, in its own thread
+		return false;
+	}
+
 	@Override
 	public PojoRuntimeIntrospector getRuntimeIntrospector() {
 		return runtimeIntrospector;
@@ -10,12 +10,17 @@
 import java.util.Collections;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
 import org.hibernate.search.mapper.orm.search.impl.HibernateOrmSearchTargetImpl;
 import org.hibernate.search.mapper.orm.search.spi.HibernateOrmSearchTarget;
 import org.hibernate.search.mapper.orm.session.spi.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.session.spi.HibernateOrmSearchManagerBuilder;
 import org.hibernate.search.mapper.orm.mapping.context.impl.HibernateOrmMappingContextImpl;
 import org.hibernate.search.mapper.orm.session.context.impl.HibernateOrmSessionContextImpl;
+import org.hibernate.search.mapper.pojo.work.spi.PojoDocumentWorkPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.session.spi.AbstractPojoSearchManager;
@@ -26,10 +31,12 @@
 public class HibernateOrmSearchManagerImpl extends AbstractPojoSearchManager
 		implements HibernateOrmSearchManager {
 	private final SessionImplementor sessionImplementor;
+	private volatile HibernateOrmSynchronizationStrategyName synchronizationStrategy;
 
 	private HibernateOrmSearchManagerImpl(HibernateOrmSearchManagerBuilderImpl builder) {
 		super( builder );
 		this.sessionImplementor = builder.sessionImplementor;
+		this.synchronizationStrategy = builder.synchronizationStrategy;
 	}
 
 	@Override
@@ -53,15 +60,42 @@ public PojoWorkPlan createWorkPlan() {
 		return getDelegate().createWorkPlan();
 	}
 
+	@Override
+	public PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		return getDelegate().createWorkPlan( refreshStrategy );
+	}
+
+	@Override
+	public PojoWorkPlan createWorkPlan(PojoEntityReferenceCollector collector) {
+		return getDelegate().createWorkPlan( collector );
+	}
+
+	@Override
+	public PojoDocumentWorkPlan createDocumentWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		return getDelegate().createDocumentWorkPlan( refreshStrategy );
+	}
+
 	@Override
 	public PojoSessionWorkExecutor createSessionWorkExecutor() {
 		return getDelegate().createSessionWorkExecutor();
 	}
 
+	@Override
+	public HibernateOrmSynchronizationStrategyName getSynchronizationStrategy() {
+		return synchronizationStrategy;
+	}
+
+	@Override
+	public void setSynchronizationStrategy(HibernateOrmSynchronizationStrategyName synchronizationStrategy) {
+		this.synchronizationStrategy = synchronizationStrategy;
+	}
+
 	public static class HibernateOrmSearchManagerBuilderImpl extends AbstractBuilder<HibernateOrmSearchManagerImpl>
 			implements HibernateOrmSearchManagerBuilder {
 		private final HibernateOrmMappingContextImpl mappingContext;
 		private final SessionImplementor sessionImplementor;
+		private HibernateOrmSynchronizationStrategyName synchronizationStrategy =
+				HibernateOrmMapperSettings.Defaults.SYNCHRONIZATION_STRATEGY;
 
 		public HibernateOrmSearchManagerBuilderImpl(PojoMappingDelegate mappingDelegate,
 				HibernateOrmMappingContextImpl mappingContext,
@@ -71,6 +105,13 @@ public HibernateOrmSearchManagerBuilderImpl(PojoMappingDelegate mappingDelegate,
 			this.sessionImplementor = sessionImplementor;
 		}
 
+		@Override
+		public HibernateOrmSearchManagerBuilderImpl synchronizationStrategy(
+				HibernateOrmSynchronizationStrategyName synchronizationStrategy) {
+			this.synchronizationStrategy = synchronizationStrategy;
+			return this;
+		}
+
 		@Override
 		protected AbstractPojoSessionContextImplementor buildSessionContext() {
 			return new HibernateOrmSessionContextImpl( mappingContext, sessionImplementor );
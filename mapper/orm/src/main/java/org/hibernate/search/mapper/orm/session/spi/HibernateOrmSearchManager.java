@@ -8,7 +8,11 @@
 
 import java.util.Collection;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
 import org.hibernate.search.mapper.orm.search.spi.HibernateOrmSearchTarget;
+import org.hibernate.search.mapper.pojo.work.spi.PojoDocumentWorkPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoSessionWorkExecutor;
 
@@ -28,6 +32,28 @@ public interface HibernateOrmSearchManager extends AutoCloseable {
 	 */
 	PojoWorkPlan createWorkPlan();
 
+	/**
+	 * @param refreshStrategy How the index should be refreshed once works are executed.
+	 * @return A new work plan for this manager; see {@link #createWorkPlan()}.
+	 */
+	PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy);
+
+	/**
+	 * @param collector A collector for references to the indexed entities that must be reindexed or deleted.
+	 * @return A new work plan for this manager, passing references to the given collector instead of indexing.
+	 */
+	PojoWorkPlan createWorkPlan(PojoEntityReferenceCollector collector);
+
+	/**
+	 * @param refreshStrategy How the index should be refreshed once works are executed.
+	 * @return A new work plan for this manager, to process references collected through a {@link PojoEntityReferenceCollector}.
+	 */
+	PojoDocumentWorkPlan createDocumentWorkPlan(DocumentRefreshStrategy refreshStrategy);
+
 	PojoSessionWorkExecutor createSessionWorkExecutor();
 
+	HibernateOrmSynchronizationStrategyName getSynchronizationStrategy();
+
+	void setSynchronizationStrategy(HibernateOrmSynchronizationStrategyName synchronizationStrategy);
+
 }
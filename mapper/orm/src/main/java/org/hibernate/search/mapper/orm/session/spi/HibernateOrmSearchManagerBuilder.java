@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.mapper.orm.session.spi;
 
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmSynchronizationStrategyName;
+
 public interface HibernateOrmSearchManagerBuilder {
 
+	HibernateOrmSearchManagerBuilder synchronizationStrategy(HibernateOrmSynchronizationStrategyName synchronizationStrategy);
+
 	// TODO other options (default query timeout, default query hints, ...)
 
 	HibernateOrmSearchManager build();
@@ -8,8 +8,10 @@
 package org.hibernate.search.mapper.pojo.logging.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeContext;
@@ -322,4 +324,14 @@ SearchException invalidFieldEncodingForKeywordFieldMapping(StandardIndexFieldTyp
 	)
 	SearchException invalidContainerExtractorReferencingBothBuiltinExtractorAndExplicitType(@FormatWith(EnumFormatter.class) BuiltinContainerExtractor value,
 			@FormatWith(ClassFormatter.class) Class<? extends ContainerExtractor> type);
+
+	@Message(id = ID_OFFSET_2 + 43,
+			value = "Type '%1$s' cannot be used as a DTO projection: it must declare exactly one constructor"
+					+ " whose parameters are all annotated with @ProjectionField, but found: %2$s."
+	)
+	SearchException invalidDtoProjectionConstructors(@FormatWith(ClassFormatter.class) Class<?> dtoType,
+			List<Constructor<?>> candidates);
+
+	@Message(id = ID_OFFSET_2 + 44, value = "Unable to access DTO projection constructor '%1$s'.")
+	SearchException inaccessibleDtoProjectionConstructor(Constructor<?> constructor, @Cause Exception e);
 }
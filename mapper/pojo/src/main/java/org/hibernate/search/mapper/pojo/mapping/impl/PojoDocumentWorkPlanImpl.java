@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoDocumentWorkPlan;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+class PojoDocumentWorkPlanImpl implements PojoDocumentWorkPlan {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
+	private final AbstractPojoSessionContextImplementor sessionContext;
+	private final DocumentRefreshStrategy refreshStrategy;
+
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<Class<?>, PojoIndexedTypeDocumentWorkPlan<?, ?, ?>> delegates = new LinkedHashMap<>();
+
+	PojoDocumentWorkPlanImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
+			AbstractPojoSessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		this.indexedTypeManagers = indexedTypeManagers;
+		this.sessionContext = sessionContext;
+		this.refreshStrategy = refreshStrategy;
+	}
+
+	@Override
+	public Object toEntityIdentifier(Class<?> indexedType, String documentIdentifier) {
+		return getDelegate( indexedType ).toEntityIdentifier( documentIdentifier );
+	}
+
+	@Override
+	public void update(Object id, Object entity) {
+		Class<?> clazz = sessionContext.getRuntimeIntrospector().getClass( entity );
+		getDelegate( clazz ).update( id, entity );
+	}
+
+	@Override
+	public void delete(Class<?> indexedType, String documentIdentifier, String routingKey) {
+		getDelegate( indexedType ).delete( documentIdentifier, routingKey );
+	}
+
+	@Override
+	public CompletableFuture<?> execute() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( PojoIndexedTypeDocumentWorkPlan<?, ?, ?> delegate : delegates.values() ) {
+			futures.add( delegate.execute() );
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) );
+	}
+
+	private PojoIndexedTypeDocumentWorkPlan<?, ?, ?> getDelegate(Class<?> clazz) {
+		PojoIndexedTypeDocumentWorkPlan<?, ?, ?> delegate = delegates.get( clazz );
+		if ( delegate == null ) {
+			PojoIndexedTypeManager<?, ?, ?> typeManager = indexedTypeManagers.getByExactClass( clazz )
+					.orElseThrow( () -> log.notDirectlyIndexedType( clazz ) );
+			delegate = typeManager.createDocumentWorkPlan( sessionContext, refreshStrategy );
+			delegates.put( clazz, delegate );
+		}
+		return delegate;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
+
+/**
+ * An index work plan that passes document references to a {@link PojoEntityReferenceCollector}
+ * instead of indexing: documents are never built.
+ *
+ * @param <D> The document type for the index.
+ */
+class PojoEntityReferenceCollectingIndexWorkPlan<D extends DocumentElement> implements IndexWorkPlan<D> {
+
+	private final Class<?> indexedType;
+	private final PojoEntityReferenceCollector collector;
+
+	PojoEntityReferenceCollectingIndexWorkPlan(Class<?> indexedType, PojoEntityReferenceCollector collector) {
+		this.indexedType = indexedType;
+		this.collector = collector;
+	}
+
+	@Override
+	public void add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor) {
+		collect( documentReferenceProvider );
+	}
+
+	@Override
+	public void update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor) {
+		collect( documentReferenceProvider );
+	}
+
+	@Override
+	public void delete(DocumentReferenceProvider documentReferenceProvider) {
+		collect( documentReferenceProvider );
+	}
+
+	@Override
+	public void prepare() {
+		// Nothing to do: references are collected as soon as works are added
+	}
+
+	@Override
+	public CompletableFuture<?> execute() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	private void collect(DocumentReferenceProvider documentReferenceProvider) {
+		collector.collect(
+				indexedType, documentReferenceProvider.getIdentifier(), documentReferenceProvider.getRoutingKey()
+		);
+	}
+}
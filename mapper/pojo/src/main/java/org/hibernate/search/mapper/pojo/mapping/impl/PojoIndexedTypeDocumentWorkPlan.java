@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
+
+/**
+ * @param <I> The identifier type for the mapped entity type.
+ * @param <E> The entity type mapped to the index.
+ * @param <D> The document type for the index.
+ */
+class PojoIndexedTypeDocumentWorkPlan<I, E, D extends DocumentElement> {
+
+	private final PojoIndexedTypeManager<I, E, D> typeManager;
+	private final AbstractPojoSessionContextImplementor sessionContext;
+	private final IndexWorkPlan<D> delegate;
+
+	PojoIndexedTypeDocumentWorkPlan(PojoIndexedTypeManager<I, E, D> typeManager,
+			AbstractPojoSessionContextImplementor sessionContext, IndexWorkPlan<D> delegate) {
+		this.typeManager = typeManager;
+		this.sessionContext = sessionContext;
+		this.delegate = delegate;
+	}
+
+	I toEntityIdentifier(String documentIdentifier) {
+		return typeManager.getIdentifierMapping().fromDocumentIdentifier( documentIdentifier, sessionContext );
+	}
+
+	void update(Object providedId, Object entity) {
+		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
+		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		delegate.update(
+				typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier ),
+				typeManager.toDocumentContributor( entitySupplier, sessionContext )
+		);
+	}
+
+	void delete(String documentIdentifier, String routingKey) {
+		delegate.delete( new StaticDocumentReferenceProvider( documentIdentifier, routingKey ) );
+	}
+
+	CompletableFuture<?> execute() {
+		return delegate.execute();
+	}
+
+	private static final class StaticDocumentReferenceProvider implements DocumentReferenceProvider {
+		private final String identifier;
+		private final String routingKey;
+
+		private StaticDocumentReferenceProvider(String identifier, String routingKey) {
+			this.identifier = identifier;
+			this.routingKey = routingKey;
+		}
+
+		@Override
+		public String getIdentifier() {
+			return identifier;
+		}
+
+		@Override
+		public String getRoutingKey() {
+			return routingKey;
+		}
+	}
+}
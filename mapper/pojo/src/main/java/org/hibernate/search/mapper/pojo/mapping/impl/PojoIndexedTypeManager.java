@@ -11,6 +11,7 @@
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexSearchTargetBuilder;
@@ -23,6 +24,7 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.ToStringTreeAppendable;
 import org.hibernate.search.util.impl.common.ToStringTreeBuilder;
@@ -129,9 +131,24 @@ void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntr
 		);
 	}
 
-	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(AbstractPojoSessionContextImplementor sessionContext) {
+	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(AbstractPojoSessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
 		return new PojoIndexedTypeWorkPlan<>(
-				this, sessionContext, indexManager.createWorkPlan( sessionContext )
+				this, sessionContext, indexManager.createWorkPlan( sessionContext, refreshStrategy )
+		);
+	}
+
+	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(AbstractPojoSessionContextImplementor sessionContext,
+			PojoEntityReferenceCollector collector) {
+		return new PojoIndexedTypeWorkPlan<>(
+				this, sessionContext, new PojoEntityReferenceCollectingIndexWorkPlan<>( indexedJavaClass, collector )
+		);
+	}
+
+	PojoIndexedTypeDocumentWorkPlan<I, E, D> createDocumentWorkPlan(AbstractPojoSessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		return new PojoIndexedTypeDocumentWorkPlan<>(
+				this, sessionContext, indexManager.createWorkPlan( sessionContext, refreshStrategy )
 		);
 	}
 
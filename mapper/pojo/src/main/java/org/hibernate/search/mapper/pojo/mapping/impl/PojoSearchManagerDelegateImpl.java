@@ -11,8 +11,11 @@
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.impl.PojoSessionWorkExecutorImpl;
+import org.hibernate.search.mapper.pojo.work.spi.PojoDocumentWorkPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.session.spi.PojoSearchManagerDelegate;
 import org.hibernate.search.mapper.pojo.search.spi.PojoSearchTargetDelegate;
@@ -56,7 +59,24 @@ public <E, O> PojoSearchTargetDelegate<E, O> createPojoSearchTarget(
 
 	@Override
 	public PojoWorkPlan createWorkPlan() {
-		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext );
+		return createWorkPlan( DocumentRefreshStrategy.DEFAULT );
+	}
+
+	@Override
+	public PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext, refreshStrategy );
+	}
+
+	@Override
+	public PojoWorkPlan createWorkPlan(PojoEntityReferenceCollector collector) {
+		return new PojoWorkPlanImpl(
+				indexedTypeManagers, containedTypeManagers, sessionContext, DocumentRefreshStrategy.DEFAULT, collector
+		);
+	}
+
+	@Override
+	public PojoDocumentWorkPlan createDocumentWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		return new PojoDocumentWorkPlanImpl( indexedTypeManagers, sessionContext, refreshStrategy );
 	}
 
 	@Override
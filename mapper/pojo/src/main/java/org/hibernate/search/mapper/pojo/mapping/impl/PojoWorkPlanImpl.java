@@ -15,7 +15,9 @@
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -30,6 +32,8 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
 	private final AbstractPojoSessionContextImplementor sessionContext;
 	private final PojoRuntimeIntrospector introspector;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final PojoEntityReferenceCollector referenceCollector;
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<Class<?>, PojoIndexedTypeWorkPlan<?, ?, ?>> indexedTypeDelegates = new LinkedHashMap<>();
@@ -37,11 +41,26 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 
 	PojoWorkPlanImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
 			PojoContainedTypeManagerContainer containedTypeManagers,
-			AbstractPojoSessionContextImplementor sessionContext) {
+			AbstractPojoSessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		this( indexedTypeManagers, containedTypeManagers, sessionContext, refreshStrategy, null );
+	}
+
+	/**
+	 * @param referenceCollector If non-null, a collector to pass references to indexed entities to,
+	 * instead of indexing them.
+	 */
+	PojoWorkPlanImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
+			PojoContainedTypeManagerContainer containedTypeManagers,
+			AbstractPojoSessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy,
+			PojoEntityReferenceCollector referenceCollector) {
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
 		this.sessionContext = sessionContext;
 		this.introspector = sessionContext.getRuntimeIntrospector();
+		this.refreshStrategy = refreshStrategy;
+		this.referenceCollector = referenceCollector;
 	}
 
 	@Override
@@ -139,8 +158,7 @@ private AbstractPojoTypeWorkPlan createDelegate(Class<?> clazz) {
 		Optional<? extends PojoIndexedTypeManager<?, ?, ?>> indexedTypeManagerOptional =
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
-			PojoIndexedTypeWorkPlan<?, ?, ?> delegate = indexedTypeManagerOptional.get()
-					.createWorkPlan( sessionContext );
+			PojoIndexedTypeWorkPlan<?, ?, ?> delegate = createIndexedDelegate( indexedTypeManagerOptional.get() );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -157,6 +175,15 @@ private AbstractPojoTypeWorkPlan createDelegate(Class<?> clazz) {
 		throw log.notIndexedTypeNorAsDelegate( clazz );
 	}
 
+	private PojoIndexedTypeWorkPlan<?, ?, ?> createIndexedDelegate(PojoIndexedTypeManager<?, ?, ?> typeManager) {
+		if ( referenceCollector != null ) {
+			return typeManager.createWorkPlan( sessionContext, referenceCollector );
+		}
+		else {
+			return typeManager.createWorkPlan( sessionContext, refreshStrategy );
+		}
+	}
+
 	private PojoIndexedTypeWorkPlan<?, ?, ?> getOrCreateIndexedDelegateForContainedUpdate(Class<?> clazz) {
 		PojoIndexedTypeWorkPlan<?, ?, ?> delegate = indexedTypeDelegates.get( clazz );
 		if ( delegate != null ) {
@@ -166,7 +193,7 @@ private AbstractPojoTypeWorkPlan createDelegate(Class<?> clazz) {
 		Optional<? extends PojoIndexedTypeManager<?, ?, ?>> indexedTypeManagerOptional =
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
-			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext );
+			delegate = createIndexedDelegate( indexedTypeManagerOptional.get() );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.search;
+
+import org.hibernate.search.engine.search.SearchProjection;
+import org.hibernate.search.engine.search.dsl.projection.CompositeProjectionContext;
+import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
+import org.hibernate.search.mapper.pojo.search.impl.DtoConstructor;
+
+/**
+ * A projection to instances of a DTO class, built from field projections only.
+ * <p>
+ * The DTO class must declare exactly one constructor whose parameters are all annotated with {@link ProjectionField}.
+ * Since entities are never loaded, queries using only such projections do not access the database.
+ * <p>
+ * The constructor is resolved once per DTO class, then reused for every hit of every query.
+ *
+ * @param <T> The type of DTOs.
+ */
+public final class DtoProjection<T> {
+
+	private static final ClassValue<DtoProjection<?>> PROJECTIONS = new ClassValue<DtoProjection<?>>() {
+		@Override
+		protected DtoProjection<?> computeValue(Class<?> type) {
+			return new DtoProjection<>( DtoConstructor.resolve( type ) );
+		}
+	};
+
+	/**
+	 * @param dtoType The type of DTOs.
+	 * @param <T> The type of DTOs.
+	 * @return The projection for the given DTO type.
+	 * @throws org.hibernate.search.util.SearchException If the DTO type does not declare a suitable constructor.
+	 */
+	@SuppressWarnings("unchecked") // The projection was created for this very type
+	public static <T> DtoProjection<T> of(Class<T> dtoType) {
+		return (DtoProjection<T>) PROJECTIONS.get( dtoType );
+	}
+
+	private final DtoConstructor<T> constructor;
+
+	private DtoProjection(DtoConstructor<T> constructor) {
+		this.constructor = constructor;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + constructor + "]";
+	}
+
+	/**
+	 * Create a composite projection to DTOs, using the given factory.
+	 * <p>
+	 * The result can be used as any other projection, in particular within other composite projections.
+	 *
+	 * @param factoryContext The projection factory of the search target.
+	 * @return A context allowing to retrieve the projection.
+	 */
+	public CompositeProjectionContext<T> create(SearchProjectionFactoryContext<?, ?> factoryContext) {
+		String[] fieldPaths = constructor.getFieldPaths();
+		Class<?>[] fieldTypes = constructor.getFieldTypes();
+		SearchProjection<?>[] projections = new SearchProjection<?>[fieldPaths.length];
+		for ( int i = 0; i < fieldPaths.length; i++ ) {
+			projections[i] = factoryContext.field( fieldPaths[i], fieldTypes[i] ).toProjection();
+		}
+		return factoryContext.composite( constructor::newInstance, projections );
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.search.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.search.ProjectionField;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.ReflectionHelper;
+
+/**
+ * The constructor of a DTO, along with the field projections providing its arguments.
+ *
+ * @param <T> The type of DTOs.
+ */
+public final class DtoConstructor<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType( Object.class, Object[].class );
+
+	public static <T> DtoConstructor<T> resolve(Class<T> dtoType) {
+		List<Constructor<?>> candidates = new ArrayList<>();
+		for ( Constructor<?> constructor : dtoType.getDeclaredConstructors() ) {
+			if ( isProjectionConstructor( constructor ) ) {
+				candidates.add( constructor );
+			}
+		}
+		if ( candidates.size() != 1 ) {
+			throw log.invalidDtoProjectionConstructors( dtoType, candidates );
+		}
+		Constructor<?> constructor = candidates.get( 0 );
+
+		Parameter[] parameters = constructor.getParameters();
+		String[] fieldPaths = new String[parameters.length];
+		Class<?>[] fieldTypes = new Class<?>[parameters.length];
+		for ( int i = 0; i < parameters.length; i++ ) {
+			fieldPaths[i] = parameters[i].getAnnotation( ProjectionField.class ).value();
+			Class<?> parameterType = parameters[i].getType();
+			fieldTypes[i] = parameterType.isPrimitive() ? ReflectionHelper.getPrimitiveWrapperType( parameterType ) : parameterType;
+		}
+
+		MethodHandle instantiator;
+		try {
+			constructor.setAccessible( true );
+			/*
+			 * Spread the array of projected values over the constructor parameters,
+			 * so that invoking the handle does not involve reflection.
+			 */
+			instantiator = MethodHandles.lookup().unreflectConstructor( constructor )
+					.asSpreader( Object[].class, parameters.length )
+					.asType( INSTANTIATOR_TYPE );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			throw log.inaccessibleDtoProjectionConstructor( constructor, e );
+		}
+
+		return new DtoConstructor<>( dtoType, constructor, fieldPaths, fieldTypes, instantiator );
+	}
+
+	private static boolean isProjectionConstructor(Constructor<?> constructor) {
+		Parameter[] parameters = constructor.getParameters();
+		if ( parameters.length == 0 ) {
+			return false;
+		}
+		for ( Parameter parameter : parameters ) {
+			if ( !parameter.isAnnotationPresent( ProjectionField.class ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private final Class<T> dtoType;
+	private final Constructor<?> constructor;
+	private final String[] fieldPaths;
+	private final Class<?>[] fieldTypes;
+	private final MethodHandle instantiator;
+
+	private DtoConstructor(Class<T> dtoType, Constructor<?> constructor,
+			String[] fieldPaths, Class<?>[] fieldTypes, MethodHandle instantiator) {
+		this.dtoType = dtoType;
+		this.constructor = constructor;
+		this.fieldPaths = fieldPaths;
+		this.fieldTypes = fieldTypes;
+		this.instantiator = instantiator;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + constructor + "]";
+	}
+
+	public String[] getFieldPaths() {
+		return fieldPaths.clone();
+	}
+
+	public Class<?>[] getFieldTypes() {
+		return fieldTypes.clone();
+	}
+
+	public T newInstance(List<?> fieldValues) {
+		Object[] arguments = fieldValues.toArray();
+		try {
+			return dtoType.cast( (Object) instantiator.invokeExact( arguments ) );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw log.errorInvokingMember( constructor, fieldValues, e );
+		}
+	}
+}
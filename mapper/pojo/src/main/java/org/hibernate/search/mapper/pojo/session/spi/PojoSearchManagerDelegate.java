@@ -8,6 +8,10 @@
 
 import java.util.Collection;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+
+import org.hibernate.search.mapper.pojo.work.spi.PojoDocumentWorkPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoEntityReferenceCollector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.search.spi.PojoSearchTargetDelegate;
 import org.hibernate.search.mapper.pojo.work.spi.PojoSessionWorkExecutor;
@@ -18,6 +22,21 @@ public interface PojoSearchManagerDelegate {
 
 	PojoWorkPlan createWorkPlan();
 
+	PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy);
+
+	/**
+	 * @param collector A collector for references to the indexed entities that must be reindexed or deleted.
+	 * @return A work plan that, upon preparation or execution, passes references to the given collector
+	 * instead of indexing. Containing entities are resolved as usual.
+	 */
+	PojoWorkPlan createWorkPlan(PojoEntityReferenceCollector collector);
+
+	/**
+	 * @param refreshStrategy How the index should be refreshed once works are executed.
+	 * @return A new document work plan, to process references collected through a {@link PojoEntityReferenceCollector}.
+	 */
+	PojoDocumentWorkPlan createDocumentWorkPlan(DocumentRefreshStrategy refreshStrategy);
+
 	PojoSessionWorkExecutor createSessionWorkExecutor();
 
 }
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A set of works to be executed on POJO-mapped indexes, targeting documents directly.
+ * <p>
+ * Contrary to {@link PojoWorkPlan}, this plan never reindexes entities containing the entities it is given:
+ * it is meant to process references collected through a {@link PojoEntityReferenceCollector},
+ * where containing entities have already been taken into account.
+ * <p>
+ * Implementations may not be thread-safe.
+ */
+public interface PojoDocumentWorkPlan {
+
+	/**
+	 * @param indexedType An indexed type.
+	 * @param documentIdentifier The identifier of a document representing an entity of that type.
+	 * @return The identifier of the entity.
+	 */
+	Object toEntityIdentifier(Class<?> indexedType, String documentIdentifier);
+
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index,
+	 * without reindexing containing entities.
+	 *
+	 * @param id The provided ID for the entity.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to update in the index.
+	 */
+	void update(Object id, Object entity);
+
+	/**
+	 * Delete a document from the index, when the entity it represents is no longer available.
+	 *
+	 * @param indexedType The indexed type of the entity.
+	 * @param documentIdentifier The identifier of the document to delete.
+	 * @param routingKey The routing key of the document to delete, or {@code null}.
+	 */
+	void delete(Class<?> indexedType, String documentIdentifier, String routingKey);
+
+	/**
+	 * Start executing all the works in this plan, and clear the plan so that it can be re-used.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when all the works are complete.
+	 */
+	CompletableFuture<?> execute();
+
+}
@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.spi;
+
+/**
+ * A collector of references to indexed entities that must be reindexed,
+ * used by work plans that defer indexing to a later time.
+ *
+ * @see org.hibernate.search.mapper.pojo.session.spi.PojoSearchManagerDelegate#createWorkPlan(PojoEntityReferenceCollector)
+ */
+public interface PojoEntityReferenceCollector {
+
+	/**
+	 * @param indexedType The indexed type of the entity.
+	 * @param documentIdentifier The identifier of the document representing the entity in the index.
+	 * @param routingKey The routing key of that document, or {@code null}.
+	 */
+	void collect(Class<?> indexedType, String documentIdentifier, String routingKey);
+
+}
@@ -9,6 +9,9 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -139,6 +142,67 @@ public static <T, R> Function<T, CompletionStage<R>> safeComposer(Function<? sup
 		};
 	}
 
+	/**
+	 * Compose the given future with another, like {@link CompletableFuture#thenCompose(Function)},
+	 * but make sure that cancelling the resulting future will also cancel
+	 * the future returned by {@code composer} if it was already created,
+	 * or {@code self} otherwise.
+	 * <p>
+	 * This is useful in particular to propagate cancellation down to the operation
+	 * actually holding resources, such as an HTTP request.
+	 *
+	 * @param self The future to wait for before launching the next one
+	 * @param composer The composition function
+	 * @return A completable future that will be complete once {@code self} and the composed future are complete.
+	 */
+	public static <T, R> CompletableFuture<R> composeCancellable(CompletableFuture<T> self,
+			Function<? super T, ? extends CompletableFuture<R>> composer) {
+		AtomicReference<CompletableFuture<R>> composedRef = new AtomicReference<>();
+		AtomicBoolean cancelled = new AtomicBoolean( false );
+		CompletableFuture<R> result = self.thenCompose( value -> {
+			CompletableFuture<R> composed = composer.apply( value );
+			composedRef.set( composed );
+			if ( cancelled.get() ) {
+				// The result was cancelled while the composed future was being created
+				composed.cancel( false );
+			}
+			return composed;
+		} );
+		result.whenComplete( (ignored, throwable) -> {
+			if ( result.isCancelled() ) {
+				cancelled.set( true );
+				CompletableFuture<R> composed = composedRef.get();
+				if ( composed != null ) {
+					composed.cancel( false );
+				}
+				else {
+					self.cancel( false );
+				}
+			}
+		} );
+		return result;
+	}
+
+	/**
+	 * Make sure that cancelling the given dependent future will also cancel the given upstream future.
+	 * <p>
+	 * {@link CompletableFuture} does not propagate cancellation to the futures it depends on:
+	 * for instance cancelling the future returned by {@code upstream.thenApply(...)} will not cancel {@code upstream}.
+	 * This method addresses that.
+	 *
+	 * @param dependent A future depending on {@code upstream}
+	 * @param upstream The future to cancel when {@code dependent} is cancelled.
+	 * @return {@code dependent}, for chaining.
+	 */
+	public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<T> dependent, Future<?> upstream) {
+		dependent.whenComplete( (ignored, throwable) -> {
+			if ( dependent.isCancelled() ) {
+				upstream.cancel( false );
+			}
+		} );
+		return dependent;
+	}
+
 	/**
 	 * Compose the given future with another as soon as it's complete,
 	 * regardless of errors, and return a completable future that
@@ -70,4 +70,8 @@ public interface Log extends BasicLogger {
 	@Message(id = ID_OFFSET_2 + 4,
 			value = "'%1$s' must not be null or empty.")
 	IllegalArgumentException arrayMustNotBeNullNorEmpty(String objectDescription);
+
+	@Message(id = ID_OFFSET_2 + 5,
+			value = "'%1$s' must be strictly positive.")
+	IllegalArgumentException mustBeStrictlyPositive(String objectDescription);
 }
@@ -52,6 +52,13 @@ public StubIndexWorkAssert matches(StubIndexWork expected) {
 		hasAnyMismatch = hasAnyMismatch || mismatch;
 		mismatch = checkForMismatch( builder, "routingKey", expected.getRoutingKey(), actual.getRoutingKey() );
 		hasAnyMismatch = hasAnyMismatch || mismatch;
+		// Only check the refresh strategy when the expectation sets one
+		if ( expected.getRefreshStrategy() != null ) {
+			mismatch = checkForMismatch( builder, "refreshStrategy",
+					expected.getRefreshStrategy(), actual.getRefreshStrategy()
+			);
+			hasAnyMismatch = hasAnyMismatch || mismatch;
+		}
 
 		Map<String, StubTreeNodeMismatch> documentMismatches =
 				StubTreeNodeCompare.compare( expected.getDocument(), actual.getDocument() );
@@ -15,6 +15,7 @@
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchResult;
@@ -156,12 +157,22 @@ public class WorkCallListContext {
 		private final String indexName;
 		private final Consumer<IndexWorkCall> expectationConsumer;
 		private final List<StubIndexWork> works = new ArrayList<>();
+		private DocumentRefreshStrategy refreshStrategy;
 
 		private WorkCallListContext(String indexName, Consumer<IndexWorkCall> expectationConsumer) {
 			this.indexName = indexName;
 			this.expectationConsumer = expectationConsumer;
 		}
 
+		/**
+		 * @param refreshStrategy The refresh strategy expected for the works added after this call.
+		 * @return This context.
+		 */
+		public WorkCallListContext refreshStrategy(DocumentRefreshStrategy refreshStrategy) {
+			this.refreshStrategy = refreshStrategy;
+			return this;
+		}
+
 		public WorkCallListContext add(Consumer<StubIndexWork.Builder> contributor) {
 			return work( StubIndexWork.Type.ADD, contributor );
 		}
@@ -200,6 +211,7 @@ public WorkCallListContext flush() {
 
 		WorkCallListContext work(StubIndexWork.Type type, Consumer<StubIndexWork.Builder> contributor) {
 			StubIndexWork.Builder builder = StubIndexWork.builder( type );
+			builder.refreshStrategy( refreshStrategy );
 			contributor.accept( builder );
 			return work( builder.build() );
 		}
@@ -230,6 +242,21 @@ public BackendMock preparedThenExecuted() {
 			return BackendMock.this;
 		}
 
+		/**
+		 * @param executionFuture The future to return when the works are executed,
+		 * allowing to simulate works that take time to execute.
+		 * @return The backend mock.
+		 */
+		public BackendMock preparedThenExecuted(CompletableFuture<?> executionFuture) {
+			works.stream()
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.PREPARE, work ) )
+					.forEach( expectationConsumer );
+			works.stream()
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.EXECUTE, work, executionFuture ) )
+					.forEach( expectationConsumer );
+			return BackendMock.this;
+		}
+
 		public BackendMock executed() {
 			works.stream()
 					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.EXECUTE, work ) )
@@ -24,11 +24,17 @@ enum WorkPhase {
 	private final String indexName;
 	private final WorkPhase phase;
 	private final StubIndexWork work;
+	private final CompletableFuture<?> completableFuture;
 
 	IndexWorkCall(String indexName, WorkPhase phase, StubIndexWork work) {
+		this( indexName, phase, work, CompletableFuture.completedFuture( null ) );
+	}
+
+	IndexWorkCall(String indexName, WorkPhase phase, StubIndexWork work, CompletableFuture<?> completableFuture) {
 		this.indexName = indexName;
 		this.phase = phase;
 		this.work = work;
+		this.completableFuture = completableFuture;
 	}
 
 	public CompletableFuture<?> verify(IndexWorkCall actualCall) {
@@ -42,7 +48,7 @@ public CompletableFuture<?> verify(IndexWorkCall actualCall) {
 		StubIndexWorkAssert.assertThat( actualCall.work )
 				.as( "Incorrect work " + whenThisWorkWasExpected + ":\n" )
 				.matches( work );
-		return CompletableFuture.completedFuture( null );
+		return completableFuture;
 	}
 
 	@Override
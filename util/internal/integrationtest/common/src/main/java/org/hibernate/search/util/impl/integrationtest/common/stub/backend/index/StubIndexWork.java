@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.StubDocumentNode;
 
 public final class StubIndexWork {
@@ -23,6 +24,7 @@ public static Builder builder(Type type) {
 	private final String identifier;
 	private final String routingKey;
 	private final StubDocumentNode document;
+	private final DocumentRefreshStrategy refreshStrategy;
 
 	private StubIndexWork(Builder builder) {
 		this.type = builder.type;
@@ -30,6 +32,7 @@ private StubIndexWork(Builder builder) {
 		this.identifier = builder.identifier;
 		this.routingKey = builder.routingKey;
 		this.document = builder.document;
+		this.refreshStrategy = builder.refreshStrategy;
 	}
 
 	public Type getType() {
@@ -52,6 +55,10 @@ public StubDocumentNode getDocument() {
 		return document;
 	}
 
+	public DocumentRefreshStrategy getRefreshStrategy() {
+		return refreshStrategy;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
@@ -60,6 +67,7 @@ public String toString() {
 				+ ", identifier=" + identifier
 				+ ", routingKey=" + routingKey
 				+ ", document=" + document
+				+ ", refreshStrategy=" + refreshStrategy
 				+ "]";
 	}
 
@@ -70,6 +78,7 @@ public static class Builder {
 		private String identifier;
 		private String routingKey;
 		private StubDocumentNode document;
+		private DocumentRefreshStrategy refreshStrategy;
 
 		private Builder(Type type) {
 			this.type = type;
@@ -95,6 +104,11 @@ public Builder document(StubDocumentNode document) {
 			return this;
 		}
 
+		public Builder refreshStrategy(DocumentRefreshStrategy refreshStrategy) {
+			this.refreshStrategy = refreshStrategy;
+			return this;
+		}
+
 		public StubIndexWork build() {
 			return new StubIndexWork( this );
 		}
@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetContextBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
@@ -62,8 +63,9 @@ public String toString() {
 	}
 
 	@Override
-	public IndexWorkPlan<StubDocumentElement> createWorkPlan(SessionContextImplementor context) {
-		return new StubIndexWorkPlan( this, context );
+	public IndexWorkPlan<StubDocumentElement> createWorkPlan(SessionContextImplementor context,
+			DocumentRefreshStrategy refreshStrategy) {
+		return new StubIndexWorkPlan( this, context, refreshStrategy );
 	}
 
 	@Override
@@ -91,6 +93,12 @@ public IndexManager toAPI() {
 		return this;
 	}
 
+	@Override
+	public CompletableFuture<?> start() {
+		// Nothing to do
+		return CompletableFuture.completedFuture( null );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
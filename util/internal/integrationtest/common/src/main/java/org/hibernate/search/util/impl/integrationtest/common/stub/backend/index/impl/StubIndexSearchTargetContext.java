@@ -16,6 +16,7 @@
 import org.hibernate.search.engine.search.projection.spi.SearchProjectionBuilderFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.model.StubIndexSchemaNode;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation.StubSearchAggregationBuilderFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.impl.StubSearchTargetModel;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.predicate.impl.StubSearchPredicateBuilderFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionBuilderFactory;
@@ -24,6 +25,7 @@
 class StubIndexSearchTargetContext implements SearchTargetContext<StubQueryElementCollector> {
 	private final StubSearchPredicateBuilderFactory predicateFactory;
 	private final StubSearchSortBuilderFactory sortFactory;
+	private final StubSearchAggregationBuilderFactory aggregationFactory;
 	private final StubSearchQueryBuilderFactory queryFactory;
 	private final StubSearchProjectionBuilderFactory projectionFactory;
 
@@ -34,6 +36,7 @@ private StubIndexSearchTargetContext(Builder builder) {
 		StubSearchTargetModel targetModel = new StubSearchTargetModel( immutableIndexNames, immutableRootSchemaNodes );
 		this.predicateFactory = new StubSearchPredicateBuilderFactory();
 		this.sortFactory = new StubSearchSortBuilderFactory();
+		this.aggregationFactory = new StubSearchAggregationBuilderFactory();
 		this.projectionFactory = new StubSearchProjectionBuilderFactory( targetModel );
 		this.queryFactory = new StubSearchQueryBuilderFactory( builder.backend, targetModel );
 	}
@@ -48,6 +51,11 @@ public StubSearchSortBuilderFactory getSearchSortBuilderFactory() {
 		return sortFactory;
 	}
 
+	@Override
+	public StubSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return aggregationFactory;
+	}
+
 	@Override
 	public StubSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 		return queryFactory;
@@ -7,10 +7,12 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
@@ -24,6 +26,9 @@
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final StubSearchProjection<T> rootProjection;
 
+	private Long firstResultIndex;
+	private Long maxResultsCount;
+
 	StubSearchQuery(StubBackend backend, List<String> indexNames, StubSearchWork.Builder workBuilder,
 			FromDocumentFieldValueConvertContext convertContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection) {
@@ -37,11 +42,13 @@
 
 	@Override
 	public void setFirstResult(Long firstResultIndex) {
+		this.firstResultIndex = firstResultIndex;
 		workBuilder.firstResultIndex( firstResultIndex );
 	}
 
 	@Override
 	public void setMaxResults(Long maxResultsCount) {
+		this.maxResultsCount = maxResultsCount;
 		workBuilder.maxResultsCount( maxResultsCount );
 	}
 
@@ -61,4 +68,22 @@ public SearchResult<T> execute() {
 	public long executeCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync() {
+		return CompletableFuture.completedFuture( execute() );
+	}
+
+	@Override
+	public CompletableFuture<Long> executeCountAsync() {
+		return CompletableFuture.completedFuture( executeCount() );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		return new StubSearchScroll<>(
+				backend, indexNames, workBuilder, convertContext, projectionHitMapper, rootProjection,
+				firstResultIndex, maxResultsCount, chunkSize
+		);
+	}
 }
@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.search.PreparedSearchQuery;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
@@ -47,6 +49,21 @@ public void addRoutingKey(String routingKey) {
 		workBuilder.routingKey( routingKey );
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.failAfter( timeout, timeUnit );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.truncateAfter( timeout, timeUnit );
+	}
+
+	@Override
+	public void approximateHitCount() {
+		// The stub backend always returns the hit count set in test expectations
+	}
+
 	@Override
 	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
 		StubSearchQuery<T> searchQuery = new StubSearchQuery<>(
@@ -56,4 +73,10 @@ public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
 
 		return searchQueryWrapperFactory.apply( searchQuery );
 	}
+
+	@Override
+	public <Q> PreparedSearchQuery<Q> prepare(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
+		// Parameter values are ignored, just like predicates
+		return parameterValues -> build( searchQueryWrapperFactory );
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.spi.SimpleSearchResult;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
+
+/**
+ * A scroll executing one search work per chunk, each with the paging of that chunk.
+ */
+final class StubSearchScroll<T> implements SearchScroll<T> {
+
+	private final StubBackend backend;
+	private final List<String> indexNames;
+	private final StubSearchWork.Builder workBuilder;
+	private final FromDocumentFieldValueConvertContext convertContext;
+	private final ProjectionHitMapper<?, ?> projectionHitMapper;
+	private final StubSearchProjection<T> rootProjection;
+	private final Long maxResultsEnd;
+	private final int chunkSize;
+
+	private long nextResultIndex;
+	private long hitCount;
+	private boolean exhausted;
+
+	StubSearchScroll(StubBackend backend, List<String> indexNames, StubSearchWork.Builder workBuilder,
+			FromDocumentFieldValueConvertContext convertContext,
+			ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection,
+			Long firstResultIndex, Long maxResultsCount, int chunkSize) {
+		this.backend = backend;
+		this.indexNames = indexNames;
+		this.workBuilder = workBuilder;
+		this.convertContext = convertContext;
+		this.projectionHitMapper = projectionHitMapper;
+		this.rootProjection = rootProjection;
+		this.chunkSize = chunkSize;
+		this.nextResultIndex = firstResultIndex == null ? 0L : firstResultIndex;
+		this.maxResultsEnd = maxResultsCount == null ? null : nextResultIndex + maxResultsCount;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		if ( exhausted ) {
+			return new SimpleSearchResult<>( hitCount, Collections.emptyList() );
+		}
+
+		long maxHitsInChunk = maxResultsEnd == null ? chunkSize : Math.min( chunkSize, maxResultsEnd - nextResultIndex );
+		StubSearchWork work = workBuilder.build().withPaging( nextResultIndex, maxHitsInChunk );
+		SearchResult<T> result = backend.getBehavior().executeSearchWork(
+				indexNames, work, convertContext, projectionHitMapper, rootProjection
+		);
+
+		int hitsInChunk = result.getHits().size();
+		hitCount = result.getHitCount();
+		nextResultIndex += hitsInChunk;
+		if ( hitsInChunk < maxHitsInChunk || maxResultsEnd != null && nextResultIndex >= maxResultsEnd ) {
+			exhausted = true;
+		}
+		return result;
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+}
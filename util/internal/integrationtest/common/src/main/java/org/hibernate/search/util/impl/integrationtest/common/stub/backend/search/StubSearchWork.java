@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class StubSearchWork {
 
@@ -26,12 +27,28 @@ public static Builder builder(ResultType resultType) {
 	private final List<String> routingKeys;
 	private final Long firstResultIndex;
 	private final Long maxResultsCount;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
 		this.routingKeys = Collections.unmodifiableList( new ArrayList<>( builder.routingKeys ) );
 		this.firstResultIndex = builder.firstResultIndex;
 		this.maxResultsCount = builder.maxResultsCount;
+		this.timeoutValue = builder.timeoutValue;
+		this.timeoutUnit = builder.timeoutUnit;
+		this.exceptionOnTimeout = builder.exceptionOnTimeout;
+	}
+
+	private StubSearchWork(StubSearchWork original, Long firstResultIndex, Long maxResultsCount) {
+		this.resultType = original.resultType;
+		this.routingKeys = original.routingKeys;
+		this.firstResultIndex = firstResultIndex;
+		this.maxResultsCount = maxResultsCount;
+		this.timeoutValue = original.timeoutValue;
+		this.timeoutUnit = original.timeoutUnit;
+		this.exceptionOnTimeout = original.exceptionOnTimeout;
 	}
 
 	public ResultType getResultType() {
@@ -50,12 +67,31 @@ public Long getMaxResultsCount() {
 		return maxResultsCount;
 	}
 
+	public Long getTimeoutValue() {
+		return timeoutValue;
+	}
+
+	public TimeUnit getTimeoutUnit() {
+		return timeoutUnit;
+	}
+
+	public boolean isExceptionOnTimeout() {
+		return exceptionOnTimeout;
+	}
+
+	StubSearchWork withPaging(Long firstResultIndex, Long maxResultsCount) {
+		return new StubSearchWork( this, firstResultIndex, maxResultsCount );
+	}
+
 	@Override
 	public String toString() {
 		return "StubSearchWork[" +
 				", routingKeys=" + routingKeys +
 				", firstResultIndex=" + firstResultIndex +
 				", maxResultsCount=" + maxResultsCount +
+				", timeoutValue=" + timeoutValue +
+				", timeoutUnit=" + timeoutUnit +
+				", exceptionOnTimeout=" + exceptionOnTimeout +
 				']';
 	}
 
@@ -65,6 +101,9 @@ public static class Builder {
 		private final List<String> routingKeys = new ArrayList<>();
 		private Long firstResultIndex;
 		private Long maxResultsCount;
+		private Long timeoutValue;
+		private TimeUnit timeoutUnit;
+		private boolean exceptionOnTimeout;
 
 		private Builder(ResultType resultType) {
 			this.resultType = resultType;
@@ -85,6 +124,20 @@ public Builder maxResultsCount(Long maxResultsCount) {
 			return this;
 		}
 
+		public Builder failAfter(long timeoutValue, TimeUnit timeoutUnit) {
+			this.timeoutValue = timeoutValue;
+			this.timeoutUnit = timeoutUnit;
+			this.exceptionOnTimeout = true;
+			return this;
+		}
+
+		public Builder truncateAfter(long timeoutValue, TimeUnit timeoutUnit) {
+			this.timeoutValue = timeoutValue;
+			this.timeoutUnit = timeoutUnit;
+			this.exceptionOnTimeout = false;
+			return this;
+		}
+
 		public StubSearchWork build() {
 			return new StubSearchWork( this );
 		}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation;
+
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+public class StubAggregationBuilder implements TermsAggregationBuilder<StubAggregationBuilder>,
+		RangeAggregationBuilder<StubAggregationBuilder> {
+
+	@Override
+	public StubAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public void maxTermCount(int maxTermCount) {
+		// No-op
+	}
+
+	@Override
+	public void range(String key, Object from, Object to) {
+		// No-op
+	}
+
+	void simulateBuild() {
+		// No-op, just simulates a call on this object
+	}
+}
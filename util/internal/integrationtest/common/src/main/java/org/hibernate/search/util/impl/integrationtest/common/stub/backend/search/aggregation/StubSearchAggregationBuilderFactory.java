@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
+
+public class StubSearchAggregationBuilderFactory
+		implements SearchAggregationBuilderFactory<StubQueryElementCollector, StubAggregationBuilder> {
+
+	@Override
+	public void contribute(StubQueryElementCollector collector, AggregationKey<?> key, StubAggregationBuilder builder) {
+		builder.simulateBuild();
+		collector.simulateCollectCall();
+	}
+
+	@Override
+	public TermsAggregationBuilder<StubAggregationBuilder> terms(String absoluteFieldPath) {
+		return new StubAggregationBuilder();
+	}
+
+	@Override
+	public RangeAggregationBuilder<StubAggregationBuilder> range(String absoluteFieldPath) {
+		return new StubAggregationBuilder();
+	}
+
+	@Override
+	public SearchAggregationBuilder<StubAggregationBuilder> histogram(String absoluteFieldPath, long interval) {
+		return new StubAggregationBuilder();
+	}
+}
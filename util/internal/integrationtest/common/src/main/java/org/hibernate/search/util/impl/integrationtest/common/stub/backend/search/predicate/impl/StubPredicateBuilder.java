@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.predicate.impl;
 
+import org.hibernate.search.engine.search.dsl.predicate.NestedScoreMode;
 import org.hibernate.search.engine.search.predicate.spi.BooleanJunctionPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchAllPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
@@ -71,6 +72,11 @@ public void value(Object value) {
 		// No-op
 	}
 
+	@Override
+	public void parameter(String parameterName) {
+		// No-op
+	}
+
 	@Override
 	public void lowerLimit(Object value) {
 		// No-op
@@ -116,6 +122,11 @@ public void nested(StubPredicateBuilder clauseBuilder) {
 		// No-op
 	}
 
+	@Override
+	public void scoreMode(NestedScoreMode scoreMode) {
+		// No-op
+	}
+
 	void simulateBuild() {
 		// No-op, just simulates a call on this object
 	}
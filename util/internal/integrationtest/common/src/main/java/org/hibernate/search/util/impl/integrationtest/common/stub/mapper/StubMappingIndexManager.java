@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.mapper;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.serialization.spi.IndexWorkRecord;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -38,6 +42,20 @@ public IndexWorkPlan<? extends DocumentElement> createWorkPlan(StubSessionContex
 		return indexManager.createWorkPlan( sessionContext );
 	}
 
+	public IndexWorkPlan<? extends DocumentElement> createRecordingWorkPlan(Consumer<? super List<IndexWorkRecord>> sink) {
+		return indexManager.createRecordingWorkPlan( new StubSessionContext(), sink );
+	}
+
+	/**
+	 * Replay the given works and execute them.
+	 *
+	 * @param records Works previously recorded by a {@link #createRecordingWorkPlan(Consumer) recording work plan}.
+	 * @return A future completing when the works have been executed.
+	 */
+	public CompletableFuture<?> replay(List<IndexWorkRecord> records) {
+		return replay( indexManager, records );
+	}
+
 	public IndexDocumentWorkExecutor<? extends DocumentElement> createDocumentWorkExecutor() {
 		return createDocumentWorkExecutor( new StubSessionContext() );
 	}
@@ -83,4 +101,11 @@ public <R, O> GenericStubMappingSearchTarget<R, O> createSearchTarget(
 		}
 		return new GenericStubMappingSearchTarget<>( builder.build() );
 	}
+
+	private static <D extends DocumentElement> CompletableFuture<?> replay(MappedIndexManager<D> indexManager,
+			List<IndexWorkRecord> records) {
+		IndexWorkPlan<D> workPlan = indexManager.createWorkPlan( new StubSessionContext() );
+		indexManager.replay( workPlan, records );
+		return workPlan.execute();
+	}
 }